@@ -19,11 +19,14 @@ package io.atomix.cluster.messaging;
 import static io.atomix.utils.serializer.serializers.DefaultSerializers.BASIC;
 
 import io.atomix.cluster.MemberId;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -194,6 +197,35 @@ public interface ClusterCommunicationService {
       MemberId toMemberId,
       Duration timeout);
 
+  /**
+   * Sends a message together with the content of a file and expects a reply. The content is
+   * transferred without copying it into memory, and is handed to the subscriber registered via
+   * {@link #subscribeFile(String, Function, BiFunction, Function)}. If the recipient cannot receive
+   * attachments, the future fails with {@link MessagingException.AttachmentNotSupported}.
+   *
+   * @param subject message subject
+   * @param message message to send
+   * @param encoder function for encoding request to byte[]
+   * @param decoder function for decoding response from byte[]
+   * @param file the file whose content is sent along with the message
+   * @param toMemberId recipient node identifier
+   * @param timeout response timeout
+   * @param <M> request type
+   * @param <R> reply type
+   * @return reply future
+   */
+  default <M, R> CompletableFuture<R> send(
+      final String subject,
+      final M message,
+      final Function<M, byte[]> encoder,
+      final Function<byte[], R> decoder,
+      final Path file,
+      final MemberId toMemberId,
+      final Duration timeout) {
+    return CompletableFuture.failedFuture(
+        new UnsupportedOperationException("Sending files is not supported"));
+  }
+
   /**
    * Adds a new subscriber for the specified message subject.
    *
@@ -316,6 +348,29 @@ public interface ClusterCommunicationService {
       BiConsumer<MemberId, M> handler,
       Executor executor);
 
+  /**
+   * Adds a new subscriber for the specified message subject, which also receives the content of
+   * the file sent along with the message, if any. The content is only valid until the future
+   * returned by the handler is completed.
+   *
+   * @param subject message subject
+   * @param decoder decoder for resurrecting incoming message
+   * @param handler handler function that processes the incoming message and the file content, and
+   *     produces a reply
+   * @param encoder encoder for serializing reply
+   * @param <M> incoming message type
+   * @param <R> reply message type
+   * @return future to be completed once the subscription has been propagated
+   */
+  default <M, R> CompletableFuture<Void> subscribeFile(
+      final String subject,
+      final Function<byte[], M> decoder,
+      final BiFunction<M, ByteBuffer[], CompletableFuture<R>> handler,
+      final Function<R, byte[]> encoder) {
+    return CompletableFuture.failedFuture(
+        new UnsupportedOperationException("Receiving files is not supported"));
+  }
+
   /**
    * Removes a subscriber for the specified message subject.
    *
@@ -0,0 +1,29 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.cluster.messaging;
+
+import io.atomix.utils.net.Address;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/** Handles a message together with the content of the file which was attached to it. */
+@FunctionalInterface
+public interface FileMessageHandler {
+
+  /**
+   * Handles the given message. The file content is backed by the buffers it was received into, and
+   * is only valid until the returned future is completed; it must be consumed (e.g. written to a
+   * file) before that.
+   *
+   * @param sender the address of the sender
+   * @param payload the message payload
+   * @param fileContent the content of the attached file, empty if there is none
+   * @return a future to be completed with the response payload
+   */
+  CompletableFuture<byte[]> handle(Address sender, byte[] payload, ByteBuffer[] fileContent);
+}
@@ -39,6 +39,16 @@ public class MessagingException extends IOException {
     }
   }
 
+  /**
+   * Exception indicating that a message with an attachment could not be sent, because the
+   * connection to the receiver uses a protocol version which does not support attachments.
+   */
+  public static class AttachmentNotSupported extends MessagingException {
+    public AttachmentNotSupported() {
+      super("The protocol version of the connection does not support attachments");
+    }
+  }
+
   /**
    * Exception indicating failure due to invalid message structure such as an incorrect preamble.
    */
@@ -17,6 +17,7 @@
 package io.atomix.cluster.messaging;
 
 import io.atomix.utils.net.Address;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
@@ -167,6 +168,34 @@ public interface MessagingService {
       Duration timeout,
       Executor executor);
 
+  /**
+   * Sends a message asynchronously together with the content of a file, and expects a response.
+   * The content is transferred straight from the file to the network, without copying it into
+   * memory, and is handed to the handler registered via {@link #registerFileHandler(String,
+   * FileMessageHandler)}. The file must not be modified until the returned future is completed.
+   *
+   * <p>If the receiver uses a protocol version without attachments, nothing is sent and the future
+   * fails with {@link MessagingException.AttachmentNotSupported}.
+   *
+   * @param address address to send the message to.
+   * @param type type of message.
+   * @param payload message payload.
+   * @param file the file whose content is attached to the message
+   * @param keepAlive whether to keep the connection alive after usage
+   * @param timeout response timeout
+   * @return a response future
+   */
+  default CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final byte[] payload,
+      final Path file,
+      final boolean keepAlive,
+      final Duration timeout) {
+    return CompletableFuture.failedFuture(
+        new UnsupportedOperationException("Sending files is not supported"));
+  }
+
   /**
    * Registers a new message handler for message type.
    *
@@ -193,6 +222,17 @@ public interface MessagingService {
    */
   void registerHandler(String type, BiFunction<Address, byte[], CompletableFuture<byte[]>> handler);
 
+  /**
+   * Registers a new message handler for message type, which also receives the content of the file
+   * attached to the message, if any.
+   *
+   * @param type message type.
+   * @param handler message handler
+   */
+  default void registerFileHandler(final String type, final FileMessageHandler handler) {
+    throw new UnsupportedOperationException("Receiving files is not supported");
+  }
+
   /**
    * Unregister current handler, if one exists for message type.
    *
@@ -16,6 +16,7 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.netty.util.ReferenceCountUtil;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import org.slf4j.Logger;
@@ -38,6 +39,7 @@ abstract class AbstractServerConnection implements ServerConnection {
       handler.accept(message, this);
     } else {
       log.debug("No handler for message type {} from {}", message.subject(), message.sender());
+      ReferenceCountUtil.release(message.attachment());
       reply(message, ProtocolReply.Status.ERROR_NO_HANDLER, Optional.empty());
     }
   }
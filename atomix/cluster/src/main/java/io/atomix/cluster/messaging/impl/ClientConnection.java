@@ -37,6 +37,15 @@ interface ClientConnection extends Connection<ProtocolReply> {
    */
   CompletableFuture<byte[]> sendAndReceive(ProtocolRequest message);
 
+  /**
+   * Returns whether requests with an attachment can be sent over this connection.
+   *
+   * @return true if the other side of the connection can receive attachments
+   */
+  default boolean supportsAttachments() {
+    return true;
+  }
+
   /** Closes the connection. */
   @Override
   default void close() {}
@@ -30,6 +30,8 @@ import io.atomix.cluster.messaging.UnicastService;
 import io.atomix.utils.concurrent.Futures;
 import io.atomix.utils.net.Address;
 import java.net.ConnectException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
@@ -118,6 +120,29 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
     }
   }
 
+  @Override
+  public <M, R> CompletableFuture<R> send(
+      final String subject,
+      final M message,
+      final Function<M, byte[]> encoder,
+      final Function<byte[], R> decoder,
+      final Path file,
+      final MemberId toMemberId,
+      final Duration timeout) {
+    final Member member = membershipService.getMember(toMemberId);
+    if (member == null) {
+      return failOnMemberNotKnown(subject, toMemberId);
+    }
+
+    try {
+      return messagingService
+          .sendAndReceive(member.address(), subject, encoder.apply(message), file, true, timeout)
+          .thenApply(decoder);
+    } catch (final Exception e) {
+      return Futures.exceptionalFuture(e);
+    }
+  }
+
   @Override
   public <M, R> CompletableFuture<Void> subscribe(
       final String subject,
@@ -186,6 +211,19 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
     return CompletableFuture.completedFuture(null);
   }
 
+  @Override
+  public <M, R> CompletableFuture<Void> subscribeFile(
+      final String subject,
+      final Function<byte[], M> decoder,
+      final BiFunction<M, ByteBuffer[], CompletableFuture<R>> handler,
+      final Function<R, byte[]> encoder) {
+    messagingService.registerFileHandler(
+        subject,
+        (sender, payload, fileContent) ->
+            handler.apply(decoder.apply(payload), fileContent).thenApply(encoder));
+    return CompletableFuture.completedFuture(null);
+  }
+
   @Override
   public void unsubscribe(final String subject) {
     messagingService.unregisterHandler(subject);
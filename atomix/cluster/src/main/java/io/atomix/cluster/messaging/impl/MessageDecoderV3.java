@@ -0,0 +1,211 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import java.util.List;
+
+/**
+ * Protocol version 3 message decoder. In addition to version 2, requests are followed by the length
+ * of their attachment and its content. The content is not copied, but collected as slices of the
+ * received buffers.
+ */
+class MessageDecoderV3 extends AbstractMessageDecoder {
+
+  private DecoderState currentState = DecoderState.READ_SENDER_HOST_LENGTH;
+  private int senderHostLength;
+  private String senderHost;
+  private int senderPort;
+  private Address senderAddress;
+  private ProtocolMessage.Type type;
+  private long messageId;
+  private int contentLength;
+  private byte[] content;
+  private int subjectLength;
+  private String subject;
+  private long attachmentLength;
+  private CompositeByteBuf attachment;
+
+  @Override
+  @SuppressWarnings({"squid:S128"}) // suppress switch fall through warning
+  protected void decode(
+      final ChannelHandlerContext context, final ByteBuf buffer, final List<Object> out)
+      throws Exception {
+
+    switch (currentState) {
+      case READ_SENDER_HOST_LENGTH:
+        if (buffer.readableBytes() < Short.BYTES) {
+          return;
+        }
+        senderHostLength = buffer.readShort();
+        currentState = DecoderState.READ_SENDER_HOST;
+      case READ_SENDER_HOST:
+        if (buffer.readableBytes() < senderHostLength) {
+          return;
+        }
+        senderHost = readString(buffer, senderHostLength);
+        currentState = DecoderState.READ_SENDER_PORT;
+      case READ_SENDER_PORT:
+        if (buffer.readableBytes() < Integer.BYTES) {
+          return;
+        }
+        senderPort = buffer.readInt();
+        senderAddress = Address.from(senderHost, senderPort);
+        currentState = DecoderState.READ_TYPE;
+      case READ_TYPE:
+        if (buffer.readableBytes() < Byte.BYTES) {
+          return;
+        }
+        type = ProtocolMessage.Type.forId(buffer.readByte());
+        currentState = DecoderState.READ_MESSAGE_ID;
+      case READ_MESSAGE_ID:
+        try {
+          messageId = readLong(buffer);
+        } catch (final Escape e) {
+          return;
+        }
+        currentState = DecoderState.READ_CONTENT_LENGTH;
+      case READ_CONTENT_LENGTH:
+        try {
+          contentLength = readInt(buffer);
+        } catch (final Escape e) {
+          return;
+        }
+        currentState = DecoderState.READ_CONTENT;
+      case READ_CONTENT:
+        if (buffer.readableBytes() < contentLength) {
+          return;
+        }
+        if (contentLength > 0) {
+          // TODO: Perform a sanity check on the size before allocating
+          content = new byte[contentLength];
+          buffer.readBytes(content);
+        } else {
+          content = EMPTY_PAYLOAD;
+        }
+
+        switch (type) {
+          case REQUEST:
+            currentState = DecoderState.READ_SUBJECT_LENGTH;
+            break;
+          case REPLY:
+            currentState = DecoderState.READ_STATUS;
+            break;
+          default:
+            checkState(false, "Must not be here");
+        }
+        break;
+      default:
+        break;
+    }
+
+    switch (type) {
+      case REQUEST:
+        switch (currentState) {
+          case READ_SUBJECT_LENGTH:
+            if (buffer.readableBytes() < Short.BYTES) {
+              return;
+            }
+            subjectLength = buffer.readShort();
+            currentState = DecoderState.READ_SUBJECT;
+          case READ_SUBJECT:
+            if (buffer.readableBytes() < subjectLength) {
+              return;
+            }
+            subject = readString(buffer, subjectLength);
+            currentState = DecoderState.READ_ATTACHMENT_LENGTH;
+          case READ_ATTACHMENT_LENGTH:
+            try {
+              attachmentLength = readLong(buffer);
+            } catch (final Escape e) {
+              return;
+            }
+            checkState(
+                attachmentLength >= 0 && attachmentLength <= Integer.MAX_VALUE,
+                "Expected attachment length to be between 0 and %s, but was %s",
+                Integer.MAX_VALUE,
+                attachmentLength);
+            if (attachmentLength > 0) {
+              attachment = context.alloc().compositeBuffer(Integer.MAX_VALUE);
+            }
+            currentState = DecoderState.READ_ATTACHMENT;
+          case READ_ATTACHMENT:
+            if (attachment != null) {
+              final int length =
+                  (int)
+                      Math.min(
+                          buffer.readableBytes(), attachmentLength - attachment.readableBytes());
+              if (length > 0) {
+                attachment.addComponent(true, buffer.readRetainedSlice(length));
+              }
+
+              if (attachment.readableBytes() < attachmentLength) {
+                return;
+              }
+            }
+
+            final ProtocolRequest message =
+                new ProtocolRequest(messageId, senderAddress, subject, content, attachment);
+            attachment = null;
+            out.add(message);
+            currentState = DecoderState.READ_TYPE;
+            break;
+          default:
+            break;
+        }
+        break;
+      case REPLY:
+        switch (currentState) {
+          case READ_STATUS:
+            if (buffer.readableBytes() < Byte.BYTES) {
+              return;
+            }
+            final ProtocolReply.Status status = ProtocolReply.Status.forId(buffer.readByte());
+            final ProtocolReply message = new ProtocolReply(messageId, content, status);
+            out.add(message);
+            currentState = DecoderState.READ_TYPE;
+            break;
+          default:
+            break;
+        }
+        break;
+      default:
+        checkState(false, "Must not be here");
+    }
+  }
+
+  @Override
+  protected void handlerRemoved0(final ChannelHandlerContext context) {
+    // release a partially received attachment if the channel is closed in between
+    if (attachment != null) {
+      attachment.release();
+      attachment = null;
+    }
+  }
+
+  /** V3 decoder state. */
+  enum DecoderState {
+    READ_TYPE,
+    READ_MESSAGE_ID,
+    READ_SENDER_HOST_LENGTH,
+    READ_SENDER_HOST,
+    READ_SENDER_PORT,
+    READ_SUBJECT_LENGTH,
+    READ_SUBJECT,
+    READ_ATTACHMENT_LENGTH,
+    READ_ATTACHMENT,
+    READ_STATUS,
+    READ_CONTENT_LENGTH,
+    READ_CONTENT
+  }
+}
@@ -16,8 +16,10 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.utils.net.Address;
 import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.EncoderException;
 import java.net.InetAddress;
 
 /** V1 message encoder. */
@@ -47,6 +49,14 @@ class MessageEncoderV1 extends AbstractMessageEncoder {
 
   @Override
   protected void encodeRequest(final ProtocolRequest request, final ByteBuf out) {
+    if (request.attachmentFile() != null) {
+      throw new EncoderException(
+          new MessagingException(
+              String.format(
+                  "Expected to send request %s with an attachment, but attachments are not supported by protocol version %s",
+                  request, getClass().getSimpleName())));
+    }
+
     writeString(out, request.subject());
   }
 
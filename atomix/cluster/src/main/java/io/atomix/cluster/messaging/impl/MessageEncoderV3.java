@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultFileRegion;
+
+/**
+ * V3 message encoder. Requests are followed by the length of their attachment and, if any, the
+ * attached file, which is written as {@link DefaultFileRegion} such that the transport can send it
+ * straight from the file system (e.g. via sendfile).
+ */
+class MessageEncoderV3 extends MessageEncoderV2 {
+  MessageEncoderV3(final Address address) {
+    super(address);
+  }
+
+  @Override
+  public void write(
+      final ChannelHandlerContext context, final Object message, final ChannelPromise promise)
+      throws Exception {
+    if (!(message instanceof ProtocolRequest)
+        || ((ProtocolRequest) message).attachmentLength() == 0) {
+      super.write(context, message, promise);
+      return;
+    }
+
+    // both are written in the same event loop iteration, such that no other message can be written
+    // between the request and its attachment; if the request cannot be encoded, an exception is
+    // thrown and the attachment is not written at all
+    final ProtocolRequest request = (ProtocolRequest) message;
+    super.write(context, message, context.newPromise());
+    context.write(
+        new DefaultFileRegion(request.attachmentFile().toFile(), 0, request.attachmentLength()),
+        promise);
+  }
+
+  @Override
+  protected void encodeRequest(final ProtocolRequest request, final ByteBuf out) {
+    writeString(out, request.subject());
+    writeLong(out, request.attachmentLength());
+  }
+}
@@ -21,6 +21,7 @@ import static io.atomix.utils.concurrent.Threads.namedThreads;
 import com.google.common.base.Throwables;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.MoreExecutors;
+import io.atomix.cluster.messaging.FileMessageHandler;
 import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingConfig;
 import io.atomix.cluster.messaging.MessagingException;
@@ -49,10 +50,19 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.AttributeKey;
+import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.Future;
+import java.io.IOException;
 import java.net.ConnectException;
 import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -80,6 +90,9 @@ import org.slf4j.LoggerFactory;
 
 /** Netty based MessagingService. */
 public final class NettyMessagingService implements ManagedMessagingService {
+  // the protocol version negotiated for a channel
+  static final AttributeKey<ProtocolVersion> PROTOCOL_VERSION =
+      AttributeKey.valueOf("protocolVersion");
   private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
 
   private final Logger log = LoggerFactory.getLogger(getClass());
@@ -193,21 +206,61 @@ public final class NettyMessagingService implements ManagedMessagingService {
       final boolean keepAlive,
       final Duration timeout,
       final Executor executor) {
-    if (!started.get()) {
+    final long messageId = messageIdGenerator.incrementAndGet();
+    final ProtocolRequest message =
+        new ProtocolRequest(messageId, advertisedAddress, type, payload);
+    return sendAndReceive(address, type, message, keepAlive, timeout, executor);
+  }
+
+  @Override
+  public CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final byte[] payload,
+      final Path file,
+      final boolean keepAlive,
+      final Duration timeout) {
+    final long fileLength;
+    try {
+      fileLength = Files.size(file);
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    if (fileLength > Integer.MAX_VALUE) {
       return CompletableFuture.failedFuture(
-          new IllegalStateException("MessagingService is closed."));
+          new IllegalArgumentException(
+              String.format(
+                  "Expected to send file %s of at most %d bytes, but it has %d bytes",
+                  file, Integer.MAX_VALUE, fileLength)));
     }
 
     final long messageId = messageIdGenerator.incrementAndGet();
     final ProtocolRequest message =
-        new ProtocolRequest(messageId, advertisedAddress, type, payload);
+        new ProtocolRequest(messageId, advertisedAddress, type, payload, file, fileLength);
+    return sendAndReceive(
+        address, type, message, keepAlive, timeout, MoreExecutors.directExecutor());
+  }
+
+  private CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final ProtocolRequest message,
+      final boolean keepAlive,
+      final Duration timeout,
+      final Executor executor) {
+    if (!started.get()) {
+      return CompletableFuture.failedFuture(
+          new IllegalStateException("MessagingService is closed."));
+    }
+
     final CompletableFuture<byte[]> responseFuture;
     if (keepAlive) {
       responseFuture =
-          executeOnPooledConnection(address, type, c -> c.sendAndReceive(message), executor);
+          executeOnPooledConnection(address, type, c -> sendAndReceive(c, message), executor);
     } else {
       responseFuture =
-          executeOnTransientConnection(address, c -> c.sendAndReceive(message), executor);
+          executeOnTransientConnection(address, c -> sendAndReceive(c, message), executor);
     }
 
     final var timeoutFuture =
@@ -224,13 +277,24 @@ public final class NettyMessagingService implements ManagedMessagingService {
     return responseFuture;
   }
 
+  private CompletableFuture<byte[]> sendAndReceive(
+      final ClientConnection connection, final ProtocolRequest message) {
+    if (message.attachmentFile() != null && !connection.supportsAttachments()) {
+      // fail before writing anything, such that the sender can fall back to an inline message
+      return CompletableFuture.failedFuture(new MessagingException.AttachmentNotSupported());
+    }
+
+    return connection.sendAndReceive(message);
+  }
+
   @Override
   public void registerHandler(
       final String type, final BiConsumer<Address, byte[]> handler, final Executor executor) {
     handlers.register(
         type,
-        (message, connection) ->
-            executor.execute(() -> handler.accept(message.sender(), message.payload())));
+        withoutAttachment(
+            (message, connection) ->
+                executor.execute(() -> handler.accept(message.sender(), message.payload()))));
   }
 
   @Override
@@ -240,19 +304,20 @@ public final class NettyMessagingService implements ManagedMessagingService {
       final Executor executor) {
     handlers.register(
         type,
-        (message, connection) ->
-            executor.execute(
-                () -> {
-                  byte[] responsePayload = null;
-                  ProtocolReply.Status status = ProtocolReply.Status.OK;
-                  try {
-                    responsePayload = handler.apply(message.sender(), message.payload());
-                  } catch (final Exception e) {
-                    log.warn("An error occurred in a message handler:", e);
-                    status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
-                  }
-                  connection.reply(message, status, Optional.ofNullable(responsePayload));
-                }));
+        withoutAttachment(
+            (message, connection) ->
+                executor.execute(
+                    () -> {
+                      byte[] responsePayload = null;
+                      ProtocolReply.Status status = ProtocolReply.Status.OK;
+                      try {
+                        responsePayload = handler.apply(message.sender(), message.payload());
+                      } catch (final Exception e) {
+                        log.warn("An error occurred in a message handler:", e);
+                        status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
+                      }
+                      connection.reply(message, status, Optional.ofNullable(responsePayload));
+                    })));
   }
 
   @Override
@@ -260,20 +325,51 @@ public final class NettyMessagingService implements ManagedMessagingService {
       final String type, final BiFunction<Address, byte[], CompletableFuture<byte[]>> handler) {
     handlers.register(
         type,
-        (message, connection) ->
-            handler
-                .apply(message.sender(), message.payload())
-                .whenComplete(
-                    (result, error) -> {
-                      final ProtocolReply.Status status;
-                      if (error == null) {
-                        status = ProtocolReply.Status.OK;
-                      } else {
-                        log.warn("An error occurred in a message handler:", error);
-                        status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
-                      }
-                      connection.reply(message, status, Optional.ofNullable(result));
-                    }));
+        withoutAttachment(
+            (message, connection) ->
+                handler
+                    .apply(message.sender(), message.payload())
+                    .whenComplete(
+                        (result, error) -> {
+                          final ProtocolReply.Status status;
+                          if (error == null) {
+                            status = ProtocolReply.Status.OK;
+                          } else {
+                            log.warn("An error occurred in a message handler:", error);
+                            status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
+                          }
+                          connection.reply(message, status, Optional.ofNullable(result));
+                        })));
+  }
+
+  @Override
+  public void registerFileHandler(final String type, final FileMessageHandler handler) {
+    handlers.register(
+        type,
+        (message, connection) -> {
+          CompletableFuture<byte[]> responseFuture;
+          try {
+            responseFuture =
+                handler.handle(message.sender(), message.payload(), getAttachmentContent(message));
+          } catch (final Exception e) {
+            responseFuture = CompletableFuture.failedFuture(e);
+          }
+
+          responseFuture.whenComplete(
+              (result, error) -> {
+                // the handler is done with the content, such that the buffers can be reused
+                ReferenceCountUtil.release(message.attachment());
+
+                final ProtocolReply.Status status;
+                if (error == null) {
+                  status = ProtocolReply.Status.OK;
+                } else {
+                  log.warn("An error occurred in a message handler:", error);
+                  status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
+                }
+                connection.reply(message, status, Optional.ofNullable(result));
+              });
+        });
   }
 
   @Override
@@ -365,6 +461,34 @@ public final class NettyMessagingService implements ManagedMessagingService {
     return CompletableFuture.completedFuture(null);
   }
 
+  /**
+   * Wraps a handler which does not consume attachments, such that the attachment of a request is
+   * released right away if a file was sent to it nonetheless.
+   */
+  private BiConsumer<ProtocolRequest, ServerConnection> withoutAttachment(
+      final BiConsumer<ProtocolRequest, ServerConnection> handler) {
+    return (message, connection) -> {
+      ReferenceCountUtil.release(message.attachment());
+      handler.accept(message, connection);
+    };
+  }
+
+  private ByteBuffer[] getAttachmentContent(final ProtocolRequest message) throws IOException {
+    if (message.attachment() != null) {
+      return message.attachment().nioBuffers();
+    }
+
+    if (message.attachmentFile() != null) {
+      // requests to the local address are dispatched directly, such that the file was not sent
+      try (final FileChannel channel =
+          FileChannel.open(message.attachmentFile(), StandardOpenOption.READ)) {
+        return new ByteBuffer[] {channel.map(MapMode.READ_ONLY, 0, message.attachmentLength())};
+      }
+    }
+
+    return new ByteBuffer[0];
+  }
+
   private void initTransport() {
     if (Epoll.isAvailable()) {
       initEpollTransport();
@@ -774,6 +898,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
         final Connection<M> connection,
         final ProtocolVersion protocolVersion) {
       final MessagingProtocol protocol = protocolVersion.createProtocol(advertisedAddress);
+      context.channel().attr(PROTOCOL_VERSION).set(protocolVersion);
       context.pipeline().remove(this);
       context.pipeline().addLast("encoder", protocol.newEncoder());
       context.pipeline().addLast("decoder", protocol.newDecoder());
@@ -19,17 +19,69 @@ package io.atomix.cluster.messaging.impl;
 import com.google.common.base.MoreObjects;
 import io.atomix.utils.misc.ArraySizeHashPrinter;
 import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import java.nio.file.Path;
 
-/** Internal request message. */
+/**
+ * Internal request message.
+ *
+ * <p>A request may carry the content of a file as attachment, which is transferred after the
+ * request without being copied into memory. On the sending side the attachment is referenced by
+ * {@link #attachmentFile()}, on the receiving side its content is available as {@link
+ * #attachment()}.
+ */
 public final class ProtocolRequest extends ProtocolMessage {
   private final Address sender;
   private final String subject;
+  private final Path attachmentFile;
+  private final long attachmentLength;
+  private final ByteBuf attachment;
 
   public ProtocolRequest(
       final long id, final Address sender, final String subject, final byte[] payload) {
+    this(id, sender, subject, payload, null, 0, null);
+  }
+
+  public ProtocolRequest(
+      final long id,
+      final Address sender,
+      final String subject,
+      final byte[] payload,
+      final Path attachmentFile,
+      final long attachmentLength) {
+    this(id, sender, subject, payload, attachmentFile, attachmentLength, null);
+  }
+
+  public ProtocolRequest(
+      final long id,
+      final Address sender,
+      final String subject,
+      final byte[] payload,
+      final ByteBuf attachment) {
+    this(
+        id,
+        sender,
+        subject,
+        payload,
+        null,
+        attachment != null ? attachment.readableBytes() : 0,
+        attachment);
+  }
+
+  private ProtocolRequest(
+      final long id,
+      final Address sender,
+      final String subject,
+      final byte[] payload,
+      final Path attachmentFile,
+      final long attachmentLength,
+      final ByteBuf attachment) {
     super(id, payload);
     this.sender = sender;
     this.subject = subject;
+    this.attachmentFile = attachmentFile;
+    this.attachmentLength = attachmentLength;
+    this.attachment = attachment;
   }
 
   @Override
@@ -45,6 +97,21 @@ public final class ProtocolRequest extends ProtocolMessage {
     return sender;
   }
 
+  /** @return the file to attach to the request when sending it, or null if there is none */
+  public Path attachmentFile() {
+    return attachmentFile;
+  }
+
+  /** @return the length of the attachment in bytes, 0 if there is none */
+  public long attachmentLength() {
+    return attachmentLength;
+  }
+
+  /** @return the received content of the attachment, or null if there is none */
+  public ByteBuf attachment() {
+    return attachment;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
@@ -52,6 +119,7 @@ public final class ProtocolRequest extends ProtocolMessage {
         .add("subject", subject)
         .add("sender", sender)
         .add("payload", ArraySizeHashPrinter.of(payload()))
+        .add("attachmentLength", attachmentLength)
         .toString();
   }
 }
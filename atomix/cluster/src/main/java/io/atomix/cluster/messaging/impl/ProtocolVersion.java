@@ -32,6 +32,12 @@ public enum ProtocolVersion {
     public MessagingProtocol createProtocol(final Address address) {
       return new MessagingProtocolV2(address);
     }
+  },
+  V3(3) {
+    @Override
+    public MessagingProtocol createProtocol(final Address address) {
+      return new MessagingProtocolV3(address);
+    }
   };
 
   private final short version;
@@ -68,6 +74,15 @@ public enum ProtocolVersion {
     return version;
   }
 
+  /**
+   * Returns whether requests can carry an attachment with this protocol version.
+   *
+   * @return true if requests can carry an attachment
+   */
+  public boolean supportsAttachments() {
+    return version >= V3.version;
+  }
+
   /**
    * Creates a new protocol instance.
    *
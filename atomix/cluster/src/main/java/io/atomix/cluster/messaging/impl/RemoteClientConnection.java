@@ -57,6 +57,13 @@ final class RemoteClientConnection extends AbstractClientConnection {
     return responseFuture;
   }
 
+  @Override
+  public boolean supportsAttachments() {
+    final ProtocolVersion protocolVersion =
+        channel.attr(NettyMessagingService.PROTOCOL_VERSION).get();
+    return protocolVersion != null && protocolVersion.supportsAttachments();
+  }
+
   @Override
   public String toString() {
     return "RemoteClientConnection{channel=" + channel + "}";
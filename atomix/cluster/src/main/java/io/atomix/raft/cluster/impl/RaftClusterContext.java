@@ -79,7 +79,8 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
               new RaftMemberContext(
                   new DefaultRaftMember(member.memberId(), member.getType(), updateTime),
                   this,
-                  raft.getMaxAppendsPerFollower());
+                  raft.getMaxAppendsPerFollower(),
+                  raft.getMaxInFlightSnapshotChunks());
           state.resetState(raft.getLog());
           members.add(state.getMember());
           remoteMembers.add(state);
@@ -352,7 +353,12 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
     if (state == null) {
       final DefaultRaftMember defaultMember =
           new DefaultRaftMember(member.memberId(), member.getType(), time);
-      state = new RaftMemberContext(defaultMember, this, raft.getMaxAppendsPerFollower());
+      state =
+          new RaftMemberContext(
+              defaultMember,
+              this,
+              raft.getMaxAppendsPerFollower(),
+              raft.getMaxInFlightSnapshotChunks());
       state.resetState(raft.getLog());
       members.add(state.getMember());
       remoteMembers.add(state);
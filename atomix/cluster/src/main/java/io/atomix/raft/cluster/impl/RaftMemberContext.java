@@ -25,6 +25,7 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.util.Map;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +36,7 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final int maxInFlightSnapshotChunks;
   private long term;
   private long configIndex;
   private long snapshotIndex;
@@ -47,19 +49,25 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
   private SnapshotChunkReader snapshotChunkReader;
+  private Map<String, Long> availableSnapshotChunks = Map.of();
+  // false once sending a snapshot chunk as file failed, e.g. because the member runs an older
+  // version; the chunks are then sent with their content inline
+  private boolean snapshotChunkFilesSupported = true;
   private IndexedRaftLogEntry currentEntry;
 
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxInFlightSnapshotChunks) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
   }
 
   /** Resets the member state. */
@@ -67,13 +75,15 @@ public final class RaftMemberContext {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
     nextSnapshotChunk = null;
+    availableSnapshotChunks = Map.of();
+    snapshotChunkFilesSupported = true;
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -189,17 +199,26 @@ public final class RaftMemberContext {
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return !installing;
+    return inFlightInstallCount < maxInFlightSnapshotChunks;
+  }
+
+  /**
+   * Returns a boolean indicating whether install requests are currently in flight to the member.
+   *
+   * @return Indicates whether install requests are in flight to the member.
+   */
+  public boolean hasInFlightInstalls() {
+    return inFlightInstallCount > 0;
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount--;
   }
 
   /**
@@ -235,7 +254,7 @@ public final class RaftMemberContext {
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
@@ -376,6 +395,20 @@ public final class RaftMemberContext {
     this.nextSnapshotChunk = nextSnapshotChunk;
   }
 
+  /**
+   * Returns whether snapshot chunks can be sent to the member as files.
+   *
+   * @return false if the member could not receive a snapshot chunk as file before
+   */
+  public boolean isSnapshotChunkFilesSupported() {
+    return snapshotChunkFilesSupported;
+  }
+
+  /** Sends the snapshot chunks with their content inline to this member from now on. */
+  public void disableSnapshotChunkFiles() {
+    snapshotChunkFilesSupported = false;
+  }
+
   /**
    * Returns the member response time.
    *
@@ -420,6 +453,20 @@ public final class RaftMemberContext {
     this.snapshotChunkReader = snapshotChunkReader;
   }
 
+  /**
+   * Returns the checksums of the chunks, by chunk name, which the member offered from its own
+   * latest snapshot, and which therefore do not have to be sent.
+   *
+   * @return the checksums of the chunks available on the member
+   */
+  public Map<String, Long> getAvailableSnapshotChunks() {
+    return availableSnapshotChunks;
+  }
+
+  public void setAvailableSnapshotChunks(final Map<String, Long> availableSnapshotChunks) {
+    this.availableSnapshotChunks = availableSnapshotChunks;
+  }
+
   public boolean hasNextEntry() {
     return reader.hasNext();
   }
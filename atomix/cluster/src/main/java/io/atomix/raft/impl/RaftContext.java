@@ -57,6 +57,7 @@ import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.StorageException;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.raft.zeebe.EntryValidator;
@@ -113,6 +114,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
   private final MetaStore meta;
   private final RaftLog raftLog;
   private final RaftLogReader logReader;
+  private final RaftLogFlusher logFlusher;
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final LogCompactor logCompactor;
   private volatile State state = State.ACTIVE;
@@ -187,6 +189,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     // Construct the core log, reader, writer, and compactor.
     raftLog = storage.openLog();
     logReader = raftLog.openUncommittedReader();
+    logFlusher = new RaftLogFlusher(name, raftLog, threadContext);
 
     // Open the snapshot store.
     persistedSnapshotStore = storage.getPersistedSnapshotStore();
@@ -293,6 +296,14 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public int getMaxInFlightSnapshotChunks() {
+    return partitionConfig.getMaxInFlightSnapshotChunks();
+  }
+
+  public boolean isZeroCopySnapshotReplicationEnabled() {
+    return partitionConfig.isZeroCopySnapshotReplicationEnabled();
+  }
+
   /**
    * Adds a role change listener.
    *
@@ -426,8 +437,11 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
       this.commitIndex = commitIndex;
       raftLog.setCommitIndex(Math.min(commitIndex, raftLog.getLastIndex()));
       if (raftLog.shouldFlushExplicitly() && isLeader()) {
-        // leader counts itself in quorum, so in order to commit the leader must persist
-        raftLog.flush();
+        // leader counts itself in quorum, so in order to commit the leader must persist; the
+        // entries were most likely already flushed asynchronously while they were replicated
+        if (logFlusher.getFlushedIndex() < commitIndex) {
+          raftLog.flush();
+        }
         setLastWrittenIndex(commitIndex);
       }
       final long configurationIndex = cluster.getConfiguration().index();
@@ -729,6 +743,9 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
 
     logCompactor.close();
 
+    // Wait for in-flight flushes before closing the log.
+    logFlusher.close();
+
     // Close the log.
     try {
       raftLog.close();
@@ -886,6 +903,15 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return logReader;
   }
 
+  /**
+   * Returns the flusher which flushes the server log asynchronously.
+   *
+   * @return The log flusher.
+   */
+  public RaftLogFlusher getLogFlusher() {
+    return logFlusher;
+  }
+
   /**
    * Returns the cluster service.
    *
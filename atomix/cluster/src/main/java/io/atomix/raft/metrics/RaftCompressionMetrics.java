@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+public class RaftCompressionMetrics extends RaftMetrics {
+
+  private static final Counter UNCOMPRESSED_BYTES =
+      Counter.build()
+          .namespace("atomix")
+          .name("raft_compression_uncompressed_bytes")
+          .help("Number of bytes of raft messages before they were compressed")
+          .labelNames("type", "partitionGroupName", "partition")
+          .register();
+
+  private static final Counter COMPRESSED_BYTES =
+      Counter.build()
+          .namespace("atomix")
+          .name("raft_compression_compressed_bytes")
+          .help("Number of bytes of raft messages after they were compressed")
+          .labelNames("type", "partitionGroupName", "partition")
+          .register();
+
+  private static final Histogram COMPRESSION_TIME =
+      Histogram.build()
+          .namespace("atomix")
+          .name("raft_compression_time_in_s")
+          .help("Time to compress or decompress a raft message")
+          .labelNames("operation", "partitionGroupName", "partition")
+          .buckets(0.00001, 0.00005, 0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05)
+          .register();
+
+  public RaftCompressionMetrics(final String partitionName) {
+    super(partitionName);
+  }
+
+  public void compressed(
+      final String type,
+      final int uncompressedBytes,
+      final int compressedBytes,
+      final long durationNanos) {
+    UNCOMPRESSED_BYTES.labels(type, partitionGroupName, partition).inc(uncompressedBytes);
+    COMPRESSED_BYTES.labels(type, partitionGroupName, partition).inc(compressedBytes);
+    COMPRESSION_TIME
+        .labels("compress", partitionGroupName, partition)
+        .observe(durationNanos / 1_000_000_000d);
+  }
+
+  public void decompressed(final long durationNanos) {
+    COMPRESSION_TIME
+        .labels("decompress", partitionGroupName, partition)
+        .observe(durationNanos / 1_000_000_000d);
+  }
+}
@@ -33,6 +33,10 @@ public class RaftPartitionConfig {
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private int maxAppendsPerFollower = 2;
+  private int maxInFlightSnapshotChunks = 1;
+  private boolean zeroCopySnapshotReplicationEnabled = false;
+  private boolean messageCompressionEnabled = false;
+  private int messageCompressionThreshold = 1024;
   private int maxAppendBatchSize = 32 * 1024;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
@@ -88,6 +92,39 @@ public class RaftPartitionConfig {
     this.maxAppendsPerFollower = maxAppendsPerFollower;
   }
 
+  public int getMaxInFlightSnapshotChunks() {
+    return maxInFlightSnapshotChunks;
+  }
+
+  public void setMaxInFlightSnapshotChunks(final int maxInFlightSnapshotChunks) {
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
+  }
+
+  public boolean isZeroCopySnapshotReplicationEnabled() {
+    return zeroCopySnapshotReplicationEnabled;
+  }
+
+  public void setZeroCopySnapshotReplicationEnabled(
+      final boolean zeroCopySnapshotReplicationEnabled) {
+    this.zeroCopySnapshotReplicationEnabled = zeroCopySnapshotReplicationEnabled;
+  }
+
+  public boolean isMessageCompressionEnabled() {
+    return messageCompressionEnabled;
+  }
+
+  public void setMessageCompressionEnabled(final boolean messageCompressionEnabled) {
+    this.messageCompressionEnabled = messageCompressionEnabled;
+  }
+
+  public int getMessageCompressionThreshold() {
+    return messageCompressionThreshold;
+  }
+
+  public void setMessageCompressionThreshold(final int messageCompressionThreshold) {
+    this.messageCompressionThreshold = messageCompressionThreshold;
+  }
+
   public int getMaxAppendBatchSize() {
     return maxAppendBatchSize;
   }
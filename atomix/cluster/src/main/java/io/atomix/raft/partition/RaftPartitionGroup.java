@@ -309,6 +309,63 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the maximum snapshot chunks which are sent per follower at once, i.e. without waiting
+     * for their acknowledgement. Default is 1.
+     *
+     * @param maxInFlightSnapshotChunks the maximum snapshot chunks in flight per follower
+     * @return the Raft partition group builder
+     */
+    public Builder withMaxInFlightSnapshotChunks(final int maxInFlightSnapshotChunks) {
+      checkArgument(maxInFlightSnapshotChunks > 0, "maxInFlightSnapshotChunks must be positive");
+      config.getPartitionConfig().setMaxInFlightSnapshotChunks(maxInFlightSnapshotChunks);
+      return this;
+    }
+
+    /**
+     * Sets whether snapshot chunks are sent from their files without reading them into memory, and
+     * written by the follower straight from the received network buffers. This requires all
+     * members to support messaging protocol version 3. Default is false.
+     *
+     * @param zeroCopySnapshotReplicationEnabled whether to replicate snapshots without copying
+     * @return the Raft partition group builder
+     */
+    public Builder withZeroCopySnapshotReplication(
+        final boolean zeroCopySnapshotReplicationEnabled) {
+      config
+          .getPartitionConfig()
+          .setZeroCopySnapshotReplicationEnabled(zeroCopySnapshotReplicationEnabled);
+      return this;
+    }
+
+    /**
+     * Sets whether append requests and install requests are compressed before they are sent to
+     * another member. Requests are only compressed for members which advertise that they accept
+     * compressed messages, so members of older versions still receive them uncompressed. Default
+     * is false.
+     *
+     * @param messageCompressionEnabled whether to compress the replicated messages
+     * @return the Raft partition group builder
+     */
+    public Builder withMessageCompression(final boolean messageCompressionEnabled) {
+      config.getPartitionConfig().setMessageCompressionEnabled(messageCompressionEnabled);
+      return this;
+    }
+
+    /**
+     * Sets the minimum size of a serialized message to be compressed. Smaller messages are sent
+     * uncompressed. Default size is 1 KB.
+     *
+     * @param messageCompressionThreshold the minimum size in bytes of a message to compress
+     * @return the Raft partition group builder
+     */
+    public Builder withMessageCompressionThreshold(final int messageCompressionThreshold) {
+      checkArgument(
+          messageCompressionThreshold >= 0, "messageCompressionThreshold must not be negative");
+      config.getPartitionConfig().setMessageCompressionThreshold(messageCompressionThreshold);
+      return this;
+    }
+
     /**
      * Sets the maximum batch size, which is sent per append request. Default size is 32 KB.
      *
@@ -402,6 +459,17 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets whether the file of the next log segment is prepared in the background.
+     *
+     * @param preallocateSegmentFiles whether to preallocate the next segment file
+     * @return the Raft partition group builder
+     */
+    public Builder withPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
+      config.getStorageConfig().setPreallocateSegmentFiles(preallocateSegmentFiles);
+      return this;
+    }
+
     /**
      * Sets the Raft snapshot store factory to use.
      *
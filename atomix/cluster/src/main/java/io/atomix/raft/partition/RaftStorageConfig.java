@@ -28,12 +28,14 @@ public class RaftStorageConfig {
   private static final boolean DEFAULT_FLUSH_EXPLICITLY = true;
   private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
+  private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = false;
 
   private String directory;
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private boolean flushExplicitly = DEFAULT_FLUSH_EXPLICITLY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+  private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
 
   @Optional("SnapshotStoreFactory")
   private ReceivableSnapshotStoreFactory persistedSnapshotStoreFactory;
@@ -152,4 +154,25 @@ public class RaftStorageConfig {
     this.journalIndexDensity = journalIndexDensity;
     return this;
   }
+
+  /**
+   * Returns whether the file of the next log segment is prepared in the background.
+   *
+   * @return whether to preallocate the next segment file
+   */
+  public boolean shouldPreallocateSegmentFiles() {
+    return preallocateSegmentFiles;
+  }
+
+  /**
+   * Sets whether the file of the next log segment is prepared in the background, such that
+   * appending does not have to create a new file when the current segment is full.
+   *
+   * @param preallocateSegmentFiles whether to preallocate the next segment file
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
+    this.preallocateSegmentFiles = preallocateSegmentFiles;
+    return this;
+  }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.partition.impl;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses serialized raft messages with DEFLATE. A compressed message starts with the length of
+ * the uncompressed message, so it can be inflated into an array of the right size at once.
+ *
+ * <p>The deflaters and inflaters are kept per thread, since messages are compressed on the raft
+ * threads of the partitions and decompressed on the messaging threads.
+ */
+final class RaftMessageCompressor {
+
+  private static final ThreadLocal<Deflater> DEFLATER =
+      ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+  private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+  private RaftMessageCompressor() {}
+
+  /**
+   * Compresses the given serialized message.
+   *
+   * @param message the serialized message
+   * @return the compressed message, or null if it would not be smaller than the given message
+   */
+  static byte[] compress(final byte[] message) {
+    final var deflater = DEFLATER.get();
+    deflater.reset();
+    deflater.setInput(message);
+    deflater.finish();
+
+    final var compressed = new byte[Integer.BYTES + message.length];
+    final var compressedLength =
+        deflater.deflate(compressed, Integer.BYTES, compressed.length - Integer.BYTES);
+    if (!deflater.finished()) {
+      // the message is not compressible
+      return null;
+    }
+
+    ByteBuffer.wrap(compressed).putInt(0, message.length);
+    return Arrays.copyOf(compressed, Integer.BYTES + compressedLength);
+  }
+
+  /**
+   * Decompresses the given message, which was compressed by {@link #compress(byte[])}.
+   *
+   * @param compressed the compressed message
+   * @return the serialized message
+   * @throws IllegalArgumentException if the given message is not a valid compressed message
+   */
+  static byte[] decompress(final byte[] compressed) {
+    final var length = ByteBuffer.wrap(compressed).getInt(0);
+    final var message = new byte[length];
+
+    final var inflater = INFLATER.get();
+    inflater.reset();
+    inflater.setInput(compressed, Integer.BYTES, compressed.length - Integer.BYTES);
+
+    try {
+      final var inflatedLength = inflater.inflate(message);
+      if (inflatedLength != length || !inflater.finished()) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Expected compressed message to contain %d bytes, but inflated %d bytes",
+                length, inflatedLength));
+      }
+    } catch (final DataFormatException e) {
+      throw new IllegalArgumentException("Expected a valid compressed message", e);
+    }
+
+    return message;
+  }
+}
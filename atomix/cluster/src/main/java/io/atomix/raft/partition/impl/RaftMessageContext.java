@@ -29,10 +29,12 @@ class RaftMessageContext {
   final String configureSubject;
   final String reconfigureSubject;
   final String installSubject;
+  final String installCompressedSubject;
   final String transferSubject;
   final String pollSubject;
   final String voteSubject;
   final String appendSubject;
+  final String appendCompressedSubject;
   final String leaderHeartbeatSubject;
   private final String prefix;
 
@@ -48,10 +50,12 @@ class RaftMessageContext {
     configureSubject = getSubject(prefix, "configure");
     reconfigureSubject = getSubject(prefix, "reconfigure");
     installSubject = getSubject(prefix, "install");
+    installCompressedSubject = getSubject(prefix, "install-compressed");
     transferSubject = getSubject(prefix, "transfer");
     pollSubject = getSubject(prefix, "poll");
     voteSubject = getSubject(prefix, "vote");
     appendSubject = getSubject(prefix, "append");
+    appendCompressedSubject = getSubject(prefix, "append-compressed");
     leaderHeartbeatSubject = getSubject(prefix, "leaderHeartbeat");
   }
 
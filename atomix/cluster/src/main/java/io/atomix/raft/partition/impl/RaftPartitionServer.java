@@ -339,15 +339,26 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer>, Health
         .withFreeDiskSpace(storageConfig.getFreeDiskSpace())
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
+        .withPreallocateSegmentFiles(storageConfig.shouldPreallocateSegmentFiles())
         .build();
   }
 
   private RaftServerCommunicator createServerProtocol() {
+    // every member accepts compressed requests, so the other members may send them compressed
+    membershipService
+        .getLocalMember()
+        .properties()
+        .setProperty(RaftServerCommunicator.MESSAGE_COMPRESSION_PROPERTY, Boolean.TRUE.toString());
+
+    final var partitionConfig = config.getPartitionConfig();
     return new RaftServerCommunicator(
         partition.name(),
         Serializer.using(RaftNamespaces.RAFT_PROTOCOL),
         clusterCommunicator,
-        requestTimeout);
+        membershipService,
+        requestTimeout,
+        partitionConfig.isMessageCompressionEnabled(),
+        partitionConfig.getMessageCompressionThreshold());
   }
 
   public CompletableFuture<Void> stepDown() {
@@ -17,8 +17,11 @@
 package io.atomix.raft.partition.impl;
 
 import com.google.common.base.Preconditions;
+import io.atomix.cluster.ClusterMembershipService;
+import io.atomix.cluster.Member;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.raft.metrics.RaftCompressionMetrics;
 import io.atomix.raft.metrics.RaftRequestMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
@@ -44,25 +47,59 @@ import java.util.function.Function;
 /** Raft server protocol that uses a {@link ClusterCommunicationService}. */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  /**
+   * The member property with which a member advertises that it accepts compressed append and
+   * install requests. Members of older versions don't subscribe to the compressed subjects, so
+   * requests to them are never compressed.
+   */
+  public static final String MESSAGE_COMPRESSION_PROPERTY = "raftMessageCompression";
+
   private final RaftMessageContext context;
   private final Serializer serializer;
   private final ClusterCommunicationService clusterCommunicator;
+  private final ClusterMembershipService membershipService;
   private final String partitionName;
   private final RaftRequestMetrics metrics;
   private final Duration requestTimeout;
+  private final boolean compressionEnabled;
+  private final int compressionThreshold;
+  private final RaftCompressionMetrics compressionMetrics;
 
   public RaftServerCommunicator(
       final String prefix,
       final Serializer serializer,
       final ClusterCommunicationService clusterCommunicator,
       final Duration requestTimeout) {
+    this(prefix, serializer, clusterCommunicator, null, requestTimeout, false, 0);
+  }
+
+  /**
+   * @param membershipService the membership service, to look up whether the receiver of a request
+   *     advertises {@link #MESSAGE_COMPRESSION_PROPERTY}
+   * @param compressionEnabled whether append and install requests are compressed before they are
+   *     sent to members which accept them; compressed requests are always accepted, regardless of
+   *     this setting
+   * @param compressionThreshold the minimum size in bytes of a serialized request to compress
+   */
+  public RaftServerCommunicator(
+      final String prefix,
+      final Serializer serializer,
+      final ClusterCommunicationService clusterCommunicator,
+      final ClusterMembershipService membershipService,
+      final Duration requestTimeout,
+      final boolean compressionEnabled,
+      final int compressionThreshold) {
     context = new RaftMessageContext(prefix);
     partitionName = prefix;
     this.serializer = Preconditions.checkNotNull(serializer, "serializer cannot be null");
     this.clusterCommunicator =
         Preconditions.checkNotNull(clusterCommunicator, "clusterCommunicator cannot be null");
+    this.membershipService = membershipService;
     this.requestTimeout = requestTimeout;
+    this.compressionEnabled = compressionEnabled;
+    this.compressionThreshold = compressionThreshold;
     metrics = new RaftRequestMetrics(partitionName);
+    compressionMetrics = new RaftCompressionMetrics(partitionName);
   }
 
   @Override
@@ -80,7 +117,20 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<InstallResponse> install(
       final MemberId memberId, final InstallRequest request) {
-    return sendAndReceive(context.installSubject, request, memberId);
+    if (request.chunkFile() == null) {
+      return sendAndReceive(
+          context.installSubject, context.installCompressedSubject, request, memberId);
+    }
+
+    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    return clusterCommunicator.send(
+        context.installSubject,
+        request,
+        serializer::encode,
+        serializer::decode,
+        request.chunkFile(),
+        MemberId.from(memberId.id()),
+        requestTimeout);
   }
 
   @Override
@@ -102,7 +152,8 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final AppendRequest request) {
-    return sendAndReceive(context.appendSubject, request, memberId);
+    return sendAndReceive(
+        context.appendSubject, context.appendCompressedSubject, request, memberId);
   }
 
   @Override
@@ -153,9 +204,18 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public void registerInstallHandler(
       final Function<InstallRequest, CompletableFuture<InstallResponse>> handler) {
-    clusterCommunicator.subscribe(
+    // the chunk content may be received as a file alongside the request
+    clusterCommunicator.<InstallRequest, InstallResponse>subscribeFile(
         context.installSubject,
         serializer::decode,
+        (request, chunkContent) ->
+            handler.apply(
+                recordReceivedMetrics(
+                    chunkContent.length > 0 ? request.withChunkContent(chunkContent) : request)),
+        serializer::encode);
+    clusterCommunicator.subscribe(
+        context.installCompressedSubject,
+        this::decodeCompressed,
         handler.<InstallRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
   }
@@ -163,6 +223,7 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public void unregisterInstallHandler() {
     clusterCommunicator.unsubscribe(context.installSubject);
+    clusterCommunicator.unsubscribe(context.installCompressedSubject);
   }
 
   @Override
@@ -203,11 +264,17 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<AppendRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.subscribe(
+        context.appendCompressedSubject,
+        this::decodeCompressed,
+        handler.<AppendRequest>compose(this::recordReceivedMetrics),
+        serializer::encode);
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendSubject);
+    clusterCommunicator.unsubscribe(context.appendCompressedSubject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
@@ -222,6 +289,55 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         requestTimeout);
   }
 
+  /**
+   * Sends the request compressed on the given compressed subject, if compression is enabled, the
+   * receiver accepts compressed requests, and the serialized request is large enough and
+   * compressible. Otherwise, it is sent uncompressed on the given subject.
+   */
+  private <T, U> CompletableFuture<U> sendAndReceive(
+      final String subject,
+      final String compressedSubject,
+      final T request,
+      final MemberId memberId) {
+    if (!compressionEnabled || !acceptsCompressedRequests(memberId)) {
+      return sendAndReceive(subject, request, memberId);
+    }
+
+    final var type = request.getClass().getSimpleName();
+    final byte[] message = serializer.encode(request);
+    byte[] compressedMessage = null;
+    if (message.length >= compressionThreshold) {
+      final long startNanos = System.nanoTime();
+      compressedMessage = RaftMessageCompressor.compress(message);
+      final int compressedLength =
+          compressedMessage != null ? compressedMessage.length : message.length;
+      compressionMetrics.compressed(
+          type, message.length, compressedLength, System.nanoTime() - startNanos);
+    }
+
+    metrics.sendMessage(memberId.id(), type);
+    return clusterCommunicator.send(
+        compressedMessage != null ? compressedSubject : subject,
+        compressedMessage != null ? compressedMessage : message,
+        Function.identity(),
+        serializer::decode,
+        MemberId.from(memberId.id()),
+        requestTimeout);
+  }
+
+  private boolean acceptsCompressedRequests(final MemberId memberId) {
+    final Member member = membershipService.getMember(MemberId.from(memberId.id()));
+    return member != null
+        && Boolean.parseBoolean(member.properties().getProperty(MESSAGE_COMPRESSION_PROPERTY));
+  }
+
+  private <T> T decodeCompressed(final byte[] compressedMessage) {
+    final long startNanos = System.nanoTime();
+    final byte[] message = RaftMessageCompressor.decompress(compressedMessage);
+    compressionMetrics.decompressed(System.nanoTime() - startNanos);
+    return serializer.decode(message);
+  }
+
   private <T extends RaftMessage> T recordReceivedMetrics(final T m) {
     metrics.receivedMessage(m.getClass().getSimpleName());
     return m;
@@ -23,6 +23,9 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import io.atomix.cluster.MemberId;
 import io.atomix.utils.misc.StringUtils;
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -34,6 +37,13 @@ import java.util.Objects;
  * received by the follower, the snapshot is reconstructed based on the provided {@link #chunkId()}
  * and other metadata. The last install request will be sent with {@link #complete()} being {@code
  * true} to indicate that all chunks of the snapshot have been sent.
+ *
+ * <p>If the follower offered the chunks of its own latest snapshot in its response to the initial
+ * request, the leader does not send the chunks which both snapshots share. Instead, the next
+ * request lists them as {@link #reusedChunks()}, and the follower takes them from its own snapshot.
+ *
+ * <p>The content of a chunk may be sent as a file alongside the request instead of as part of its
+ * {@link #data()}, see {@link #chunkFile()} and {@link #chunkContent()}.
  */
 public class InstallRequest extends AbstractRaftRequest {
 
@@ -57,6 +67,14 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // the checksums of the chunks before this one which the follower takes from its own snapshot
+  private final HashMap<String, Long> reusedChunks;
+  // the file holding the content of the chunk, sent alongside the request instead of in its data;
+  // local to the sender and not serialized
+  private transient Path chunkFile;
+  // the content of the chunk if it was received alongside the request; local to the receiver and
+  // not serialized
+  private transient ByteBuffer[] chunkContent;
 
   public InstallRequest(
       final long currentTerm,
@@ -69,6 +87,32 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer data,
       final boolean initial,
       final boolean complete) {
+    this(
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        new HashMap<>());
+  }
+
+  public InstallRequest(
+      final long currentTerm,
+      final MemberId leader,
+      final long index,
+      final long term,
+      final int version,
+      final ByteBuffer chunkId,
+      final ByteBuffer nextChunkId,
+      final ByteBuffer data,
+      final boolean initial,
+      final boolean complete,
+      final HashMap<String, Long> reusedChunks) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -79,6 +123,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.initial = initial;
     this.complete = complete;
     this.term = term;
+    this.reusedChunks = reusedChunks;
   }
 
   /**
@@ -167,10 +212,74 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the checksums of the chunks, by chunk name, which the follower should take from its own
+   * latest snapshot instead of receiving them. These are applied before the chunk of this request.
+   *
+   * @return the checksums of the reused chunks; never null
+   */
+  public Map<String, Long> reusedChunks() {
+    return reusedChunks != null ? reusedChunks : Map.of();
+  }
+
+  /**
+   * Returns the file holding the content of the chunk, which should be sent alongside this request
+   * instead of being part of its data. Only set on the sending side.
+   *
+   * @return the file holding the content of the chunk, or null if the content is part of the data
+   */
+  public Path chunkFile() {
+    return chunkFile;
+  }
+
+  /**
+   * Returns the content of the chunk if it was received alongside this request instead of as part
+   * of its data. Only set on the receiving side, and only valid while the request is handled.
+   *
+   * @return the content of the chunk, or null if the content is part of the data
+   */
+  public ByteBuffer[] chunkContent() {
+    return chunkContent;
+  }
+
+  /**
+   * Returns a copy of this request with the given content, which was received alongside it.
+   *
+   * @param chunkContent the content of the chunk
+   * @return a copy of this request with the given chunk content
+   */
+  public InstallRequest withChunkContent(final ByteBuffer[] chunkContent) {
+    final var request =
+        new InstallRequest(
+            currentTerm,
+            leader,
+            index,
+            term,
+            version,
+            chunkId,
+            nextChunkId,
+            data,
+            initial,
+            complete,
+            reusedChunks);
+    request.chunkContent = chunkContent;
+    return request;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        reusedChunks);
   }
 
   @Override
@@ -191,7 +300,8 @@ public class InstallRequest extends AbstractRaftRequest {
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
-        && Objects.equals(data, that.data);
+        && Objects.equals(data, that.data)
+        && Objects.equals(reusedChunks, that.reusedChunks);
   }
 
   @Override
@@ -207,6 +317,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("reusedChunks", reusedChunks().size())
         .toString();
   }
 
@@ -223,6 +334,8 @@ public class InstallRequest extends AbstractRaftRequest {
     private boolean complete;
     private boolean initial;
     private long term;
+    private HashMap<String, Long> reusedChunks = new HashMap<>();
+    private Path chunkFile;
 
     /**
      * Sets the request current term.
@@ -336,12 +449,48 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the chunks which the follower should take from its own latest snapshot.
+     *
+     * @param reusedChunks the checksums of the reused chunks, by chunk name
+     * @return the request builder
+     */
+    public Builder withReusedChunks(final Map<String, Long> reusedChunks) {
+      this.reusedChunks = new HashMap<>(checkNotNull(reusedChunks, "reusedChunks cannot be null"));
+      return this;
+    }
+
+    /**
+     * Sets the file holding the content of the chunk, which is then sent alongside the request
+     * instead of as part of its data.
+     *
+     * @param chunkFile the file holding the content of the chunk; may be null
+     * @return the request builder
+     */
+    public Builder withChunkFile(final Path chunkFile) {
+      this.chunkFile = chunkFile;
+      return this;
+    }
+
     /** @throws IllegalStateException if member is null */
     @Override
     public InstallRequest build() {
       validate();
-      return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+      final var request =
+          new InstallRequest(
+              currentTerm,
+              leader,
+              index,
+              term,
+              version,
+              chunkId,
+              nextChunkId,
+              data,
+              initial,
+              complete,
+              reusedChunks);
+      request.chunkFile = chunkFile;
+      return request;
     }
 
     @Override
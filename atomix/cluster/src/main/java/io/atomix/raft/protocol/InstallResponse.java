@@ -16,19 +16,34 @@
  */
 package io.atomix.raft.protocol;
 
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Install responses indicate whether or not the request was successful. The response to
+ * the initial request of a snapshot additionally offers the chunks of the follower's latest
+ * snapshot, which the leader then does not have to send.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
+  // the checksums of the chunks of the follower's latest snapshot, by chunk name
+  private final HashMap<String, Long> availableChunks;
+
   public InstallResponse(final Status status, final RaftError error) {
+    this(status, error, new HashMap<>());
+  }
+
+  public InstallResponse(
+      final Status status, final RaftError error, final HashMap<String, Long> availableChunks) {
     super(status, error);
+    this.availableChunks = availableChunks;
   }
 
   /**
@@ -40,13 +55,48 @@ public class InstallResponse extends AbstractRaftResponse {
     return new Builder();
   }
 
+  /**
+   * Returns the checksums of the chunks, by chunk name, of the follower's latest snapshot.
+   *
+   * @return the checksums of the chunks available on the follower; never null
+   */
+  public Map<String, Long> availableChunks() {
+    return availableChunks != null ? availableChunks : Map.of();
+  }
+
+  @Override
+  public String toString() {
+    if (status == Status.OK) {
+      return toStringHelper(this)
+          .add("status", status)
+          .add("availableChunks", availableChunks().size())
+          .toString();
+    } else {
+      return toStringHelper(this).add("status", status).add("error", error).toString();
+    }
+  }
+
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
 
+    private HashMap<String, Long> availableChunks = new HashMap<>();
+
+    /**
+     * Sets the chunks of the follower's latest snapshot, which the leader does not have to send.
+     *
+     * @param availableChunks the checksums of the available chunks, by chunk name
+     * @return the response builder
+     */
+    public Builder withAvailableChunks(final Map<String, Long> availableChunks) {
+      this.availableChunks =
+          new HashMap<>(checkNotNull(availableChunks, "availableChunks cannot be null"));
+      return this;
+    }
+
     @Override
     public InstallResponse build() {
       validate();
-      return new InstallResponse(status, error);
+      return new InstallResponse(status, error, availableChunks);
     }
   }
 }
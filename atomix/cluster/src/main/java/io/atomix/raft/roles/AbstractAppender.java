@@ -18,6 +18,8 @@ package io.atomix.raft.roles;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.base.Throwables;
+import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.raft.RaftServer;
 import io.atomix.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.raft.cluster.impl.RaftMemberContext;
@@ -41,9 +43,13 @@ import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 
@@ -443,9 +449,22 @@ abstract class AbstractAppender implements AutoCloseable {
     // This prevents infinite loops when cluster configurations fail.
   }
 
-  /** Builds an install request for the given member. */
+  /**
+   * Builds an install request for the given member. Several install requests can be in flight to
+   * the same member, except for the first and the last chunk of a snapshot: the first chunk starts
+   * the installation on the member, and the last one completes it. These are only sent when no
+   * other install request is in flight.
+   */
   protected Optional<InstallRequest> buildInstallRequest(
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
+    if (member.hasInFlightInstalls()
+        && (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()
+            || member.getNextSnapshotChunk() == null)) {
+      // wait until the first chunk of the snapshot is acknowledged, or until all chunks of the
+      // previous snapshot are acknowledged
+      return Optional.empty();
+    }
+
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
       try {
         final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
@@ -459,6 +478,7 @@ abstract class AbstractAppender implements AutoCloseable {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunk(null);
+      member.setAvailableSnapshotChunks(Map.of());
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
@@ -466,8 +486,18 @@ abstract class AbstractAppender implements AutoCloseable {
       return Optional.empty();
     }
 
+    final ByteBuffer firstChunkId = reader.nextId();
     try {
-      final SnapshotChunk chunk = reader.next();
+      final Map<String, Long> reusedChunks = skipAvailableChunks(member, reader);
+      final SnapshotChunk chunk =
+          raft.isZeroCopySnapshotReplicationEnabled() && member.isSnapshotChunkFilesSupported()
+              ? reader.nextWithoutContent()
+              : reader.next();
+      if (!reader.hasNext() && member.hasInFlightInstalls()) {
+        // seeking is inclusive, so the chunks are sent again once the others are acknowledged
+        reader.seek(firstChunkId);
+        return Optional.empty();
+      }
 
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
@@ -485,6 +515,8 @@ abstract class AbstractAppender implements AutoCloseable {
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
+              .withReusedChunks(reusedChunks)
+              .withChunkFile(chunk.getContentFile().orElse(null))
               .build();
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
@@ -499,6 +531,42 @@ abstract class AbstractAppender implements AutoCloseable {
     }
   }
 
+  /**
+   * Skips the next chunks which the member offered from its own snapshot with the same checksum,
+   * such that they don't have to be sent. The last chunk is never skipped, as it completes the
+   * snapshot installation.
+   *
+   * @return the checksums of the skipped chunks, by chunk name
+   */
+  private Map<String, Long> skipAvailableChunks(
+      final RaftMemberContext member, final SnapshotChunkReader reader) {
+    final var availableChunks = member.getAvailableSnapshotChunks();
+    if (availableChunks.isEmpty()) {
+      return Map.of();
+    }
+
+    final Map<String, Long> reusedChunks = new HashMap<>();
+    while (reader.hasNext()) {
+      final var chunkId = reader.nextId();
+      final var chunkName = StandardCharsets.US_ASCII.decode(chunkId.duplicate()).toString();
+      final var checksum = reader.nextChecksum();
+      if (checksum.isEmpty()
+          || !Objects.equals(availableChunks.get(chunkName), checksum.getAsLong())) {
+        break;
+      }
+
+      reader.skip();
+      if (!reader.hasNext()) {
+        // seeking is inclusive, so this goes back to the skipped chunk to send it as last chunk
+        reader.seek(chunkId);
+        break;
+      }
+      reusedChunks.put(chunkName, checksum.getAsLong());
+    }
+
+    return reusedChunks;
+  }
+
   /** Connects to the member and sends a snapshot request. */
   protected void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
     // Start the install to the member.
@@ -535,6 +603,17 @@ abstract class AbstractAppender implements AutoCloseable {
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunk(null);
 
+    if (Throwables.getRootCause(error) instanceof MessagingException.AttachmentNotSupported) {
+      // the member runs a version which cannot receive files; nothing was sent, so the snapshot is
+      // sent again right away, with the content of the chunks inline
+      log.debug(
+          "Member {} cannot receive snapshot chunks as files, sending them inline",
+          member.getMember().memberId());
+      member.disableSnapshotChunkFiles();
+      appendEntries(member);
+      return;
+    }
+
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
   }
@@ -561,17 +640,28 @@ abstract class AbstractAppender implements AutoCloseable {
     // Reset the member failure count and update the member's status if necessary.
     succeedAttempt(member);
 
+    if (member.getNextSnapshotIndex() != request.index()) {
+      // the installation was restarted in the meantime, e.g. because another in-flight request
+      // failed; this response belongs to the previous attempt
+      appendEntries(member);
+      return;
+    }
+
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunk(null);
+      member.setAvailableSnapshotChunks(Map.of());
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
     // If more install requests remain, increment the member's snapshot offset.
     else {
       member.setNextSnapshotChunk(request.nextChunkId());
+      if (request.isInitial()) {
+        member.setAvailableSnapshotChunks(response.availableChunks());
+      }
     }
 
     // Recursively append entries to the member.
@@ -356,8 +356,16 @@ final class LeaderAppender extends AbstractAppender {
           "Replicating snapshot {} to {}",
           persistedSnapshot.getIndex(),
           member.getMember().memberId());
-      buildInstallRequest(member, persistedSnapshot)
-          .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+
+      // fill the window of in-flight snapshot chunks
+      while (member.canInstall()) {
+        final var installRequest = buildInstallRequest(member, persistedSnapshot);
+        if (installRequest.isEmpty()) {
+          break;
+        }
+
+        sendInstallRequest(member, installRequest.get());
+      }
     } else if (member.canAppend()) {
       sendAppendRequest(member, buildAppendRequest(member, -1));
     }
@@ -589,6 +589,12 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
 
   private void replicate(final IndexedRaftLogEntry indexed, final AppendListener appendListener) {
     raft.checkThread();
+    if (raft.getLog().shouldFlushExplicitly()) {
+      // persist the entry while it is being replicated, such that committing it does not have to
+      // wait for a flush; failures are logged by the flusher and the commit flushes again
+      raft.getLogFlusher().flush(indexed.index());
+    }
+
     appender
         .appendEntries(indexed.index())
         .whenCompleteAsync(
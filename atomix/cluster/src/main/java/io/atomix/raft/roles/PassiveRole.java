@@ -44,6 +44,8 @@ import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.PersistedSnapshotListener;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -171,6 +173,12 @@ public class PassiveRole extends InactiveRole {
       abortPendingSnapshots();
     }
 
+    // The leader restarts the installation with the initial chunk, e.g. after one of several
+    // in-flight chunks was rejected; the chunks received so far are then sent again
+    if (pendingSnapshot != null && request.isInitial()) {
+      abortPendingSnapshots();
+    }
+
     // If the snapshot already exists locally, do not overwrite it with a replicated snapshot.
     // Simply reply to the request successfully.
     final var latestIndex = raft.getCurrentSnapshotIndex();
@@ -203,6 +211,9 @@ public class PassiveRole extends InactiveRole {
                   .build()));
     }
 
+    // the chunks of our own latest snapshot, which the leader does not have to send again
+    Map<String, Long> availableChunks = Map.of();
+
     // If there is no pending snapshot, create a new snapshot.
     if (pendingSnapshot == null) {
       // if we have no pending snapshot then the request must be the first chunk, otherwise we could
@@ -226,9 +237,19 @@ public class PassiveRole extends InactiveRole {
       // When all chunks of the snapshot is received the log will be reset. Hence notify the
       // listeners in advance so that they can close all consumers of the log.
       raft.notifySnapshotReplicationStarted();
+
+      if (!request.complete()) {
+        availableChunks =
+            raft.getPersistedSnapshotStore()
+                .getLatestSnapshot()
+                .map(PersistedSnapshot::getChunkChecksums)
+                .orElse(Map.of());
+      }
     } else {
-      // fail the request if this is not the expected next chunk
-      if (!isExpectedChunk(request.chunkId())) {
+      // fail the request if this is not the expected next chunk; if the leader skipped the
+      // expected chunk, it must be one of the reused chunks. The leader sends the chunks in order,
+      // also when several of them are in flight
+      if (!isExpectedChunk(request.chunkId()) && !isExpectedChunkReused(request.reusedChunks())) {
         return CompletableFuture.completedFuture(
             logResponse(
                 InstallResponse.builder()
@@ -241,7 +262,14 @@ public class PassiveRole extends InactiveRole {
     }
 
     try {
-      pendingSnapshot.apply(snapshotChunk).join();
+      if (!request.reusedChunks().isEmpty()) {
+        reuseSnapshotChunks(request.reusedChunks());
+      }
+      if (request.chunkContent() != null) {
+        pendingSnapshot.apply(snapshotChunk, request.chunkContent()).join();
+      } else {
+        pendingSnapshot.apply(snapshotChunk).join();
+      }
     } catch (final Exception e) {
       log.warn(
           "Failed to write pending snapshot chunk {}, rolling back snapshot {}",
@@ -292,7 +320,28 @@ public class PassiveRole extends InactiveRole {
     }
 
     return CompletableFuture.completedFuture(
-        logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
+        logResponse(
+            InstallResponse.builder()
+                .withStatus(RaftResponse.Status.OK)
+                .withAvailableChunks(availableChunks)
+                .build()));
+  }
+
+  private void reuseSnapshotChunks(final Map<String, Long> reusedChunks) {
+    final var latestSnapshot =
+        raft.getPersistedSnapshotStore()
+            .getLatestSnapshot()
+            .orElseThrow(
+                () ->
+                    new IllegalStateException(
+                        "Expected to reuse chunks of the latest snapshot, but there is none"));
+
+    log.debug(
+        "Reusing {} chunks of snapshot {} for snapshot {}",
+        reusedChunks.size(),
+        latestSnapshot.getId(),
+        pendingSnapshot.snapshotId().getSnapshotIdAsString());
+    pendingSnapshot.reuse(latestSnapshot, reusedChunks).join();
   }
 
   @Override
@@ -369,6 +418,16 @@ public class PassiveRole extends InactiveRole {
     return nextPendingSnapshotChunkId == null || nextPendingSnapshotChunkId.equals(chunkId);
   }
 
+  private boolean isExpectedChunkReused(final Map<String, Long> reusedChunks) {
+    if (nextPendingSnapshotChunkId == null || reusedChunks.isEmpty()) {
+      return false;
+    }
+
+    final var expectedChunkName =
+        StandardCharsets.US_ASCII.decode(nextPendingSnapshotChunkId.duplicate()).toString();
+    return reusedChunks.containsKey(expectedChunkName);
+  }
+
   private void abortPendingSnapshots() {
     if (pendingSnapshot != null) {
       setNextExpected(null);
@@ -570,8 +629,28 @@ public class PassiveRole extends InactiveRole {
       raft.notifyCommitListeners(commitIndex);
     }
 
-    // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge
-    flush(lastLogIndex, request.prevLogIndex());
+    // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge;
+    // the flush happens off the raft thread, so further requests can be appended in the meantime.
+    // This includes requests without entries, e.g. heartbeats: they acknowledge entries of previous
+    // requests, which may still be waiting for their flush
+    if (raft.getLog().shouldFlushExplicitly()) {
+      final long lastWrittenIndex = lastLogIndex;
+      final boolean appended = lastLogIndex > request.prevLogIndex();
+      raft.getLogFlusher()
+          .flush(lastWrittenIndex)
+          .whenComplete(
+              (nothing, error) -> {
+                if (error == null) {
+                  if (appended) {
+                    raft.setLastWrittenIndex(lastWrittenIndex);
+                  }
+                  succeedAppend(lastWrittenIndex, future);
+                } else {
+                  failAppend(request.prevLogIndex(), future);
+                }
+              });
+      return;
+    }
 
     // Return a successful append response.
     succeedAppend(lastLogIndex, future);
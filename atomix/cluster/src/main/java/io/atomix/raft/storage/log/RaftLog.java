@@ -38,6 +38,7 @@ public final class RaftLog implements Closeable {
 
   private IndexedRaftLogEntry lastAppendedEntry;
   private volatile long commitIndex;
+  private long truncations;
 
   private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer(4 * 1024);
 
@@ -178,6 +179,7 @@ public final class RaftLog implements Closeable {
   public void reset(final long index) {
     journal.reset(index);
     lastAppendedEntry = null;
+    truncations++;
   }
 
   public void deleteAfter(final long index) {
@@ -189,6 +191,17 @@ public final class RaftLog implements Closeable {
     }
     journal.deleteAfter(index);
     lastAppendedEntry = null;
+    truncations++;
+  }
+
+  /**
+   * Returns how often the log was reset or truncated, which lets asynchronous flushes detect that
+   * entries they did not cover may have replaced entries they did.
+   *
+   * @return the number of times the log was reset or truncated
+   */
+  long getTruncations() {
+    return truncations;
   }
 
   public void flush() {
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log;
+
+import static io.atomix.utils.concurrent.Threads.namedThreads;
+
+import io.atomix.utils.concurrent.ThreadContext;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Flushes the {@link RaftLog} on a dedicated thread, so that the raft thread can keep appending and
+ * replicating entries while the journal is being forced to disk.
+ *
+ * <p>Flush requests are group committed: while a flush is in progress, further requests are queued
+ * and all of them are served by the next single flush, which covers every entry appended up to the
+ * moment it started. Requests are only completed once an index greater than or equal to the
+ * requested one has been flushed.
+ *
+ * <p>Except for {@link #close()}, all methods must be called from the raft thread. Futures are
+ * completed on the raft thread.
+ */
+public final class RaftLogFlusher implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(RaftLogFlusher.class);
+
+  private final RaftLog log;
+  private final ThreadContext raftThread;
+  private final ExecutorService flushExecutor;
+  private final Queue<PendingFlush> pendingFlushes = new ArrayDeque<>();
+
+  private long flushedIndex;
+  private long knownTruncations;
+  private boolean flushInProgress;
+
+  public RaftLogFlusher(final String name, final RaftLog log, final ThreadContext raftThread) {
+    this.log = log;
+    this.raftThread = raftThread;
+    flushExecutor =
+        Executors.newSingleThreadExecutor(namedThreads("raft-log-flusher-" + name, LOG));
+  }
+
+  /**
+   * Requests that all entries up to the given index are flushed.
+   *
+   * @param index the index up to which entries must be flushed
+   * @return a future which is completed once all entries up to the given index are flushed
+   */
+  public CompletableFuture<Void> flush(final long index) {
+    raftThread.checkThread();
+    if (index <= getFlushedIndex()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final var pendingFlush = new PendingFlush(index);
+    pendingFlushes.add(pendingFlush);
+    if (!flushInProgress) {
+      startFlush();
+    }
+
+    return pendingFlush.future;
+  }
+
+  /** @return the highest index which is known to be flushed */
+  public long getFlushedIndex() {
+    if (knownTruncations != log.getTruncations()) {
+      // entries which were flushed before may have been replaced since
+      knownTruncations = log.getTruncations();
+      flushedIndex = 0;
+    }
+
+    return flushedIndex;
+  }
+
+  private void startFlush() {
+    flushInProgress = true;
+
+    final long index = log.getLastIndex();
+    final long truncations = log.getTruncations();
+    CompletableFuture.runAsync(log::flush, flushExecutor)
+        .whenCompleteAsync(
+            (nothing, error) -> onFlushed(index, truncations, error), raftThread::execute);
+  }
+
+  private void onFlushed(final long index, final long truncations, final Throwable error) {
+    flushInProgress = false;
+
+    if (error != null) {
+      LOG.error("Failed to flush the raft log up to index {}", index, error);
+      PendingFlush pendingFlush;
+      while ((pendingFlush = pendingFlushes.poll()) != null) {
+        pendingFlush.future.completeExceptionally(error);
+      }
+      return;
+    }
+
+    if (truncations != log.getTruncations()) {
+      // the log was truncated while flushing, so we cannot tell which of the entries that were
+      // appended in the meantime are part of the flush
+      flushedIndex = 0;
+    } else {
+      flushedIndex = Math.max(flushedIndex, index);
+    }
+
+    final var iterator = pendingFlushes.iterator();
+    while (iterator.hasNext()) {
+      final var pendingFlush = iterator.next();
+      if (pendingFlush.index <= flushedIndex) {
+        iterator.remove();
+        pendingFlush.future.complete(null);
+      }
+    }
+
+    if (!pendingFlushes.isEmpty()) {
+      startFlush();
+    }
+  }
+
+  @Override
+  public void close() {
+    flushExecutor.shutdown();
+    try {
+      if (!flushExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+        LOG.warn("Expected the raft log flusher to terminate within 10s, but it did not");
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class PendingFlush {
+    private final long index;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    private PendingFlush(final long index) {
+      this.index = index;
+    }
+  }
+}
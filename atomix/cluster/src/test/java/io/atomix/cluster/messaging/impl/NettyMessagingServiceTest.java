@@ -17,6 +17,7 @@
 package io.atomix.cluster.messaging.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -29,13 +30,19 @@ import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.Uninterruptibles;
 import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.test.util.socket.SocketUtil;
+import java.io.ByteArrayOutputStream;
 import java.net.ConnectException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -51,7 +58,9 @@ import java.util.stream.Stream;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.slf4j.Logger;
 
 /** Netty messaging service test. */
@@ -59,6 +68,7 @@ public class NettyMessagingServiceTest {
 
   private static final Logger LOGGER = getLogger(NettyMessagingServiceTest.class);
   private static final String IP_STRING = "127.0.0.1";
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
   ManagedMessagingService netty1;
   ManagedMessagingService netty2;
   ManagedMessagingService nettyv11;
@@ -395,6 +405,98 @@ public class NettyMessagingServiceTest {
     assertArrayEquals(payload, response);
   }
 
+  @Test
+  public void shouldSendAndReceiveFile() throws Exception {
+    // given
+    final String subject = nextSubject();
+    final byte[] payload = "Hello world!".getBytes();
+    final byte[] fileContent = new byte[1024 * 1024];
+    new Random().nextBytes(fileContent);
+    final Path file = temporaryFolder.newFile().toPath();
+    Files.write(file, fileContent);
+    final AtomicReference<byte[]> receivedPayload = new AtomicReference<>();
+    netty1.registerFileHandler(
+        subject,
+        (address, bytes, content) -> {
+          receivedPayload.set(bytes);
+          final var output = new ByteArrayOutputStream();
+          for (final ByteBuffer buffer : content) {
+            final byte[] bufferBytes = new byte[buffer.remaining()];
+            buffer.get(bufferBytes);
+            output.writeBytes(bufferBytes);
+          }
+          return CompletableFuture.completedFuture(output.toByteArray());
+        });
+
+    // when
+    final byte[] response =
+        netty2
+            .sendAndReceive(address1, subject, payload, file, true, Duration.ofSeconds(10))
+            .get(10, TimeUnit.SECONDS);
+
+    // then
+    assertArrayEquals(payload, receivedPayload.get());
+    assertArrayEquals(fileContent, response);
+  }
+
+  @Test
+  public void shouldReceiveMessageWithoutFileInFileHandler() throws Exception {
+    // given
+    final String subject = nextSubject();
+    final byte[] payload = "Hello world!".getBytes();
+    netty1.registerFileHandler(
+        subject,
+        (address, bytes, content) ->
+            CompletableFuture.completedFuture(
+                content.length == 0 ? bytes : "unexpected".getBytes()));
+
+    // when
+    final byte[] response =
+        netty2.sendAndReceive(address1, subject, payload).get(10, TimeUnit.SECONDS);
+
+    // then
+    assertArrayEquals(payload, response);
+  }
+
+  @Test
+  public void shouldFailToSendFileWithV2() throws Exception {
+    // given
+    final String subject = nextSubject();
+    final Path file = temporaryFolder.newFile().toPath();
+    Files.write(file, "Hello file!".getBytes());
+    nettyv21.registerHandler(subject, (address, bytes) -> CompletableFuture.completedFuture(bytes));
+
+    // when
+    final var response =
+        nettyv22.sendAndReceive(
+            addressv21, subject, "Hello world!".getBytes(), file, true, Duration.ofSeconds(10));
+
+    // then
+    assertThatThrownBy(() -> response.get(10, TimeUnit.SECONDS))
+        .hasRootCauseInstanceOf(MessagingException.AttachmentNotSupported.class);
+  }
+
+  @Test
+  public void shouldSendMessageWithoutFileAfterFailingToSendFileWithV2() throws Exception {
+    // given
+    final String subject = nextSubject();
+    final byte[] payload = "Hello world!".getBytes();
+    final Path file = temporaryFolder.newFile().toPath();
+    Files.write(file, "Hello file!".getBytes());
+    nettyv21.registerHandler(subject, (address, bytes) -> CompletableFuture.completedFuture(bytes));
+    final var failed =
+        nettyv22.sendAndReceive(addressv21, subject, payload, file, true, Duration.ofSeconds(10));
+    assertThatThrownBy(() -> failed.get(10, TimeUnit.SECONDS))
+        .hasRootCauseInstanceOf(MessagingException.AttachmentNotSupported.class);
+
+    // when
+    final byte[] response =
+        nettyv22.sendAndReceive(addressv21, subject, payload, true).get(10, TimeUnit.SECONDS);
+
+    // then
+    assertArrayEquals(payload, response);
+  }
+
   @Test
   public void testVersionNegotiation() throws Exception {
     String subject;
@@ -17,6 +17,7 @@ package io.atomix.raft;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import java.util.Collection;
 import java.util.List;
@@ -38,10 +39,20 @@ public class RaftFailOverTest {
     return new Object[][] {
       new Object[] {RaftRule.withBootstrappedNodes(3)},
       new Object[] {RaftRule.withBootstrappedNodes(4)},
-      new Object[] {RaftRule.withBootstrappedNodes(5)}
+      new Object[] {RaftRule.withBootstrappedNodes(5)},
+      new Object[] {
+        RaftRule.withBootstrappedNodes(
+            3, (memberId, builder) -> builder.withPartitionConfig(withInFlightSnapshotChunks(4)))
+      }
     };
   }
 
+  private static RaftPartitionConfig withInFlightSnapshotChunks(final int maxInFlightChunks) {
+    final var partitionConfig = new RaftPartitionConfig();
+    partitionConfig.setMaxInFlightSnapshotChunks(maxInFlightChunks);
+    return partitionConfig;
+  }
+
   @Test
   public void shouldCommitEntriesAfterFollowerShutdown() throws Throwable {
     // given
@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+final class RaftMessageCompressorTest {
+
+  @Test
+  void shouldCompressAndDecompressMessage() {
+    // given
+    final byte[] message = "processInstanceKey".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    // when
+    final byte[] compressed = RaftMessageCompressor.compress(message);
+
+    // then
+    assertThat(compressed).isNotNull();
+    assertThat(compressed.length).isLessThan(message.length);
+    assertThat(RaftMessageCompressor.decompress(compressed)).isEqualTo(message);
+  }
+
+  @Test
+  void shouldNotCompressIncompressibleMessage() {
+    // given
+    final byte[] message = new byte[1024];
+    new Random(1).nextBytes(message);
+
+    // when
+    final byte[] compressed = RaftMessageCompressor.compress(message);
+
+    // then
+    assertThat(compressed).isNull();
+  }
+
+  @Test
+  void shouldRejectInvalidCompressedMessage() {
+    // given
+    final byte[] compressed =
+        RaftMessageCompressor.compress("a".repeat(100).getBytes(StandardCharsets.UTF_8));
+    compressed[0] = 1;
+
+    // when - then
+    assertThatThrownBy(() -> RaftMessageCompressor.decompress(compressed))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.ClusterMembershipService;
+import io.atomix.cluster.Member;
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.utils.net.Address;
+import io.atomix.utils.serializer.Serializer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class RaftServerCommunicatorTest {
+
+  private static final String PARTITION = "raft-partition-1";
+  private static final MemberId RECEIVER = MemberId.from("1");
+
+  private final ClusterCommunicationService communicationService =
+      mock(ClusterCommunicationService.class);
+  private final ClusterMembershipService membershipService = mock(ClusterMembershipService.class);
+  private final Member receiver = Member.member(RECEIVER, Address.from("localhost", 26502));
+
+  private RaftServerCommunicator communicator;
+
+  @BeforeEach
+  void setUp() {
+    when(membershipService.getMember(RECEIVER)).thenReturn(receiver);
+    communicator =
+        new RaftServerCommunicator(
+            PARTITION,
+            Serializer.using(RaftNamespaces.RAFT_PROTOCOL),
+            communicationService,
+            membershipService,
+            Duration.ofSeconds(5),
+            true,
+            0);
+  }
+
+  @Test
+  void shouldCompressRequestToMemberWhichAcceptsIt() {
+    // given
+    receiver
+        .properties()
+        .setProperty(RaftServerCommunicator.MESSAGE_COMPRESSION_PROPERTY, Boolean.TRUE.toString());
+
+    // when
+    communicator.install(RECEIVER, compressibleInstallRequest());
+
+    // then
+    verify(communicationService)
+        .send(
+            eq(PARTITION + "-install-compressed"),
+            any(),
+            any(),
+            any(),
+            eq(RECEIVER),
+            any(Duration.class));
+  }
+
+  @Test
+  void shouldNotCompressRequestToMemberWhichDoesNotAdvertiseIt() {
+    // when
+    communicator.install(RECEIVER, compressibleInstallRequest());
+
+    // then
+    verify(communicationService)
+        .send(eq(PARTITION + "-install"), any(), any(), any(), eq(RECEIVER), any(Duration.class));
+  }
+
+  @Test
+  void shouldNotCompressRequestToUnknownMember() {
+    // given
+    final MemberId unknownMember = MemberId.from("2");
+
+    // when
+    communicator.install(unknownMember, compressibleInstallRequest());
+
+    // then
+    verify(communicationService)
+        .send(
+            eq(PARTITION + "-install"),
+            any(),
+            any(),
+            any(),
+            eq(unknownMember),
+            any(Duration.class));
+  }
+
+  private InstallRequest compressibleInstallRequest() {
+    final byte[] data = "processInstanceKey".repeat(100).getBytes(StandardCharsets.UTF_8);
+    return InstallRequest.builder()
+        .withCurrentTerm(1)
+        .withLeader(MemberId.from("0"))
+        .withIndex(1)
+        .withTerm(1)
+        .withVersion(1)
+        .withChunkId(ByteBuffer.wrap("chunk".getBytes(StandardCharsets.UTF_8)))
+        .withData(ByteBuffer.wrap(data))
+        .build();
+  }
+}
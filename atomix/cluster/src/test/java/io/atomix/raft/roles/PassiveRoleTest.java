@@ -17,6 +17,7 @@ package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -31,6 +32,7 @@ import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.PersistedRaftRecord;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
@@ -38,6 +40,7 @@ import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Rule;
@@ -50,6 +53,7 @@ public class PassiveRoleTest {
   private RaftLog log;
   private PassiveRole role;
   private RaftContext ctx;
+  private RaftLogFlusher logFlusher;
 
   @Before
   public void setup() throws IOException {
@@ -59,6 +63,15 @@ public class PassiveRoleTest {
     when(log.shouldFlushExplicitly()).thenReturn(true);
     when(ctx.getLog()).thenReturn(log);
 
+    logFlusher = mock(RaftLogFlusher.class);
+    when(logFlusher.flush(anyLong()))
+        .then(
+            i -> {
+              log.flush();
+              return CompletableFuture.completedFuture(null);
+            });
+    when(ctx.getLogFlusher()).thenReturn(logFlusher);
+
     final PersistedSnapshot snapshot = mock(PersistedSnapshot.class);
     when(snapshot.getIndex()).thenReturn(1L);
     when(snapshot.getTerm()).thenReturn(1L);
@@ -135,6 +148,35 @@ public class PassiveRoleTest {
     assertThat(response.lastLogIndex()).isEqualTo(1);
   }
 
+  @Test
+  public void shouldNotAcknowledgeHeartbeatBeforePendingFlushCompletes() {
+    // given
+    final CompletableFuture<Void> pendingFlush = new CompletableFuture<>();
+    when(logFlusher.flush(anyLong())).thenReturn(pendingFlush);
+    when(log.append(any(PersistedRaftRecord.class))).thenReturn(mock(IndexedRaftLogEntry.class));
+
+    final List<PersistedRaftRecord> entries =
+        List.of(new PersistedRaftRecord(1, 1, 1, 1, new byte[1]));
+    final var appendResponse = role.handleAppend(new AppendRequest(1, "", 0, 0, entries, 0));
+
+    final IndexedRaftLogEntry lastEntry = mock(IndexedRaftLogEntry.class);
+    when(lastEntry.index()).thenReturn(1L);
+    when(lastEntry.term()).thenReturn(1L);
+    when(log.getLastEntry()).thenReturn(lastEntry);
+
+    // when
+    final var heartbeatResponse = role.handleAppend(new AppendRequest(1, "", 1, 1, List.of(), 0));
+
+    // then
+    assertThat(appendResponse).isNotDone();
+    assertThat(heartbeatResponse).isNotDone();
+
+    pendingFlush.complete(null);
+    assertThat(appendResponse.join().lastLogIndex()).isEqualTo(1);
+    assertThat(heartbeatResponse.join().succeeded()).isTrue();
+    assertThat(heartbeatResponse.join().lastLogIndex()).isEqualTo(1);
+  }
+
   @Test
   public void shouldNotFlushIfNoEntryIsAppended() {
     // given
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.utils.concurrent.SingleThreadContext;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RaftLogFlusherTest {
+
+  private final AtomicLong lastIndex = new AtomicLong();
+  private final AtomicLong truncations = new AtomicLong();
+  private final CountDownLatch flushLatch = new CountDownLatch(1);
+
+  private RaftLog log;
+  private SingleThreadContext raftThread;
+  private RaftLogFlusher flusher;
+
+  @BeforeEach
+  void setup() {
+    log = mock(RaftLog.class);
+    when(log.getLastIndex()).then(i -> lastIndex.get());
+    when(log.getTruncations()).then(i -> truncations.get());
+    doAnswer(
+            i -> {
+              flushLatch.await();
+              return null;
+            })
+        .when(log)
+        .flush();
+
+    raftThread = new SingleThreadContext("raft-log-flusher-test");
+    flusher = new RaftLogFlusher("test", log, raftThread);
+  }
+
+  @AfterEach
+  void tearDown() {
+    flushLatch.countDown();
+    flusher.close();
+    raftThread.close();
+  }
+
+  @Test
+  void shouldCompleteFlushAfterLogIsFlushed() {
+    // given
+    lastIndex.set(3);
+
+    // when
+    final var flushed = flush(3);
+
+    // then
+    assertThat(flushed).isNotDone();
+    flushLatch.countDown();
+    assertThat(flushed).succeedsWithin(Duration.ofSeconds(10));
+    assertThat(onRaftThread(flusher::getFlushedIndex)).isEqualTo(3);
+  }
+
+  @Test
+  void shouldCompleteFlushImmediatelyIfAlreadyFlushed() {
+    // given
+    lastIndex.set(3);
+    flushLatch.countDown();
+    flush(3).join();
+
+    // when
+    final var flushed = flush(2);
+
+    // then
+    assertThat(flushed).isDone();
+    verify(log, times(1)).flush();
+  }
+
+  @Test
+  void shouldGroupFlushesRequestedWhileFlushing() {
+    // given
+    lastIndex.set(1);
+    final var first = flush(1);
+
+    // when
+    lastIndex.set(2);
+    final var second = flush(2);
+    lastIndex.set(3);
+    final var third = flush(3);
+    flushLatch.countDown();
+
+    // then
+    assertThat(CompletableFuture.allOf(first, second, third))
+        .succeedsWithin(Duration.ofSeconds(10));
+    verify(log, times(2)).flush();
+  }
+
+  @Test
+  void shouldFlushAgainIfLogWasTruncatedWhileFlushing() {
+    // given
+    lastIndex.set(3);
+    final var flushed = flush(3);
+
+    // when
+    truncations.incrementAndGet();
+    flushLatch.countDown();
+
+    // then
+    assertThat(flushed).succeedsWithin(Duration.ofSeconds(10));
+    verify(log, times(2)).flush();
+  }
+
+  @Test
+  void shouldNotConsiderEntriesFlushedAfterTruncation() {
+    // given
+    lastIndex.set(3);
+    flushLatch.countDown();
+    flush(3).join();
+
+    // when
+    truncations.incrementAndGet();
+    lastIndex.set(2);
+    final var flushed = flush(2);
+
+    // then
+    assertThat(flushed).succeedsWithin(Duration.ofSeconds(10));
+    verify(log, times(2)).flush();
+  }
+
+  @Test
+  void shouldFailPendingFlushesIfFlushFails() {
+    // given
+    final var failure = new IllegalStateException("expected");
+    doThrow(failure).when(log).flush();
+    lastIndex.set(3);
+
+    // when
+    final var flushed = flush(3);
+
+    // then
+    assertThat(flushed).failsWithin(Duration.ofSeconds(10));
+    assertThat(onRaftThread(flusher::getFlushedIndex)).isZero();
+  }
+
+  private CompletableFuture<Void> flush(final long index) {
+    return onRaftThread(() -> flusher.flush(index));
+  }
+
+  private <T> T onRaftThread(final Supplier<T> supplier) {
+    return CompletableFuture.supplyAsync(supplier, raftThread).join();
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh.db;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the access patterns of the engine state on a {@link
+ * io.camunda.zeebe.db.impl.rocksdb.transaction.TransactionalColumnFamily}: point lookups, writes
+ * and iterating over all keys which share a prefix (e.g. all jobs of one type).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Thread)
+public class ColumnFamilyBenchmark {
+
+  @Param({"1000"})
+  private int prefixCount;
+
+  @Param({"10"})
+  private int keysPerPrefix;
+
+  private final DbLong firstKey = new DbLong();
+  private final DbLong secondKey = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> key = new DbCompositeKey<>(firstKey, secondKey);
+  private final DbLong value = new DbLong();
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+  private long visited;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("zeebe-jmh-db");
+    zeebeDb = ZeebeRocksDbFactory.<DefaultColumnFamily>newFactory().createDb(directory.toFile());
+    transactionContext = zeebeDb.createContext();
+    columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+
+    transactionContext.runInTransaction(
+        () -> {
+          for (long prefix = 0; prefix < prefixCount; prefix++) {
+            for (long suffix = 0; suffix < keysPerPrefix; suffix++) {
+              firstKey.wrapLong(prefix);
+              secondKey.wrapLong(suffix);
+              value.wrapLong(prefix * suffix);
+              columnFamily.put(key, value);
+            }
+          }
+        });
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public DbLong get() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    firstKey.wrapLong(random.nextInt(prefixCount));
+    secondKey.wrapLong(random.nextInt(keysPerPrefix));
+    return columnFamily.get(key);
+  }
+
+  @Benchmark
+  public void put() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    firstKey.wrapLong(random.nextInt(prefixCount));
+    secondKey.wrapLong(random.nextInt(keysPerPrefix));
+    value.wrapLong(random.nextLong());
+    columnFamily.put(key, value);
+  }
+
+  @Benchmark
+  public long prefixIteration() {
+    visited = 0;
+    firstKey.wrapLong(ThreadLocalRandom.current().nextInt(prefixCount));
+    columnFamily.whileEqualPrefix(firstKey, (k, v) -> visited += v.getValue());
+    return visited;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh.dispatcher;
+
+import io.camunda.zeebe.dispatcher.ClaimedFragment;
+import io.camunda.zeebe.dispatcher.Dispatcher;
+import io.camunda.zeebe.dispatcher.Dispatchers;
+import io.camunda.zeebe.dispatcher.FragmentHandler;
+import io.camunda.zeebe.dispatcher.Subscription;
+import io.camunda.zeebe.util.sched.ActorScheduler;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a full round trip through the {@link Dispatcher}: claiming a fragment, writing and
+ * committing it, and consuming it again through a subscription.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Thread)
+public class DispatcherBenchmark {
+
+  @Param({"128", "1024"})
+  private int fragmentLength;
+
+  private final ClaimedFragment claimedFragment = new ClaimedFragment();
+  private final ConsumingHandler handler = new ConsumingHandler();
+
+  private ActorScheduler actorScheduler;
+  private Dispatcher dispatcher;
+  private Subscription subscription;
+
+  @Setup
+  public void setup() {
+    actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+
+    dispatcher =
+        Dispatchers.create("jmh")
+            .actorSchedulingService(actorScheduler)
+            .bufferSize(4 * 1024 * 1024)
+            .build();
+    subscription = dispatcher.openSubscription("jmh");
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    dispatcher.close();
+    actorScheduler.close();
+  }
+
+  @Benchmark
+  public long claimCommitAndPoll() {
+    long position = dispatcher.claimSingleFragment(claimedFragment, fragmentLength);
+    while (position < 0) {
+      // the publisher limit is updated asynchronously; drain and update it in place
+      subscription.poll(handler, Integer.MAX_VALUE);
+      dispatcher.updatePublisherLimit();
+      position = dispatcher.claimSingleFragment(claimedFragment, fragmentLength);
+    }
+
+    claimedFragment.getBuffer().putLong(claimedFragment.getOffset(), position);
+    claimedFragment.commit();
+
+    subscription.poll(handler, 1);
+    return handler.consumed;
+  }
+
+  private static final class ConsumingHandler implements FragmentHandler {
+
+    private long consumed;
+
+    @Override
+    public int onFragment(
+        final DirectBuffer buffer,
+        final int offset,
+        final int length,
+        final int streamId,
+        final boolean isMarkedFailed) {
+      consumed += buffer.getLong(offset);
+      return CONSUME_FRAGMENT_RESULT;
+    }
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh.journal;
+
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures appending to and reading from a {@link SegmentedJournal}. Appends are not flushed, such
+ * that the numbers reflect the journal itself and not the disk, except for the flush benchmarks,
+ * which compare flushing after every append with flushing concurrently on a separate thread.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class SegmentedJournalBenchmark {
+
+  private static final int MAX_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  @Benchmark
+  public JournalRecord append(final AppendState state) {
+    return state.journal.append(state.asqn++, state.data);
+  }
+
+  @Benchmark
+  public JournalRecord appendAndFlush(final AppendState state) {
+    final JournalRecord record = state.journal.append(state.asqn++, state.data);
+    state.journal.flush();
+    return record;
+  }
+
+  @Benchmark
+  public JournalRecord appendWithConcurrentFlush(final ConcurrentFlushState state) {
+    return state.journal.append(state.asqn++, state.data);
+  }
+
+  @Benchmark
+  public JournalRecord readNext(final ReadState state) {
+    if (!state.reader.hasNext()) {
+      state.reader.seekToFirst();
+    }
+
+    return state.reader.next();
+  }
+
+  @Benchmark
+  public long seek(final ReadState state) {
+    final long index = ThreadLocalRandom.current().nextLong(1, state.recordCount + 1);
+    return state.reader.seek(index);
+  }
+
+  @Benchmark
+  public long seekToAsqn(final ReadState state) {
+    final long asqn = ThreadLocalRandom.current().nextLong(1, state.recordCount + 1);
+    return state.reader.seekToAsqn(asqn);
+  }
+
+  private static SegmentedJournal openJournal(final Path directory) {
+    return SegmentedJournal.builder()
+        .withDirectory(directory.toFile())
+        .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+        .withFreeDiskSpace(0)
+        .build();
+  }
+
+  private static DirectBuffer data(final int length) {
+    final byte[] bytes = new byte[length];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    return new UnsafeBuffer(bytes);
+  }
+
+  @State(Scope.Thread)
+  public static class AppendState {
+
+    @Param({"128", "1024"})
+    private int recordSize;
+
+    private Path directory;
+    private SegmentedJournal journal;
+    private DirectBuffer data;
+    private long asqn = 1;
+
+    @Setup
+    public void setup() throws Exception {
+      directory = Files.createTempDirectory("zeebe-jmh-journal");
+      journal = openJournal(directory);
+      data = data(recordSize);
+    }
+
+    @Setup(Level.Iteration)
+    public void compact() {
+      // keeps the disk usage bounded; only the segments before the current one are deleted
+      journal.deleteUntil(journal.getLastIndex());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      journal.close();
+      FileUtil.deleteFolder(directory);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ConcurrentFlushState {
+
+    @Param({"128", "1024"})
+    private int recordSize;
+
+    private Path directory;
+    private SegmentedJournal journal;
+    private DirectBuffer data;
+    private long asqn = 1;
+    private volatile boolean running;
+    private Thread flusher;
+
+    @Setup
+    public void setup() throws Exception {
+      directory = Files.createTempDirectory("zeebe-jmh-journal");
+      journal = openJournal(directory);
+      data = data(recordSize);
+
+      // flushes back to back, such that each flush covers everything appended while the previous
+      // one was in progress
+      running = true;
+      flusher =
+          new Thread(
+              () -> {
+                while (running) {
+                  journal.flush();
+                }
+              },
+              "journal-flusher");
+      flusher.start();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      running = false;
+      flusher.join();
+      journal.close();
+      FileUtil.deleteFolder(directory);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ReadState {
+
+    @Param({"1000000"})
+    private int recordCount;
+
+    private Path directory;
+    private SegmentedJournal journal;
+    private JournalReader reader;
+
+    @Setup
+    public void setup() throws Exception {
+      directory = Files.createTempDirectory("zeebe-jmh-journal");
+      journal = openJournal(directory);
+
+      final DirectBuffer data = data(128);
+      for (long asqn = 1; asqn <= recordCount; asqn++) {
+        journal.append(asqn, data);
+      }
+      journal.flush();
+
+      reader = journal.openReader();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      reader.close();
+      journal.close();
+      FileUtil.deleteFolder(directory);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh.msgpack;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing and reading a flat msgpack document, which resembles a small variables document
+ * with alternating integer and string values.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Thread)
+public class MsgPackBenchmark {
+
+  @Param({"10", "100"})
+  private int entries;
+
+  private final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[64 * 1024]);
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+  private final DirectBuffer key = BufferUtil.wrapString("variableName");
+  private final DirectBuffer value = BufferUtil.wrapString("a rather short string value");
+
+  private int documentLength;
+
+  @Setup
+  public void setup() {
+    documentLength = write();
+  }
+
+  @Benchmark
+  public int write() {
+    writer.wrap(buffer, 0);
+    writer.writeMapHeader(entries);
+
+    for (int i = 0; i < entries; i++) {
+      writer.writeString(key);
+      if (i % 2 == 0) {
+        writer.writeInteger(i);
+      } else {
+        writer.writeString(value);
+      }
+    }
+
+    return writer.getOffset();
+  }
+
+  @Benchmark
+  public long read() {
+    reader.wrap(buffer, 0, documentLength);
+
+    long sum = 0;
+    final int size = reader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      reader.readToken();
+
+      final MsgPackToken token = reader.readToken();
+      if (token.getType() == MsgPackType.INTEGER) {
+        sum += token.getIntegerValue();
+      } else {
+        sum += token.getValueBuffer().capacity();
+      }
+    }
+
+    return sum;
+  }
+
+  @Benchmark
+  public int skip() {
+    reader.wrap(buffer, 0, documentLength);
+    reader.skipValue();
+    return reader.getOffset();
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh.protocol;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encoding and decoding of the records which are written and read most often during
+ * processing, via the {@link io.camunda.zeebe.msgpack.UnpackedObject} property mapping.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Thread)
+public class RecordSerializationBenchmark {
+
+  private final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[64 * 1024]);
+  private final JobRecord jobRecord = new JobRecord();
+  private final ProcessInstanceRecord processInstanceRecord = new ProcessInstanceRecord();
+
+  private int jobRecordLength;
+  private int processInstanceRecordLength;
+  private int processInstanceRecordOffset;
+
+  @Setup
+  public void setup() {
+    jobRecord
+        .setType("payment-service")
+        .setWorker("payment-worker-1")
+        .setRetries(3)
+        .setDeadline(System.currentTimeMillis())
+        .setBpmnProcessId("order-process")
+        .setProcessDefinitionKey(2251799813685249L)
+        .setProcessDefinitionVersion(1)
+        .setProcessInstanceKey(2251799813685251L)
+        .setElementId("collect-payment")
+        .setElementInstanceKey(2251799813685260L)
+        .setCustomHeaders(document("method", "credit-card"))
+        .setVariables(document("orderId", "order-4711"));
+
+    processInstanceRecord
+        .setBpmnProcessId("order-process")
+        .setVersion(1)
+        .setProcessDefinitionKey(2251799813685249L)
+        .setProcessInstanceKey(2251799813685251L)
+        .setElementId("collect-payment")
+        .setFlowScopeKey(2251799813685251L)
+        .setBpmnElementType(BpmnElementType.SERVICE_TASK);
+
+    jobRecordLength = encodeJobRecord();
+    processInstanceRecordOffset = jobRecordLength;
+    processInstanceRecordLength = encodeProcessInstanceRecord();
+  }
+
+  @Benchmark
+  public int encodeJobRecord() {
+    jobRecord.write(buffer, 0);
+    return jobRecord.getLength();
+  }
+
+  @Benchmark
+  public DirectBuffer decodeJobRecord() {
+    jobRecord.wrap(buffer, 0, jobRecordLength);
+    return jobRecord.getTypeBuffer();
+  }
+
+  @Benchmark
+  public int encodeProcessInstanceRecord() {
+    processInstanceRecord.write(buffer, processInstanceRecordOffset);
+    return processInstanceRecord.getLength();
+  }
+
+  @Benchmark
+  public DirectBuffer decodeProcessInstanceRecord() {
+    processInstanceRecord.wrap(buffer, processInstanceRecordOffset, processInstanceRecordLength);
+    return processInstanceRecord.getElementIdBuffer();
+  }
+
+  private static DirectBuffer document(final String key, final String value) {
+    final MutableDirectBuffer document = new UnsafeBuffer(new byte[256]);
+    final MsgPackWriter writer = new MsgPackWriter();
+    writer.wrap(document, 0);
+    writer.writeMapHeader(1);
+    writer.writeString(BufferUtil.wrapString(key));
+    writer.writeString(BufferUtil.wrapString(value));
+    return new UnsafeBuffer(document, 0, writer.getOffset());
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link SparseJournalIndex} with the former {@link TreeMapJournalIndex}. It lives in
+ * the journal's package, as the index implementations are package-private.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Thread)
+public class JournalIndexBenchmark {
+
+  private static final int DENSITY = 100;
+  private static final int ASQN_STEP = 3;
+
+  @Param({"sparse", "treeMap"})
+  private String implementation;
+
+  @Param({"10000000"})
+  private long recordCount;
+
+  private final IndexedRecord record = new IndexedRecord();
+  private JournalIndex index;
+  private long nextIndex;
+
+  @Setup
+  public void setup() {
+    index =
+        "sparse".equals(implementation)
+            ? new SparseJournalIndex(DENSITY)
+            : new TreeMapJournalIndex(DENSITY);
+
+    for (nextIndex = 1; nextIndex <= recordCount; nextIndex++) {
+      index.index(record.wrap(nextIndex), (int) (nextIndex % Integer.MAX_VALUE));
+    }
+  }
+
+  @Benchmark
+  public IndexInfo lookup() {
+    return index.lookup(ThreadLocalRandom.current().nextLong(1, recordCount + 1));
+  }
+
+  @Benchmark
+  public Long lookupAsqn() {
+    return index.lookupAsqn(ThreadLocalRandom.current().nextLong(1, recordCount * ASQN_STEP));
+  }
+
+  @Benchmark
+  public Long lookupAsqnWithUpperBound() {
+    final long upperBound = ThreadLocalRandom.current().nextLong(1, recordCount + 1);
+    return index.lookupAsqn(Long.MAX_VALUE, upperBound);
+  }
+
+  /**
+   * Appends records while compacting the index like the journal does when segments are deleted,
+   * such that the number of indexed entries stays constant.
+   */
+  @Benchmark
+  public void indexAndCompact() {
+    index.index(record.wrap(nextIndex), 0);
+    if (nextIndex % DENSITY == 0) {
+      index.deleteUntil(nextIndex - recordCount);
+    }
+    nextIndex++;
+  }
+
+  private static final class IndexedRecord implements JournalRecord {
+
+    private long index;
+
+    private IndexedRecord wrap(final long index) {
+      this.index = index;
+      return this;
+    }
+
+    @Override
+    public long index() {
+      return index;
+    }
+
+    @Override
+    public long asqn() {
+      return index * ASQN_STEP;
+    }
+
+    @Override
+    public long checksum() {
+      return 0;
+    }
+
+    @Override
+    public DirectBuffer data() {
+      return null;
+    }
+  }
+}
@@ -9,15 +9,29 @@ package io.camunda.zeebe.broker.engine.impl;
 
 import io.atomix.cluster.messaging.ClusterEventService;
 
+/**
+ * Notifies the gateways that jobs of a type are available on this partition. The notification
+ * contains the partition, such that the gateways can activate the jobs on this partition first,
+ * instead of polling all partitions for them.
+ *
+ * <p>Gateways of older versions only know the notification without the partition, so it is still
+ * sent as well, which keeps them notified during a rolling upgrade.
+ */
 public final class LongPollingJobNotification {
+  // the notifications on this topic only contain the job type
   private static final String TOPIC = "jobsAvailable";
+  // the notifications on this topic have the format "<partitionId>:<jobType>"
+  private static final String PARTITION_TOPIC = "jobsAvailableOnPartition";
   private final ClusterEventService eventService;
+  private final String notificationPrefix;
 
-  public LongPollingJobNotification(final ClusterEventService eventService) {
+  public LongPollingJobNotification(final ClusterEventService eventService, final int partitionId) {
     this.eventService = eventService;
+    notificationPrefix = partitionId + ":";
   }
 
   public void onJobsAvailable(final String jobType) {
+    eventService.broadcast(PARTITION_TOPIC, notificationPrefix + jobType);
     eventService.broadcast(TOPIC, jobType);
   }
 }
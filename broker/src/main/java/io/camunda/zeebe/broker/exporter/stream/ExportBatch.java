@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.engine.processing.streamprocessor.RecordValues;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedEventImpl;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * A bounded batch of records which are exported together. The batch is reused, i.e. the events
+ * are copied into buffers which are owned by the batch, since the log stream reader reuses its own
+ * buffers when moving on to the next event.
+ */
+final class ExportBatch {
+
+  private final Entry[] entries;
+  private int size;
+
+  ExportBatch(final int partitionId, final int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException(
+          String.format("Expected max batch size to be at least 1, but was %d", maxSize));
+    }
+
+    entries = new Entry[maxSize];
+    for (int i = 0; i < maxSize; i++) {
+      entries[i] = new Entry(partitionId);
+    }
+  }
+
+  /**
+   * Copies the given event into the next free entry of this batch.
+   *
+   * @return false if the event's value type is unknown and the event was not added
+   */
+  boolean add(final LoggedEvent event) {
+    if (isFull()) {
+      throw new IllegalStateException(
+          String.format("Expected to add event to batch, but it is full (%d)", entries.length));
+    }
+
+    if (entries[size].wrap(event)) {
+      size++;
+      return true;
+    }
+
+    return false;
+  }
+
+  TypedEventImpl getRecord(final int index) {
+    return entries[index].typedEvent;
+  }
+
+  RecordMetadata getMetadata(final int index) {
+    return entries[index].metadata;
+  }
+
+  long getLastPosition() {
+    return getRecord(size - 1).getPosition();
+  }
+
+  int size() {
+    return size;
+  }
+
+  int capacity() {
+    return entries.length;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  boolean isFull() {
+    return size == entries.length;
+  }
+
+  void clear() {
+    size = 0;
+  }
+
+  private static final class Entry {
+    private final ExpandableArrayBuffer eventBuffer = new ExpandableArrayBuffer();
+    private final LoggedEventImpl event = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final RecordValues recordValues = new RecordValues();
+    private final TypedEventImpl typedEvent;
+
+    private Entry(final int partitionId) {
+      typedEvent = new TypedEventImpl(partitionId);
+    }
+
+    private boolean wrap(final LoggedEvent rawEvent) {
+      rawEvent.write(eventBuffer, 0);
+      event.wrap(eventBuffer, 0);
+      event.readMetadata(metadata);
+
+      final UnifiedRecordValue recordValue =
+          recordValues.readRecordValue(event, metadata.getValueType());
+      if (recordValue == null) {
+        return false;
+      }
+
+      typedEvent.wrap(event, metadata, recordValue);
+      return true;
+    }
+  }
+}
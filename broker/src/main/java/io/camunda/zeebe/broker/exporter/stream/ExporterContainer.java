@@ -11,6 +11,7 @@ import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.exporter.context.ExporterContext;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecord;
+import io.camunda.zeebe.exporter.api.BatchedExporter;
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
@@ -20,6 +21,8 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.util.jar.ThreadContextUtil;
 import io.camunda.zeebe.util.sched.ActorControl;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import org.slf4j.Logger;
 
 @SuppressWarnings("java:S112") // allow generic exception when calling Exporter#configure
@@ -32,6 +35,7 @@ final class ExporterContainer implements Controller {
 
   private final ExporterContext context;
   private final Exporter exporter;
+  private final List<Record<?>> batchedRecords = new ArrayList<>();
   private long position;
   private long lastUnacknowledgedPosition;
   private ExportersState exportersState;
@@ -75,6 +79,10 @@ final class ExporterContainer implements Controller {
     return exporter;
   }
 
+  boolean isBatched() {
+    return exporter instanceof BatchedExporter;
+  }
+
   public long getPosition() {
     return position;
   }
@@ -123,12 +131,17 @@ final class ExporterContainer implements Controller {
     return context.getConfiguration().getId();
   }
 
-  private boolean acceptRecord(final RecordMetadata metadata) {
+  boolean acceptRecord(final RecordMetadata metadata) {
     final Context.RecordFilter filter = context.getFilter();
     return filter.acceptType(metadata.getRecordType())
         && filter.acceptValue(metadata.getValueType());
   }
 
+  private boolean acceptRecord(final Record<?> record) {
+    final Context.RecordFilter filter = context.getFilter();
+    return filter.acceptType(record.getRecordType()) && filter.acceptValue(record.getValueType());
+  }
+
   void configureExporter() throws Exception {
     LOG.debug("Configure exporter with id '{}'", getId());
     ThreadContextUtil.runCheckedWithClassLoader(
@@ -151,6 +164,50 @@ final class ExporterContainer implements Controller {
     }
   }
 
+  /**
+   * Exports all records of the batch which this exporter accepts and has not exported yet with a
+   * single call. Should only be used for {@link BatchedExporter}s. If the export fails, the whole
+   * batch has to be exported again.
+   */
+  boolean exportBatch(final ExportBatch batch) {
+    batchedRecords.clear();
+
+    try {
+      for (int i = 0; i < batch.size(); i++) {
+        final TypedRecord record = batch.getRecord(i);
+        if (position < record.getPosition()) {
+          if (acceptRecord(record)) {
+            batchedRecords.add(record);
+          } else if (batchedRecords.isEmpty()) {
+            // only safe as long as no record of this batch was passed to the exporter yet
+            updatePositionOnSkipIfUpToDate(record.getPosition());
+          }
+        }
+      }
+
+      if (!batchedRecords.isEmpty()) {
+        exportBatch(batchedRecords);
+      }
+      return true;
+    } catch (final Exception ex) {
+      context
+          .getLogger()
+          .warn(
+              "Error on exporting batch of {} records, starting with key {}",
+              batchedRecords.size(),
+              batchedRecords.isEmpty() ? -1 : batchedRecords.get(0).getKey(),
+              ex);
+      return false;
+    }
+  }
+
+  private void exportBatch(final List<Record<?>> records) {
+    final var batchedExporter = (BatchedExporter) exporter;
+    ThreadContextUtil.runWithClassLoader(
+        () -> batchedExporter.export(records), exporter.getClass().getClassLoader());
+    lastUnacknowledgedPosition = records.get(records.size() - 1).getPosition();
+  }
+
   private void export(final Record<?> record) {
     ThreadContextUtil.runWithClassLoader(
         () -> exporter.export(record), exporter.getClass().getClassLoader());
@@ -12,15 +12,12 @@ import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterM
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.processing.streamprocessor.EventFilter;
-import io.camunda.zeebe.engine.processing.streamprocessor.RecordValues;
-import io.camunda.zeebe.engine.processing.streamprocessor.TypedEventImpl;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
-import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
@@ -52,6 +49,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
       "Expected to export record '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_WRAPPING_FAILED =
+      "Expected to read record '{}' from the log, but exception was thrown. Will retry.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
@@ -59,20 +58,19 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
   private final List<ExporterContainer> containers;
+  private final List<ExporterCursor> cursors;
   private final LogStream logStream;
-  private final RecordExporter recordExporter;
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
   private final String name;
-  private final RetryStrategy exportingRetryStrategy;
-  private final RetryStrategy recordWrapStrategy;
   private final Set<FailureListener> listeners = new HashSet<>();
-  private LogStreamReader logStreamReader;
+  private final RecordMetadata countedEventMetadata = new RecordMetadata();
   private EventFilter eventFilter;
   private ExportersState state;
   private volatile HealthStatus healthStatus = HealthStatus.HEALTHY;
 
-  private boolean inExportingPhase;
+  // the highest position which was counted in the metrics, by whichever cursor read it first
+  private long countedPosition = -1;
   private boolean isPaused;
   private ExporterPhase exporterPhase;
   private final PartitionMessagingService partitionMessagingService;
@@ -90,9 +88,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     logStream = Objects.requireNonNull(context.getLogStream());
     partitionId = logStream.getPartitionId();
     metrics = new ExporterMetrics(partitionId);
-    recordExporter = new RecordExporter(metrics, containers, partitionId);
-    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
-    recordWrapStrategy = new EndlessRetryStrategy(actor);
+    cursors =
+        containers.stream()
+            .map(
+                container ->
+                    new ExporterCursor(
+                        container, new ExportBatch(partitionId, context.getMaxBatchSize())))
+            .collect(Collectors.toList());
     zeebeDb = context.getZeebeDb();
     isPaused = shouldPauseOnStart;
     partitionMessagingService = context.getPartitionMessagingService();
@@ -123,7 +125,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
           isPaused = false;
           exporterPhase = ExporterPhase.EXPORTING;
           if (exporterMode == ExporterMode.ACTIVE) {
-            actor.submit(this::readNextEvent);
+            cursors.forEach(cursor -> actor.submit(cursor::readNextEvent));
           }
         });
   }
@@ -150,26 +152,31 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorStarting() {
     if (exporterMode == ExporterMode.ACTIVE) {
-      final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
-      actor.runOnCompletionBlockingCurrentPhase(
-          newReaderFuture,
-          (reader, errorOnReceivingReader) -> {
-            if (errorOnReceivingReader == null) {
-              logStreamReader = reader;
-            } else {
-              // TODO https://github.com/zeebe-io/zeebe/issues/3499
-              // ideally we could fail the actor start future such that we are able to propagate the
-              // error
-              LOG.error(
-                  "Unexpected error on retrieving reader from log {}",
-                  logStream.getLogName(),
-                  errorOnReceivingReader);
-              actor.close();
-            }
-          });
+      // every exporter reads the log with its own reader, such that it is not held back by others
+      cursors.forEach(this::openReader);
     }
   }
 
+  private void openReader(final ExporterCursor cursor) {
+    final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
+    actor.runOnCompletionBlockingCurrentPhase(
+        newReaderFuture,
+        (reader, errorOnReceivingReader) -> {
+          if (errorOnReceivingReader == null) {
+            cursor.logStreamReader = reader;
+          } else {
+            // TODO https://github.com/zeebe-io/zeebe/issues/3499
+            // ideally we could fail the actor start future such that we are able to propagate the
+            // error
+            LOG.error(
+                "Unexpected error on retrieving reader from log {}",
+                logStream.getLogName(),
+                errorOnReceivingReader);
+            actor.close();
+          }
+        });
+  }
+
   @Override
   protected void onActorStarted() {
     try {
@@ -202,8 +209,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorClosing() {
-    if (logStreamReader != null) {
-      logStreamReader.close();
+    for (final ExporterCursor cursor : cursors) {
+      if (cursor.logStreamReader != null) {
+        cursor.logStreamReader.close();
+      }
     }
     logStream.removeRecordAvailableListener(this);
   }
@@ -312,15 +321,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
 
     if (state.hasExporters()) {
-      final long snapshotPosition = state.getLowestPosition();
-      final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
-      if (failedToRecoverReader) {
-        throw new IllegalStateException(
-            String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, snapshotPosition, getName()));
+      for (final ExporterCursor cursor : cursors) {
+        cursor.recoverReader();
       }
+
       if (!isPaused) {
         exporterPhase = ExporterPhase.EXPORTING;
-        actor.submit(this::readNextEvent);
+        cursors.forEach(cursor -> actor.submit(cursor::readNextEvent));
       } else {
         exporterPhase = ExporterPhase.PAUSED;
       }
@@ -351,70 +358,25 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterDistributionService.distributeExporterPositions(exportPositionsMessage);
   }
 
-  private void skipRecord(final LoggedEvent currentEvent) {
-    final RecordMetadata metadata = new RecordMetadata();
-    final long eventPosition = currentEvent.getPosition();
-
-    currentEvent.readMetadata(metadata);
-    metrics.eventSkipped(metadata.getValueType());
-
-    // increase position of all up to date exporters - an up to date exporter is one which has
-    // acknowledged the last record we passed to it
-    for (final ExporterContainer container : containers) {
-      container.updatePositionOnSkipIfUpToDate(eventPosition);
+  /**
+   * Counts the given event in the metrics, if no other cursor has read it before. An event is
+   * counted as exported if at least one exporter accepts it.
+   */
+  private void countEvent(final LoggedEvent event) {
+    final long position = event.getPosition();
+    if (position <= countedPosition) {
+      return;
     }
 
-    actor.submit(this::readNextEvent);
-  }
-
-  private void readNextEvent() {
-    if (shouldExport()) {
-      final LoggedEvent currentEvent = logStreamReader.next();
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
-      } else {
-        skipRecord(currentEvent);
-      }
+    countedPosition = position;
+    event.readMetadata(countedEventMetadata);
+    if (eventFilter == null || eventFilter.applies(event)) {
+      metrics.eventExported(countedEventMetadata.getValueType());
+    } else {
+      metrics.eventSkipped(countedEventMetadata.getValueType());
     }
   }
 
-  private boolean shouldExport() {
-    return isOpened.get() && logStreamReader.hasNext() && !inExportingPhase && !isPaused;
-  }
-
-  private void exportEvent(final LoggedEvent event) {
-    final ActorFuture<Boolean> wrapRetryFuture =
-        recordWrapStrategy.runWithRetry(
-            () -> {
-              recordExporter.wrap(event);
-              return true;
-            },
-            this::isClosed);
-
-    actor.runOnCompletion(
-        wrapRetryFuture,
-        (b, t) -> {
-          assert t == null : "Throwable must be null";
-
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
-        });
-  }
-
   private void clearExporterState() {
     final List<String> exporterIds =
         containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
@@ -451,7 +413,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   public void onRecordAvailable() {
-    actor.run(this::readNextEvent);
+    actor.run(() -> cursors.forEach(ExporterCursor::readNextEvent));
   }
 
   public ActorFuture<Long> getLowestPosition() {
@@ -461,64 +423,203 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     return actor.call(() -> state.getLowestPosition());
   }
 
-  private static class RecordExporter {
+  /**
+   * Reads the log and exports the records for a single exporter, independently of all other
+   * exporters. Each cursor reads at most one bounded batch ahead of what its exporter has
+   * exported, and backs off on its own if its exporter fails, while the other exporters continue.
+   * All cursors run on the director's actor, which owns the exporters state.
+   */
+  private final class ExporterCursor {
 
-    private final RecordValues recordValues = new RecordValues();
-    private final RecordMetadata rawMetadata = new RecordMetadata();
-    private final List<ExporterContainer> containers;
-    private final TypedEventImpl typedEvent;
-    private final ExporterMetrics exporterMetrics;
+    private final ExporterContainer container;
+    private final ExportBatch batch;
+    private final RetryStrategy exportingRetryStrategy;
+    private final RetryStrategy recordWrapStrategy;
+    private final RecordMetadata metadata = new RecordMetadata();
+    private LogStreamReader logStreamReader;
+    private boolean inExportingPhase;
+    private int recordIndex;
+
+    private ExporterCursor(final ExporterContainer container, final ExportBatch batch) {
+      this.container = container;
+      this.batch = batch;
+      exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+      recordWrapStrategy = new EndlessRetryStrategy(actor);
+    }
 
-    private boolean shouldExport;
-    private int exporterIndex;
+    private void recoverReader() {
+      final long position = container.getPosition();
+      final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(position);
+      if (failedToRecoverReader) {
+        throw new IllegalStateException(
+            String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, position, getName()));
+      }
+    }
 
-    RecordExporter(
-        final ExporterMetrics exporterMetrics,
-        final List<ExporterContainer> containers,
-        final int partitionId) {
-      this.containers = containers;
-      typedEvent = new TypedEventImpl(partitionId);
-      this.exporterMetrics = exporterMetrics;
+    private void readNextEvent() {
+      if (shouldExport()) {
+        final LoggedEvent currentEvent = logStreamReader.next();
+        countEvent(currentEvent);
+        if (isExported(currentEvent)) {
+          inExportingPhase = true;
+          exportEvent(currentEvent);
+        } else {
+          skipRecords(currentEvent);
+        }
+      }
     }
 
-    void wrap(final LoggedEvent rawEvent) {
-      rawEvent.readMetadata(rawMetadata);
+    private boolean shouldExport() {
+      return isOpened.get() && logStreamReader.hasNext() && !inExportingPhase && !isPaused;
+    }
 
-      final UnifiedRecordValue recordValue =
-          recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+    private boolean isExported(final LoggedEvent event) {
+      event.readMetadata(metadata);
+      return container.getPosition() < event.getPosition() && container.acceptRecord(metadata);
+    }
 
-      shouldExport = recordValue != null;
-      if (shouldExport) {
-        typedEvent.wrap(rawEvent, rawMetadata, recordValue);
-        exporterIndex = 0;
+    /**
+     * Skips the given event and the following events which are already available and which the
+     * exporter does not accept either, up to the size of one batch.
+     */
+    private void skipRecords(final LoggedEvent firstEvent) {
+      container.updatePositionOnSkipIfUpToDate(firstEvent.getPosition());
+
+      int skippedEvents = 1;
+      while (skippedEvents < batch.capacity()
+          && logStreamReader.hasNext()
+          && !isExported(logStreamReader.peekNext())) {
+        final LoggedEvent event = logStreamReader.next();
+        countEvent(event);
+        container.updatePositionOnSkipIfUpToDate(event.getPosition());
+        skippedEvents++;
       }
+
+      actor.submit(this::readNextEvent);
     }
 
-    public boolean export() {
-      if (!shouldExport) {
-        return true;
+    /**
+     * Exports the given event, together with the following events which are already available and
+     * which the exporter accepts, as one batch. As long as neither reading nor exporting fails,
+     * this happens directly in the current actor job; only on failure the retry strategies take
+     * over.
+     */
+    private void exportEvent(final LoggedEvent event) {
+      batch.clear();
+      recordIndex = 0;
+
+      try {
+        batch.add(event);
+      } catch (final Exception e) {
+        LOG.warn(ERROR_MESSAGE_WRAPPING_FAILED, event, e);
+        retryWrapEvent(event);
+        return;
       }
 
-      final int exportersCount = containers.size();
+      fillBatch();
+      exportBatch();
+    }
 
-      // current error handling strategy is simply to repeat forever until the record can be
-      // successfully exported.
-      while (exporterIndex < exportersCount) {
-        final ExporterContainer container = containers.get(exporterIndex);
+    private void retryWrapEvent(final LoggedEvent event) {
+      final ActorFuture<Boolean> wrapRetryFuture =
+          recordWrapStrategy.runWithRetry(
+              () -> {
+                // events with an unknown value type are not exported
+                batch.add(event);
+                return true;
+              },
+              ExporterDirector.this::isClosed);
+
+      actor.runOnCompletion(
+          wrapRetryFuture,
+          (b, t) -> {
+            assert t == null : "Throwable must be null";
+            exportBatch();
+          });
+    }
 
-        if (container.exportRecord(rawMetadata, typedEvent)) {
-          exporterIndex++;
-          exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
-        } else {
+    /**
+     * Adds the next events of the log to the batch until it is full, no more events are
+     * available, or the next event is not accepted. Events are only consumed from the reader once
+     * they have been added, such that an event which fails to be read is retried as the first
+     * event of the next batch.
+     */
+    private void fillBatch() {
+      while (!batch.isFull() && logStreamReader.hasNext()) {
+        final LoggedEvent nextEvent = logStreamReader.peekNext();
+        if (!isExported(nextEvent)) {
+          return;
+        }
+
+        try {
+          batch.add(nextEvent);
+        } catch (final Exception e) {
+          LOG.debug(ERROR_MESSAGE_WRAPPING_FAILED, nextEvent, e);
+          return;
+        }
+
+        countEvent(logStreamReader.next());
+      }
+    }
+
+    private void exportBatch() {
+      // the container catches and logs any exception of its exporter
+      if (export()) {
+        onBatchExported();
+      } else {
+        retryExportBatch();
+      }
+    }
+
+    private void retryExportBatch() {
+      final ActorFuture<Boolean> retryFuture =
+          exportingRetryStrategy.runWithRetry(this::export, ExporterDirector.this::isClosed);
+
+      actor.runOnCompletion(
+          retryFuture,
+          (bool, throwable) -> {
+            if (throwable != null) {
+              LOG.error(
+                  ERROR_MESSAGE_EXPORTING_ABORTED,
+                  batch.isEmpty() ? null : batch.getRecord(0),
+                  throwable);
+              onFailure();
+            } else {
+              onBatchExported();
+            }
+          });
+    }
+
+    /**
+     * Exports the batch; a batched exporter gets the whole batch again after a failure, any other
+     * exporter continues with the record it failed on.
+     */
+    private boolean export() {
+      if (batch.isEmpty()) {
+        return true;
+      }
+
+      if (container.isBatched()) {
+        if (!container.exportBatch(batch)) {
           return false;
         }
+      } else {
+        while (recordIndex < batch.size()) {
+          if (!container.exportRecord(
+              batch.getMetadata(recordIndex), batch.getRecord(recordIndex))) {
+            return false;
+          }
+          recordIndex++;
+        }
       }
 
+      metrics.setLastExportedPosition(container.getId(), batch.getLastPosition());
       return true;
     }
 
-    TypedEventImpl getTypedEvent() {
-      return typedEvent;
+    private void onBatchExported() {
+      inExportingPhase = false;
+      actor.submit(this::readNextEvent);
     }
   }
 
@@ -17,6 +17,7 @@ import java.util.Collection;
 public final class ExporterDirectorContext {
 
   public static final Duration DEFAULT_DISTRIBUTION_INTERVAL = Duration.ofSeconds(15);
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
 
   private int id;
   private String name;
@@ -26,6 +27,7 @@ public final class ExporterDirectorContext {
   private PartitionMessagingService partitionMessagingService;
   private ExporterMode exporterMode = ExporterMode.ACTIVE; // per default we export records
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
+  private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
 
   public int getId() {
     return id;
@@ -59,6 +61,10 @@ public final class ExporterDirectorContext {
     return distributionInterval;
   }
 
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -100,6 +106,15 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * Sets the maximum number of records which are read from the log and exported in one go. A
+   * value of 1 exports every record on its own.
+   */
+  public ExporterDirectorContext maxBatchSize(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
@@ -218,7 +218,7 @@ final class PartitionFactory {
           new SubscriptionCommandSender(stream.getPartitionId(), partitionCommandSender);
 
       final LongPollingJobNotification jobsAvailableNotification =
-          new LongPollingJobNotification(eventService);
+          new LongPollingJobNotification(eventService, stream.getPartitionId());
 
       final var processor =
           EngineProcessors.createEngineProcessors(
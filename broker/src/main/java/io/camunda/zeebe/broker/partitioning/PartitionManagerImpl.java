@@ -75,7 +75,10 @@ public final class PartitionManagerImpl implements PartitionManager, TopologyMan
       final ExporterRepository exporterRepository) {
 
     snapshotStoreFactory =
-        new FileBasedSnapshotStoreFactory(actorSchedulingService, localBroker.getNodeId());
+        new FileBasedSnapshotStoreFactory(
+            actorSchedulingService,
+            localBroker.getNodeId(),
+            brokerCfg.getExperimental().getSnapshot().isTrustChecksumManifest());
 
     this.brokerCfg = brokerCfg;
     this.localBroker = localBroker;
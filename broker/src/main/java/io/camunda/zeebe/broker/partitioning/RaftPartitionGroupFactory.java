@@ -65,8 +65,15 @@ final class RaftPartitionGroupFactory {
             .withSnapshotStoreFactory(snapshotStoreFactory)
             .withMaxAppendBatchSize((int) experimentalCfg.getMaxAppendBatchSizeInBytes())
             .withMaxAppendsPerFollower(experimentalCfg.getMaxAppendsPerFollower())
+            .withMaxInFlightSnapshotChunks(experimentalCfg.getMaxInFlightSnapshotChunks())
+            .withZeroCopySnapshotReplication(
+                experimentalCfg.isEnableZeroCopySnapshotReplication())
+            .withMessageCompression(experimentalCfg.isEnableRaftMessageCompression())
+            .withMessageCompressionThreshold(
+                (int) experimentalCfg.getRaftMessageCompressionThresholdInBytes())
             .withEntryValidator(new ZeebeEntryValidator())
             .withFlushExplicitly(!experimentalCfg.isDisableExplicitRaftFlush())
+            .withPreallocateSegmentFiles(experimentalCfg.isEnableLogSegmentPreallocation())
             .withFreeDiskSpace(dataCfg.getFreeDiskSpaceReplicationWatermark())
             .withJournalIndexDensity(dataCfg.getLogIndexDensity())
             .withPriorityElection(experimentalCfg.isEnablePriorityElection())
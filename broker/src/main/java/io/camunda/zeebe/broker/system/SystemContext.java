@@ -145,6 +145,12 @@ public final class SystemContext {
               electionTimeout, heartbeatInterval));
     }
 
+    final var maxCommandsInBatch = experimental.getProcessing().getMaxCommandsInBatch();
+    if (maxCommandsInBatch < 1) {
+      throw new IllegalArgumentException(
+          String.format("maxCommandsInBatch %d must be at least 1", maxCommandsInBatch));
+    }
+
     final var partitioningConfig = experimental.getPartitioning();
     if (partitioningConfig.getScheme() == Scheme.FIXED) {
       validateFixedPartitioningScheme(cluster, experimental);
@@ -18,11 +18,21 @@ import org.springframework.util.unit.DataSize;
 public class ExperimentalCfg implements ConfigurationEntry {
 
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
+  public static final int DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS = 1;
+  public static final boolean DEFAULT_ENABLE_ZERO_COPY_SNAPSHOT_REPLICATION = false;
+  public static final boolean DEFAULT_ENABLE_RAFT_MESSAGE_COMPRESSION = false;
+  public static final DataSize DEFAULT_RAFT_MESSAGE_COMPRESSION_THRESHOLD = DataSize.ofKilobytes(1);
+  public static final boolean DEFAULT_ENABLE_LOG_SEGMENT_PREALLOCATION = false;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
   public static final boolean DEFAULT_ENABLE_PRIORITY_ELECTION = false;
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
+  private int maxInFlightSnapshotChunks = DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS;
+  private boolean enableZeroCopySnapshotReplication = DEFAULT_ENABLE_ZERO_COPY_SNAPSHOT_REPLICATION;
+  private boolean enableRaftMessageCompression = DEFAULT_ENABLE_RAFT_MESSAGE_COMPRESSION;
+  private DataSize raftMessageCompressionThreshold = DEFAULT_RAFT_MESSAGE_COMPRESSION_THRESHOLD;
+  private boolean enableLogSegmentPreallocation = DEFAULT_ENABLE_LOG_SEGMENT_PREALLOCATION;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
   private boolean enablePriorityElection = DEFAULT_ENABLE_PRIORITY_ELECTION;
@@ -30,6 +40,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
   private RaftCfg raft = new RaftCfg();
   private PartitioningCfg partitioning = new PartitioningCfg();
   private QueryApiCfg queryApi = new QueryApiCfg();
+  private ProcessingCfg processing = new ProcessingCfg();
+  private SnapshotCfg snapshot = new SnapshotCfg();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -45,6 +57,53 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.maxAppendsPerFollower = maxAppendsPerFollower;
   }
 
+  public int getMaxInFlightSnapshotChunks() {
+    return maxInFlightSnapshotChunks;
+  }
+
+  public void setMaxInFlightSnapshotChunks(final int maxInFlightSnapshotChunks) {
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
+  }
+
+  public boolean isEnableZeroCopySnapshotReplication() {
+    return enableZeroCopySnapshotReplication;
+  }
+
+  public void setEnableZeroCopySnapshotReplication(
+      final boolean enableZeroCopySnapshotReplication) {
+    this.enableZeroCopySnapshotReplication = enableZeroCopySnapshotReplication;
+  }
+
+  public boolean isEnableRaftMessageCompression() {
+    return enableRaftMessageCompression;
+  }
+
+  public void setEnableRaftMessageCompression(final boolean enableRaftMessageCompression) {
+    this.enableRaftMessageCompression = enableRaftMessageCompression;
+  }
+
+  public DataSize getRaftMessageCompressionThreshold() {
+    return raftMessageCompressionThreshold;
+  }
+
+  public void setRaftMessageCompressionThreshold(final DataSize raftMessageCompressionThreshold) {
+    this.raftMessageCompressionThreshold = raftMessageCompressionThreshold;
+  }
+
+  public long getRaftMessageCompressionThresholdInBytes() {
+    return Optional.ofNullable(raftMessageCompressionThreshold)
+        .orElse(DEFAULT_RAFT_MESSAGE_COMPRESSION_THRESHOLD)
+        .toBytes();
+  }
+
+  public boolean isEnableLogSegmentPreallocation() {
+    return enableLogSegmentPreallocation;
+  }
+
+  public void setEnableLogSegmentPreallocation(final boolean enableLogSegmentPreallocation) {
+    this.enableLogSegmentPreallocation = enableLogSegmentPreallocation;
+  }
+
   public DataSize getMaxAppendBatchSize() {
     return maxAppendBatchSize;
   }
@@ -105,11 +164,37 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.queryApi = queryApi;
   }
 
+  public ProcessingCfg getProcessing() {
+    return processing;
+  }
+
+  public void setProcessing(final ProcessingCfg processing) {
+    this.processing = processing;
+  }
+
+  public SnapshotCfg getSnapshot() {
+    return snapshot;
+  }
+
+  public void setSnapshot(final SnapshotCfg snapshot) {
+    this.snapshot = snapshot;
+  }
+
   @Override
   public String toString() {
     return "ExperimentalCfg{"
         + "maxAppendsPerFollower="
         + maxAppendsPerFollower
+        + ", maxInFlightSnapshotChunks="
+        + maxInFlightSnapshotChunks
+        + ", enableZeroCopySnapshotReplication="
+        + enableZeroCopySnapshotReplication
+        + ", enableRaftMessageCompression="
+        + enableRaftMessageCompression
+        + ", raftMessageCompressionThreshold="
+        + raftMessageCompressionThreshold
+        + ", enableLogSegmentPreallocation="
+        + enableLogSegmentPreallocation
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
         + ", disableExplicitRaftFlush="
@@ -120,6 +205,10 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + partitioning
         + ", queryApi="
         + queryApi
+        + ", processing="
+        + processing
+        + ", snapshot="
+        + snapshot
         + '}';
   }
 }
@@ -0,0 +1,28 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+public final class ProcessingCfg {
+
+  public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 1;
+
+  private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+
+  public int getMaxCommandsInBatch() {
+    return maxCommandsInBatch;
+  }
+
+  public void setMaxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+  }
+
+  @Override
+  public String toString() {
+    return "ProcessingCfg{" + "maxCommandsInBatch=" + maxCommandsInBatch + '}';
+  }
+}
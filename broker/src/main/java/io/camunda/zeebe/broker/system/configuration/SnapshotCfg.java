@@ -0,0 +1,28 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+public final class SnapshotCfg {
+
+  public static final boolean DEFAULT_TRUST_CHECKSUM_MANIFEST = false;
+
+  private boolean trustChecksumManifest = DEFAULT_TRUST_CHECKSUM_MANIFEST;
+
+  public boolean isTrustChecksumManifest() {
+    return trustChecksumManifest;
+  }
+
+  public void setTrustChecksumManifest(final boolean trustChecksumManifest) {
+    this.trustChecksumManifest = trustChecksumManifest;
+  }
+
+  @Override
+  public String toString() {
+    return "SnapshotCfg{" + "trustChecksumManifest=" + trustChecksumManifest + '}';
+  }
+}
@@ -21,6 +21,7 @@ import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
 import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter;
 import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter.PojoExporterConfiguration;
 import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.exporter.api.BatchedExporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
@@ -38,10 +39,13 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.awaitility.Awaitility;
 import org.junit.Before;
 import org.junit.Rule;
@@ -358,6 +362,46 @@ public final class ExporterDirectorTest {
         .containsExactly(eventPosition1, eventPosition2);
   }
 
+  @Test
+  public void shouldNotBlockOtherExportersWhileOneFails() {
+    // given
+    final AtomicBoolean shouldFail = new AtomicBoolean(true);
+    exporters
+        .get(0)
+        .onExport(
+            e -> {
+              if (shouldFail.get()) {
+                throw new RuntimeException("Export failed (expected)");
+              }
+            });
+
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    Awaitility.await("second exporter has exported all records while the first one fails")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(exporters.get(1).getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(eventPosition1, eventPosition2));
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+
+    // when
+    shouldFail.set(false);
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(r -> exporters.get(0).getExportedRecords().size() >= 2);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws Exception {
     // given
@@ -587,6 +631,52 @@ public final class ExporterDirectorTest {
     assertThat(exporters.get(1).getExportedRecords()).isEmpty();
   }
 
+  @Test
+  public void shouldExportRecordsInBatchesToBatchedExporter() {
+    // given
+    final var batchedExporter = new TestBatchedExporter();
+    final var descriptor =
+        spy(new ExporterDescriptor("batched", batchedExporter.getClass(), Map.of()));
+    doAnswer(c -> batchedExporter).when(descriptor).newInstance();
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    final long eventPosition3 = writeEvent();
+
+    // when
+    startExporterDirector(List.of(descriptor));
+
+    // then
+    Awaitility.await("batched exporter has exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(batchedExporter.getExportedPositions())
+                    .containsExactly(eventPosition1, eventPosition2, eventPosition3));
+    assertThat(batchedExporter.batches).isNotEmpty().allSatisfy(b -> assertThat(b).isNotEmpty());
+  }
+
+  @Test
+  public void shouldRetryWholeBatchOnException() {
+    // given
+    final var batchedExporter = new TestBatchedExporter();
+    batchedExporter.failures.set(1);
+    final var descriptor =
+        spy(new ExporterDescriptor("batched", batchedExporter.getClass(), Map.of()));
+    doAnswer(c -> batchedExporter).when(descriptor).newInstance();
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // when
+    startExporterDirector(List.of(descriptor));
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(r -> batchedExporter.getExportedPositions().size() >= 2);
+    assertThat(batchedExporter.getExportedPositions())
+        .containsExactly(eventPosition1, eventPosition2);
+    assertThat(batchedExporter.failedBatches).containsExactly(List.of(eventPosition1));
+  }
+
   private long writeEvent() {
     final DeploymentRecord event = new DeploymentRecord();
     return rule.writeEvent(DeploymentIntent.CREATED, event);
@@ -608,4 +698,25 @@ public final class ExporterDirectorTest {
               }
             });
   }
+
+  public static final class TestBatchedExporter implements BatchedExporter {
+    private final List<List<Long>> batches = new CopyOnWriteArrayList<>();
+    private final List<List<Long>> failedBatches = new CopyOnWriteArrayList<>();
+    private final AtomicLong failures = new AtomicLong();
+
+    @Override
+    public void export(final List<Record<?>> records) {
+      final var positions = records.stream().map(Record::getPosition).collect(Collectors.toList());
+      if (failures.getAndDecrement() > 0) {
+        failedBatches.add(positions.subList(0, 1));
+        throw new RuntimeException("Export failed (expected)");
+      }
+
+      batches.add(positions);
+    }
+
+    private List<Long> getExportedPositions() {
+      return batches.stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+  }
 }
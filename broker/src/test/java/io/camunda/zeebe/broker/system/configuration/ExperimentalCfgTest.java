@@ -86,4 +86,38 @@ public class ExperimentalCfgTest {
     // then
     assertThat(raft.getMinStepDownFailureCount()).isEqualTo(10);
   }
+
+  @Test
+  public void shouldSetRaftMessageCompressionFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var experimental = cfg.getExperimental();
+
+    // then
+    assertThat(experimental.isEnableRaftMessageCompression()).isTrue();
+    assertThat(experimental.getRaftMessageCompressionThresholdInBytes()).isEqualTo(4 * 1024);
+  }
+
+  @Test
+  public void shouldSetLogSegmentPreallocationFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var experimental = cfg.getExperimental();
+
+    // then
+    assertThat(experimental.isEnableLogSegmentPreallocation()).isTrue();
+  }
+
+  @Test
+  public void shouldSetRaftMessageCompressionThresholdFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raftMessageCompressionThreshold", "8KB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var experimental = cfg.getExperimental();
+
+    // then
+    assertThat(experimental.getRaftMessageCompressionThresholdInBytes()).isEqualTo(8 * 1024);
+  }
 }
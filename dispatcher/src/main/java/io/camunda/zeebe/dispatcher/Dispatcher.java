@@ -169,6 +169,16 @@ public class Dispatcher extends Actor {
         LogBufferAppender.claimedBatchLength(fragmentCount, batchLength));
   }
 
+  /**
+   * Returns true if a batch of fragments with the given count and length does not exceed the max
+   * fragment length, such that it can be claimed once the publisher limit allows it.
+   *
+   * @return <code>true</code> if the batch is small enough to be claimed
+   */
+  public boolean canClaimFragmentBatch(final int fragmentCount, final int batchLength) {
+    return LogBufferAppender.claimedBatchLength(fragmentCount, batchLength) < maxFragmentLength;
+  }
+
   private synchronized long offer(
       final BiFunction<LogBufferPartition, Integer, Integer> claimer,
       final int fragmentCount,
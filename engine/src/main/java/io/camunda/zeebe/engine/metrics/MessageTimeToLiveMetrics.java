@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+public final class MessageTimeToLiveMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+
+  private static final Counter EXPIRED_MESSAGES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("message_ttl_expired_total")
+          .help("Number of expire commands written for messages whose time to live passed")
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram EXPIRY_LAG =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("message_ttl_expiry_lag")
+          .help("Time between the deadline of a message and its expire command (in seconds)")
+          .buckets(.1, 1, 10, 30, 60, 120, 300, 600, 1800, 3600)
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge EXPIRY_BACKLOG_AGE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("message_ttl_expiry_backlog_age")
+          .help(
+              "Time since the deadline of the oldest message which is still to be expired by the "
+                  + "running check (in seconds), or 0 if the check caught up")
+          .labelNames("partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public MessageTimeToLiveMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void messageExpired(final long deadline, final long expiredAt) {
+    EXPIRY_LAG.labels(partitionIdLabel).observe(Math.max(0, expiredAt - deadline) / 1000f);
+  }
+
+  public void expireCommandsWritten(final int count) {
+    EXPIRED_MESSAGES.labels(partitionIdLabel).inc(count);
+  }
+
+  public void setBacklogAge(final long oldestDeadline, final long now) {
+    EXPIRY_BACKLOG_AGE.labels(partitionIdLabel).set(Math.max(0, now - oldestDeadline) / 1000f);
+  }
+
+  public void resetBacklogAge() {
+    EXPIRY_BACKLOG_AGE.labels(partitionIdLabel).set(0);
+  }
+}
@@ -63,6 +63,11 @@ public final class TypedResponseWriterProxy implements TypedResponseWriter {
     return true;
   }
 
+  @Override
+  public boolean hasStagedResponse() {
+    return writer.hasStagedResponse();
+  }
+
   @Override
   public void reset() {
     writer.reset();
@@ -34,6 +34,16 @@ public final class TypedStreamWriterProxy implements TypedStreamWriter {
     writer.configureSourceContext(sourceRecordPosition);
   }
 
+  @Override
+  public int getBatchLength() {
+    return writer.getBatchLength();
+  }
+
+  @Override
+  public boolean canWriteAdditionalEvent(final int length) {
+    return writer.canWriteAdditionalEvent(length);
+  }
+
   @Override
   public void appendFollowUpEvent(final long key, final Intent intent, final RecordValue value) {
     writer.appendFollowUpEvent(key, intent, value);
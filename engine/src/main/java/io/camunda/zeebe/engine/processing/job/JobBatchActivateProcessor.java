@@ -12,6 +12,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
@@ -19,7 +20,6 @@ import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWri
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.KeyGenerator;
 import io.camunda.zeebe.engine.state.immutable.JobState;
-import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.engine.state.immutable.ZeebeState;
 import io.camunda.zeebe.msgpack.value.DocumentValue;
 import io.camunda.zeebe.msgpack.value.LongValue;
@@ -33,8 +33,8 @@ import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
 import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.ByteValue;
-import java.util.Collection;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -44,7 +44,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 public final class JobBatchActivateProcessor implements TypedRecordProcessor<JobBatchRecord> {
 
   private final StateWriter stateWriter;
-  private final VariableState variableState;
+  private final JobVariablesCollector jobVariablesCollector;
   private final TypedRejectionWriter rejectionWriter;
   private final TypedResponseWriter responseWriter;
 
@@ -55,35 +55,39 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
 
   private final ObjectHashSet<DirectBuffer> variableNames = new ObjectHashSet<>();
   private final JobMetrics jobMetrics;
+  private final JobTimeoutTrigger jobTimeoutTrigger;
 
   public JobBatchActivateProcessor(
       final Writers writers,
       final ZeebeState state,
       final KeyGenerator keyGenerator,
       final long maxRecordLength,
-      final JobMetrics jobMetrics) {
+      final JobMetrics jobMetrics,
+      final JobTimeoutTrigger jobTimeoutTrigger) {
 
     stateWriter = writers.state();
     rejectionWriter = writers.rejection();
     responseWriter = writers.response();
 
     jobState = state.getJobState();
-    variableState = state.getVariableState();
+    jobVariablesCollector = new JobVariablesCollector(state.getVariableState());
     this.keyGenerator = keyGenerator;
 
     this.maxRecordLength = maxRecordLength;
     maxJobBatchLength = maxRecordLength - Long.BYTES;
     this.jobMetrics = jobMetrics;
+    this.jobTimeoutTrigger = jobTimeoutTrigger;
   }
 
   @Override
   public void processRecord(
       final TypedRecord<JobBatchRecord> record,
       final TypedResponseWriter responseWriter,
-      final TypedStreamWriter streamWriter) {
+      final TypedStreamWriter streamWriter,
+      final Consumer<SideEffectProducer> sideEffect) {
     final JobBatchRecord value = record.getValue();
     if (isValid(value)) {
-      activateJobs(record);
+      activateJobs(record, sideEffect);
     } else {
       rejectCommand(record);
     }
@@ -95,7 +99,8 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
         && record.getTypeBuffer().capacity() > 0;
   }
 
-  private void activateJobs(final TypedRecord<JobBatchRecord> record) {
+  private void activateJobs(
+      final TypedRecord<JobBatchRecord> record, final Consumer<SideEffectProducer> sideEffect) {
     final JobBatchRecord value = record.getValue();
 
     final long jobBatchKey = keyGenerator.nextKey();
@@ -108,6 +113,15 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
 
     final var activatedJobsCount = record.getValue().getJobKeys().size();
     jobMetrics.jobActivated(value.getType(), activatedJobsCount);
+
+    if (activatedJobsCount > 0) {
+      final long deadline = record.getTimestamp() + value.getTimeout();
+      sideEffect.accept(
+          () -> {
+            jobTimeoutTrigger.scheduleTimeOut(deadline);
+            return responseWriter.flush();
+          });
+    }
   }
 
   private void collectJobsToActivate(
@@ -126,6 +140,7 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
           nameCopy.putBytes(0, v.getValue(), 0, v.getValue().capacity());
           variableNames.add(nameCopy);
         });
+    jobVariablesCollector.reset(variableNames);
 
     jobState.forEachActivatableJobs(
         value.getTypeBuffer(),
@@ -137,7 +152,8 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
           // fetch and set variables, required here to already have the full size of the job record
           final long elementInstanceKey = jobRecord.getElementInstanceKey();
           if (elementInstanceKey >= 0) {
-            final DirectBuffer variables = collectVariables(variableNames, elementInstanceKey);
+            final DirectBuffer variables =
+                jobVariablesCollector.collectVariables(elementInstanceKey);
             jobRecord.setVariables(variables);
           } else {
             jobRecord.setVariables(DocumentValue.EMPTY_DOCUMENT);
@@ -168,17 +184,6 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
         });
   }
 
-  private DirectBuffer collectVariables(
-      final Collection<DirectBuffer> variableNames, final long elementInstanceKey) {
-    final DirectBuffer variables;
-    if (variableNames.isEmpty()) {
-      variables = variableState.getVariablesAsDocument(elementInstanceKey);
-    } else {
-      variables = variableState.getVariablesAsDocument(elementInstanceKey, variableNames);
-    }
-    return variables;
-  }
-
   private void rejectCommand(final TypedRecord<JobBatchRecord> record) {
     final RejectionType rejectionType;
     final String rejectionReason;
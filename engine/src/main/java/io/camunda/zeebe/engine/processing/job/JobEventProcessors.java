@@ -32,6 +32,7 @@ public final class JobEventProcessors {
 
     final var jobState = zeebeState.getJobState();
     final var keyGenerator = zeebeState.getKeyGenerator();
+    final var jobTimeoutTrigger = new JobTimeoutTrigger(jobState, maxRecordSize);
 
     typedRecordProcessors
         .onCommand(
@@ -54,8 +55,13 @@ public final class JobEventProcessors {
             ValueType.JOB_BATCH,
             JobBatchIntent.ACTIVATE,
             new JobBatchActivateProcessor(
-                writers, zeebeState, zeebeState.getKeyGenerator(), maxRecordSize, jobMetrics))
-        .withListener(new JobTimeoutTrigger(jobState))
+                writers,
+                zeebeState,
+                zeebeState.getKeyGenerator(),
+                maxRecordSize,
+                jobMetrics,
+                jobTimeoutTrigger))
+        .withListener(jobTimeoutTrigger)
         .withListener(
             new StreamProcessorLifecycleAware() {
               @Override
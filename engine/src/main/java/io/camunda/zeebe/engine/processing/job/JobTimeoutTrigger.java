@@ -13,30 +13,58 @@ import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingCont
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
 import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.util.sched.ActorControl;
 import io.camunda.zeebe.util.sched.ScheduledTimer;
 import java.time.Duration;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.LongArrayList;
 
+/**
+ * Times out activated jobs once their deadline has passed. Instead of polling, the next check is
+ * scheduled at the earliest known deadline: after each check at the next deadline in the state,
+ * and on activation via {@link #scheduleTimeOut(long)} if the new deadline is earlier. Completed
+ * or failed jobs don't move the check; it then just finds nothing to do and is scheduled at the
+ * next deadline again.
+ *
+ * <p>The time out commands are written in batches which are bounded in number and size. Since a
+ * check may run again before the commands of the previous one are processed, jobs for which a
+ * command was written already are skipped as long as their deadline didn't change.
+ */
 public final class JobTimeoutTrigger implements StreamProcessorLifecycleAware {
+  /** The longest time between two checks, even if no deadline is known. */
   public static final Duration TIME_OUT_POLLING_INTERVAL = Duration.ofSeconds(30);
+
+  private static final long TIME_OUT_RESOLUTION = Duration.ofMillis(100).toMillis();
+  private static final int MAX_TIME_OUTS_PER_BATCH = 100;
+
   private final JobState state;
+  private final long maxBatchLength;
+  private final LongArrayList batchJobKeys = new LongArrayList();
 
+  private ActorControl actor;
   private ScheduledTimer timer;
+  private long nextCheck = -1L;
   private TypedCommandWriter writer;
-  private ReadonlyProcessingContext processingContext;
 
-  public JobTimeoutTrigger(final JobState state) {
+  private long batchLength;
+
+  // job key => deadline of the jobs for which a time out command was written
+  private Long2LongHashMap writtenTimeOuts = new Long2LongHashMap(-1L);
+  private Long2LongHashMap nextWrittenTimeOuts = new Long2LongHashMap(-1L);
+
+  public JobTimeoutTrigger(final JobState state, final int maxRecordSize) {
     this.state = state;
+    // leaves room for the metadata of the commands in the batch
+    maxBatchLength = maxRecordSize / 2;
   }
 
   @Override
   public void onRecovered(final ReadonlyProcessingContext processingContext) {
-    this.processingContext = processingContext;
-    timer =
-        this.processingContext
-            .getActor()
-            .runAtFixedRate(TIME_OUT_POLLING_INTERVAL, this::deactivateTimedOutJobs);
+    actor = processingContext.getActor();
     writer = processingContext.getLogStreamWriter();
+    deactivateTimedOutJobs();
   }
 
   @Override
@@ -57,13 +85,32 @@ public final class JobTimeoutTrigger implements StreamProcessorLifecycleAware {
   @Override
   public void onResumed() {
     if (timer == null) {
-      timer =
-          processingContext
-              .getActor()
-              .runAtFixedRate(TIME_OUT_POLLING_INTERVAL, this::deactivateTimedOutJobs);
+      deactivateTimedOutJobs();
+    }
+  }
+
+  /**
+   * Makes sure that jobs are checked for time outs soon after the given deadline has passed.
+   *
+   * @param deadline the deadline of a job which was activated
+   */
+  public void scheduleTimeOut(final long deadline) {
+    // a job times out once its deadline has passed
+    final long checkAt = deadline + 1;
+    if (timer == null || nextCheck - checkAt > TIME_OUT_RESOLUTION) {
+      scheduleCheck(checkAt);
     }
   }
 
+  private void scheduleCheck(final long checkAt) {
+    cancelTimer();
+
+    final long now = currentTimeMillis();
+    final long delay = Math.min(Math.max(checkAt - now, 0), TIME_OUT_POLLING_INTERVAL.toMillis());
+    nextCheck = now + delay;
+    timer = actor.runDelayed(Duration.ofMillis(delay), this::deactivateTimedOutJobs);
+  }
+
   private void cancelTimer() {
     if (timer != null) {
       timer.cancel();
@@ -72,14 +119,68 @@ public final class JobTimeoutTrigger implements StreamProcessorLifecycleAware {
   }
 
   void deactivateTimedOutJobs() {
+    timer = null;
+
     final long now = currentTimeMillis();
-    state.forEachTimedOutEntry(
-        now,
-        (key, record) -> {
-          writer.reset();
-          writer.appendFollowUpCommand(key, JobIntent.TIME_OUT, record);
-
-          return writer.flush() >= 0;
-        });
+    final long nextDeadline = state.forEachTimedOutEntry(now, this::appendTimeOut);
+    final boolean written = flushBatch();
+
+    // forget the written commands of jobs which were timed out in the meantime
+    final var previousWrittenTimeOuts = writtenTimeOuts;
+    previousWrittenTimeOuts.clear();
+    writtenTimeOuts = nextWrittenTimeOuts;
+    nextWrittenTimeOuts = previousWrittenTimeOuts;
+
+    if (!written || (nextDeadline >= 0 && nextDeadline < now)) {
+      // the log is not accepting the commands right now, try again a bit later
+      scheduleCheck(now + TIME_OUT_RESOLUTION);
+    } else if (nextDeadline >= 0) {
+      scheduleCheck(nextDeadline + 1);
+    } else {
+      scheduleCheck(now + TIME_OUT_POLLING_INTERVAL.toMillis());
+    }
+  }
+
+  private boolean appendTimeOut(final long key, final JobRecord record) {
+    final long deadline = record.getDeadline();
+    if (writtenTimeOuts.get(key) == deadline) {
+      nextWrittenTimeOuts.put(key, deadline);
+      return true;
+    }
+
+    final int length = record.getLength();
+    final int batchSize = batchJobKeys.size();
+    final boolean isBatchFull =
+        batchSize >= MAX_TIME_OUTS_PER_BATCH
+            || (batchSize > 0 && batchLength + length > maxBatchLength);
+    if (isBatchFull && !flushBatch()) {
+      return false;
+    }
+
+    if (batchJobKeys.isEmpty()) {
+      writer.reset();
+    }
+    writer.appendFollowUpCommand(key, JobIntent.TIME_OUT, record);
+    batchJobKeys.addLong(key);
+    batchLength += length;
+    nextWrittenTimeOuts.put(key, deadline);
+    return true;
+  }
+
+  private boolean flushBatch() {
+    if (batchJobKeys.isEmpty()) {
+      return true;
+    }
+
+    final boolean written = writer.flush() >= 0;
+    if (!written) {
+      for (int i = 0; i < batchJobKeys.size(); i++) {
+        nextWrittenTimeOuts.remove(batchJobKeys.getLong(i));
+      }
+    }
+
+    batchJobKeys.clear();
+    batchLength = 0;
+    return written;
   }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
+import org.agrona.collections.ObjectHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Collects the variables of activated jobs as documents. It caches the variables which are visible
+ * from the flow scopes of the jobs, so jobs that share a flow scope (e.g. the inner instances of a
+ * multi-instance body) read the variables of the shared scopes only once.
+ *
+ * <p>The cache is only valid while the variables and the requested variable names don't change,
+ * i.e. within the processing of one command. It must be reset by calling {@link #reset(Collection)}
+ * before each command.
+ */
+final class JobVariablesCollector {
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer documentBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer documentView = new UnsafeBuffer(0, 0);
+
+  private final VariableState variableState;
+  private final ObjectHashSet<DirectBuffer> variableNames = new ObjectHashSet<>();
+
+  // (scope key) => (variables which are visible from the scope, filtered by the variable names)
+  private final Long2ObjectHashMap<Map<DirectBuffer, DirectBuffer>> visibleVariablesByScope =
+      new Long2ObjectHashMap<>();
+  private final LongArrayList uncachedScopes = new LongArrayList();
+
+  JobVariablesCollector(final VariableState variableState) {
+    this.variableState = variableState;
+  }
+
+  /**
+   * Clears the cache and sets the names of the variables to collect.
+   *
+   * @param variableNames the names of the variables to collect, or an empty collection to collect
+   *     all variables
+   */
+  void reset(final Collection<DirectBuffer> variableNames) {
+    this.variableNames.clear();
+    this.variableNames.addAll(variableNames);
+    visibleVariablesByScope.clear();
+  }
+
+  /**
+   * Collects the variables which are visible from the given scope. The returned buffer is only
+   * valid until the next invocation.
+   *
+   * @param scopeKey the key of the scope of the job
+   * @return the variables as msgpack document
+   */
+  DirectBuffer collectVariables(final long scopeKey) {
+    // the scope of a job is not shared with other jobs, so it is not cached
+    final Map<DirectBuffer, DirectBuffer> variables = getLocalVariables(scopeKey);
+
+    if (variableNames.isEmpty() || variables.size() < variableNames.size()) {
+      final long parentScopeKey = variableState.getParentScopeKey(scopeKey);
+      if (parentScopeKey != VariableState.NO_PARENT) {
+        getVisibleVariables(parentScopeKey).forEach(variables::putIfAbsent);
+      }
+    }
+
+    return writeDocument(variables);
+  }
+
+  private Map<DirectBuffer, DirectBuffer> getVisibleVariables(final long scopeKey) {
+    uncachedScopes.clear();
+
+    // walk up the scope hierarchy until a scope is found which was already collected
+    Map<DirectBuffer, DirectBuffer> visibleVariables = null;
+    long currentScopeKey = scopeKey;
+    while (currentScopeKey != VariableState.NO_PARENT) {
+      visibleVariables = visibleVariablesByScope.get(currentScopeKey);
+      if (visibleVariables != null) {
+        break;
+      }
+
+      uncachedScopes.addLong(currentScopeKey);
+      currentScopeKey = variableState.getParentScopeKey(currentScopeKey);
+    }
+
+    // collect the variables top-down, a variable of a scope hides the variables of its parents
+    for (int i = uncachedScopes.size() - 1; i >= 0; i--) {
+      final long uncachedScopeKey = uncachedScopes.getLong(i);
+      final Map<DirectBuffer, DirectBuffer> variables = getLocalVariables(uncachedScopeKey);
+      if (visibleVariables != null) {
+        visibleVariables.forEach(variables::putIfAbsent);
+      }
+
+      visibleVariablesByScope.put(uncachedScopeKey, variables);
+      visibleVariables = variables;
+    }
+
+    return visibleVariables;
+  }
+
+  private Map<DirectBuffer, DirectBuffer> getLocalVariables(final long scopeKey) {
+    final Map<DirectBuffer, DirectBuffer> variables = new LinkedHashMap<>();
+
+    variableState.forEachVariableLocal(
+        scopeKey,
+        (name, value) -> {
+          if (variableNames.isEmpty() || variableNames.contains(name)) {
+            // the buffers are reused by the state, so they must be copied
+            variables.put(BufferUtil.cloneBuffer(name), BufferUtil.cloneBuffer(value));
+          }
+        });
+
+    return variables;
+  }
+
+  private DirectBuffer writeDocument(final Map<DirectBuffer, DirectBuffer> variables) {
+    writer.wrap(documentBuffer, 0);
+    writer.writeMapHeader(variables.size());
+
+    variables.forEach(
+        (name, value) -> {
+          writer.writeString(name);
+          writer.writeRaw(value);
+        });
+
+    documentView.wrap(documentBuffer, 0, writer.getOffset());
+    return documentView;
+  }
+}
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
+import io.camunda.zeebe.engine.metrics.MessageTimeToLiveMetrics;
 import io.camunda.zeebe.engine.processing.common.EventTriggerBehavior;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
@@ -80,6 +81,7 @@ public final class MessageEventProcessors {
             new MessageObserver(
                 messageState,
                 zeebeState.getPendingMessageSubscriptionState(),
-                subscriptionCommandSender));
+                subscriptionCommandSender,
+                new MessageTimeToLiveMetrics(zeebeState.getPartitionId())));
   }
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
+import io.camunda.zeebe.engine.metrics.MessageTimeToLiveMetrics;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
@@ -25,14 +26,17 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
   private final SubscriptionCommandSender subscriptionCommandSender;
   private final MessageState messageState;
   private final MutablePendingMessageSubscriptionState pendingState;
+  private final MessageTimeToLiveMetrics timeToLiveMetrics;
 
   public MessageObserver(
       final MessageState messageState,
       final MutablePendingMessageSubscriptionState pendingState,
-      final SubscriptionCommandSender subscriptionCommandSender) {
+      final SubscriptionCommandSender subscriptionCommandSender,
+      final MessageTimeToLiveMetrics timeToLiveMetrics) {
     this.subscriptionCommandSender = subscriptionCommandSender;
     this.messageState = messageState;
     this.pendingState = pendingState;
+    this.timeToLiveMetrics = timeToLiveMetrics;
   }
 
   @Override
@@ -40,8 +44,13 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
     final ActorControl actor = context.getActor();
     // it is safe to reuse the write because we running in the same actor/thread
     final MessageTimeToLiveChecker timeToLiveChecker =
-        new MessageTimeToLiveChecker(context.getLogStreamWriter(), messageState);
-    context.getActor().runAtFixedRate(MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL, timeToLiveChecker);
+        new MessageTimeToLiveChecker(
+            actor,
+            context.getLogStreamWriter(),
+            messageState,
+            context.getMaxFragmentSize(),
+            timeToLiveMetrics);
+    actor.runAtFixedRate(MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL, timeToLiveChecker);
 
     final PendingMessageSubscriptionChecker pendingSubscriptionChecker =
         new PendingMessageSubscriptionChecker(
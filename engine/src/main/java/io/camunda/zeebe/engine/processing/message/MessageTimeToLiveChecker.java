@@ -7,35 +7,115 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
+import io.camunda.zeebe.engine.metrics.MessageTimeToLiveMetrics;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
 import io.camunda.zeebe.engine.state.immutable.MessageState;
 import io.camunda.zeebe.engine.state.message.StoredMessage;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.util.sched.ActorControl;
 import io.camunda.zeebe.util.sched.clock.ActorClock;
+import org.agrona.collections.LongArrayList;
 
+/**
+ * Writes expire commands for the messages whose deadline has passed. A check visits the messages in
+ * the order of their deadline and writes the commands in batches which are bounded in number and
+ * size. Between two batches it yields to other work of the actor, and continues at the first
+ * message which was not written yet, instead of visiting the already written messages again.
+ *
+ * <p>A check only expires the messages whose deadline passed before it started. A new check is not
+ * started while one is still running; if a batch can't be written, the check ends and the next one
+ * starts over.
+ */
 public final class MessageTimeToLiveChecker implements Runnable {
 
+  private static final int MAX_EXPIRED_MESSAGES_PER_BATCH = 100;
+
+  private final ActorControl actor;
   private final TypedCommandWriter writer;
   private final MessageState messageState;
+  private final long maxBatchLength;
+  private final MessageTimeToLiveMetrics metrics;
 
   private final MessageRecord deleteMessageCommand = new MessageRecord();
+  private final LongArrayList batchDeadlines = new LongArrayList();
+
+  // the time up to which the running check expires messages, or -1 if no check is running
+  private long checkTimestamp = -1L;
+  // the first message which is left to the next batch of the running check
+  private boolean hasNextMessage;
+  private long nextMessageDeadline;
+  private long nextMessageKey;
+
+  private long batchLength;
 
   public MessageTimeToLiveChecker(
-      final TypedCommandWriter writer, final MessageState messageState) {
+      final ActorControl actor,
+      final TypedCommandWriter writer,
+      final MessageState messageState,
+      final int maxRecordSize,
+      final MessageTimeToLiveMetrics metrics) {
+    this.actor = actor;
     this.writer = writer;
     this.messageState = messageState;
+    // leaves room for the metadata of the commands in the batch
+    maxBatchLength = maxRecordSize / 2;
+    this.metrics = metrics;
   }
 
   @Override
   public void run() {
-    messageState.visitMessagesWithDeadlineBefore(
-        ActorClock.currentTimeMillis(), this::writeDeleteMessageCommand);
+    if (checkTimestamp >= 0) {
+      // the previous check is still running
+      return;
+    }
+
+    checkTimestamp = ActorClock.currentTimeMillis();
+    hasNextMessage = false;
+    expireMessages();
+  }
+
+  private void expireMessages() {
+    final boolean hadNextMessage = hasNextMessage;
+    hasNextMessage = false;
+    batchDeadlines.clear();
+    batchLength = 0;
+    writer.reset();
+
+    if (hadNextMessage) {
+      messageState.visitMessagesWithDeadlineBefore(
+          checkTimestamp, nextMessageDeadline, nextMessageKey, this::appendExpireCommand);
+    } else {
+      messageState.visitMessagesWithDeadlineBefore(checkTimestamp, this::appendExpireCommand);
+    }
+
+    if (!batchDeadlines.isEmpty() && !flushBatch()) {
+      // the log is not accepting the commands right now, the next check tries again
+      endCheck();
+      return;
+    }
+
+    if (hasNextMessage) {
+      metrics.setBacklogAge(nextMessageDeadline, ActorClock.currentTimeMillis());
+      actor.submit(this::expireMessages);
+    } else {
+      endCheck();
+    }
   }
 
-  private boolean writeDeleteMessageCommand(final StoredMessage storedMessage) {
+  private boolean appendExpireCommand(final StoredMessage storedMessage) {
     final var message = storedMessage.getMessage();
 
+    final int length = message.getLength();
+    final int batchSize = batchDeadlines.size();
+    if (batchSize >= MAX_EXPIRED_MESSAGES_PER_BATCH
+        || (batchSize > 0 && batchLength + length > maxBatchLength)) {
+      hasNextMessage = true;
+      nextMessageDeadline = message.getDeadline();
+      nextMessageKey = storedMessage.getMessageKey();
+      return false;
+    }
+
     deleteMessageCommand.reset();
     deleteMessageCommand
         .setName(message.getName())
@@ -47,11 +127,30 @@ public final class MessageTimeToLiveChecker implements Runnable {
       deleteMessageCommand.setMessageId(message.getMessageIdBuffer());
     }
 
-    writer.reset();
     writer.appendFollowUpCommand(
         storedMessage.getMessageKey(), MessageIntent.EXPIRE, deleteMessageCommand);
+    batchDeadlines.addLong(message.getDeadline());
+    batchLength += length;
+    return true;
+  }
 
+  private boolean flushBatch() {
     final long position = writer.flush();
-    return position > 0;
+    if (position < 0) {
+      return false;
+    }
+
+    final long now = ActorClock.currentTimeMillis();
+    for (int i = 0; i < batchDeadlines.size(); i++) {
+      metrics.messageExpired(batchDeadlines.getLong(i), now);
+    }
+    metrics.expireCommandsWritten(batchDeadlines.size());
+    return true;
+  }
+
+  private void endCheck() {
+    checkTimestamp = -1L;
+    hasNextMessage = false;
+    metrics.resetBacklogAge();
   }
 }
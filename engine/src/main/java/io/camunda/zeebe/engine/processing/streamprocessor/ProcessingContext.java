@@ -49,6 +49,7 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   private StreamProcessorListener streamProcessorListener = NOOP_LISTENER;
 
   private int maxFragmentSize;
+  private int maxCommandsInBatch = 1;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
 
   public ProcessingContext() {
@@ -122,6 +123,11 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext maxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+    return this;
+  }
+
   public ProcessingContext eventApplier(final EventApplier eventApplier) {
     this.eventApplier = eventApplier;
     return this;
@@ -160,6 +166,14 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return maxFragmentSize;
   }
 
+  /**
+   * @return the maximum number of commands which are processed within one transaction and whose
+   *     follow-up records are written as one batch; a value of 1 disables batch processing
+   */
+  public int getMaxCommandsInBatch() {
+    return maxCommandsInBatch;
+  }
+
   @Override
   public TypedStreamWriter getLogStreamWriter() {
     return streamWriterProxy;
@@ -11,11 +11,13 @@ import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.engine.metrics.StreamProcessorMetrics;
 import io.camunda.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
+import io.camunda.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectQueue;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.camunda.zeebe.engine.state.mutable.MutableLastProcessedPositionState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
@@ -33,7 +35,10 @@ import io.camunda.zeebe.util.sched.ActorControl;
 import io.camunda.zeebe.util.sched.clock.ActorClock;
 import io.camunda.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
+import java.util.BitSet;
 import java.util.function.BooleanSupplier;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.IntArrayList;
 import org.slf4j.Logger;
 
 /**
@@ -74,6 +79,16 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>If batch processing is enabled (see {@link ProcessingContext#getMaxCommandsInBatch()}),
+ * processEvent() continues with the next command in the same transaction, instead of going to
+ * writeEvent() directly. All follow-up records of the batch are then written as one log batch and
+ * the transaction is committed once. A batch is closed early on a command which has to be answered
+ * or which produces custom side effects, since these can only be executed after the commit. It is
+ * also closed if the follow-up records of another command may not fit into the log batch anymore,
+ * or if the batch already took longer than 100 ms. If a command of a batch fails, or the batch
+ * could not be written, the whole batch is rolled back and its commands are processed again one by
+ * one, such that rejections and blacklisting behave the same as without batching.
  */
 public final class ProcessingStateMachine {
 
@@ -98,8 +113,11 @@ public final class ProcessingStateMachine {
       "Expected to invoke processed listener for record {} successfully, but exception was thrown.";
   private static final String NOTIFY_SKIPPED_LISTENER_ERROR_MESSAGE =
       "Expected to invoke skipped listener for record '{} {}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_BATCH_PROCESSING_FAILED =
+      "Expected to process batch of {} commands up to position {} successfully, but caught an exception. Fall back to process the commands one by one.";
 
   private static final Duration PROCESSING_RETRY_DELAY = Duration.ofMillis(250);
+  private static final Duration MAX_BATCH_DURATION = Duration.ofMillis(100);
 
   private static final MetadataFilter PROCESSING_FILTER =
       recordMetadata -> recordMetadata.getRecordType() == RecordType.COMMAND;
@@ -127,6 +145,11 @@ public final class ProcessingStateMachine {
   private final TypedEventImpl typedEvent;
   private final StreamProcessorMetrics metrics;
   private final StreamProcessorListener streamProcessorListener;
+  private final int maxCommandsInBatch;
+  // copies of the records of the current batch, since the reader reuses the event instance
+  private final BatchRecords batchRecords = new BatchRecords();
+  private final RecordMetadata committedMetadata = new RecordMetadata();
+  private final TypedEventImpl committedCommand;
 
   // current iteration
   private SideEffectProducer sideEffectProducer;
@@ -141,6 +164,13 @@ public final class ProcessingStateMachine {
   // Used for processing duration metrics
   private long processingStartTime;
 
+  // current batch
+  private int batchCommandCount;
+  // the largest length of the follow-up records of one command, reserved for the next command
+  private int largestCommandFollowUpLength;
+  private long processedCommandPosition = StreamProcessor.UNSET_POSITION;
+  private long singleCommandProcessingUntilPosition = StreamProcessor.UNSET_POSITION;
+
   public ProcessingStateMachine(
       final ProcessingContext context, final BooleanSupplier shouldProcessNext) {
 
@@ -154,6 +184,7 @@ public final class ProcessingStateMachine {
     transactionContext = context.getTransactionContext();
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
+    maxCommandsInBatch = context.getMaxCommandsInBatch();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -162,6 +193,7 @@ public final class ProcessingStateMachine {
 
     final int partitionId = logStream.getPartitionId();
     typedEvent = new TypedEventImpl(partitionId);
+    committedCommand = new TypedEventImpl(partitionId);
     responseWriter = context.getWriters().response();
 
     metrics = new StreamProcessorMetrics(partitionId);
@@ -196,39 +228,185 @@ public final class ProcessingStateMachine {
   }
 
   private void processEvent(final LoggedEvent event) {
+    // the commands of a batch are processed in a loop, so a long batch doesn't grow the stack
+    LoggedEvent nextCommand = event;
+    do {
+      currentEvent = nextCommand;
+      nextCommand = processCommand(currentEvent);
+    } while (nextCommand != null);
+  }
+
+  /**
+   * Processes the given command and either continues with the next step or, if the batch continues,
+   * returns the next command of the batch.
+   *
+   * @return the next command of the batch, or null if the processing continues with another step
+   */
+  private LoggedEvent processCommand(final LoggedEvent event) {
     metadata.reset();
     event.readMetadata(metadata);
 
-    currentProcessor = chooseNextProcessor(event);
-    if (currentProcessor == null) {
+    final TypedRecordProcessor<?> processor = chooseNextProcessor(event);
+    if (processor == null) {
+      if (batchCommandCount > 0) {
+        // the processor of the last batch command is kept, which prevents reading concurrently
+        skipBatchRecord(event);
+        return readNextBatchCommand();
+      }
+
+      currentProcessor = null;
       skipRecord();
-      return;
+      return null;
     }
 
-    processingStartTime = ActorClock.currentTimeMillis();
+    currentProcessor = processor;
+    processedCommandPosition = event.getPosition();
+    if (batchCommandCount == 0) {
+      processingStartTime = ActorClock.currentTimeMillis();
+      largestCommandFollowUpLength = 0;
+    }
+    // the output is reset by the first command of a batch
+    final int batchLengthBeforeCommand =
+        batchCommandCount == 0 ? 0 : logStreamWriter.getBatchLength();
 
     try {
       final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
       typedEvent.wrap(event, metadata, value);
 
-      metrics.processingLatency(event.getTimestamp(), processingStartTime);
+      if (!isBatchProcessingEnabled()) {
+        metrics.processingLatency(event.getTimestamp(), processingStartTime);
+      }
 
       processInTransaction(typedEvent);
 
-      metrics.commandsProcessed();
+      batchCommandCount++;
+      largestCommandFollowUpLength =
+          Math.max(
+              largestCommandFollowUpLength,
+              logStreamWriter.getBatchLength() - batchLengthBeforeCommand);
+      if (isBatchProcessingEnabled()) {
+        // the batch can still be rolled back and processed again, so the listener and the metrics
+        // only see the command once the batch is committed
+        batchRecords.addProcessedCommand(event);
+      } else {
+        metrics.commandsProcessed();
+      }
+
+      if (shouldContinueBatch()) {
+        return readNextBatchCommand();
+      }
 
       writeEvent();
-    } catch (final RecoverableException recoverableException) {
+    } catch (final Exception e) {
+      if (batchCommandCount > 0) {
+        fallBackToSingleCommandProcessing(e);
+      } else {
+        onProcessingError(event, e);
+      }
+    }
+
+    return null;
+  }
+
+  private boolean isBatchProcessingEnabled() {
+    return maxCommandsInBatch > 1;
+  }
+
+  private void onProcessingError(final LoggedEvent event, final Exception exception) {
+    if (exception instanceof RecoverableException) {
+      final var recoverableException = (RecoverableException) exception;
       // recoverable
       LOG.error(
           ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING, event, metadata, recoverableException);
       actor.runDelayed(PROCESSING_RETRY_DELAY, () -> processEvent(currentEvent));
-    } catch (final Exception e) {
-      LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_SKIP_EVENT, event, metadata, e);
-      onError(e, this::writeEvent);
+    } else {
+      LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_SKIP_EVENT, event, metadata, exception);
+      onError(exception, this::writeEvent);
     }
   }
 
+  private boolean shouldContinueBatch() {
+    return batchCommandCount < maxCommandsInBatch
+        && processedCommandPosition > singleCommandProcessingUntilPosition
+        && !typedEvent.hasRequestMetadata()
+        && !hasCustomSideEffects()
+        && !responseWriter.hasStagedResponse()
+        && logStreamWriter.canWriteAdditionalEvent(largestCommandFollowUpLength)
+        && ActorClock.currentTimeMillis() - processingStartTime < MAX_BATCH_DURATION.toMillis()
+        && shouldProcessNext.getAsBoolean();
+  }
+
+  private boolean hasCustomSideEffects() {
+    if (sideEffectProducer == responseWriter) {
+      return false;
+    }
+
+    // most processors hand over their side effect queue, even if they didn't add anything to it
+    return !(sideEffectProducer instanceof SideEffectQueue)
+        || !((SideEffectQueue) sideEffectProducer).isEmpty();
+  }
+
+  /**
+   * Reads the next command to add to the current batch. If there is none, the batch is written.
+   *
+   * @return the next command of the batch, or null if the batch is written
+   */
+  private LoggedEvent readNextBatchCommand() {
+    while (logStreamReader.hasNext()) {
+      final LoggedEvent nextEvent = logStreamReader.next();
+
+      if (eventFilter.applies(nextEvent)) {
+        return nextEvent;
+      }
+
+      skipBatchRecord(nextEvent);
+    }
+
+    writeEvent();
+    return null;
+  }
+
+  private void skipBatchRecord(final LoggedEvent skippedRecord) {
+    // notified together with the commands of the batch, once it is committed
+    batchRecords.addSkippedRecord(skippedRecord);
+  }
+
+  private void fallBackToSingleCommandProcessing(final Throwable batchFailure) {
+    final long lastBatchPosition = Math.max(processedCommandPosition, currentEvent.getPosition());
+    LOG.warn(
+        ERROR_MESSAGE_BATCH_PROCESSING_FAILED, batchCommandCount, lastBatchPosition, batchFailure);
+
+    singleCommandProcessingUntilPosition = lastBatchPosition;
+    batchCommandCount = 0;
+    // the records are read and notified again when the commands are processed one by one
+    batchRecords.clear();
+
+    final ActorFuture<Boolean> retryFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.rollback();
+              zeebeState.onRollback();
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_ROLLBACK_ABORTED, currentEvent, metadata, throwable);
+          }
+
+          responseWriter.reset();
+          logStreamWriter.reset();
+
+          // read the commands of the batch again, beginning after the last committed command
+          logStreamReader.seekToNextEvent(lastSuccessfulProcessedEventPosition);
+          currentProcessor = null;
+          actor.submit(this::readNextEvent);
+        });
+  }
+
   private TypedRecordProcessor<?> chooseNextProcessor(final LoggedEvent event) {
     TypedRecordProcessor<?> typedRecordProcessor = null;
 
@@ -248,7 +426,13 @@ public final class ProcessingStateMachine {
     zeebeDbTransaction.run(
         () -> {
           final long position = typedRecord.getPosition();
-          resetOutput(position);
+          if (batchCommandCount == 0) {
+            resetOutput(position);
+          } else {
+            // keep the follow-up records of the previous commands of the batch
+            responseWriter.reset();
+            logStreamWriter.configureSourceContext(position);
+          }
 
           // default side effect is responses; can be changed by processor
           sideEffectProducer = responseWriter;
@@ -286,6 +470,7 @@ public final class ProcessingStateMachine {
         updateStateRetryStrategy.runWithRetry(
             () -> {
               zeebeDbTransaction.rollback();
+              zeebeState.onRollback();
               return true;
             },
             abortCondition);
@@ -355,7 +540,11 @@ public final class ProcessingStateMachine {
         (bool, t) -> {
           if (t != null) {
             LOG.error(ERROR_MESSAGE_WRITE_EVENT_ABORTED, currentEvent, metadata, t);
-            onError(t, this::writeEvent);
+            if (batchCommandCount > 1) {
+              fallBackToSingleCommandProcessing(t);
+            } else {
+              onError(t, this::writeEvent);
+            }
           } else {
             // We write various type of records. The positions are always increasing and
             // incremented by 1 for one record (even in a batch), so we can count the amount
@@ -372,7 +561,8 @@ public final class ProcessingStateMachine {
         updateStateRetryStrategy.runWithRetry(
             () -> {
               zeebeDbTransaction.commit();
-              lastSuccessfulProcessedEventPosition = currentEvent.getPosition();
+              batchCommandCount = 0;
+              lastSuccessfulProcessedEventPosition = processedCommandPosition;
               metrics.setLastProcessedPosition(lastSuccessfulProcessedEventPosition);
               lastWrittenEventPosition = writtenEventPosition;
               return true;
@@ -402,7 +592,15 @@ public final class ProcessingStateMachine {
             LOG.error(ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentEvent, metadata, throwable);
           }
 
-          notifyProcessedListener(typedEvent);
+          if (batchRecords.isEmpty()) {
+            if (isBatchProcessingEnabled()) {
+              // the command failed, so it was not added to the batch
+              metrics.processingLatency(typedEvent.getTimestamp(), processingStartTime);
+            }
+            notifyProcessedListener(typedEvent);
+          } else {
+            notifyCommittedBatch();
+          }
 
           metrics.processingDuration(
               metadata.getRecordType(), processingStartTime, ActorClock.currentTimeMillis());
@@ -412,6 +610,29 @@ public final class ProcessingStateMachine {
         });
   }
 
+  private void notifyCommittedBatch() {
+    for (int i = 0; i < batchRecords.size(); i++) {
+      final LoggedEvent record = batchRecords.get(i);
+      if (batchRecords.isSkippedRecord(i)) {
+        notifySkippedListener(record);
+        metrics.eventSkipped();
+        continue;
+      }
+
+      committedMetadata.reset();
+      record.readMetadata(committedMetadata);
+      final UnifiedRecordValue value =
+          recordValues.readRecordValue(record, committedMetadata.getValueType());
+      committedCommand.wrap(record, committedMetadata, value);
+
+      metrics.processingLatency(record.getTimestamp(), processingStartTime);
+      metrics.commandsProcessed();
+      notifyProcessedListener(committedCommand);
+    }
+
+    batchRecords.clear();
+  }
+
   private void notifyProcessedListener(final TypedRecord processedRecord) {
     try {
       streamProcessorListener.onProcessed(processedRecord);
@@ -451,4 +672,51 @@ public final class ProcessingStateMachine {
     }
     actor.submit(this::readNextEvent);
   }
+
+  /** Copies of the records of a batch, in the order in which they were read. */
+  private static final class BatchRecords {
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private final IntArrayList offsets = new IntArrayList();
+    private final BitSet skippedRecords = new BitSet();
+    private final LoggedEventImpl record = new LoggedEventImpl();
+    private int length;
+
+    private void addProcessedCommand(final LoggedEvent command) {
+      add(command);
+    }
+
+    private void addSkippedRecord(final LoggedEvent skippedRecord) {
+      skippedRecords.set(offsets.size());
+      add(skippedRecord);
+    }
+
+    private void add(final LoggedEvent event) {
+      offsets.addInt(length);
+      event.write(buffer, length);
+      length += event.getLength();
+    }
+
+    private LoggedEvent get(final int index) {
+      record.wrap(buffer, offsets.getInt(index));
+      return record;
+    }
+
+    private boolean isSkippedRecord(final int index) {
+      return skippedRecords.get(index);
+    }
+
+    private int size() {
+      return offsets.size();
+    }
+
+    private boolean isEmpty() {
+      return offsets.isEmpty();
+    }
+
+    private void clear() {
+      offsets.clear();
+      skippedRecords.clear();
+      length = 0;
+    }
+  }
 }
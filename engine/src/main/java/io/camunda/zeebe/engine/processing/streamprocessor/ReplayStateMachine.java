@@ -197,6 +197,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
+      zeebeState.onRollback();
       // reading the whole batch from the beginning again
       batch.head();
     }
@@ -18,6 +18,8 @@ import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.util.StringUtil;
+import java.io.IOException;
+import java.io.OutputStream;
 
 public final class TypedEventImpl implements TypedRecord {
   private final int partitionId;
@@ -119,6 +121,11 @@ public final class TypedEventImpl implements TypedRecord {
     return MsgPackConverter.convertJsonSerializableObjectToJson(this);
   }
 
+  @Override
+  public void writeJson(final OutputStream output) throws IOException {
+    MsgPackConverter.writeJsonSerializableObject(this, output);
+  }
+
   @Override
   public Record clone() {
     return CopiedRecords.createCopiedRecord(getPartitionId(), rawEvent);
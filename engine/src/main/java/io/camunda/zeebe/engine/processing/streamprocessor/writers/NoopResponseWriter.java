@@ -43,6 +43,11 @@ public final class NoopResponseWriter implements TypedResponseWriter {
     return false;
   }
 
+  @Override
+  public boolean hasStagedResponse() {
+    return false;
+  }
+
   @Override
   public void reset() {}
 }
@@ -27,6 +27,16 @@ public final class NoopTypedStreamWriter implements TypedStreamWriter {
     // no op implementation
   }
 
+  @Override
+  public int getBatchLength() {
+    return 0;
+  }
+
+  @Override
+  public boolean canWriteAdditionalEvent(final int length) {
+    return true;
+  }
+
   @Override
   public void appendFollowUpEvent(final long key, final Intent intent, final RecordValue value) {
     // no op implementation
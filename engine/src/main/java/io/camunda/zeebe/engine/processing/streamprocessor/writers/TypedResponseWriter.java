@@ -38,5 +38,8 @@ public interface TypedResponseWriter extends SideEffectProducer {
    */
   boolean flush();
 
+  /** @return true if a response was staged since the last {@link #reset()}, false otherwise */
+  boolean hasStagedResponse();
+
   void reset();
 }
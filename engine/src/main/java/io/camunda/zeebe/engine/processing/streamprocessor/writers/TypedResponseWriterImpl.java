@@ -141,6 +141,12 @@ public final class TypedResponseWriterImpl implements TypedResponseWriter, SideE
     isResponseStaged = true;
   }
 
+  @Override
+  public boolean hasStagedResponse() {
+    return isResponseStaged;
+  }
+
+  @Override
   public void reset() {
     isResponseStaged = false;
   }
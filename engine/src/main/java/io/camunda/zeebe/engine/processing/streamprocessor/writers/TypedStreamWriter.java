@@ -12,4 +12,15 @@ public interface TypedStreamWriter
     extends TypedCommandWriter, TypedEventWriter, TypedRejectionWriter {
 
   void configureSourceContext(long sourceRecordPosition);
+
+  /** Returns the length of the records which were appended since the last reset or flush. */
+  int getBatchLength();
+
+  /**
+   * Returns true if a record with the given length can still be appended, such that all appended
+   * records can be flushed together.
+   *
+   * @param length the length of the additional record
+   */
+  boolean canWriteAdditionalEvent(int length);
 }
@@ -125,6 +125,16 @@ public class TypedStreamWriterImpl implements TypedStreamWriter {
     this.sourceRecordPosition = sourceRecordPosition;
   }
 
+  @Override
+  public int getBatchLength() {
+    return batchWriter.getBatchLength();
+  }
+
+  @Override
+  public boolean canWriteAdditionalEvent(final int length) {
+    return batchWriter.canWriteAdditionalEvent(length);
+  }
+
   @Override
   public void appendFollowUpEvent(final long key, final Intent intent, final RecordValue value) {
     appendRecord(key, RecordType.EVENT, intent, value);
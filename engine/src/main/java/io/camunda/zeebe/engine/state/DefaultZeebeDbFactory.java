@@ -9,9 +9,14 @@ package io.camunda.zeebe.engine.state;
 
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning.Compaction;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDBMetricExporter;
 import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -55,7 +60,45 @@ public final class DefaultZeebeDbFactory {
   public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
       ZeebeDbFactory<ColumnFamilyNames> defaultFactory(
           final RocksDbConfiguration rocksDbConfiguration) {
+    if (rocksDbConfiguration.getColumnFamilyTunings().isEmpty()) {
+      rocksDbConfiguration.setColumnFamilyTunings(createColumnFamilyTunings());
+    }
+
     // one place to replace the zeebe database implementation
     return ZeebeRocksDbFactory.newFactory(rocksDbConfiguration);
   }
+
+  /**
+   * Tunes the column families whose access pattern differs a lot from the others. The tunings only
+   * apply if the column families are stored in separate RocksDB column families.
+   */
+  private static Map<String, ColumnFamilyTuning> createColumnFamilyTunings() {
+    // deadline indexes are only iterated in order, and their entries are short-lived
+    final var deadlineIndexTuning =
+        new ColumnFamilyTuning()
+            .setBloomFilterBitsPerKey(0)
+            .setPrefixFilterEnabled(false)
+            .setCompressionEnabled(false)
+            .setCompaction(Compaction.UNIVERSAL);
+    // the process cache is read by point lookups, and only written on deployments
+    final var processCacheTuning = new ColumnFamilyTuning().setBloomFilterBitsPerKey(16);
+
+    final Map<String, ColumnFamilyTuning> tunings = new HashMap<>();
+    for (final var columnFamily :
+        List.of(
+            ZbColumnFamilies.TIMER_DUE_DATES,
+            ZbColumnFamilies.JOB_DEADLINES,
+            ZbColumnFamilies.MESSAGE_DEADLINES)) {
+      tunings.put(columnFamily.name(), deadlineIndexTuning);
+    }
+    for (final var columnFamily :
+        List.of(
+            ZbColumnFamilies.PROCESS_VERSION,
+            ZbColumnFamilies.PROCESS_CACHE,
+            ZbColumnFamilies.PROCESS_CACHE_BY_ID_AND_VERSION,
+            ZbColumnFamilies.PROCESS_CACHE_DIGEST_BY_ID)) {
+      tunings.put(columnFamily.name(), processCacheTuning);
+    }
+    return tunings;
+  }
 }
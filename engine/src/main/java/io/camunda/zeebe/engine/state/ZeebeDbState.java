@@ -88,7 +88,7 @@ public class ZeebeDbState implements MutableZeebeState {
 
     variableState = new DbVariableState(zeebeDb, transactionContext);
     processState = new DbProcessState(zeebeDb, transactionContext);
-    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
+    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext, partitionId);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
@@ -113,6 +113,11 @@ public class ZeebeDbState implements MutableZeebeState {
     processMessageSubscriptionState.onRecovered(context);
   }
 
+  @Override
+  public void onRollback() {
+    timerInstanceState.onRollback();
+  }
+
   @Override
   public MutableDeploymentState getDeploymentState() {
     return deploymentState;
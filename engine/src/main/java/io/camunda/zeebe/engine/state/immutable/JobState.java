@@ -14,7 +14,16 @@ import org.agrona.DirectBuffer;
 
 public interface JobState {
 
-  void forEachTimedOutEntry(long upperBound, BiFunction<Long, JobRecord, Boolean> callback);
+  /**
+   * Visits the activated jobs whose deadline is before the given upper bound, in the order of their
+   * deadlines, until the callback returns false.
+   *
+   * @param upperBound the exclusive upper bound of the deadlines to visit
+   * @param callback the visitor of the timed out jobs
+   * @return the deadline of the first job which was not visited or not consumed, or -1 if there is
+   *     no such job
+   */
+  long forEachTimedOutEntry(long upperBound, BiFunction<Long, JobRecord, Boolean> callback);
 
   boolean exists(long jobKey);
 
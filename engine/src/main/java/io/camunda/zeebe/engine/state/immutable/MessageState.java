@@ -24,6 +24,19 @@ public interface MessageState {
 
   void visitMessagesWithDeadlineBefore(long timestamp, MessageVisitor visitor);
 
+  /**
+   * Like {@link #visitMessagesWithDeadlineBefore(long, MessageVisitor)}, but starts at the message
+   * with the given deadline and key instead of the first one, e.g. to continue a previous visit.
+   * Messages are ordered by their deadline first and their key second.
+   *
+   * @param timestamp the timestamp up to which the deadlines are visited, inclusive
+   * @param startAtDeadline the deadline of the message to start at
+   * @param startAtMessageKey the key of the message to start at
+   * @param visitor the visitor of the messages
+   */
+  void visitMessagesWithDeadlineBefore(
+      long timestamp, long startAtDeadline, long startAtMessageKey, MessageVisitor visitor);
+
   boolean exist(DirectBuffer name, DirectBuffer correlationKey, DirectBuffer messageId);
 
   @FunctionalInterface
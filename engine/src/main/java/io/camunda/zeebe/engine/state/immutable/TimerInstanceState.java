@@ -12,6 +12,15 @@ import java.util.function.Consumer;
 
 public interface TimerInstanceState {
 
+  /**
+   * Visits the timers which are due at the given timestamp, in the order of their due dates, until
+   * the visitor doesn't consume one.
+   *
+   * @param timestamp the current time
+   * @param consumer the visitor of the due timers
+   * @return the due date of the first timer which was not consumed or of the next timer, or an
+   *     earlier time at which this method should be called again; -1 if there are no more timers
+   */
   long findTimersWithDueDateBefore(long timestamp, TimerVisitor consumer);
 
   /**
@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.immutable;
 
 import io.camunda.zeebe.engine.state.variable.VariableInstance;
 import java.util.Collection;
+import java.util.function.BiConsumer;
 import org.agrona.DirectBuffer;
 
 public interface VariableState {
@@ -28,6 +29,15 @@ public interface VariableState {
 
   DirectBuffer getVariablesLocalAsDocument(long scopeKey);
 
+  /**
+   * Provides all variables of the given scope, without the variables of its parents, to the given
+   * consumer. The name and value buffers are reused and are only valid within the consumer.
+   *
+   * @param scopeKey the key of the variable scope
+   * @param consumer a consumer that receives the variable name and value
+   */
+  void forEachVariableLocal(long scopeKey, BiConsumer<DirectBuffer, DirectBuffer> consumer);
+
   DirectBuffer getTemporaryVariables(long scopeKey);
 
   boolean isEmpty();
@@ -57,6 +57,7 @@ public final class DbJobState implements JobState, MutableJobState {
   private final JobMetrics metrics;
 
   private Consumer<String> onJobsAvailableCallback;
+  private long nextDeadline;
 
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
@@ -216,19 +217,28 @@ public final class DbJobState implements JobState, MutableJobState {
   }
 
   @Override
-  public void forEachTimedOutEntry(
+  public long forEachTimedOutEntry(
       final long upperBound, final BiFunction<Long, JobRecord, Boolean> callback) {
+    nextDeadline = -1L;
 
     deadlinesColumnFamily.whileTrue(
         (compositeKey, zbNil) -> {
           final long deadline = compositeKey.getFirst().getValue();
           final boolean isDue = deadline < upperBound;
+
+          boolean consumed = false;
           if (isDue) {
             final long jobKey = compositeKey.getSecond().getValue();
-            return visitJob(jobKey, callback, () -> deadlinesColumnFamily.delete(compositeKey));
+            consumed = visitJob(jobKey, callback, () -> deadlinesColumnFamily.delete(compositeKey));
+          }
+
+          if (!consumed) {
+            nextDeadline = deadline;
           }
-          return false;
+          return consumed;
         });
+
+    return nextDeadline;
   }
 
   @Override
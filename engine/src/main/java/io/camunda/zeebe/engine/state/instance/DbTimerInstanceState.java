@@ -13,12 +13,17 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.metrics.TimerMetrics;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
+import java.time.Duration;
 import java.util.function.Consumer;
 
 public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
+  private static final long DUE_DATE_INDEX_TICK = Duration.ofMillis(100).toMillis();
+  private static final long DUE_DATE_INDEX_RETRY_DELAY = Duration.ofSeconds(10).toMillis();
+
   private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, TimerInstance>
       timerInstanceColumnFamily;
   private final TimerInstance timerInstance;
@@ -31,10 +36,25 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbLong dueDateKey;
   private final DbCompositeKey<DbLong, DbCompositeKey<DbLong, DbLong>> dueDateCompositeKey;
 
-  private long nextDueDate;
+  private final TimerMetrics metrics;
+
+  /**
+   * Indexes the timers by their due date in memory, so that finding the due timers doesn't have to
+   * iterate over the due date column family. It is built on the first lookup, i.e. only on the
+   * leader after replay, and kept up to date by {@link #put(TimerInstance)} and {@link
+   * #remove(TimerInstance)} afterwards.
+   *
+   * <p>It is not part of the transaction, so it is discarded on a rollback and built again from the
+   * state on the next lookup. A triggered timer stays in it until it is removed, and is triggered
+   * again after the retry delay if it is still in the state, e.g. because its trigger was rejected.
+   */
+  private TimerWheel dueDateIndex;
 
   public DbTimerInstanceState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId) {
+    metrics = new TimerMetrics(partitionId);
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey = new DbLong();
@@ -62,30 +82,51 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDateKey.wrapLong(timer.getDueDate());
     dueDateColumnFamily.put(dueDateCompositeKey, DbNil.INSTANCE);
+
+    if (dueDateIndex != null) {
+      dueDateIndex.add(timer.getElementInstanceKey(), timer.getKey(), timer.getDueDate());
+    }
   }
 
   @Override
   public long findTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
-    nextDueDate = -1L;
-
-    dueDateColumnFamily.whileTrue(
-        (key, nil) -> {
-          final DbLong dueDate = key.getFirst();
-
-          boolean consumed = false;
-          if (dueDate.getValue() <= timestamp) {
-            final DbCompositeKey<DbLong, DbLong> elementAndTimerKey = key.getSecond();
-            final TimerInstance timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
-            consumed = consumer.visit(timerInstance);
+    if (dueDateIndex == null) {
+      dueDateIndex = buildDueDateIndex(timestamp);
+    }
+
+    final TimerWheel index = dueDateIndex;
+    index.advance(timestamp);
+    index.forEachDue(
+        (elementInstanceKey, timerKey, dueDate) -> {
+          final TimerInstance timer = get(elementInstanceKey, timerKey);
+          if (timer == null || timer.getDueDate() != dueDate) {
+            // the index is kept in sync with the state, but a stale timer must never be triggered
+            index.remove(elementInstanceKey, timerKey);
+            return true;
           }
 
-          if (!consumed) {
-            nextDueDate = dueDate.getValue();
+          final boolean consumed = consumer.visit(timer);
+          if (consumed) {
+            metrics.timerTriggered(dueDate, timestamp);
           }
           return consumed;
         });
 
-    return nextDueDate;
+    metrics.setIndexedTimers(index.size());
+    return index.nextDueDate();
+  }
+
+  private TimerWheel buildDueDateIndex(final long timestamp) {
+    final var index = new TimerWheel(DUE_DATE_INDEX_TICK, DUE_DATE_INDEX_RETRY_DELAY, timestamp);
+    dueDateColumnFamily.forEach(
+        (key, nil) -> {
+          final DbCompositeKey<DbLong, DbLong> elementAndTimerKey = key.getSecond();
+          index.add(
+              elementAndTimerKey.getFirst().getValue(),
+              elementAndTimerKey.getSecond().getValue(),
+              key.getFirst().getValue());
+        });
+    return index;
   }
 
   @Override
@@ -116,5 +157,14 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDateKey.wrapLong(timer.getDueDate());
     dueDateColumnFamily.delete(dueDateCompositeKey);
+
+    if (dueDateIndex != null) {
+      dueDateIndex.remove(timer.getElementInstanceKey(), timer.getKey());
+    }
+  }
+
+  @Override
+  public void onRollback() {
+    dueDateIndex = null;
   }
 }
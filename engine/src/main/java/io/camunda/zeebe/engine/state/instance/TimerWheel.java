@@ -0,0 +1,323 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * An in-memory hierarchical timer wheel, which indexes timers by their due date. Adding and
+ * removing a timer takes constant time, and advancing the wheel only touches the slots which
+ * became due in the meantime, independent of the number of timers which are due later.
+ *
+ * <p>Time is divided into ticks of a fixed length. Each level of the wheel has 64 slots; a slot on
+ * level {@code n} covers {@code 64^n} ticks. A timer is kept on the lowest level at which its tick
+ * is still in a later slot than the current tick, and moved down a level whenever the wheel
+ * advances into its slot, until it becomes due. Due timers are kept in a list in the order in
+ * which they became due, until they are triggered or removed.
+ *
+ * <p>A triggered timer is kept until it is removed, since its trigger can still fail. If it is not
+ * removed within the retry delay, it becomes due again with the next advance.
+ *
+ * <p>The wheel is not thread safe.
+ */
+final class TimerWheel {
+
+  private static final int SLOT_BITS = 6;
+  private static final int SLOTS = 1 << SLOT_BITS;
+  private static final int SLOT_MASK = SLOTS - 1;
+  private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+  private static final int DUE = -1;
+  private static final int TRIGGERED = -2;
+  private static final int REMOVED = -3;
+
+  private final long tickMillis;
+  private final long retryTicks;
+  private final Entry[][] slots = new Entry[LEVELS][SLOTS];
+  private final long[] occupiedSlots = new long[LEVELS];
+  // timer keys are unique, but timers are identified by their element instance key as well
+  private final Long2ObjectHashMap<Entry> entriesByTimerKey = new Long2ObjectHashMap<>();
+
+  private Entry firstDue;
+  private Entry lastDue;
+  private Entry firstTriggered;
+  private Entry lastTriggered;
+  private long currentTick;
+  private int size;
+
+  TimerWheel(final long tickMillis, final long retryDelayMillis, final long now) {
+    this.tickMillis = tickMillis;
+    retryTicks = Math.max(1, -Math.floorDiv(-retryDelayMillis, tickMillis));
+    currentTick = Math.floorDiv(now, tickMillis);
+  }
+
+  /**
+   * Adds the given timer to the wheel, or moves it if it was already added.
+   *
+   * @param elementInstanceKey the key of the element instance the timer belongs to
+   * @param timerKey the key of the timer
+   * @param dueDate the due date of the timer
+   */
+  void add(final long elementInstanceKey, final long timerKey, final long dueDate) {
+    remove(elementInstanceKey, timerKey);
+
+    final var entry = new Entry(elementInstanceKey, timerKey, dueDate);
+    // a timer must not become due before its due date, so its tick is rounded up
+    entry.tick = -Math.floorDiv(-dueDate, tickMillis);
+    entry.nextWithSameKey = entriesByTimerKey.put(timerKey, entry);
+    size++;
+
+    schedule(entry);
+  }
+
+  /**
+   * Removes the given timer from the wheel, if it was added before.
+   *
+   * @param elementInstanceKey the key of the element instance the timer belongs to
+   * @param timerKey the key of the timer
+   */
+  void remove(final long elementInstanceKey, final long timerKey) {
+    Entry previous = null;
+    Entry entry = entriesByTimerKey.get(timerKey);
+    while (entry != null && entry.elementInstanceKey != elementInstanceKey) {
+      previous = entry;
+      entry = entry.nextWithSameKey;
+    }
+
+    if (entry == null) {
+      return;
+    }
+
+    if (previous != null) {
+      previous.nextWithSameKey = entry.nextWithSameKey;
+    } else if (entry.nextWithSameKey != null) {
+      entriesByTimerKey.put(timerKey, entry.nextWithSameKey);
+    } else {
+      entriesByTimerKey.remove(timerKey);
+    }
+
+    unlink(entry);
+    entry.level = REMOVED;
+    size--;
+  }
+
+  /**
+   * Advances the wheel up to the given time, moving all timers which are due at that time to the
+   * list of due timers, as well as the triggered timers whose retry delay passed. The wheel never
+   * moves backwards.
+   *
+   * @param now the current time
+   */
+  void advance(final long now) {
+    final long targetTick = Math.floorDiv(now, tickMillis);
+
+    int level;
+    while ((level = nextEventLevel()) >= 0) {
+      final long eventTick = eventTick(level);
+      if (eventTick > targetTick) {
+        break;
+      }
+
+      currentTick = eventTick;
+      cascade(level, slotOf(eventTick, level));
+    }
+
+    currentTick = Math.max(currentTick, targetTick);
+
+    // the triggered timers are in the order of their retry tick
+    while (firstTriggered != null && firstTriggered.tick <= currentTick) {
+      final var entry = firstTriggered;
+      unlink(entry);
+      schedule(entry);
+    }
+  }
+
+  /**
+   * Visits the due timers in the order in which they became due. Every timer which the visitor
+   * accepts is marked as triggered, unless the visitor removed it; the iteration stops at the first
+   * timer it doesn't accept.
+   *
+   * @param visitor the visitor of the due timers
+   */
+  void forEachDue(final DueTimerVisitor visitor) {
+    while (firstDue != null) {
+      final var entry = firstDue;
+      if (!visitor.visit(entry.elementInstanceKey, entry.timerKey, entry.dueDate)) {
+        return;
+      }
+
+      if (entry.level == DUE) {
+        unlink(entry);
+        entry.tick = currentTick + retryTicks;
+        entry.level = TRIGGERED;
+        entry.previous = lastTriggered;
+        if (lastTriggered != null) {
+          lastTriggered.next = entry;
+        } else {
+          firstTriggered = entry;
+        }
+        lastTriggered = entry;
+      }
+    }
+  }
+
+  /**
+   * Returns the time at which the wheel should be advanced next. If a timer is due, this is its due
+   * date. Otherwise it is the due date of the next timer, or an earlier time at which the timers of
+   * an upper level have to be moved down. Triggered timers are not considered; they are only
+   * retried when the wheel is advanced for other timers.
+   *
+   * @return the time at which the wheel should be advanced next, or -1 if it is empty
+   */
+  long nextDueDate() {
+    if (firstDue != null) {
+      return firstDue.dueDate;
+    }
+
+    final int level = nextEventLevel();
+    if (level < 0) {
+      return -1L;
+    }
+
+    return eventTick(level) * tickMillis;
+  }
+
+  /** @return the number of timers in the wheel, including the due and the triggered ones */
+  int size() {
+    return size;
+  }
+
+  private void schedule(final Entry entry) {
+    if (entry.tick <= currentTick) {
+      entry.level = DUE;
+      entry.previous = lastDue;
+      entry.next = null;
+      if (lastDue != null) {
+        lastDue.next = entry;
+      } else {
+        firstDue = entry;
+      }
+      lastDue = entry;
+      return;
+    }
+
+    // the highest group of bits in which both ticks differ; the entry is in a later slot of it
+    final int highestDifferentBit =
+        Long.SIZE - 1 - Long.numberOfLeadingZeros(entry.tick ^ currentTick);
+    final int level = highestDifferentBit / SLOT_BITS;
+    final int slot = slotOf(entry.tick, level);
+
+    entry.level = level;
+    entry.slot = slot;
+    entry.previous = null;
+    entry.next = slots[level][slot];
+    if (entry.next != null) {
+      entry.next.previous = entry;
+    }
+    slots[level][slot] = entry;
+    occupiedSlots[level] |= 1L << slot;
+  }
+
+  private void unlink(final Entry entry) {
+    if (entry.previous != null) {
+      entry.previous.next = entry.next;
+    } else if (entry.level == DUE) {
+      firstDue = entry.next;
+    } else if (entry.level == TRIGGERED) {
+      firstTriggered = entry.next;
+    } else {
+      slots[entry.level][entry.slot] = entry.next;
+      if (entry.next == null) {
+        occupiedSlots[entry.level] &= ~(1L << entry.slot);
+      }
+    }
+
+    if (entry.next != null) {
+      entry.next.previous = entry.previous;
+    } else if (entry.level == DUE) {
+      lastDue = entry.previous;
+    } else if (entry.level == TRIGGERED) {
+      lastTriggered = entry.previous;
+    }
+
+    entry.previous = null;
+    entry.next = null;
+  }
+
+  private void cascade(final int level, final int slot) {
+    Entry entry = slots[level][slot];
+    slots[level][slot] = null;
+    occupiedSlots[level] &= ~(1L << slot);
+
+    while (entry != null) {
+      final var next = entry.next;
+      schedule(entry);
+      entry = next;
+    }
+  }
+
+  /**
+   * Returns the lowest level which has an occupied slot after the slot of the current tick. The
+   * ticks of such a slot are earlier than those of any later slot on a higher level, so it holds
+   * the next timers to move.
+   */
+  private int nextEventLevel() {
+    for (int level = 0; level < LEVELS; level++) {
+      final int currentSlot = slotOf(currentTick, level);
+      if (currentSlot == SLOT_MASK) {
+        continue;
+      }
+
+      if ((occupiedSlots[level] & (-1L << (currentSlot + 1))) != 0) {
+        return level;
+      }
+    }
+
+    return -1;
+  }
+
+  /** @return the first tick of the next occupied slot on the given level */
+  private long eventTick(final int level) {
+    final int shift = level * SLOT_BITS;
+    final int currentSlot = slotOf(currentTick, level);
+    final int slot =
+        Long.numberOfTrailingZeros(occupiedSlots[level] & (-1L << (currentSlot + 1)));
+
+    final int parentShift = shift + SLOT_BITS;
+    final long parentTicks =
+        parentShift >= Long.SIZE ? 0 : (currentTick >>> parentShift) << parentShift;
+    return parentTicks | ((long) slot << shift);
+  }
+
+  private static int slotOf(final long tick, final int level) {
+    return (int) ((tick >>> (level * SLOT_BITS)) & SLOT_MASK);
+  }
+
+  @FunctionalInterface
+  interface DueTimerVisitor {
+    boolean visit(long elementInstanceKey, long timerKey, long dueDate);
+  }
+
+  private static final class Entry {
+    private final long elementInstanceKey;
+    private final long timerKey;
+    private final long dueDate;
+
+    private long tick;
+    private int level;
+    private int slot;
+    private Entry previous;
+    private Entry next;
+    private Entry nextWithSameKey;
+
+    private Entry(final long elementInstanceKey, final long timerKey, final long dueDate) {
+      this.elementInstanceKey = elementInstanceKey;
+      this.timerKey = timerKey;
+      this.dueDate = dueDate;
+    }
+  }
+}
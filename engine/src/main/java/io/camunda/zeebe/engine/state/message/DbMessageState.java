@@ -301,15 +301,33 @@ public final class DbMessageState implements MutableMessageState {
   @Override
   public void visitMessagesWithDeadlineBefore(final long timestamp, final MessageVisitor visitor) {
     deadlineColumnFamily.whileTrue(
-        ((compositeKey, zbNil) -> {
-          final long deadline = compositeKey.getFirst().getValue();
-          if (deadline <= timestamp) {
-            final long messageKey = compositeKey.getSecond().getValue();
-            final StoredMessage message = getMessage(messageKey);
-            return visitor.visit(message);
-          }
-          return false;
-        }));
+        (compositeKey, zbNil) -> visitMessageWithDeadlineBefore(timestamp, compositeKey, visitor));
+  }
+
+  @Override
+  public void visitMessagesWithDeadlineBefore(
+      final long timestamp,
+      final long startAtDeadline,
+      final long startAtMessageKey,
+      final MessageVisitor visitor) {
+    deadline.wrapLong(startAtDeadline);
+    messageKey.wrapLong(startAtMessageKey);
+    deadlineColumnFamily.whileTrue(
+        deadlineMessageKey,
+        (compositeKey, zbNil) -> visitMessageWithDeadlineBefore(timestamp, compositeKey, visitor));
+  }
+
+  private boolean visitMessageWithDeadlineBefore(
+      final long timestamp,
+      final DbCompositeKey<DbLong, DbLong> compositeKey,
+      final MessageVisitor visitor) {
+    final long deadline = compositeKey.getFirst().getValue();
+    if (deadline <= timestamp) {
+      final long messageKey = compositeKey.getSecond().getValue();
+      final StoredMessage message = getMessage(messageKey);
+      return visitor.visit(message);
+    }
+    return false;
   }
 
   @Override
@@ -15,4 +15,10 @@ public interface MutableTimerInstanceState extends TimerInstanceState {
   void put(TimerInstance timer);
 
   void remove(TimerInstance timer);
+
+  /**
+   * Discards the in-memory due date index after the current transaction was rolled back. It is
+   * rebuilt from the state on the next lookup.
+   */
+  void onRollback();
 }
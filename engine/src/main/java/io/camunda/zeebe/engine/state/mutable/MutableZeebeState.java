@@ -60,4 +60,10 @@ public interface MutableZeebeState extends ZeebeState {
   KeyGenerator getKeyGenerator();
 
   MutableLastProcessedPositionState getLastProcessedPositionState();
+
+  /**
+   * Discards the in-memory indexes of the state after the current transaction was rolled back,
+   * since they may contain changes of the transaction. They are rebuilt on their next use.
+   */
+  void onRollback();
 }
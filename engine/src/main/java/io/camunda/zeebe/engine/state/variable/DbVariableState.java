@@ -293,6 +293,16 @@ public class DbVariableState implements MutableVariableState {
     return resultView;
   }
 
+  @Override
+  public void forEachVariableLocal(
+      final long scopeKey, final BiConsumer<DirectBuffer, DirectBuffer> consumer) {
+    visitVariablesLocal(
+        scopeKey,
+        name -> true,
+        (name, variable) -> consumer.accept(name.getBuffer(), variable.getValue()),
+        () -> false);
+  }
+
   @Override
   public DirectBuffer getTemporaryVariables(final long scopeKey) {
     this.scopeKey.wrapLong(scopeKey);
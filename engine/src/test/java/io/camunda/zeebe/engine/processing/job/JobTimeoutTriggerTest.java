@@ -8,7 +8,13 @@
 package io.camunda.zeebe.engine.processing.job;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -19,6 +25,9 @@ import io.camunda.zeebe.engine.util.ZeebeStateRule;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.util.sched.ActorControl;
+import io.camunda.zeebe.util.sched.ScheduledTimer;
+import io.camunda.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -31,16 +40,19 @@ public final class JobTimeoutTriggerTest {
   @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
 
   @Mock private ActorControl someActor;
+  @Mock private ScheduledTimer scheduledTimer;
 
   @Mock private TypedStreamWriter typedStreamWriter;
+  private MutableJobState jobState;
   private JobTimeoutTrigger jobTimeoutTrigger;
 
   @Before
   public void setUp() {
     initMocks(this);
+    when(someActor.runDelayed(any(), any())).thenReturn(scheduledTimer);
 
-    final MutableJobState jobState = stateRule.getZeebeState().getJobState();
-    jobTimeoutTrigger = new JobTimeoutTrigger(jobState);
+    jobState = stateRule.getZeebeState().getJobState();
+    jobTimeoutTrigger = new JobTimeoutTrigger(jobState, 4 * 1024 * 1024);
 
     final ProcessingContext processingContext =
         new ProcessingContext().actor(someActor).logStreamWriter(typedStreamWriter);
@@ -50,6 +62,7 @@ public final class JobTimeoutTriggerTest {
     jobState.activate(0, newJobRecord());
     jobState.activate(1, newJobRecord());
     jobState.activate(2, newJobRecord());
+    clearInvocations(someActor, scheduledTimer, typedStreamWriter);
   }
 
   private JobRecord newJobRecord() {
@@ -63,9 +76,9 @@ public final class JobTimeoutTriggerTest {
   }
 
   @Test
-  public void shouldNotWriteAgainAfterFlushFailed() {
+  public void shouldWriteTimedOutJobsInOneBatch() {
     // given
-    when(typedStreamWriter.flush()).thenReturn(1L, -1L);
+    when(typedStreamWriter.flush()).thenReturn(1L);
 
     // when
     jobTimeoutTrigger.deactivateTimedOutJobs();
@@ -77,12 +90,106 @@ public final class JobTimeoutTriggerTest {
     inOrder
         .verify(typedStreamWriter)
         .appendFollowUpCommand(eq(0L), eq(JobIntent.TIME_OUT), any(JobRecord.class));
-    inOrder.verify(typedStreamWriter).flush();
-    inOrder.verify(typedStreamWriter).reset();
     inOrder
         .verify(typedStreamWriter)
         .appendFollowUpCommand(eq(1L), eq(JobIntent.TIME_OUT), any(JobRecord.class));
+    inOrder
+        .verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(2L), eq(JobIntent.TIME_OUT), any(JobRecord.class));
     inOrder.verify(typedStreamWriter).flush();
     inOrder.verifyNoMoreInteractions();
   }
+
+  @Test
+  public void shouldSplitTimedOutJobsIntoBatches() {
+    // given
+    for (long key = 3; key < 150; key++) {
+      jobState.activate(key, newJobRecord());
+    }
+    when(typedStreamWriter.flush()).thenReturn(1L);
+
+    // when
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // then
+    verify(typedStreamWriter, times(150))
+        .appendFollowUpCommand(anyLong(), eq(JobIntent.TIME_OUT), any(JobRecord.class));
+    verify(typedStreamWriter, times(2)).flush();
+  }
+
+  @Test
+  public void shouldRetrySoonAfterFlushFailed() {
+    // given
+    when(typedStreamWriter.flush()).thenReturn(-1L);
+
+    // when
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // then
+    verify(someActor)
+        .runDelayed(argThat(delay -> delay.compareTo(Duration.ofMillis(100)) <= 0), any());
+  }
+
+  @Test
+  public void shouldWriteAgainAfterFlushFailed() {
+    // given
+    when(typedStreamWriter.flush()).thenReturn(-1L, 1L);
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // when
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // then
+    verify(typedStreamWriter, times(2))
+        .appendFollowUpCommand(eq(0L), eq(JobIntent.TIME_OUT), any(JobRecord.class));
+  }
+
+  @Test
+  public void shouldNotWriteAgainForJobsWhichAreNotTimedOutYet() {
+    // given
+    when(typedStreamWriter.flush()).thenReturn(1L);
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+    clearInvocations(typedStreamWriter);
+
+    // when
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // then
+    verify(typedStreamWriter, never())
+        .appendFollowUpCommand(anyLong(), eq(JobIntent.TIME_OUT), any(JobRecord.class));
+  }
+
+  @Test
+  public void shouldScheduleNextCheckAtNextDeadline() {
+    // given
+    final long deadline = ActorClock.currentTimeMillis() + Duration.ofSeconds(10).toMillis();
+    jobState.activate(3, newJobRecord().setDeadline(deadline));
+    when(typedStreamWriter.flush()).thenReturn(1L);
+
+    // when
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // then
+    verify(someActor)
+        .runDelayed(
+            argThat(delay -> delay.compareTo(Duration.ofSeconds(10).plusMillis(1)) <= 0), any());
+  }
+
+  @Test
+  public void shouldScheduleCheckForEarlierDeadline() {
+    // given
+    when(typedStreamWriter.flush()).thenReturn(1L);
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+    verify(someActor).runDelayed(eq(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL), any());
+
+    // when
+    jobTimeoutTrigger.scheduleTimeOut(
+        ActorClock.currentTimeMillis() + Duration.ofSeconds(1).toMillis());
+
+    // then
+    verify(scheduledTimer).cancel();
+    verify(someActor)
+        .runDelayed(
+            argThat(delay -> delay.compareTo(Duration.ofSeconds(1).plusMillis(1)) <= 0), any());
+  }
 }
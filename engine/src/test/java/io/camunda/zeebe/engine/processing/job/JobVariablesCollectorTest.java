@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.test.util.MsgPackUtil.assertEquality;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.engine.util.ZeebeStateRule;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.DirectBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class JobVariablesCollectorTest {
+
+  @Rule public final ZeebeStateRule zeebeStateRule = new ZeebeStateRule();
+
+  private final AtomicLong keyGenerator = new AtomicLong();
+  private MutableVariableState variableState;
+  private JobVariablesCollector collector;
+
+  @Before
+  public void setUp() {
+    variableState = spy(zeebeStateRule.getZeebeState().getVariableState());
+    collector = new JobVariablesCollector(variableState);
+  }
+
+  @Test
+  public void shouldCollectVariablesFromMultipleScopes() {
+    // given
+    variableState.createScope(2, 1);
+    variableState.createScope(3, 2);
+
+    setVariableLocal(1, "a", "1");
+    setVariableLocal(1, "b", "2");
+    setVariableLocal(2, "b", "3");
+    setVariableLocal(3, "c", "4");
+
+    collector.reset(Collections.emptyList());
+
+    // when
+    final DirectBuffer variables = collector.collectVariables(3);
+
+    // then
+    assertEquality(variables, "{'a': 1, 'b': 3, 'c': 4}");
+  }
+
+  @Test
+  public void shouldCollectVariablesByName() {
+    // given
+    variableState.createScope(2, 1);
+
+    setVariableLocal(1, "a", "1");
+    setVariableLocal(1, "b", "2");
+    setVariableLocal(2, "c", "3");
+
+    collector.reset(List.of(wrapString("a"), wrapString("c"), wrapString("d")));
+
+    // when
+    final DirectBuffer variables = collector.collectVariables(2);
+
+    // then
+    assertEquality(variables, "{'a': 1, 'c': 3}");
+  }
+
+  @Test
+  public void shouldReadSharedScopeOnlyOnce() {
+    // given
+    variableState.createScope(2, 1);
+    variableState.createScope(3, 1);
+
+    setVariableLocal(1, "a", "1");
+    setVariableLocal(2, "b", "2");
+    setVariableLocal(3, "b", "3");
+
+    collector.reset(Collections.emptyList());
+
+    // when
+    assertEquality(collector.collectVariables(2), "{'a': 1, 'b': 2}");
+    assertEquality(collector.collectVariables(3), "{'a': 1, 'b': 3}");
+
+    // then
+    verify(variableState, times(1)).forEachVariableLocal(eq(1L), any());
+  }
+
+  @Test
+  public void shouldNotUseCachedVariablesAfterReset() {
+    // given
+    variableState.createScope(2, 1);
+    setVariableLocal(1, "a", "1");
+
+    collector.reset(Collections.emptyList());
+    assertEquality(collector.collectVariables(2), "{'a': 1}");
+
+    // when
+    setVariableLocal(1, "a", "2");
+    collector.reset(Collections.emptyList());
+
+    // then
+    assertEquality(collector.collectVariables(2), "{'a': 2}");
+  }
+
+  private void setVariableLocal(final long scopeKey, final String name, final String value) {
+    variableState.setVariableLocal(
+        keyGenerator.incrementAndGet(), scopeKey, 123, wrapString(name), asMsgPack(value));
+  }
+}
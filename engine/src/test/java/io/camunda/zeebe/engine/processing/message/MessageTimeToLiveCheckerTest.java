@@ -0,0 +1,163 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import io.camunda.zeebe.engine.metrics.MessageTimeToLiveMetrics;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
+import io.camunda.zeebe.engine.util.ZeebeStateRule;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.util.sched.ActorControl;
+import io.camunda.zeebe.util.sched.clock.ActorClock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+public final class MessageTimeToLiveCheckerTest {
+
+  @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
+
+  @Mock private ActorControl actor;
+  @Mock private TypedStreamWriter typedStreamWriter;
+
+  private MutableMessageState messageState;
+  private MessageTimeToLiveChecker timeToLiveChecker;
+
+  @Before
+  public void setUp() {
+    initMocks(this);
+
+    messageState = stateRule.getZeebeState().getMessageState();
+    timeToLiveChecker =
+        new MessageTimeToLiveChecker(
+            actor,
+            typedStreamWriter,
+            messageState,
+            4 * 1024 * 1024,
+            new MessageTimeToLiveMetrics(stateRule.getZeebeState().getPartitionId()));
+
+    messageState.put(1L, newMessageRecord(100L));
+    messageState.put(2L, newMessageRecord(200L));
+    messageState.put(3L, newMessageRecord(300L));
+  }
+
+  private MessageRecord newMessageRecord(final long deadline) {
+    return new MessageRecord()
+        .setName("message")
+        .setCorrelationKey("key")
+        .setTimeToLive(100L)
+        .setDeadline(deadline);
+  }
+
+  @Test
+  public void shouldWriteExpiredMessagesInOneBatch() {
+    // given
+    messageState.put(4L, newMessageRecord(ActorClock.currentTimeMillis() + 10_000L));
+    when(typedStreamWriter.flush()).thenReturn(1L);
+
+    // when
+    timeToLiveChecker.run();
+
+    // then
+    final InOrder inOrder = Mockito.inOrder(typedStreamWriter);
+
+    inOrder.verify(typedStreamWriter).reset();
+    inOrder
+        .verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(1L), eq(MessageIntent.EXPIRE), any(MessageRecord.class));
+    inOrder
+        .verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(2L), eq(MessageIntent.EXPIRE), any(MessageRecord.class));
+    inOrder
+        .verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(3L), eq(MessageIntent.EXPIRE), any(MessageRecord.class));
+    inOrder.verify(typedStreamWriter).flush();
+    inOrder.verifyNoMoreInteractions();
+    verify(actor, never()).submit(any());
+  }
+
+  @Test
+  public void shouldContinueWithNextBatchAfterYielding() {
+    // given
+    for (long key = 4; key <= 150; key++) {
+      messageState.put(key, newMessageRecord(300L + key));
+    }
+    when(typedStreamWriter.flush()).thenReturn(1L);
+
+    // when
+    timeToLiveChecker.run();
+
+    // then
+    verify(typedStreamWriter, times(100))
+        .appendFollowUpCommand(anyLong(), eq(MessageIntent.EXPIRE), any(MessageRecord.class));
+    verify(typedStreamWriter).flush();
+
+    // when
+    final ArgumentCaptor<Runnable> nextBatch = ArgumentCaptor.forClass(Runnable.class);
+    verify(actor).submit(nextBatch.capture());
+    clearInvocations(typedStreamWriter);
+    nextBatch.getValue().run();
+
+    // then
+    verify(typedStreamWriter, times(50))
+        .appendFollowUpCommand(anyLong(), eq(MessageIntent.EXPIRE), any(MessageRecord.class));
+    verify(typedStreamWriter, never())
+        .appendFollowUpCommand(eq(100L), eq(MessageIntent.EXPIRE), any(MessageRecord.class));
+    verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(101L), eq(MessageIntent.EXPIRE), any(MessageRecord.class));
+    verify(typedStreamWriter).flush();
+  }
+
+  @Test
+  public void shouldNotStartNewCheckWhileRunning() {
+    // given
+    for (long key = 4; key <= 150; key++) {
+      messageState.put(key, newMessageRecord(300L + key));
+    }
+    when(typedStreamWriter.flush()).thenReturn(1L);
+    timeToLiveChecker.run();
+    clearInvocations(typedStreamWriter);
+
+    // when
+    timeToLiveChecker.run();
+
+    // then
+    verify(typedStreamWriter, never())
+        .appendFollowUpCommand(anyLong(), eq(MessageIntent.EXPIRE), any(MessageRecord.class));
+  }
+
+  @Test
+  public void shouldWriteAgainInNextCheckAfterFlushFailed() {
+    // given
+    when(typedStreamWriter.flush()).thenReturn(-1L, 1L);
+    timeToLiveChecker.run();
+
+    // when
+    timeToLiveChecker.run();
+
+    // then
+    verify(typedStreamWriter, times(2))
+        .appendFollowUpCommand(eq(1L), eq(MessageIntent.EXPIRE), any(MessageRecord.class));
+    verify(actor, never()).submit(any());
+  }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.streamprocessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import io.camunda.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
+import io.camunda.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectQueue;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.camunda.zeebe.engine.util.Records;
+import io.camunda.zeebe.engine.util.StreamProcessorRule;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.awaitility.Awaitility;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class StreamProcessorBatchProcessingTest {
+
+  private static final ProcessInstanceRecord PROCESS_INSTANCE_RECORD = Records.processInstance(1);
+
+  @Rule public final StreamProcessorRule streamProcessorRule = new StreamProcessorRule();
+
+  @Test
+  public void shouldWriteFollowUpEventsOfBatchInOneBatch() {
+    // given
+    streamProcessorRule.withMaxCommandsInBatch(3);
+    final long firstPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+    final long secondPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+    final long lastPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+
+    // when
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, state) ->
+            processors.onCommand(
+                ValueType.PROCESS_INSTANCE,
+                ProcessInstanceIntent.ACTIVATE_ELEMENT,
+                new ActivatingProcessor(-1)));
+
+    // then
+    final List<Record<ProcessInstanceRecord>> activatingEvents = awaitActivatingEvents(3);
+    assertThat(activatingEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(firstPosition, secondPosition, lastPosition);
+    assertThat(activatingEvents.get(0).getPosition()).isGreaterThan(lastPosition);
+    Awaitility.await()
+        .untilAsserted(
+            () ->
+                assertThat(streamProcessorRule.getLastSuccessfulProcessedRecordPosition())
+                    .isEqualTo(lastPosition));
+  }
+
+  @Test
+  public void shouldFallBackToSingleCommandProcessingOnFailure() {
+    // given
+    streamProcessorRule.withMaxCommandsInBatch(3);
+    final long firstPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+    final long failingPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+    final long lastPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+
+    // when
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, state) ->
+            processors.onCommand(
+                ValueType.PROCESS_INSTANCE,
+                ProcessInstanceIntent.ACTIVATE_ELEMENT,
+                new ActivatingProcessor(failingPosition)));
+
+    // then
+    final List<Record<ProcessInstanceRecord>> activatingEvents = awaitActivatingEvents(2);
+    assertThat(activatingEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(firstPosition, lastPosition);
+
+    final var rejection =
+        streamProcessorRule.events().onlyProcessInstanceRecords().onlyRejections().getFirst();
+    assertThat(rejection.getSourceRecordPosition()).isEqualTo(failingPosition);
+  }
+
+  @Test
+  public void shouldNotifyListenerOnceForEachCommandAfterFallBack() {
+    // given
+    streamProcessorRule.withMaxCommandsInBatch(3);
+    final List<Long> processedPositions = new CopyOnWriteArrayList<>();
+    // the listener gets a reused record instance, so only its position is kept
+    doAnswer(
+            invocation ->
+                processedPositions.add(invocation.<TypedRecord<?>>getArgument(0).getPosition()))
+        .when(streamProcessorRule.getMockStreamProcessorListener())
+        .onProcessed(any());
+
+    final long firstPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+    final long failingPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+    final long lastPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+
+    // when
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, state) ->
+            processors.onCommand(
+                ValueType.PROCESS_INSTANCE,
+                ProcessInstanceIntent.ACTIVATE_ELEMENT,
+                new ActivatingProcessor(failingPosition)));
+
+    // then
+    Awaitility.await().until(() -> processedPositions.size() >= 3);
+    assertThat(processedPositions).containsExactly(firstPosition, failingPosition, lastPosition);
+  }
+
+  @Test
+  public void shouldBatchCommandsWithEmptySideEffectQueue() {
+    // given
+    streamProcessorRule.withMaxCommandsInBatch(3);
+    final List<String> steps = recordProcessedSteps();
+    final long firstPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+    final long secondPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+    final long lastPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+
+    // when
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, state) ->
+            processors.onCommand(
+                ValueType.PROCESS_INSTANCE,
+                ProcessInstanceIntent.ACTIVATE_ELEMENT,
+                new SideEffectProcessor(steps, -1)));
+
+    // then
+    Awaitility.await().until(() -> steps.size() >= 6);
+    assertThat(steps)
+        .containsExactly(
+            "process " + firstPosition,
+            "process " + secondPosition,
+            "process " + lastPosition,
+            "processed " + firstPosition,
+            "processed " + secondPosition,
+            "processed " + lastPosition);
+  }
+
+  @Test
+  public void shouldCloseBatchOnCommandWithSideEffect() {
+    // given
+    streamProcessorRule.withMaxCommandsInBatch(3);
+    final List<String> steps = recordProcessedSteps();
+    final long firstPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+    final long sideEffectPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+    final long lastPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+
+    // when
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, state) ->
+            processors.onCommand(
+                ValueType.PROCESS_INSTANCE,
+                ProcessInstanceIntent.ACTIVATE_ELEMENT,
+                new SideEffectProcessor(steps, sideEffectPosition)));
+
+    // then
+    Awaitility.await().until(() -> steps.size() >= 7);
+    assertThat(steps)
+        .containsExactly(
+            "process " + firstPosition,
+            "process " + sideEffectPosition,
+            "side effect " + sideEffectPosition,
+            "processed " + firstPosition,
+            "processed " + sideEffectPosition,
+            "process " + lastPosition,
+            "processed " + lastPosition);
+  }
+
+  @Test
+  public void shouldCloseBatchBeforeExceedingMaxFragmentSize() {
+    // given
+    streamProcessorRule.withMaxCommandsInBatch(3);
+    final AtomicInteger processingCount = new AtomicInteger();
+    streamProcessorRule.writeCommand(
+        ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+    streamProcessorRule.writeCommand(
+        ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+    final long lastPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+
+    // when
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, context) ->
+            processors.onCommand(
+                ValueType.PROCESS_INSTANCE,
+                ProcessInstanceIntent.ACTIVATE_ELEMENT,
+                new LargeFollowUpProcessor(context, processingCount)));
+
+    // then
+    awaitActivatingEvents(3);
+    Awaitility.await()
+        .untilAsserted(
+            () ->
+                assertThat(streamProcessorRule.getLastSuccessfulProcessedRecordPosition())
+                    .isEqualTo(lastPosition));
+    // the batch was not rolled back and processed again
+    assertThat(processingCount).hasValue(3);
+  }
+
+  private List<String> recordProcessedSteps() {
+    final List<String> steps = new CopyOnWriteArrayList<>();
+    doAnswer(
+            invocation ->
+                steps.add(
+                    "processed " + invocation.<TypedRecord<?>>getArgument(0).getPosition()))
+        .when(streamProcessorRule.getMockStreamProcessorListener())
+        .onProcessed(any());
+    return steps;
+  }
+
+  private List<Record<ProcessInstanceRecord>> awaitActivatingEvents(final int count) {
+    return Awaitility.await()
+        .until(
+            () ->
+                streamProcessorRule
+                    .events()
+                    .onlyProcessInstanceRecords()
+                    .withIntent(ProcessInstanceIntent.ELEMENT_ACTIVATING)
+                    .collect(Collectors.toList()),
+            events -> events.size() == count);
+  }
+
+  private static final class SideEffectProcessor
+      implements TypedRecordProcessor<UnifiedRecordValue> {
+
+    private final SideEffectQueue sideEffectQueue = new SideEffectQueue();
+    private final List<String> steps;
+    private final long sideEffectPosition;
+
+    private SideEffectProcessor(final List<String> steps, final long sideEffectPosition) {
+      this.steps = steps;
+      this.sideEffectPosition = sideEffectPosition;
+    }
+
+    @Override
+    public void processRecord(
+        final long position,
+        final TypedRecord<UnifiedRecordValue> record,
+        final TypedResponseWriter responseWriter,
+        final TypedStreamWriter streamWriter,
+        final Consumer<SideEffectProducer> sideEffect) {
+      steps.add("process " + position);
+
+      sideEffectQueue.clear();
+      if (position == sideEffectPosition) {
+        sideEffectQueue.add(
+            () -> {
+              steps.add("side effect " + position);
+              return true;
+            });
+      }
+      sideEffect.accept(sideEffectQueue);
+    }
+  }
+
+  private static final class LargeFollowUpProcessor
+      implements TypedRecordProcessor<UnifiedRecordValue> {
+
+    private final ReadonlyProcessingContext context;
+    private final AtomicInteger processingCount;
+
+    private LargeFollowUpProcessor(
+        final ReadonlyProcessingContext context, final AtomicInteger processingCount) {
+      this.context = context;
+      this.processingCount = processingCount;
+    }
+
+    @Override
+    public void processRecord(
+        final TypedRecord<UnifiedRecordValue> record,
+        final TypedResponseWriter responseWriter,
+        final TypedStreamWriter streamWriter) {
+      processingCount.incrementAndGet();
+
+      // the follow-up events of three commands don't fit into one batch
+      final var largeValue =
+          Records.processInstance(1, "x".repeat(context.getMaxFragmentSize() * 2 / 5));
+      streamWriter.appendFollowUpEvent(
+          record.getKey(), ProcessInstanceIntent.ELEMENT_ACTIVATING, largeValue);
+    }
+  }
+
+  private static final class ActivatingProcessor
+      implements TypedRecordProcessor<UnifiedRecordValue> {
+
+    private final long failingPosition;
+
+    private ActivatingProcessor(final long failingPosition) {
+      this.failingPosition = failingPosition;
+    }
+
+    @Override
+    public void processRecord(
+        final long position,
+        final TypedRecord<UnifiedRecordValue> record,
+        final TypedResponseWriter responseWriter,
+        final TypedStreamWriter streamWriter,
+        final Consumer<SideEffectProducer> sideEffect) {
+      if (position == failingPosition) {
+        throw new IllegalStateException("expected failure");
+      }
+
+      streamWriter.appendFollowUpEvent(
+          record.getKey(), ProcessInstanceIntent.ELEMENT_ACTIVATING, record.getValue());
+    }
+  }
+}
@@ -211,6 +211,16 @@ public class StreamProcessorHealthTest {
     @Override
     public void configureSourceContext(final long sourceRecordPosition) {}
 
+    @Override
+    public int getBatchLength() {
+      return 0;
+    }
+
+    @Override
+    public boolean canWriteAdditionalEvent(final int length) {
+      return true;
+    }
+
     @Override
     public void appendFollowUpEvent(final long key, final Intent intent, final RecordValue value) {
       if (shouldFailErrorHandlingInTransaction.get()) {
@@ -408,6 +408,45 @@ public final class JobStateTest {
     assertThat(timedOutKeys).containsExactly(1L, 2L, 3L);
   }
 
+  @Test
+  public void shouldReturnNextDeadline() {
+    // given
+    createAndActivateJobRecord(1, newJobRecord().setDeadline(1L));
+    createAndActivateJobRecord(2, newJobRecord().setDeadline(256L));
+    createAndActivateJobRecord(3, newJobRecord().setDeadline(512L));
+
+    // when
+    final long nextDeadline = jobState.forEachTimedOutEntry(256L, (k, e) -> true);
+
+    // then
+    assertThat(nextDeadline).isEqualTo(256L);
+  }
+
+  @Test
+  public void shouldReturnDeadlineOfJobWhichWasNotConsumed() {
+    // given
+    createAndActivateJobRecord(1, newJobRecord().setDeadline(1L));
+    createAndActivateJobRecord(2, newJobRecord().setDeadline(2L));
+
+    // when
+    final long nextDeadline = jobState.forEachTimedOutEntry(256L, (k, e) -> false);
+
+    // then
+    assertThat(nextDeadline).isEqualTo(1L);
+  }
+
+  @Test
+  public void shouldReturnNegativeDeadlineIfNoMoreJobs() {
+    // given
+    createAndActivateJobRecord(1, newJobRecord().setDeadline(1L));
+
+    // when
+    final long nextDeadline = jobState.forEachTimedOutEntry(256L, (k, e) -> true);
+
+    // then
+    assertThat(nextDeadline).isEqualTo(-1L);
+  }
+
   @Test
   public void shouldCleanUpOnForEachTimedOutAndVisitNext() {
     // given
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.engine.util.ZeebeStateRule;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import org.assertj.core.api.Assertions;
@@ -220,6 +221,186 @@ public final class TimerInstanceStateTest {
     assertThat(nextDueDate).isEqualTo(timer1.getDueDate());
   }
 
+  @Test
+  public void shouldFindTimersAddedAfterFirstLookup() {
+    // given
+    state.findTimersWithDueDateBefore(1000L, t -> true);
+
+    final TimerInstance timer1 = new TimerInstance();
+    timer1.setElementInstanceKey(1L);
+    timer1.setKey(1L);
+    timer1.setDueDate(3000L);
+    state.put(timer1);
+
+    final TimerInstance timer2 = new TimerInstance();
+    timer2.setElementInstanceKey(2L);
+    timer2.setKey(2L);
+    timer2.setDueDate(2000L);
+    state.put(timer2);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.findTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).containsExactly(2L);
+    assertThat(nextDueDate).isEqualTo(3000L);
+  }
+
+  @Test
+  public void shouldNotFindTimersRemovedAfterFirstLookup() {
+    // given
+    final TimerInstance timer1 = new TimerInstance();
+    timer1.setElementInstanceKey(1L);
+    timer1.setKey(1L);
+    timer1.setDueDate(1000L);
+    state.put(timer1);
+
+    final TimerInstance timer2 = new TimerInstance();
+    timer2.setElementInstanceKey(2L);
+    timer2.setKey(2L);
+    timer2.setDueDate(2000L);
+    state.put(timer2);
+
+    state.findTimersWithDueDateBefore(500L, t -> true);
+
+    // when
+    state.remove(timer1);
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.findTimersWithDueDateBefore(3000L, t -> keys.add(t.getElementInstanceKey()));
+    assertThat(keys).containsExactly(2L);
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldRemoveTimerFromIndexBeforeItIsDue() {
+    // given
+    final TimerInstance timer = new TimerInstance();
+    timer.setElementInstanceKey(1L);
+    timer.setKey(1L);
+    timer.setDueDate(Duration.ofHours(1).toMillis());
+    state.put(timer);
+    state.findTimersWithDueDateBefore(500L, t -> true);
+
+    // when
+    state.remove(timer);
+
+    // then
+    final long nextDueDate = state.findTimersWithDueDateBefore(1000L, t -> true);
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldFindTimerAgainAfterItsRemovalWasRolledBack() throws Exception {
+    // given
+    final TimerInstance timer = new TimerInstance();
+    timer.setElementInstanceKey(1L);
+    timer.setKey(1L);
+    timer.setDueDate(1000L);
+    state.put(timer);
+    state.findTimersWithDueDateBefore(500L, t -> true);
+
+    // when
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> state.remove(timer));
+    transaction.rollback();
+    stateRule.getZeebeState().onRollback();
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    state.findTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldNotFindTimerAfterItsCreationWasRolledBack() throws Exception {
+    // given
+    state.findTimersWithDueDateBefore(500L, t -> true);
+
+    final TimerInstance timer = new TimerInstance();
+    timer.setElementInstanceKey(1L);
+    timer.setKey(1L);
+    timer.setDueDate(1000L);
+
+    // when
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> state.put(timer));
+    transaction.rollback();
+    stateRule.getZeebeState().onRollback();
+
+    // then
+    final long nextDueDate = state.findTimersWithDueDateBefore(500L, t -> true);
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldFindTimerAgainIfNotConsumed() {
+    // given
+    final TimerInstance timer = new TimerInstance();
+    timer.setElementInstanceKey(1L);
+    timer.setKey(1L);
+    timer.setDueDate(1000L);
+    state.put(timer);
+    state.findTimersWithDueDateBefore(2000L, t -> false);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    state.findTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldFindTimerAgainIfTriggerWasRejected() {
+    // given
+    final TimerInstance timer = new TimerInstance();
+    timer.setElementInstanceKey(1L);
+    timer.setKey(1L);
+    timer.setDueDate(1000L);
+    state.put(timer);
+    state.findTimersWithDueDateBefore(2000L, t -> true);
+
+    // when - the trigger is rejected, so the timer is not removed
+    final List<Long> keysBeforeRetry = new ArrayList<>();
+    state.findTimersWithDueDateBefore(3000L, t -> keysBeforeRetry.add(t.getElementInstanceKey()));
+
+    final List<Long> keysAfterRetry = new ArrayList<>();
+    state.findTimersWithDueDateBefore(
+        2000L + Duration.ofSeconds(10).toMillis(),
+        t -> keysAfterRetry.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keysBeforeRetry).isEmpty();
+    assertThat(keysAfterRetry).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldNotFindTriggeredTimerAfterItWasRemoved() {
+    // given
+    final TimerInstance timer = new TimerInstance();
+    timer.setElementInstanceKey(1L);
+    timer.setKey(1L);
+    timer.setDueDate(1000L);
+    state.put(timer);
+    state.findTimersWithDueDateBefore(2000L, t -> true);
+
+    // when
+    state.remove(timer);
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.findTimersWithDueDateBefore(
+            Duration.ofHours(1).toMillis(), t -> keys.add(t.getElementInstanceKey()));
+    assertThat(keys).isEmpty();
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
   @Test
   public void shouldListAllTimersByElementInstanceKey() {
     // given
@@ -0,0 +1,254 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class TimerWheelTest {
+
+  private static final long TICK = 100L;
+  private static final long RETRY_DELAY = 1_000L;
+
+  private final TimerWheel wheel = new TimerWheel(TICK, RETRY_DELAY, 0L);
+
+  @Test
+  public void shouldNotFindTimerBeforeDueDate() {
+    // given
+    wheel.add(1L, 1L, 1_050L);
+
+    // when
+    wheel.advance(1_000L);
+
+    // then
+    assertThat(dueTimers()).isEmpty();
+    assertThat(wheel.nextDueDate()).isEqualTo(1_100L);
+  }
+
+  @Test
+  public void shouldFindTimersInOrderOfDueDate() {
+    // given
+    wheel.add(1L, 3L, Duration.ofDays(3).toMillis());
+    wheel.add(1L, 1L, 500L);
+    wheel.add(1L, 2L, Duration.ofMinutes(5).toMillis());
+
+    // when
+    wheel.advance(Duration.ofDays(4).toMillis());
+
+    // then
+    assertThat(dueTimers()).containsExactly(1L, 2L, 3L);
+    assertThat(wheel.nextDueDate()).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldFindTimersDueAcrossLevels() {
+    // given
+    final List<Long> dueDates = new ArrayList<>();
+    for (long timerKey = 0; timerKey < 1_000; timerKey++) {
+      final long dueDate = timerKey * timerKey * 997L;
+      dueDates.add(dueDate);
+      wheel.add(1L, timerKey, dueDate);
+    }
+
+    // when
+    final List<Long> found = new ArrayList<>();
+    long now = 0;
+    while (wheel.size() > 0) {
+      now = Math.max(now, wheel.nextDueDate());
+      wheel.advance(now);
+
+      final long triggeredAt = now;
+      wheel.forEachDue(
+          (elementInstanceKey, timerKey, dueDate) -> {
+            assertThat(dueDate).isLessThanOrEqualTo(triggeredAt);
+            found.add(dueDate);
+            wheel.remove(elementInstanceKey, timerKey);
+            return true;
+          });
+    }
+
+    // then
+    assertThat(found).containsExactlyElementsOf(dueDates);
+  }
+
+  @Test
+  public void shouldNotFindRemovedTimer() {
+    // given
+    wheel.add(1L, 1L, 500L);
+    wheel.add(2L, 2L, Duration.ofHours(1).toMillis());
+    wheel.add(3L, 3L, Duration.ofHours(2).toMillis());
+
+    // when
+    wheel.remove(2L, 2L);
+    wheel.advance(Duration.ofHours(2).toMillis());
+
+    // then
+    assertThat(dueTimers()).containsExactly(1L, 3L);
+  }
+
+  @Test
+  public void shouldRemoveDueTimer() {
+    // given
+    wheel.add(1L, 1L, 500L);
+    wheel.add(2L, 2L, 600L);
+    wheel.advance(1_000L);
+
+    // when
+    wheel.remove(1L, 1L);
+
+    // then
+    assertThat(dueTimers()).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldMoveTimerWhenAddedAgain() {
+    // given
+    wheel.add(1L, 1L, 500L);
+
+    // when
+    wheel.add(1L, 1L, Duration.ofHours(1).toMillis());
+    wheel.advance(1_000L);
+
+    // then
+    assertThat(dueTimers()).isEmpty();
+    assertThat(wheel.size()).isOne();
+  }
+
+  @Test
+  public void shouldDistinguishTimersByElementInstance() {
+    // given
+    wheel.add(1L, 1L, 500L);
+    wheel.add(2L, 1L, 600L);
+
+    // when
+    wheel.remove(1L, 1L);
+    wheel.advance(1_000L);
+
+    // then
+    final List<Long> elementInstanceKeys = new ArrayList<>();
+    wheel.forEachDue(
+        (elementInstanceKey, timerKey, dueDate) -> elementInstanceKeys.add(elementInstanceKey));
+    assertThat(elementInstanceKeys).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldKeepTimerWhichIsNotConsumed() {
+    // given
+    wheel.add(1L, 1L, 500L);
+    wheel.add(2L, 2L, 600L);
+    wheel.advance(1_000L);
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    wheel.forEachDue(
+        (elementInstanceKey, timerKey, dueDate) -> {
+          visited.add(timerKey);
+          return false;
+        });
+
+    // then
+    assertThat(visited).containsExactly(1L);
+    assertThat(wheel.nextDueDate()).isEqualTo(500L);
+    assertThat(dueTimers()).containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldFindTriggeredTimerAgainAfterRetryDelay() {
+    // given
+    wheel.add(1L, 1L, 500L);
+    wheel.advance(1_000L);
+    assertThat(dueTimers()).containsExactly(1L);
+
+    // when
+    wheel.advance(1_900L);
+    final List<Long> beforeRetryDelay = dueTimers();
+    wheel.advance(2_000L);
+
+    // then
+    assertThat(beforeRetryDelay).isEmpty();
+    assertThat(dueTimers()).containsExactly(1L);
+    assertThat(wheel.size()).isOne();
+  }
+
+  @Test
+  public void shouldNotFindRemovedTriggeredTimer() {
+    // given
+    wheel.add(1L, 1L, 500L);
+    wheel.advance(1_000L);
+    assertThat(dueTimers()).containsExactly(1L);
+
+    // when
+    wheel.remove(1L, 1L);
+    wheel.advance(Duration.ofHours(1).toMillis());
+
+    // then
+    assertThat(dueTimers()).isEmpty();
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  public void shouldNotReturnDueDateOfTriggeredTimer() {
+    // given
+    wheel.add(1L, 1L, 500L);
+    wheel.add(2L, 2L, 5_000L);
+    wheel.advance(1_000L);
+
+    // when
+    dueTimers();
+
+    // then
+    assertThat(wheel.nextDueDate()).isEqualTo(5_000L);
+  }
+
+  @Test
+  public void shouldFindTimerAddedWithPastDueDate() {
+    // given
+    wheel.advance(Duration.ofHours(1).toMillis());
+
+    // when
+    wheel.add(1L, 1L, 500L);
+
+    // then
+    assertThat(wheel.nextDueDate()).isEqualTo(500L);
+    assertThat(dueTimers()).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldNotAdvanceIntoThePast() {
+    // given
+    wheel.advance(Duration.ofHours(1).toMillis());
+    wheel.add(1L, 1L, Duration.ofHours(1).toMillis() + 500L);
+
+    // when
+    wheel.advance(1_000L);
+
+    // then
+    assertThat(dueTimers()).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnNegativeDueDateIfEmpty() {
+    // when
+    wheel.add(1L, 1L, 500L);
+    wheel.remove(1L, 1L);
+
+    // then
+    assertThat(wheel.nextDueDate()).isEqualTo(-1L);
+    assertThat(wheel.size()).isZero();
+  }
+
+  private List<Long> dueTimers() {
+    final List<Long> timerKeys = new ArrayList<>();
+    wheel.forEachDue((elementInstanceKey, timerKey, dueDate) -> timerKeys.add(timerKey));
+    return timerKeys;
+  }
+}
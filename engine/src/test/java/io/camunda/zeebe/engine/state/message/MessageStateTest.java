@@ -236,6 +236,23 @@ public final class MessageStateTest {
     assertThat(readMessage).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldVisitMessagesBeforeTimeStartingAtGivenMessage() {
+    // given
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", 1000));
+    messageState.put(2L, createMessage("name", "correlationKey", "{}", "nr2", 2000));
+    messageState.put(3L, createMessage("name", "correlationKey", "{}", "nr3", 2000));
+    messageState.put(4L, createMessage("name", "correlationKey", "{}", "nr4", 3000));
+
+    // when
+    final List<Long> readMessage = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBefore(
+        2_999, 2000, 3L, m -> readMessage.add(m.getMessageKey()));
+
+    // then
+    assertThat(readMessage).containsExactly(3L);
+  }
+
   @Test
   public void shouldRemoveMessage() {
     // given
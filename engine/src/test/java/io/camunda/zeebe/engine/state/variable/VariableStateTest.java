@@ -12,6 +12,7 @@ import static io.camunda.zeebe.test.util.MsgPackUtil.assertEquality;
 import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -25,6 +26,8 @@ import io.camunda.zeebe.engine.util.ZeebeStateRule;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.agrona.DirectBuffer;
 import org.assertj.core.api.Assertions;
@@ -185,6 +188,27 @@ public final class VariableStateTest {
     assertEquality(variableState.getVariablesLocalAsDocument(child), "{'b': 3}");
   }
 
+  @Test
+  public void shouldVisitLocalVariables() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("3"));
+    setVariableLocal(child, wrapString("c"), asMsgPack("4"));
+
+    // when
+    final Map<DirectBuffer, DirectBuffer> variables = new HashMap<>();
+    variableState.forEachVariableLocal(
+        child, (name, value) -> variables.put(cloneBuffer(name), cloneBuffer(value)));
+
+    // then
+    assertThat(variables)
+        .containsOnly(
+            entry(wrapString("b"), asMsgPack("3")), entry(wrapString("c"), asMsgPack("4")));
+  }
+
   @Test
   public void shouldCollectVariablesByName() {
     // given
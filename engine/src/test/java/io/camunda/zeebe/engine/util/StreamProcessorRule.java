@@ -126,6 +126,11 @@ public final class StreamProcessorRule implements TestRule {
     return this;
   }
 
+  public StreamProcessorRule withMaxCommandsInBatch(final int maxCommandsInBatch) {
+    streams.withMaxCommandsInBatch(maxCommandsInBatch);
+    return this;
+  }
+
   public StreamProcessorRule withStreamProcessorMode(
       final StreamProcessorMode streamProcessorMode) {
     this.streamProcessorMode = streamProcessorMode;
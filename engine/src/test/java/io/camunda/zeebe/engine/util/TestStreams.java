@@ -84,6 +84,7 @@ public final class TestStreams {
 
   private Function<MutableZeebeState, EventApplier> eventApplierFactory = EventAppliers::new;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
+  private int maxCommandsInBatch = 1;
 
   public TestStreams(
       final TemporaryFolder dataDirectory,
@@ -116,6 +117,10 @@ public final class TestStreams {
     this.streamProcessorMode = streamProcessorMode;
   }
 
+  public void withMaxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+  }
+
   public CommandResponseWriter getMockedResponseWriter() {
     return mockCommandResponseWriter;
   }
@@ -273,6 +278,7 @@ public final class TestStreams {
             .streamProcessorFactory(wrappedFactory)
             .eventApplierFactory(eventApplierFactory)
             .streamProcessorMode(streamProcessorMode)
+            .maxCommandsInBatch(maxCommandsInBatch)
             .build();
     final var openFuture = streamProcessor.openAsync(false);
 
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.exporter.api;
+
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.protocol.record.Record;
+import java.util.List;
+
+/**
+ * Extension of the {@link Exporter} interface for exporters which handle records in batches, e.g.
+ * to send them to an external system in one request. Instead of being called for every single
+ * record, it is called with all records which were read in one go from the log and which pass the
+ * exporter's record filter.
+ */
+public interface BatchedExporter extends Exporter {
+
+  /**
+   * Called at least once for every batch of records to be exported. The records are ordered by
+   * their position, and a record is never part of two batches unless the export of its batch
+   * failed. Once a record is guaranteed to have been exported, implementations should call {@link
+   * Controller#updateLastExportedRecordPosition(long)} to signal that this record (and all before
+   * it) should not be received here ever again.
+   *
+   * <p>Should the export method throw an unexpected {@link RuntimeException}, the method will be
+   * called again with the same records until it terminates without any exception. It is up to the
+   * implementation to handle errors properly, to implement retry strategies, etc.
+   *
+   * <p>The given list, as well as the records it contains, is reused for the next batch and wraps
+   * the underlying internal buffers. This means if the implementation needs to keep any records
+   * after this method returns, it either has to call {@link Record#toJson()} to get the serialized
+   * version of the record or {@link Record#clone()} to get a deep copy.
+   *
+   * @param records the records to export, never empty
+   */
+  void export(List<Record<?>> records);
+
+  /** Exports a single record as a batch of one; batched exporters do not need to implement it. */
+  @Override
+  default void export(final Record<?> record) {
+    export(List.of(record));
+  }
+}
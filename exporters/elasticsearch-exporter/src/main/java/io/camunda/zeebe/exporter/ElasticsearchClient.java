@@ -15,6 +15,7 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.util.VersionUtil;
 import io.prometheus.client.Histogram;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -22,24 +23,30 @@ import java.net.URISyntaxException;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.entity.NByteArrayEntity;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.common.xcontent.DeprecationHandler;
@@ -60,22 +67,21 @@ public class ElasticsearchClient {
   private final ElasticsearchExporterConfiguration configuration;
   private final Logger log;
   private final DateTimeFormatter formatter;
-  private List<String> bulkRequest;
+  // bulks which were sent asynchronously, in the order they were sent; the buffers of flushed bulks
+  // are reused for the next bulks, so they grow to the largest bulk request once
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
+  private final Deque<BulkRequestBuffer> freeBuffers = new ArrayDeque<>();
+  // the bulk request body as NDJSON
+  private BulkRequestBuffer bulkRequest = new BulkRequestBuffer();
+  private int bulkSize;
+  private int lastItemOffset;
   private ElasticsearchMetrics metrics;
 
   public ElasticsearchClient(
       final ElasticsearchExporterConfiguration configuration, final Logger log) {
-    this(configuration, log, new ArrayList<>());
-  }
-
-  ElasticsearchClient(
-      final ElasticsearchExporterConfiguration configuration,
-      final Logger log,
-      final List<String> bulkRequest) {
     this.configuration = configuration;
     this.log = log;
     client = createClient();
-    this.bulkRequest = bulkRequest;
     formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneOffset.UTC);
   }
 
@@ -92,31 +98,37 @@ public class ElasticsearchClient {
   }
 
   public void bulk(final Map<String, Object> command, final Record<?> record) {
-    final String serializedCommand;
+    final int itemOffset = bulkRequest.size();
 
     try {
-      serializedCommand = MAPPER.writeValueAsString(command);
+      MAPPER.writeValue(bulkRequest, command);
+      bulkRequest.write('\n');
+      record.writeJson(bulkRequest);
+      bulkRequest.write('\n');
     } catch (final IOException e) {
+      bulkRequest.truncate(itemOffset);
       throw new ElasticsearchExporterException(
           "Failed to serialize bulk request command to JSON", e);
     }
 
-    final String jsonCommand = serializedCommand + "\n" + record.toJson();
     // don't re-append when retrying same record, to avoid OOM
-    if (bulkRequest.isEmpty() || !bulkRequest.get(bulkRequest.size() - 1).equals(jsonCommand)) {
-      bulkRequest.add(jsonCommand);
+    if (bulkSize > 0 && bulkRequest.isSameItem(lastItemOffset, itemOffset)) {
+      bulkRequest.truncate(itemOffset);
+      return;
     }
+
+    lastItemOffset = itemOffset;
+    bulkSize++;
   }
 
   /**
    * @throws ElasticsearchExporterException if not all items of the bulk were flushed successfully
    */
   public void flush() {
-    if (bulkRequest.isEmpty()) {
+    if (bulkSize == 0) {
       return;
     }
 
-    final int bulkSize = bulkRequest.size();
     metrics.recordBulkSize(bulkSize);
 
     final var bulkMemorySize = getBulkMemorySize();
@@ -124,14 +136,126 @@ public class ElasticsearchClient {
 
     try (final Histogram.Timer timer = metrics.measureFlushDuration()) {
       exportBulk();
-      // all records where flushed, create new bulk request, otherwise retry next time
-      bulkRequest = new ArrayList<>();
+      // all records where flushed, reset the bulk request, otherwise retry next time
+      bulkRequest.reset();
+      bulkSize = 0;
     } catch (final ElasticsearchExporterException e) {
       metrics.recordFailedFlush();
       throw e;
     }
   }
 
+  /**
+   * Sends the current bulk without waiting for its response. The bulk is flushed in the background
+   * and {@code onFlushed} is called with the given position, possibly from another thread, once the
+   * bulk and all bulks sent before it were flushed successfully. Bulks which failed are sent again,
+   * in the order they were sent originally, before the current bulk is sent.
+   *
+   * @param position the position of the last record of the current bulk
+   * @param onFlushed called with the position once it is flushed
+   * @throws ElasticsearchExporterException if the max number of in-flight bulk requests is reached
+   */
+  public void flushAsync(final long position, final LongConsumer onFlushed) {
+    final List<InFlightBulk> bulksToSend = new ArrayList<>();
+    final InFlightBulk bulk;
+
+    synchronized (inFlightBulks) {
+      inFlightBulks.stream().filter(InFlightBulk::isFailed).forEach(bulksToSend::add);
+      bulksToSend.forEach(InFlightBulk::setSending);
+
+      if (bulkSize == 0) {
+        bulk = null;
+        if (inFlightBulks.isEmpty()) {
+          onFlushed.accept(position);
+        }
+      } else if (inFlightBulks.size() >= configuration.bulk.maxInFlightRequests) {
+        bulk = null;
+      } else {
+        bulk = new InFlightBulk(bulkRequest, bulkSize, position, onFlushed);
+        inFlightBulks.add(bulk);
+        bulksToSend.add(bulk);
+
+        final var freeBuffer = freeBuffers.poll();
+        bulkRequest = freeBuffer != null ? freeBuffer : new BulkRequestBuffer();
+        bulkSize = 0;
+      }
+    }
+
+    // send outside of the lock, since the response listener may be called on this thread
+    bulksToSend.forEach(this::sendBulkAsync);
+
+    if (bulk == null && bulkSize > 0) {
+      throw new ElasticsearchExporterException(
+          String.format(
+              "Failed to flush bulk, the max number of %d in-flight bulk requests is reached",
+              configuration.bulk.maxInFlightRequests));
+    }
+  }
+
+  /** @return the number of bulk requests which were sent asynchronously but not yet flushed */
+  int getInFlightBulkCount() {
+    synchronized (inFlightBulks) {
+      return inFlightBulks.size();
+    }
+  }
+
+  private void sendBulkAsync(final InFlightBulk bulk) {
+    metrics.recordBulkSize(bulk.size);
+    metrics.recordBulkMemorySize(bulk.body.size());
+    final var timer = metrics.measureFlushDuration();
+
+    final var request = new Request("POST", "/_bulk");
+    // the buffer is not modified until the bulk is flushed, so it can be sent without copying it
+    request.setEntity(bulk.body.toEntity());
+
+    client.performRequestAsync(
+        request,
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            timer.observeDuration();
+            try {
+              checkBulkResponse(response);
+              onBulkFlushed(bulk);
+            } catch (final ElasticsearchExporterException e) {
+              onBulkFailed(bulk, e);
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            timer.observeDuration();
+            onBulkFailed(
+                bulk, new ElasticsearchExporterException("Failed to flush bulk", exception));
+          }
+        });
+  }
+
+  private void onBulkFlushed(final InFlightBulk bulk) {
+    synchronized (inFlightBulks) {
+      bulk.setFlushed();
+
+      // acknowledge the flushed bulks in order, a bulk is only acknowledged once all bulks which
+      // were sent before it are flushed too
+      while (!inFlightBulks.isEmpty() && inFlightBulks.peek().isFlushed()) {
+        final var flushedBulk = inFlightBulks.poll();
+        flushedBulk.onFlushed.accept(flushedBulk.position);
+
+        flushedBulk.body.reset();
+        freeBuffers.add(flushedBulk.body);
+      }
+    }
+  }
+
+  private void onBulkFailed(final InFlightBulk bulk, final ElasticsearchExporterException error) {
+    metrics.recordFailedFlush();
+    log.warn("Failed to flush bulk of {} item(s), will retry later", bulk.size, error);
+
+    synchronized (inFlightBulks) {
+      bulk.setFailed();
+    }
+  }
+
   private void exportBulk() {
     final Response httpResponse;
     try {
@@ -142,6 +266,10 @@ public class ElasticsearchClient {
       throw new ElasticsearchExporterException("Failed to flush bulk", e);
     }
 
+    checkBulkResponse(httpResponse);
+  }
+
+  private void checkBulkResponse(final Response httpResponse) {
     final BulkResponse bulkResponse;
     try {
       bulkResponse = MAPPER.readValue(httpResponse.getEntity().getContent(), BulkResponse.class);
@@ -172,18 +300,24 @@ public class ElasticsearchClient {
 
   private Response sendBulkRequest() throws IOException {
     final var request = new Request("POST", "/_bulk");
-    request.setJsonEntity(String.join("\n", bulkRequest) + "\n");
+    // the request is sent synchronously, so the buffer can be sent without copying it
+    request.setEntity(bulkRequest.toEntity());
 
     return client.performRequest(request);
   }
 
   public boolean shouldFlush() {
-    return bulkRequest.size() >= configuration.bulk.size
+    return bulkSize >= configuration.bulk.size
         || getBulkMemorySize() >= configuration.bulk.memoryLimit;
   }
 
-  private int getBulkMemorySize() {
-    return bulkRequest.stream().mapToInt(String::length).sum();
+  int getBulkSize() {
+    return bulkSize;
+  }
+
+  /** @return the size of the bulk request body in bytes */
+  int getBulkMemorySize() {
+    return bulkRequest.size();
   }
 
   /** @return true if request was acknowledged */
@@ -386,4 +520,72 @@ public class ElasticsearchClient {
     command.put("index", contents);
     return command;
   }
+
+  /** A growable NDJSON buffer which exposes its content without copying it. */
+  private static final class BulkRequestBuffer extends ByteArrayOutputStream {
+
+    private BulkRequestBuffer() {
+      super(4 * 1024);
+    }
+
+    private void truncate(final int size) {
+      count = size;
+    }
+
+    /** @return true if the two adjacent items, the second one ending the buffer, are equal */
+    private boolean isSameItem(final int previousItemOffset, final int itemOffset) {
+      return Arrays.equals(buf, previousItemOffset, itemOffset, buf, itemOffset, count);
+    }
+
+    private NByteArrayEntity toEntity() {
+      return new NByteArrayEntity(buf, 0, count, ContentType.APPLICATION_JSON);
+    }
+  }
+
+  /** A bulk request which was sent asynchronously; its state is guarded by the in-flight bulks. */
+  private static final class InFlightBulk {
+
+    private final BulkRequestBuffer body;
+    private final int size;
+    private final long position;
+    private final LongConsumer onFlushed;
+    private State state = State.SENDING;
+
+    private InFlightBulk(
+        final BulkRequestBuffer body,
+        final int size,
+        final long position,
+        final LongConsumer onFlushed) {
+      this.body = body;
+      this.size = size;
+      this.position = position;
+      this.onFlushed = onFlushed;
+    }
+
+    private boolean isFailed() {
+      return state == State.FAILED;
+    }
+
+    private boolean isFlushed() {
+      return state == State.FLUSHED;
+    }
+
+    private void setSending() {
+      state = State.SENDING;
+    }
+
+    private void setFailed() {
+      state = State.FAILED;
+    }
+
+    private void setFlushed() {
+      state = State.FLUSHED;
+    }
+
+    private enum State {
+      SENDING,
+      FAILED,
+      FLUSHED
+    }
+  }
 }
@@ -61,7 +61,9 @@ public class ElasticsearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
+      // the position is not updated, since bulks which are still in-flight may not be flushed; the
+      // records are exported again after a restart, which is fine as the documents are idempotent
+      client.flush();
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -123,8 +125,9 @@ public class ElasticsearchExporter implements Exporter {
   }
 
   private void flush() {
-    client.flush();
-    controller.updateLastExportedRecordPosition(lastPosition);
+    // the bulk is flushed asynchronously, such that the exporter doesn't block while Elasticsearch
+    // indexes it; the controller is thread-safe and the positions are acknowledged in order
+    client.flushAsync(lastPosition, controller::updateLastExportedRecordPosition);
   }
 
   private void createIndexTemplates() {
@@ -173,6 +173,8 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // max number of bulk requests which are sent but not yet acknowledged by Elasticsearch
+    public int maxInFlightRequests = 2;
 
     @Override
     public String toString() {
@@ -183,6 +185,8 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
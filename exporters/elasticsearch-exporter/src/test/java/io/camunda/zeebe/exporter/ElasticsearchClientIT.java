@@ -9,13 +9,17 @@ package io.camunda.zeebe.exporter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.value.VariableRecordValue;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 import org.junit.Before;
@@ -27,17 +31,15 @@ public class ElasticsearchClientIT extends AbstractElasticsearchExporterIntegrat
   private static final long RECORD_KEY = 1234L;
   private ElasticsearchExporterConfiguration configuration;
   private ElasticsearchClient client;
-  private ArrayList<String> bulkRequest;
 
   @Before
   public void init() {
     elastic.start();
 
     configuration = getDefaultConfiguration();
-    bulkRequest = new ArrayList<>();
     client =
         new ElasticsearchClient(
-            configuration, LoggerFactory.getLogger(ElasticsearchClientIT.class), bulkRequest);
+            configuration, LoggerFactory.getLogger(ElasticsearchClientIT.class));
   }
 
   @Test
@@ -45,7 +47,7 @@ public class ElasticsearchClientIT extends AbstractElasticsearchExporterIntegrat
     // given
     final int bulkSize = 10;
 
-    final Record<VariableRecordValue> recordMock = mock(Record.class);
+    final Record<VariableRecordValue> recordMock = mockRecord();
     when(recordMock.getPartitionId()).thenReturn(1);
     when(recordMock.getValueType()).thenReturn(ValueType.PROCESS_INSTANCE);
 
@@ -73,20 +75,20 @@ public class ElasticsearchClientIT extends AbstractElasticsearchExporterIntegrat
   @Test
   public void shouldIgnoreRecordIfDuplicateOfLast() {
     // given
-    final Record<VariableRecordValue> recordMock = mock(Record.class);
+    final Record<VariableRecordValue> recordMock = mockRecord();
     when(recordMock.getPartitionId()).thenReturn(1);
     when(recordMock.getValueType()).thenReturn(ValueType.PROCESS_INSTANCE);
     when(recordMock.getKey()).thenReturn(RECORD_KEY + 1);
     when(recordMock.toJson()).thenReturn("{}");
 
     client.index(recordMock);
-    assertThat(bulkRequest).hasSize(1);
+    assertThat(client.getBulkSize()).isEqualTo(1);
 
     // when
     client.index(recordMock);
 
     // then
-    assertThat(bulkRequest).hasSize(1);
+    assertThat(client.getBulkSize()).isEqualTo(1);
   }
 
   @Test
@@ -107,7 +109,7 @@ public class ElasticsearchClientIT extends AbstractElasticsearchExporterIntegrat
     final VariableRecordValue recordValue = mock(VariableRecordValue.class);
     when(recordValue.getValue()).thenReturn(variableValue1);
 
-    final Record<VariableRecordValue> recordMock = mock(Record.class);
+    final Record<VariableRecordValue> recordMock = mockRecord();
     when(recordMock.getKey()).thenReturn(1L);
     when(recordMock.getPartitionId()).thenReturn(1);
     when(recordMock.getValueType()).thenReturn(ValueType.VARIABLE);
@@ -127,4 +129,34 @@ public class ElasticsearchClientIT extends AbstractElasticsearchExporterIntegrat
     // then
     assertThat(client.shouldFlush()).isTrue();
   }
+
+  @Test
+  public void shouldMeasureBulkMemorySizeInBytes() {
+    // given
+    final Record<VariableRecordValue> recordMock = mockRecord();
+    when(recordMock.getPartitionId()).thenReturn(1);
+    when(recordMock.getValueType()).thenReturn(ValueType.VARIABLE);
+    when(recordMock.toJson()).thenReturn("{\"value\":\"a\"}");
+    client.index(recordMock);
+    final var singleItemSize = client.getBulkMemorySize();
+
+    // when - a two byte character in UTF-8
+    when(recordMock.toJson()).thenReturn("{\"value\":\"\u00e4\"}");
+    client.index(recordMock);
+
+    // then
+    assertThat(client.getBulkSize()).isEqualTo(2);
+    assertThat(client.getBulkMemorySize()).isEqualTo(2 * singleItemSize + 1);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Record<VariableRecordValue> mockRecord() {
+    final Record<VariableRecordValue> recordMock = mock(Record.class);
+    try {
+      doCallRealMethod().when(recordMock).writeJson(any(OutputStream.class));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return recordMock;
+  }
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.value.VariableRecordValue;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+/** Tests the asynchronous bulk requests against a local HTTP server which mocks Elasticsearch. */
+public final class ElasticsearchClientTest {
+
+  private static final String SUCCESS_RESPONSE = "{\"errors\":false,\"items\":[]}";
+  private static final String PARTIAL_FAILURE_RESPONSE =
+      "{\"errors\":true,\"items\":[{\"index\":{\"status\":400,\"error\":"
+          + "{\"type\":\"mapper_parsing_exception\",\"reason\":\"failed to parse\"}}}]}";
+
+  private final BlockingQueue<BulkRequest> bulkRequests = new LinkedBlockingQueue<>();
+  private final List<Long> flushedPositions = new CopyOnWriteArrayList<>();
+  private ExecutorService serverExecutor;
+  private HttpServer server;
+  private ElasticsearchExporterConfiguration configuration;
+  private ElasticsearchClient client;
+
+  @Before
+  public void setUp() throws IOException {
+    serverExecutor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/_bulk", this::handleBulkRequest);
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    configuration = new ElasticsearchExporterConfiguration();
+    configuration.url = "http://localhost:" + server.getAddress().getPort();
+    configuration.bulk.maxInFlightRequests = 2;
+    client = new ElasticsearchClient(configuration, LoggerFactory.getLogger(getClass()));
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    client.close();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  public void shouldAcknowledgeBulksInOrder() throws InterruptedException {
+    // given
+    client.index(mockRecord(1));
+    client.flushAsync(1, flushedPositions::add);
+    final var firstBulk = awaitBulkRequest();
+
+    client.index(mockRecord(2));
+    client.flushAsync(2, flushedPositions::add);
+    final var secondBulk = awaitBulkRequest();
+
+    // when
+    secondBulk.respond(200, SUCCESS_RESPONSE).join();
+
+    // then
+    assertThat(flushedPositions).isEmpty();
+    assertThat(client.getInFlightBulkCount()).isEqualTo(2);
+
+    // when
+    firstBulk.respond(200, SUCCESS_RESPONSE);
+
+    // then
+    await().untilAsserted(() -> assertThat(flushedPositions).containsExactly(1L, 2L));
+    assertThat(client.getInFlightBulkCount()).isZero();
+    assertThat(firstBulk.body).contains("\"position\":1");
+    assertThat(secondBulk.body).contains("\"position\":2");
+  }
+
+  @Test
+  public void shouldRetryFailedBulkBeforeAcknowledgingLaterBulks() throws InterruptedException {
+    // given
+    client.index(mockRecord(1));
+    client.flushAsync(1, flushedPositions::add);
+    final var firstBulk = awaitBulkRequest();
+
+    client.index(mockRecord(2));
+    client.flushAsync(2, flushedPositions::add);
+    final var secondBulk = awaitBulkRequest();
+
+    // when
+    firstBulk.respond(200, PARTIAL_FAILURE_RESPONSE);
+    secondBulk.respond(200, SUCCESS_RESPONSE);
+
+    // then - the failed bulk is sent again on the next flush
+    await()
+        .untilAsserted(
+            () -> {
+              client.flushAsync(2, flushedPositions::add);
+              assertThat(bulkRequests).isNotEmpty();
+            });
+    assertThat(flushedPositions).isEmpty();
+
+    final var retriedBulk = awaitBulkRequest();
+    assertThat(retriedBulk.body).isEqualTo(firstBulk.body);
+    retriedBulk.respond(200, SUCCESS_RESPONSE);
+
+    await().untilAsserted(() -> assertThat(flushedPositions).containsExactly(1L, 2L));
+  }
+
+  @Test
+  public void shouldRetryBulkOnErrorResponse() throws InterruptedException {
+    // given
+    client.index(mockRecord(1));
+    client.flushAsync(1, flushedPositions::add);
+
+    // when
+    awaitBulkRequest().respond(500, "{}");
+
+    // then
+    await()
+        .untilAsserted(
+            () -> {
+              client.flushAsync(1, flushedPositions::add);
+              assertThat(bulkRequests).isNotEmpty();
+            });
+    awaitBulkRequest().respond(200, SUCCESS_RESPONSE);
+
+    await().untilAsserted(() -> assertThat(flushedPositions).containsExactly(1L));
+  }
+
+  @Test
+  public void shouldRejectFlushIfMaxInFlightRequestsAreReached() throws InterruptedException {
+    // given
+    configuration.bulk.maxInFlightRequests = 1;
+    client.index(mockRecord(1));
+    client.flushAsync(1, flushedPositions::add);
+    final var firstBulk = awaitBulkRequest();
+
+    // when
+    client.index(mockRecord(2));
+
+    // then
+    assertThatThrownBy(() -> client.flushAsync(2, flushedPositions::add))
+        .isInstanceOf(ElasticsearchExporterException.class)
+        .hasMessageContaining("in-flight bulk requests");
+    assertThat(client.getBulkSize()).isEqualTo(1);
+
+    // when
+    firstBulk.respond(200, SUCCESS_RESPONSE);
+    await().untilAsserted(() -> assertThat(flushedPositions).containsExactly(1L));
+    client.flushAsync(2, flushedPositions::add);
+    awaitBulkRequest().respond(200, SUCCESS_RESPONSE);
+
+    // then
+    await().untilAsserted(() -> assertThat(flushedPositions).containsExactly(1L, 2L));
+  }
+
+  @Test
+  public void shouldAcknowledgePositionIfNothingIsInFlight() {
+    // when
+    client.flushAsync(3, flushedPositions::add);
+
+    // then
+    assertThat(flushedPositions).containsExactly(3L);
+    assertThat(bulkRequests).isEmpty();
+  }
+
+  private BulkRequest awaitBulkRequest() throws InterruptedException {
+    final var request = bulkRequests.poll(10, TimeUnit.SECONDS);
+    assertThat(request).describedAs("Expected a bulk request to be sent").isNotNull();
+    return request;
+  }
+
+  private void handleBulkRequest(final HttpExchange exchange) throws IOException {
+    final var body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    final var request = new BulkRequest(body);
+    bulkRequests.add(request);
+
+    // blocks the server thread until the test responds, such that it controls the order
+    final var response = request.response.join();
+    final var responseBody = response.body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(response.status, responseBody.length);
+    try (final var output = exchange.getResponseBody()) {
+      output.write(responseBody);
+    }
+    request.responded.complete(null);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Record<VariableRecordValue> mockRecord(final long position) {
+    final Record<VariableRecordValue> recordMock = mock(Record.class);
+    when(recordMock.getPartitionId()).thenReturn(1);
+    when(recordMock.getPosition()).thenReturn(position);
+    when(recordMock.getValueType()).thenReturn(ValueType.VARIABLE);
+    when(recordMock.toJson()).thenReturn("{\"position\":" + position + "}");
+    try {
+      doCallRealMethod().when(recordMock).writeJson(any(OutputStream.class));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return recordMock;
+  }
+
+  private static final class BulkRequest {
+    private final String body;
+    private final CompletableFuture<Response> response = new CompletableFuture<>();
+    private final CompletableFuture<Void> responded = new CompletableFuture<>();
+
+    private BulkRequest(final String body) {
+      this.body = body;
+    }
+
+    /** @return a future which is completed once the response was written */
+    private CompletableFuture<Void> respond(final int status, final String body) {
+      response.complete(new Response(status, body));
+      return responded.orTimeout(10, TimeUnit.SECONDS);
+    }
+  }
+
+  private static final class Response {
+    private final int status;
+    private final String body;
+
+    private Response(final int status, final String body) {
+      this.status = status;
+      this.body = body;
+    }
+  }
+}
@@ -11,7 +11,9 @@ import static io.camunda.zeebe.exporter.ElasticsearchExporter.ZEEBE_RECORD_TEMPL
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -27,6 +29,7 @@ import io.camunda.zeebe.test.exporter.ExporterTestHarness;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.LongConsumer;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -276,7 +279,7 @@ public class ElasticsearchExporterTest {
 
     // and
     testHarness.getController().runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
-    verify(esClient).flush();
+    verify(esClient).flushAsync(anyLong(), any());
   }
 
   @Test
@@ -304,7 +307,9 @@ public class ElasticsearchExporterTest {
   public void shouldNotHandleFlushException() {
     // given
     when(esClient.shouldFlush()).thenReturn(true);
-    doThrow(new ElasticsearchExporterException("expected")).when(esClient).flush();
+    doThrow(new ElasticsearchExporterException("expected"))
+        .when(esClient)
+        .flushAsync(anyLong(), any());
 
     createAndOpenExporter();
 
@@ -314,7 +319,7 @@ public class ElasticsearchExporterTest {
         .withFailMessage("expected");
 
     // then
-    verify(esClient, times(1)).flush();
+    verify(esClient, times(1)).flushAsync(anyLong(), any());
   }
 
   @Test
@@ -371,6 +376,14 @@ public class ElasticsearchExporterTest {
     final ElasticsearchClient client = mock(ElasticsearchClient.class);
     when(client.putIndexTemplate(any(ValueType.class))).thenReturn(true);
     when(client.putIndexTemplate(anyString(), anyString(), anyString())).thenReturn(true);
+    doAnswer(
+            invocation -> {
+              final LongConsumer onFlushed = invocation.getArgument(1);
+              onFlushed.accept(invocation.getArgument(0));
+              return null;
+            })
+        .when(client)
+        .flushAsync(anyLong(), any());
     return client;
   }
 }
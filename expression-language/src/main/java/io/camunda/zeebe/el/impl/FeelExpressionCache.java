@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.el.Expression;
+import io.prometheus.client.Counter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed FEEL expressions, keyed by the expression text. The same expressions
+ * are parsed again and again, for example, for every version of a process, on every partition, and
+ * whenever a process is loaded from the state. The parsed expressions are immutable, so they can be
+ * shared between all expression language instances.
+ *
+ * <p>If the cache is full, the least recently used expression is evicted.
+ */
+final class FeelExpressionCache {
+
+  private static final Counter CACHE_REQUESTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("feel_expression_cache_requests_total")
+          .help("Number of lookups in the cache of parsed FEEL expressions")
+          .labelNames("result")
+          .register();
+
+  private final Counter.Child hits = CACHE_REQUESTS.labels("hit");
+  private final Counter.Child misses = CACHE_REQUESTS.labels("miss");
+
+  private final Map<String, Expression> expressions;
+
+  FeelExpressionCache(final int capacity) {
+    expressions =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<String, Expression> eldest) {
+            return size() > capacity;
+          }
+        };
+  }
+
+  /**
+   * Returns the cached expression for the given text, or parses and caches it if it is not cached
+   * yet.
+   *
+   * @param expression the text of the expression
+   * @param parser the function to parse the expression with, if it is not cached
+   * @return the parsed expression
+   */
+  Expression get(final String expression, final Function<String, Expression> parser) {
+    synchronized (expressions) {
+      final var cachedExpression = expressions.get(expression);
+      if (cachedExpression != null) {
+        hits.inc();
+        return cachedExpression;
+      }
+    }
+
+    // parse outside the lock; if two threads parse the same expression, the last one wins
+    misses.inc();
+    final var parsedExpression = parser.apply(expression);
+
+    synchronized (expressions) {
+      expressions.put(expression, parsedExpression);
+    }
+    return parsedExpression;
+  }
+
+  int size() {
+    synchronized (expressions) {
+      return expressions.size();
+    }
+  }
+}
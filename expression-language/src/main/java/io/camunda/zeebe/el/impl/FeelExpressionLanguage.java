@@ -37,11 +37,18 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   private static final Pattern EXPRESSION_PATTERN = Pattern.compile("\\=(.+)", Pattern.DOTALL);
 
+  private static final int EXPRESSION_CACHE_CAPACITY = 10_000;
+  private static final FeelExpressionCache EXPRESSION_CACHE =
+      new FeelExpressionCache(EXPRESSION_CACHE_CAPACITY);
+
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
 
   private final FeelEngine feelEngine;
 
+  // the callers usually pass the same (mutable) evaluation context for all evaluations
+  private FeelVariableContext lastFeelContext;
+
   public FeelExpressionLanguage(final ActorClock clock) {
     feelEngine =
         new FeelEngine.Builder()
@@ -59,7 +66,7 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     if (expressionMatcher.matches()) {
       final var unpackedExpression = expressionMatcher.group(1);
-      return parseFeelExpression(unpackedExpression);
+      return EXPRESSION_CACHE.get(unpackedExpression, this::parseFeelExpression);
     } else {
       return new StaticExpression(expression);
     }
@@ -101,13 +108,24 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
     }
   }
 
+  private FeelVariableContext getFeelContext(final EvaluationContext context) {
+    final var feelContext = lastFeelContext;
+    if (feelContext != null && feelContext.context() == context) {
+      return feelContext;
+    }
+
+    final var newFeelContext = new FeelVariableContext(context);
+    lastFeelContext = newFeelContext;
+    return newFeelContext;
+  }
+
   private EvaluationResult evaluateFeelExpression(
       final Expression expression,
       final EvaluationContext context,
       final FeelExpression feelExpression) {
 
     final var parsedExpression = feelExpression.getParsedExpression();
-    final var feelContext = new FeelVariableContext(context);
+    final var feelContext = getFeelContext(context);
 
     final Either<Failure, Object> evalResult = feelEngine.eval(parsedExpression, feelContext);
 
@@ -10,7 +10,7 @@ package io.camunda.zeebe.el.impl.feel
 import io.camunda.zeebe.el.EvaluationContext
 import org.camunda.feel.context.{CustomContext, VariableProvider}
 
-class FeelVariableContext(context: EvaluationContext) extends CustomContext {
+class FeelVariableContext(val context: EvaluationContext) extends CustomContext {
 
   override val variableProvider: VariableProvider = new EvaluationContextWrapper
 
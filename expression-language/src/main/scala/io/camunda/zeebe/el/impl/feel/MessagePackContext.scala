@@ -12,56 +12,92 @@ import io.camunda.zeebe.util.buffer.BufferUtil.{bufferAsString, cloneBuffer}
 import org.agrona.DirectBuffer
 import org.agrona.concurrent.UnsafeBuffer
 import org.camunda.feel.context.{CustomContext, VariableProvider}
-
+import org.camunda.feel.syntaxtree.Val
+
+import java.nio.charset.StandardCharsets
+import scala.collection.mutable
+
+/**
+ * A FEEL context of a MessagePack map. The entries are not read eagerly. A lookup of an entry scans
+ * the map and skips the values of the other entries, so only the accessed path is decoded.
+ *
+ * @param buffer       the buffer that contains the map; it must not be modified afterwards
+ * @param bufferOffset the offset of the map in the buffer
+ * @param length       the length of the map in the buffer
+ */
 class MessagePackContext(
-                          reader: MsgPackReader,
+                          buffer: DirectBuffer,
                           bufferOffset: Int,
-                          size: Int
+                          length: Int
                         ) extends CustomContext {
 
-  private val valueOffsets: Map[String, (Int, Int)] = readValueOffsets(reader, size)
-  private val length = reader.getOffset - bufferOffset
+  val messagePackMap: DirectBuffer = new UnsafeBuffer(buffer, bufferOffset, length)
 
-  val messagePackMap: DirectBuffer = cloneBuffer(reader.getBuffer, bufferOffset, length)
+  override val variableProvider: VariableProvider = new MessagePackMapVariableProvider
 
-  override val variableProvider: VariableProvider = new MessagePackMapVariableProvider(messagePackMap)
+  class MessagePackMapVariableProvider extends VariableProvider {
 
-  class MessagePackMapVariableProvider(entries: DirectBuffer) extends VariableProvider {
+    private lazy val reader = new MsgPackReader
+    private lazy val keyView = new UnsafeBuffer
 
-    private val resultView = new UnsafeBuffer
+    private val readValues = mutable.HashMap.empty[String, Option[Val]]
+
+    private lazy val valueOffsets: Map[String, (Int, Int)] = readValueOffsets()
 
     override def keys: Iterable[String] = valueOffsets.keys
 
-    override def getVariable(name: String): Option[Any] = {
-      valueOffsets
-        .get(name)
-        .map { case (offset, length) =>
-          resultView.wrap(entries, offset, length)
-          resultView
+    override def getVariable(name: String): Option[Any] =
+      readValues.getOrElseUpdate(name, readValue(name))
+
+    override def getVariables: Map[String, Any] = valueOffsets.map { case (key, (offset, length)) =>
+      key -> cloneBuffer(messagePackMap, offset, length)
+    }
+
+    private def readValue(name: String): Option[Val] = {
+      val nameBytes = name.getBytes(StandardCharsets.UTF_8)
+
+      reader.wrap(messagePackMap, 0, messagePackMap.capacity())
+      val size = reader.readMapHeader()
+
+      (0 until size)
+        .find { _ =>
+          val keyLength = reader.readStringLength()
+          keyView.wrap(messagePackMap, reader.getOffset, keyLength)
+          reader.skipBytes(keyLength)
+
+          val isMatch = isEqual(keyView, nameBytes)
+          if (!isMatch) {
+            reader.skipValue()
+          }
+          isMatch
         }
+        .map(_ => MessagePackValueMapper.readValue(reader))
     }
 
-    override def getVariables: Map[String, Any] = valueOffsets.map { case (key, (offset, length)) =>
-      key -> cloneBuffer(entries, offset, length)
+    private def isEqual(key: DirectBuffer, name: Array[Byte]): Boolean = {
+      key.capacity == name.length && (0 until name.length).forall(i => key.getByte(i) == name(i))
     }
 
-  }
+    private def readValueOffsets(): Map[String, (Int, Int)] = {
+      reader.wrap(messagePackMap, 0, messagePackMap.capacity())
+      val size = reader.readMapHeader()
+
+      val offsets = (0 until size).map { _ =>
 
-  private def readValueOffsets(reader: MsgPackReader, size: Int): Map[String, (Int, Int)] = {
-    val offsets = (0 until size).map { _ =>
+        val keyToken = reader.readToken()
+        val keyBuffer = keyToken.getValueBuffer
+        val key = bufferAsString(keyBuffer)
 
-      val keyToken = reader.readToken()
-      val keyBuffer = keyToken.getValueBuffer
-      val key = bufferAsString(keyBuffer)
+        val valueOffset = reader.getOffset
+        reader.skipValue()
+        val valueLength = reader.getOffset - valueOffset
 
-      val valueOffset = reader.getOffset
-      reader.skipValue()
-      val valueLength = reader.getOffset - valueOffset
+        key -> (valueOffset, valueLength)
+      }
 
-      key -> (valueOffset - bufferOffset, valueLength)
+      offsets.toMap
     }
 
-    offsets.toMap
   }
 
 }
@@ -8,8 +8,8 @@
 package io.camunda.zeebe.el.impl.feel
 
 import io.camunda.zeebe.el.impl.Loggers.LOGGER
-import io.camunda.zeebe.msgpack.spec.{MsgPackReader, MsgPackToken, MsgPackType}
-import io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString
+import io.camunda.zeebe.msgpack.spec.{MsgPackReader, MsgPackType}
+import io.camunda.zeebe.util.buffer.BufferUtil.{bufferAsString, cloneBuffer}
 import org.agrona.DirectBuffer
 import org.camunda.feel.syntaxtree.{Val, _}
 import org.camunda.feel.valuemapper.CustomValueMapper
@@ -28,17 +28,40 @@ class MessagePackValueMapper extends CustomValueMapper {
 
   private def readMessagePack(messagePack: DirectBuffer): Val = {
     reader.wrap(messagePack, 0, messagePack.capacity())
-    readNext()
+
+    if (isDocumentOrArray(reader)) {
+      // the given buffer is reused by the caller - copy it once, the nested values are read lazily
+      // from the copy
+      val copy = cloneBuffer(messagePack)
+      reader.wrap(copy, 0, copy.capacity())
+    }
+
+    MessagePackValueMapper.readValue(reader)
   }
 
-  private def readNext(): Val = {
-    val offset = reader.getOffset
+  private def isDocumentOrArray(reader: MsgPackReader): Boolean = {
     val token = reader.readToken()
+    reader.reset()
 
-    read(token, offset)
+    token.getType == MsgPackType.MAP || token.getType == MsgPackType.ARRAY
   }
 
-  private def read(token: MsgPackToken, offset: Int): Val = {
+  // return the value as it is to not lose the type information
+  override def unpackVal(value: Val, innerValueMapper: Val => Any): Option[Any] = Some(value)
+
+}
+
+object MessagePackValueMapper {
+
+  /**
+   * Reads the next value of the given reader as FEEL value. A map is not read eagerly but wrapped
+   * into a [[MessagePackContext]] which reads its entries on access. So, the buffer of the reader
+   * must not be modified afterwards.
+   */
+  def readValue(reader: MsgPackReader): Val = {
+    val offset = reader.getOffset
+    val token = reader.readToken()
+
     token.getType match {
       case MsgPackType.NIL => ValNull
       case MsgPackType.BOOLEAN => ValBoolean(token.getBooleanValue)
@@ -50,16 +73,19 @@ class MessagePackValueMapper extends CustomValueMapper {
       }
       case MsgPackType.ARRAY => {
         val items = (0 until token.getSize)
-          .map(_ => readNext())
+          .map(_ => readValue(reader))
           .toList
 
         ValList(items)
       }
       case MsgPackType.MAP => {
+        // skip the entries - they are read when they are accessed
+        reader.skipValues(2L * token.getSize)
+
         val context = new MessagePackContext(
-          reader = reader,
+          buffer = reader.getBuffer,
           bufferOffset = offset,
-          size = token.getSize
+          length = reader.getOffset - offset
         )
 
         ValContext(context)
@@ -71,7 +97,4 @@ class MessagePackValueMapper extends CustomValueMapper {
     }
   }
 
-  // return the value as it is to not lose the type information
-  override def unpackVal(value: Val, innerValueMapper: Val => Any): Option[Any] = Some(value)
-
 }
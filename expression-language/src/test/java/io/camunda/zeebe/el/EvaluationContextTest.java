@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Map;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
 
 public class EvaluationContextTest {
@@ -103,6 +104,39 @@ public class EvaluationContextTest {
     assertThat(evaluationResult.toBuffer()).isEqualTo(variable);
   }
 
+  @Test
+  public void pathInListOfContextsVariable() {
+    final var variable =
+        asMsgPack(
+            "{\"items\":[{\"sku\":\"a\",\"n\":1}, {\"sku\":\"b\",\"n\":2}], \"id\":3}");
+    final var parseExpression = expressionLanguage.parseExpression("=x.items[2].sku");
+
+    final var evaluationResult =
+        expressionLanguage.evaluateExpression(parseExpression, Map.of("x", variable)::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.STRING);
+    assertThat(evaluationResult.getString()).isEqualTo("b");
+  }
+
+  @Test
+  public void contextVariableWithReusedBuffer() {
+    final var variable = new UnsafeBuffer(new byte[64]);
+    final EvaluationContext context =
+        name -> {
+          // the buffer is overridden by the next lookup, like the variables state does
+          final var value = asMsgPack(Map.of("v", name));
+          variable.wrap(variable.byteArray(), 0, value.capacity());
+          variable.putBytes(0, value, 0, value.capacity());
+          return variable;
+        };
+    final var parseExpression = expressionLanguage.parseExpression("=x.v + y.v");
+
+    final var evaluationResult = expressionLanguage.evaluateExpression(parseExpression, context);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.STRING);
+    assertThat(evaluationResult.getString()).isEqualTo("xy");
+  }
+
   private EvaluationResult evaluateExpressionWithContext(final DirectBuffer variable) {
     final var parseExpression = expressionLanguage.parseExpression("=x");
     final var evaluationResult =
@@ -33,6 +33,19 @@ public class ExpressionLanguageTest {
     assertThat(expression.getFailureMessage()).isNull();
   }
 
+  @Test
+  public void shouldReuseParsedExpression() {
+    // given
+    final var otherExpressionLanguage = ExpressionLanguageFactory.createExpressionLanguage();
+    final var expression = expressionLanguage.parseExpression("=x + 1");
+
+    // when
+    final var otherExpression = otherExpressionLanguage.parseExpression("=x + 1");
+
+    // then
+    assertThat(otherExpression).isSameAs(expression);
+  }
+
   @Test
   public void shouldParseStaticIntegerNumberValue() {
     // when
@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.Expression;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.Test;
+
+public class FeelExpressionCacheTest {
+
+  private final List<String> parsedExpressions = new ArrayList<>();
+  private final Function<String, Expression> parser =
+      expression -> {
+        parsedExpressions.add(expression);
+        return new StaticExpression(expression);
+      };
+
+  @Test
+  public void shouldParseExpressionOnlyOnce() {
+    // given
+    final var cache = new FeelExpressionCache(10);
+
+    // when
+    final var expression = cache.get("x", parser);
+    final var cachedExpression = cache.get("x", parser);
+
+    // then
+    assertThat(cachedExpression).isSameAs(expression);
+    assertThat(parsedExpressions).containsExactly("x");
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedExpression() {
+    // given
+    final var cache = new FeelExpressionCache(2);
+    cache.get("x", parser);
+    cache.get("y", parser);
+    cache.get("x", parser);
+
+    // when
+    cache.get("z", parser);
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+
+    cache.get("x", parser);
+    cache.get("y", parser);
+    assertThat(parsedExpressions).containsExactly("x", "y", "z", "y");
+  }
+}
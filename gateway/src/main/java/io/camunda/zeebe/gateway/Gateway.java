@@ -111,7 +111,9 @@ public final class Gateway {
       actorSchedulingService.submitActor(longPollingHandler);
       activateJobsHandler = longPollingHandler;
     } else {
-      activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
+      activateJobsHandler =
+          new RoundRobinActivateJobsHandler(
+              brokerClient, gatewayCfg.getJobActivation().getFanOut());
     }
 
     final EndpointManager endpointManager = new EndpointManager(brokerClient, activateJobsHandler);
@@ -178,7 +180,10 @@ public final class Gateway {
   }
 
   private LongPollingActivateJobsHandler buildLongPollingHandler(final BrokerClient brokerClient) {
-    return LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
+    return LongPollingActivateJobsHandler.newBuilder()
+        .setBrokerClient(brokerClient)
+        .setFanOut(gatewayCfg.getJobActivation().getFanOut())
+        .build();
   }
 
   private ServerServiceDefinition applyInterceptors(final GatewayGrpcService service) {
@@ -49,6 +49,13 @@ public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBat
     return this;
   }
 
+  /** @return a new request with the same properties, which can be sent independently of this one */
+  public BrokerActivateJobsRequest copy() {
+    final BrokerActivateJobsRequest copy = new BrokerActivateJobsRequest(requestDto.getType());
+    copy.requestDto.wrap(BufferUtil.createCopy(requestDto));
+    return copy;
+  }
+
   @Override
   public JobBatchRecord getRequestWriter() {
     return requestDto;
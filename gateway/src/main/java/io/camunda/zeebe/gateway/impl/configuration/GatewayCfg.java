@@ -27,6 +27,7 @@ public class GatewayCfg {
   private MonitoringCfg monitoring = new MonitoringCfg();
   private SecurityCfg security = new SecurityCfg();
   private LongPollingCfg longPolling = new LongPollingCfg();
+  private JobActivationCfg jobActivation = new JobActivationCfg();
   private List<InterceptorCfg> interceptors = new ArrayList<>();
   private boolean initialized = false;
 
@@ -98,6 +99,15 @@ public class GatewayCfg {
     return this;
   }
 
+  public JobActivationCfg getJobActivation() {
+    return jobActivation;
+  }
+
+  public GatewayCfg setJobActivation(final JobActivationCfg jobActivation) {
+    this.jobActivation = jobActivation;
+    return this;
+  }
+
   public List<InterceptorCfg> getInterceptors() {
     return interceptors;
   }
@@ -108,7 +118,8 @@ public class GatewayCfg {
 
   @Override
   public int hashCode() {
-    return Objects.hash(network, cluster, threads, monitoring, security, longPolling, interceptors);
+    return Objects.hash(
+        network, cluster, threads, monitoring, security, longPolling, jobActivation, interceptors);
   }
 
   @Override
@@ -126,6 +137,7 @@ public class GatewayCfg {
         && Objects.equals(monitoring, that.monitoring)
         && Objects.equals(security, that.security)
         && Objects.equals(longPolling, that.longPolling)
+        && Objects.equals(jobActivation, that.jobActivation)
         && Objects.equals(interceptors, that.interceptors);
   }
 
@@ -144,6 +156,8 @@ public class GatewayCfg {
         + security
         + ", longPollingCfg="
         + longPolling
+        + ", jobActivationCfg="
+        + jobActivation
         + ", interceptors="
         + interceptors
         + '}';
@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import java.util.Objects;
+
+public final class JobActivationCfg {
+
+  private int fanOut = ConfigurationDefaults.DEFAULT_JOB_ACTIVATION_FAN_OUT;
+
+  public int getFanOut() {
+    return fanOut;
+  }
+
+  /**
+   * Sets the number of partitions which are queried in parallel to activate jobs. The jobs to
+   * activate are split across these partitions; with a fan-out of 1 the partitions are queried one
+   * after another.
+   */
+  public JobActivationCfg setFanOut(final int fanOut) {
+    this.fanOut = fanOut;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(fanOut);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final JobActivationCfg that = (JobActivationCfg) o;
+    return fanOut == that.fanOut;
+  }
+
+  @Override
+  public String toString() {
+    return "JobActivationCfg{" + "fanOut=" + fanOut + '}';
+  }
+}
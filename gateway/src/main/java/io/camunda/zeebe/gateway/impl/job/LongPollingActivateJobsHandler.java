@@ -15,6 +15,7 @@ import io.camunda.zeebe.gateway.Loggers;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults;
 import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
@@ -23,6 +24,7 @@ import io.camunda.zeebe.util.sched.ScheduledTimer;
 import io.camunda.zeebe.util.sched.clock.ActorClock;
 import io.grpc.protobuf.StatusProto;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -31,11 +33,16 @@ import org.slf4j.Logger;
 
 /**
  * Adds long polling to the handling of activate job requests. When there are no jobs available to
- * activate, the response will be kept open.
+ * activate, the response will be kept open. When a partition notifies that jobs are available,
+ * the open requests are sent to that partition first, so the jobs are usually activated with a
+ * single round trip.
  */
 public final class LongPollingActivateJobsHandler extends Actor implements ActivateJobsHandler {
 
-  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
+  // the notifications on this topic only contain the job type; older brokers only send these
+  public static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
+  // the notifications on this topic contain the partition: "<partitionId>:<jobType>"
+  public static final String JOBS_AVAILABLE_ON_PARTITION_TOPIC = "jobsAvailableOnPartition";
   private static final Logger LOG = Loggers.GATEWAY_LOGGER;
   private static final String ERROR_MSG_ACTIVATED_EXHAUSTED =
       "Expected to activate jobs of type '%s', but no jobs available and at least one broker returned 'RESOURCE_EXHAUSTED'. Please try again later.";
@@ -56,9 +63,10 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
       final BrokerClient brokerClient,
       final long longPollingTimeout,
       final long probeTimeoutMillis,
-      final int failedAttemptThreshold) {
+      final int failedAttemptThreshold,
+      final int fanOut) {
     this.brokerClient = brokerClient;
-    activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
+    activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient, fanOut);
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
     this.failedAttemptThreshold = failedAttemptThreshold;
@@ -73,6 +81,8 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   @Override
   protected void onActorStarted() {
     brokerClient.subscribeJobAvailableNotification(JOBS_AVAILABLE_TOPIC, this::onNotification);
+    brokerClient.subscribeJobAvailableNotification(
+        JOBS_AVAILABLE_ON_PARTITION_TOPIC, this::onPartitionNotification);
     actor.runAtFixedRate(Duration.ofMillis(probeTimeoutMillis), this::probe);
   }
 
@@ -86,13 +96,18 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   }
 
   public void activateJobs(final LongPollingActivateJobsRequest request) {
+    activateJobs(request, BrokerClusterState.PARTITION_ID_NULL);
+  }
+
+  private void activateJobs(
+      final LongPollingActivateJobsRequest request, final int startPartitionId) {
     actor.run(
         () -> {
           final InFlightLongPollingActivateJobsRequestsState state =
               getJobTypeState(request.getType());
 
           if (state.getFailedAttempts() < failedAttemptThreshold) {
-            activateJobsUnchecked(state, request);
+            activateJobsUnchecked(state, request, startPartitionId);
           } else {
             completeOrEnqueueRequest(state, request);
           }
@@ -107,6 +122,13 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   private void activateJobsUnchecked(
       final InFlightLongPollingActivateJobsRequestsState state,
       final LongPollingActivateJobsRequest request) {
+    activateJobsUnchecked(state, request, BrokerClusterState.PARTITION_ID_NULL);
+  }
+
+  private void activateJobsUnchecked(
+      final InFlightLongPollingActivateJobsRequestsState state,
+      final LongPollingActivateJobsRequest request,
+      final int startPartitionId) {
 
     final BrokerClusterState topology = brokerClient.getTopologyManager().getTopology();
     if (topology != null) {
@@ -115,6 +137,7 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
       final int partitionsCount = topology.getPartitionsCount();
       activateJobsHandler.activateJobs(
           partitionsCount,
+          startPartitionId,
           request.getRequest(),
           request.getMaxJobsToActivate(),
           request.getType(),
@@ -131,6 +154,25 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
     actor.run(() -> resetFailedAttemptsAndHandlePendingRequests(jobType));
   }
 
+  private void onPartitionNotification(final String notification) {
+    final int separatorIndex = notification.indexOf(':');
+    final int partitionId;
+    try {
+      partitionId = Integer.parseInt(notification.substring(0, Math.max(separatorIndex, 0)));
+    } catch (final NumberFormatException e) {
+      LOG.warn("Received malformed jobs available notification '{}', ignoring it", notification);
+      return;
+    }
+
+    final String jobType = notification.substring(separatorIndex + 1);
+    LOG.trace(
+        "Received jobs available notification for type {} from partition {}.",
+        jobType,
+        partitionId);
+
+    actor.run(() -> resetFailedAttemptsAndHandlePendingRequests(jobType, partitionId));
+  }
+
   private void onCompleted(
       final InFlightLongPollingActivateJobsRequestsState state,
       final LongPollingActivateJobsRequest request,
@@ -188,6 +230,11 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   }
 
   private void resetFailedAttemptsAndHandlePendingRequests(final String jobType) {
+    resetFailedAttemptsAndHandlePendingRequests(jobType, BrokerClusterState.PARTITION_ID_NULL);
+  }
+
+  private void resetFailedAttemptsAndHandlePendingRequests(
+      final String jobType, final int partitionId) {
     final InFlightLongPollingActivateJobsRequestsState state = getJobTypeState(jobType);
 
     state.resetFailedAttempts();
@@ -195,11 +242,14 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
     final Queue<LongPollingActivateJobsRequest> pendingRequests = state.getPendingRequests();
 
     if (!pendingRequests.isEmpty()) {
-      pendingRequests.forEach(
-          nextPendingRequest -> {
-            LOG.trace("Unblocking ActivateJobsRequest {}", nextPendingRequest.getRequest());
-            activateJobs(nextPendingRequest);
-          });
+      // brokers send each notification with and without the partition, so the requests are
+      // activated right away; then they are no longer pending when the other notification arrives
+      new ArrayList<>(pendingRequests)
+          .forEach(
+              nextPendingRequest -> {
+                LOG.trace("Unblocking ActivateJobsRequest {}", nextPendingRequest.getRequest());
+                activateJobsUnchecked(state, nextPendingRequest, partitionId);
+              });
     } else {
       if (!state.hasActiveRequests()) {
         jobTypeState.remove(jobType);
@@ -277,6 +327,7 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
     private long longPollingTimeout = DEFAULT_LONG_POLLING_TIMEOUT;
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     private int minEmptyResponses = EMPTY_RESPONSE_THRESHOLD;
+    private int fanOut = ConfigurationDefaults.DEFAULT_JOB_ACTIVATION_FAN_OUT;
 
     public Builder setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -298,10 +349,15 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
       return this;
     }
 
+    public Builder setFanOut(final int fanOut) {
+      this.fanOut = fanOut;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
       return new LongPollingActivateJobsHandler(
-          brokerClient, longPollingTimeout, probeTimeoutMillis, minEmptyResponses);
+          brokerClient, longPollingTimeout, probeTimeoutMillis, minEmptyResponses, fanOut);
     }
   }
 }
@@ -20,9 +20,14 @@ import io.camunda.zeebe.gateway.impl.broker.RoundRobinDispatchStrategy;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.record.ErrorCode;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
@@ -30,7 +35,8 @@ import java.util.function.Consumer;
 
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
- * partition-IDs to determine the next partition to use.
+ * partition-IDs to determine the next partition to use. With a fan-out greater than 1, multiple
+ * partitions are queried in parallel, see {@link FanOutActivation}.
  */
 public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler {
 
@@ -38,9 +44,15 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
       new ConcurrentHashMap<>();
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
+  private final int fanOut;
 
   public RoundRobinActivateJobsHandler(final BrokerClient brokerClient) {
+    this(brokerClient, ConfigurationDefaults.DEFAULT_JOB_ACTIVATION_FAN_OUT);
+  }
+
+  public RoundRobinActivateJobsHandler(final BrokerClient brokerClient, final int fanOut) {
     this.brokerClient = brokerClient;
+    this.fanOut = fanOut;
     topologyManager = brokerClient.getTopologyManager();
   }
 
@@ -71,8 +83,54 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
       final Consumer<Throwable> onError,
       final BiConsumer<Integer, Boolean> onCompleted) {
     activateJobs(
+        partitionsCount,
+        BrokerClusterState.PARTITION_ID_NULL,
         request,
-        partitionIdIteratorForType(type, partitionsCount),
+        maxJobsToActivate,
+        type,
+        onResponse,
+        onError,
+        onCompleted);
+  }
+
+  /**
+   * Activates jobs like {@link #activateJobs(int, BrokerActivateJobsRequest, int, String, Consumer,
+   * Consumer, BiConsumer)}, but starts with the given partition instead of the next round-robin
+   * partition, e.g. with the partition which notified that jobs are available.
+   *
+   * @param startPartitionId the partition to start with, or {@link
+   *     BrokerClusterState#PARTITION_ID_NULL} to start with the next round-robin partition
+   */
+  public void activateJobs(
+      final int partitionsCount,
+      final int startPartitionId,
+      final BrokerActivateJobsRequest request,
+      final int maxJobsToActivate,
+      final String type,
+      final Consumer<ActivateJobsResponse> onResponse,
+      final Consumer<Throwable> onError,
+      final BiConsumer<Integer, Boolean> onCompleted) {
+    final PartitionIdIterator partitionIdIterator =
+        startPartitionId == BrokerClusterState.PARTITION_ID_NULL
+            ? partitionIdIteratorForType(type, partitionsCount)
+            : new PartitionIdIterator(startPartitionId, partitionsCount, topologyManager);
+
+    if (fanOut > 1 && partitionsCount > 1) {
+      new FanOutActivation(
+              request,
+              partitionIdIterator,
+              maxJobsToActivate,
+              type,
+              onResponse,
+              onError,
+              onCompleted)
+          .start();
+      return;
+    }
+
+    activateJobs(
+        request,
+        partitionIdIterator,
         maxJobsToActivate,
         type,
         onResponse,
@@ -149,7 +207,7 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
                     onError.accept(error);
                     return;
                   } else if (!wasResourceExhausted) {
-                    logErrorResponse(partitionIdIterator, jobType, error);
+                    logErrorResponse(partitionIdIterator.getCurrentPartitionId(), jobType, error);
                   }
 
                   activateJobs(
@@ -184,12 +242,9 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
   }
 
   private void logErrorResponse(
-      final PartitionIdIterator partitionIdIterator, final String jobType, final Throwable error) {
+      final int partitionId, final String jobType, final Throwable error) {
     Loggers.GATEWAY_LOGGER.warn(
-        "Failed to activate jobs for type {} from partition {}",
-        jobType,
-        partitionIdIterator.getCurrentPartitionId(),
-        error);
+        "Failed to activate jobs for type {} from partition {}", jobType, partitionId, error);
   }
 
   private PartitionIdIterator partitionIdIteratorForType(
@@ -200,4 +255,145 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
     return new PartitionIdIterator(
         nextPartitionSupplier.determinePartition(), partitionsCount, topologyManager);
   }
+
+  /**
+   * Activates jobs on up to {@code fanOut} partitions in parallel. The jobs to activate are split
+   * across the in-flight requests, such that the jobs requested from all partitions never exceed
+   * the jobs which are left to activate; this way no surplus jobs are activated which would have
+   * to be handed back. The responses are passed on as each partition replies. A partition which
+   * returned all jobs it was asked for, or a truncated batch, may have more jobs and is polled
+   * again with the share of the partitions which had fewer jobs, before the next partition.
+   *
+   * <p>The responses are handled on the threads of the broker client, so the state is guarded by
+   * this object's monitor; this also ensures that the consumers are never called concurrently.
+   */
+  private final class FanOutActivation {
+
+    private final BrokerActivateJobsRequest request;
+    private final PartitionIdIterator partitionIdIterator;
+    private final String jobType;
+    private final Consumer<ActivateJobsResponse> onResponse;
+    private final Consumer<Throwable> onError;
+    private final BiConsumer<Integer, Boolean> onCompleted;
+    private final Deque<Integer> partitionsToPollAgain = new ArrayDeque<>();
+
+    private int remainingAmount;
+    private int requestedAmount;
+    private int inFlightRequests;
+    private boolean resourceExhaustedWasPresent;
+    private boolean failed;
+    private boolean completed;
+
+    private FanOutActivation(
+        final BrokerActivateJobsRequest request,
+        final PartitionIdIterator partitionIdIterator,
+        final int maxJobsToActivate,
+        final String jobType,
+        final Consumer<ActivateJobsResponse> onResponse,
+        final Consumer<Throwable> onError,
+        final BiConsumer<Integer, Boolean> onCompleted) {
+      this.request = request;
+      this.partitionIdIterator = partitionIdIterator;
+      remainingAmount = maxJobsToActivate;
+      this.jobType = jobType;
+      this.onResponse = onResponse;
+      this.onError = onError;
+      this.onCompleted = onCompleted;
+    }
+
+    private synchronized void start() {
+      sendRequests();
+      completeIfDone();
+    }
+
+    private void sendRequests() {
+      while (!failed && inFlightRequests < fanOut && hasPartitionToPoll()) {
+        final int unrequestedAmount = remainingAmount - requestedAmount;
+        if (unrequestedAmount <= 0) {
+          return;
+        }
+
+        // split the jobs which are not requested yet evenly across the free request slots; once
+        // all partitions were polled, only the partitions which may have more jobs are left
+        int freeSlots = fanOut - inFlightRequests;
+        if (!partitionIdIterator.hasNext()) {
+          freeSlots = Math.min(freeSlots, partitionsToPollAgain.size());
+        }
+        final int amount = (unrequestedAmount + freeSlots - 1) / freeSlots;
+        sendRequest(nextPartitionId(), amount);
+      }
+    }
+
+    private void sendRequest(final int partitionId, final int amount) {
+      final BrokerActivateJobsRequest partitionRequest = request.copy();
+      partitionRequest.setPartitionId(partitionId);
+      partitionRequest.setMaxJobsToActivate(amount);
+
+      requestedAmount += amount;
+      inFlightRequests++;
+
+      brokerClient
+          .sendRequest(partitionRequest)
+          .whenComplete(
+              (response, error) -> onPartitionResponse(partitionId, amount, response, error));
+    }
+
+    private synchronized void onPartitionResponse(
+        final int partitionId,
+        final int requested,
+        final BrokerResponse<JobBatchRecord> response,
+        final Throwable error) {
+      requestedAmount -= requested;
+      inFlightRequests--;
+
+      if (error == null) {
+        final ActivateJobsResponse grpcResponse =
+            ResponseMapper.toActivateJobsResponse(response.getKey(), response.getResponse());
+        final int jobsCount = grpcResponse.getJobsCount();
+        remainingAmount -= jobsCount;
+        if (jobsCount > 0 && !failed) {
+          onResponse.accept(grpcResponse);
+        }
+
+        if (jobsCount == requested || response.getResponse().getTruncated()) {
+          partitionsToPollAgain.add(partitionId);
+        }
+      } else if (isRejection(error)) {
+        if (!failed) {
+          failed = true;
+          onError.accept(error);
+        }
+      } else {
+        final boolean wasResourceExhausted = wasResourceExhausted(error);
+        resourceExhaustedWasPresent |= wasResourceExhausted;
+        if (!wasResourceExhausted) {
+          logErrorResponse(partitionId, jobType, error);
+        }
+      }
+
+      sendRequests();
+      completeIfDone();
+    }
+
+    private void completeIfDone() {
+      if (failed || completed || inFlightRequests > 0) {
+        return;
+      }
+
+      if (remainingAmount <= 0 || !hasPartitionToPoll()) {
+        // enough jobs activated or no more partitions left to check
+        completed = true;
+        onCompleted.accept(remainingAmount, resourceExhaustedWasPresent);
+      }
+    }
+
+    private boolean hasPartitionToPoll() {
+      return !partitionsToPollAgain.isEmpty() || partitionIdIterator.hasNext();
+    }
+
+    private int nextPartitionId() {
+      final Integer partitionId = partitionsToPollAgain.poll();
+      return partitionId != null ? partitionId : partitionIdIterator.next();
+    }
+  }
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.gateway.api.job;
 
+import static io.camunda.zeebe.protocol.Protocol.START_PARTITION_ID;
 import static io.camunda.zeebe.test.util.TestUtil.waitUntil;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,6 +28,7 @@ import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.util.sched.clock.ControlledActorClock;
@@ -108,6 +110,29 @@ public final class LongPollingActivateJobsTest {
     verify(responseSpy, timeout(1000).times(1)).onCompleted();
   }
 
+  @Test
+  public void shouldActivateJobsOnNotifyingPartitionFirst() {
+    // given
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    final StreamObserver<ActivateJobsResponse> responseSpy = request.getResponseObserver();
+    final int notifyingPartitionId = START_PARTITION_ID + partitionsCount - 1;
+
+    handler.activateJobs(request);
+    waitUntil(request::hasScheduledTimer);
+
+    // when
+    stub.addAvailableJobs(TYPE, 1);
+    brokerClient.notifyJobsAvailable(TYPE, notifyingPartitionId);
+
+    // then
+    final ArgumentCaptor<ActivateJobsResponse> responseCaptor =
+        ArgumentCaptor.forClass(ActivateJobsResponse.class);
+    verify(responseSpy, timeout(2000).times(1)).onNext(responseCaptor.capture());
+    assertThat(responseCaptor.getValue().getJobsList())
+        .extracting(job -> Protocol.decodePartitionId(job.getKey()))
+        .containsExactly(notifyingPartitionId);
+  }
+
   @Test
   public void shouldBlockOnlyAfterForwardingUntilThreshold() throws Exception {
     // when
@@ -18,6 +18,7 @@ import io.camunda.zeebe.gateway.impl.broker.BrokerResponseConsumer;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.protocol.Protocol;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -25,13 +26,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public final class StubbedBrokerClient implements BrokerClient {
 
   final BrokerTopologyManager topologyManager = new StubbedTopologyManager();
-  private Consumer<String> jobsAvailableHandler;
+  private final Map<String, Consumer<String>> jobsAvailableHandlers = new ConcurrentHashMap<>();
 
   private final Map<Class<?>, RequestHandler> requestHandlers = new HashMap<>();
 
@@ -116,7 +118,7 @@ public final class StubbedBrokerClient implements BrokerClient {
   @Override
   public void subscribeJobAvailableNotification(
       final String topic, final Consumer<String> handler) {
-    jobsAvailableHandler = handler;
+    jobsAvailableHandlers.put(topic, handler);
   }
 
   public <RequestT extends BrokerRequest<?>, ResponseT extends BrokerResponse<?>>
@@ -126,7 +128,13 @@ public final class StubbedBrokerClient implements BrokerClient {
   }
 
   public void notifyJobsAvailable(final String type) {
-    jobsAvailableHandler.accept(type);
+    jobsAvailableHandlers.get(LongPollingActivateJobsHandler.JOBS_AVAILABLE_TOPIC).accept(type);
+  }
+
+  public void notifyJobsAvailable(final String type, final int partitionId) {
+    jobsAvailableHandlers
+        .get(LongPollingActivateJobsHandler.JOBS_AVAILABLE_ON_PARTITION_TOPIC)
+        .accept(partitionId + ":" + type);
   }
 
   public <T extends BrokerRequest<?>> T getSingleBrokerRequest() {
@@ -31,10 +31,14 @@ public final class StubbedGatewayRule extends ExternalResource {
 
   private static ActivateJobsHandler getActivateJobsHandler(
       final GatewayCfg config, final StubbedBrokerClient brokerClient) {
+    final int fanOut = config.getJobActivation().getFanOut();
     if (config.getLongPolling().isEnabled()) {
-      return LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
+      return LongPollingActivateJobsHandler.newBuilder()
+          .setBrokerClient(brokerClient)
+          .setFanOut(fanOut)
+          .build();
     }
-    return new RoundRobinActivateJobsHandler(brokerClient);
+    return new RoundRobinActivateJobsHandler(brokerClient, fanOut);
   }
 
   @Override
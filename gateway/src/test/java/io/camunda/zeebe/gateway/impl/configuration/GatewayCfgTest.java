@@ -48,6 +48,7 @@ public final class GatewayCfgTest {
     CUSTOM_CFG.getMonitoring().setEnabled(true).setHost("monitoringHost").setPort(1234);
     CUSTOM_CFG.getThreads().setManagementThreads(100);
     CUSTOM_CFG.getLongPolling().setEnabled(false);
+    CUSTOM_CFG.getJobActivation().setFanOut(4);
   }
 
   private final Map<String, String> environment = new HashMap<>();
@@ -154,6 +155,7 @@ public final class GatewayCfgTest {
     setEnv("zeebe.gateway.monitoring.host", "monitorHost");
     setEnv("zeebe.gateway.monitoring.port", "231");
     setEnv("zeebe.gateway.security.enabled", String.valueOf(false));
+    setEnv("zeebe.gateway.jobActivation.fanOut", "5");
     setEnv(
         "zeebe.gateway.security.privateKeyPath",
         GatewayCfgTest.class
@@ -192,6 +194,7 @@ public final class GatewayCfgTest {
         .setCertificateChainPath(
             getClass().getClassLoader().getResource("security/test-chain.cert.pem").getPath());
     expected.getLongPolling().setEnabled(false);
+    expected.getJobActivation().setFanOut(5);
 
     // when
     final GatewayCfg gatewayCfg = readCustomConfig();
@@ -0,0 +1,235 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static io.camunda.zeebe.protocol.Protocol.START_PARTITION_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.gateway.cmd.BrokerRejectionException;
+import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class RoundRobinActivateJobsHandlerTest {
+
+  private static final String JOB_TYPE = "test";
+
+  private final List<SentRequest> sentRequests = new ArrayList<>();
+  private final List<ActivateJobsResponse> responses = new ArrayList<>();
+  private final List<Throwable> errors = new ArrayList<>();
+  private final List<Integer> remainingAmounts = new ArrayList<>();
+  private BrokerClient brokerClient;
+
+  @BeforeEach
+  void setUp() {
+    brokerClient = mock(BrokerClient.class);
+    when(brokerClient.sendRequest(any(BrokerRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              final BrokerActivateJobsRequest request = invocation.getArgument(0);
+              final var sentRequest = new SentRequest(request);
+              sentRequests.add(sentRequest);
+              return sentRequest.future;
+            });
+  }
+
+  @Test
+  void shouldSplitJobsToActivateAcrossParallelRequests() {
+    // given
+    final var handler = createHandler(8, 4);
+
+    // when
+    activateJobs(handler, 8, 10);
+
+    // then
+    assertThat(sentRequests)
+        .extracting(SentRequest::getPartitionId)
+        .containsExactly(
+            START_PARTITION_ID,
+            START_PARTITION_ID + 1,
+            START_PARTITION_ID + 2,
+            START_PARTITION_ID + 3);
+    assertThat(sentRequests)
+        .extracting(SentRequest::getMaxJobsToActivate)
+        .containsExactly(3, 3, 2, 2);
+  }
+
+  @Test
+  void shouldPassOnResponsesAsPartitionsReply() {
+    // given
+    final var handler = createHandler(4, 4);
+    activateJobs(handler, 4, 8);
+
+    // when
+    sentRequests.get(2).reply(2);
+
+    // then
+    assertThat(responses).hasSize(1);
+    assertThat(responses.get(0).getJobsList())
+        .allSatisfy(
+            job ->
+                assertThat(Protocol.decodePartitionId(job.getKey()))
+                    .isEqualTo(START_PARTITION_ID + 2));
+    assertThat(remainingAmounts).isEmpty();
+  }
+
+  @Test
+  void shouldPollPartitionAgainIfItReturnedAllRequestedJobs() {
+    // given
+    final var handler = createHandler(2, 2);
+    activateJobs(handler, 2, 4);
+
+    // when
+    sentRequests.get(1).reply(0);
+    sentRequests.get(0).reply(2);
+
+    // then - the first partition may have more jobs, the second doesn't
+    assertThat(sentRequests).hasSize(3);
+    assertThat(sentRequests.get(2).getPartitionId()).isEqualTo(START_PARTITION_ID);
+    assertThat(sentRequests.get(2).getMaxJobsToActivate()).isEqualTo(2);
+
+    // when
+    sentRequests.get(2).reply(2);
+
+    // then
+    assertThat(responses).hasSize(2);
+    assertThat(remainingAmounts).containsExactly(0);
+  }
+
+  @Test
+  void shouldNeverRequestMoreJobsThanRemaining() {
+    // given
+    final var handler = createHandler(8, 4);
+    activateJobs(handler, 8, 5);
+
+    // when
+    sentRequests.get(0).reply(2);
+    sentRequests.get(1).reply(0);
+
+    // then
+    final int inFlightAmount =
+        sentRequests.stream()
+            .filter(request -> !request.future.isDone())
+            .mapToInt(SentRequest::getMaxJobsToActivate)
+            .sum();
+    assertThat(inFlightAmount).isEqualTo(3);
+  }
+
+  @Test
+  void shouldCompleteWithRemainingAmountWhenAllPartitionsReplied() {
+    // given
+    final var handler = createHandler(2, 2);
+    activateJobs(handler, 2, 4);
+
+    // when
+    sentRequests.get(0).reply(1);
+    sentRequests.get(1).reply(0);
+
+    // then
+    assertThat(sentRequests).hasSize(2);
+    assertThat(remainingAmounts).containsExactly(3);
+  }
+
+  @Test
+  void shouldFailOnRejectionWithoutCompleting() {
+    // given
+    final var handler = createHandler(2, 2);
+    activateJobs(handler, 2, 4);
+
+    // when
+    sentRequests.get(0).reject();
+    sentRequests.get(1).reject();
+
+    // then
+    assertThat(errors).hasSize(1).first().isInstanceOf(BrokerRejectionException.class);
+    assertThat(remainingAmounts).isEmpty();
+  }
+
+  private RoundRobinActivateJobsHandler createHandler(final int partitionsCount, final int fanOut) {
+    final var topology = new BrokerClusterStateImpl();
+    topology.addBrokerIfAbsent(0);
+    for (int partitionOffset = 0; partitionOffset < partitionsCount; partitionOffset++) {
+      topology.setPartitionLeader(START_PARTITION_ID + partitionOffset, 0, 1);
+      topology.addPartitionIfAbsent(START_PARTITION_ID + partitionOffset);
+    }
+    topology.setPartitionsCount(partitionsCount);
+
+    final var topologyManager = mock(BrokerTopologyManager.class);
+    when(topologyManager.getTopology()).thenReturn(topology);
+    when(brokerClient.getTopologyManager()).thenReturn(topologyManager);
+
+    return new RoundRobinActivateJobsHandler(brokerClient, fanOut);
+  }
+
+  private void activateJobs(
+      final RoundRobinActivateJobsHandler handler,
+      final int partitionsCount,
+      final int maxJobsToActivate) {
+    handler.activateJobs(
+        partitionsCount,
+        new BrokerActivateJobsRequest(JOB_TYPE).setMaxJobsToActivate(maxJobsToActivate),
+        maxJobsToActivate,
+        JOB_TYPE,
+        responses::add,
+        errors::add,
+        (remainingAmount, resourceExhaustedWasPresent) -> remainingAmounts.add(remainingAmount));
+  }
+
+  private static final class SentRequest {
+    private final int partitionId;
+    private final int maxJobsToActivate;
+    private final CompletableFuture<BrokerResponse<JobBatchRecord>> future =
+        new CompletableFuture<>();
+
+    private SentRequest(final BrokerActivateJobsRequest request) {
+      partitionId = request.getPartitionId();
+      maxJobsToActivate = request.getRequestWriter().getMaxJobsToActivate();
+    }
+
+    private int getPartitionId() {
+      return partitionId;
+    }
+
+    private int getMaxJobsToActivate() {
+      return maxJobsToActivate;
+    }
+
+    private void reply(final int jobsCount) {
+      final var jobBatch = new JobBatchRecord().setType(JOB_TYPE);
+      for (int i = 0; i < jobsCount; i++) {
+        jobBatch.jobKeys().add().setValue(Protocol.encodePartitionId(partitionId, i));
+        jobBatch.jobs().add().setType(JOB_TYPE);
+      }
+      future.complete(new BrokerResponse<>(jobBatch, partitionId, 1));
+    }
+
+    private void reject() {
+      future.completeExceptionally(
+          new BrokerRejectionException(
+              new BrokerRejection(
+                  JobBatchIntent.ACTIVATE, 1, RejectionType.INVALID_ARGUMENT, "expected")));
+    }
+  }
+}
@@ -105,6 +105,10 @@ public interface Journal extends AutoCloseable {
    * Depending on the implementation, appends to the journal may not be immediately flushed to the
    * persistent storage. A call to this method guarantees that all records written are safely
    * flushed to the persistent storage.
+   *
+   * <p>It may be called from another thread than the one which appends the records, while records
+   * are appended. Then it guarantees that all records which were written before the call are
+   * flushed.
    */
   void flush();
 
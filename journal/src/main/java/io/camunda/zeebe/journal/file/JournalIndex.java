@@ -78,4 +78,20 @@ interface JournalIndex {
 
   /** Delete all index mappings */
   void clear();
+
+  /**
+   * Passes all mappings with an index between the given bounds (inclusive) to the consumer, in
+   * ascending order of their index. Mappings without an asqn are passed with {@link
+   * SegmentedJournal#ASQN_IGNORE}.
+   *
+   * @param fromIndex the lowest index to pass
+   * @param toIndex the highest index to pass
+   * @param consumer the consumer of the mappings
+   */
+  void forEach(long fromIndex, long toIndex, IndexEntryConsumer consumer);
+
+  @FunctionalInterface
+  interface IndexEntryConsumer {
+    void accept(long index, long asqn, int position);
+  }
 }
@@ -15,8 +15,10 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
+import java.util.concurrent.Callable;
 
 class JournalMetrics {
   private static final String NAMESPACE = "atomix";
@@ -29,6 +31,24 @@ class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Histogram SEGMENT_ROLLOVER_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("segment_rollover_time")
+          .help("Time spend to seal the current segment and switch to the next one when appending")
+          .labelNames(PARTITION_LABEL)
+          .buckets(0.0001, 0.0005, 0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1)
+          .register();
+
+  private static final Counter SEGMENT_PREALLOCATION_MISSES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("segment_preallocation_misses")
+          .help(
+              "Number of times the next segment was not preallocated yet when rolling over to it")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private static final Histogram SEGMENT_TRUNCATE_TIME =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -66,8 +86,16 @@ class JournalMetrics {
     this.logName = logName;
   }
 
-  public void observeSegmentCreation(final Runnable segmentCreation) {
-    SEGMENT_CREATION_TIME.labels(logName).time(segmentCreation);
+  public <T> T timeSegmentCreation(final Callable<T> segmentCreation) {
+    return SEGMENT_CREATION_TIME.labels(logName).time(segmentCreation);
+  }
+
+  public void observeSegmentRollover(final Runnable segmentRollover) {
+    SEGMENT_ROLLOVER_TIME.labels(logName).time(segmentRollover);
+  }
+
+  public void incSegmentPreallocationMisses() {
+    SEGMENT_PREALLOCATION_MISSES.labels(logName).inc();
   }
 
   public void observeSegmentFlush(final Runnable segmentFlush) {
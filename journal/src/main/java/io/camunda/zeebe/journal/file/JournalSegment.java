@@ -23,6 +23,7 @@ import com.google.common.collect.Sets;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.file.Files;
@@ -50,19 +51,31 @@ class JournalSegment implements AutoCloseable {
   private final MappedByteBuffer buffer;
   // This need to be volatile because both the writer and the readers access it concurrently
   private volatile boolean markedForDeletion = false;
+  private boolean sealed;
 
+  /**
+   * Creates a segment. If a persisted index is given and it matches the segment, the state of the
+   * segment is restored from it instead of scanning the segment.
+   */
   public JournalSegment(
       final JournalSegmentFile file,
       final JournalSegmentDescriptor descriptor,
       final MappedByteBuffer buffer,
       final long maxWrittenIndex,
-      final JournalIndex index) {
+      final JournalIndex index,
+      final PersistedSegmentIndex persistedIndex) {
     this.file = file;
     this.descriptor = descriptor;
     this.buffer = buffer;
     this.index = index;
 
-    writer = createWriter(maxWrittenIndex);
+    writer = createWriter(maxWrittenIndex, persistedIndex);
+    sealed = writer.isRestored();
+    if (persistedIndex != null && !sealed) {
+      LOG.debug(
+          "Persisted index of segment {} does not match its contents, scanned it instead", this);
+      deleteIndexFile();
+    }
   }
 
   /**
@@ -152,8 +165,59 @@ class JournalSegment implements AutoCloseable {
     return reader;
   }
 
-  private MappedJournalSegmentWriter createWriter(final long lastWrittenIndex) {
-    return new MappedJournalSegmentWriter(buffer, this, index, lastWrittenIndex);
+  private MappedJournalSegmentWriter createWriter(
+      final long lastWrittenIndex, final PersistedSegmentIndex persistedIndex) {
+    return new MappedJournalSegmentWriter(buffer, this, index, lastWrittenIndex, persistedIndex);
+  }
+
+  /**
+   * Returns a boolean indicating whether the index of the segment is persisted.
+   *
+   * @return indicates whether the segment is sealed
+   */
+  boolean isSealed() {
+    return sealed;
+  }
+
+  /**
+   * Persists the index of the segment next to it, such that it does not have to be scanned when
+   * the journal is opened again. Must only be called once no more records are written to the
+   * segment, and after they have been flushed. Failing to persist the index is not fatal, as the
+   * segment is then simply scanned again.
+   */
+  void seal() {
+    if (sealed || writer.isEmpty()) {
+      return;
+    }
+
+    try {
+      PersistedSegmentIndex.write(file.getIndexFile(), this, writer.getLastEntryPosition(), index);
+      sealed = true;
+    } catch (final IOException | UncheckedIOException e) {
+      LOG.warn("Failed to persist the index of segment {}, it will be scanned on restart", this, e);
+    }
+  }
+
+  /**
+   * Deletes the persisted index of the segment, e.g. because the segment is written to again. Must
+   * be called before the segment is modified.
+   */
+  void unseal() {
+    if (!sealed) {
+      return;
+    }
+
+    deleteIndexFile();
+    sealed = false;
+  }
+
+  private void deleteIndexFile() {
+    try {
+      Files.deleteIfExists(file.getIndexFile());
+    } catch (final IOException e) {
+      throw new JournalException(
+          String.format("Failed to delete the index of segment %s", this), e);
+    }
   }
 
   /**
@@ -196,6 +260,10 @@ class JournalSegment implements AutoCloseable {
   /** Deletes the segment. */
   public void delete() {
     open = false;
+    // the index is deleted first, such that it can never be mistaken for the index of a new
+    // segment with the same id
+    deleteIndexFile();
+    sealed = false;
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
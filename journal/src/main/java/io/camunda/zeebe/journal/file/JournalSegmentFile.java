@@ -33,6 +33,7 @@ final class JournalSegmentFile {
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
   private static final String DELETE_EXTENSION = "deleted";
+  private static final String INDEX_EXTENSION = "idx";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
   private final File file;
   private Path fileMarkedForDeletion;
@@ -118,6 +119,18 @@ final class JournalSegmentFile {
     return file.getName();
   }
 
+  /**
+   * Returns the file in which the index of the segment is stored once the segment is sealed.
+   *
+   * @return The segment index file.
+   */
+  public Path getIndexFile() {
+    final String name = file.getName();
+    final String indexFileName =
+        name.substring(0, name.lastIndexOf(EXTENSION_SEPARATOR) + 1) + INDEX_EXTENSION;
+    return Path.of(file.getParent(), indexFileName);
+  }
+
   public Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
@@ -0,0 +1,222 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.agrona.IoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prepares the file of the next segment in the background, such that rolling over to a new segment
+ * does not have to create, allocate and map a file on the append path. The file is created under
+ * its final name, filled with zeros so that its blocks are allocated, mapped and flushed together
+ * with its directory; only the descriptor is left to be written when the segment is taken.
+ *
+ * <p>Until its descriptor is written, a prepared file starts with a zero version byte. If the
+ * journal is opened again before it was used, it is therefore treated like a trailing segment with
+ * a corrupted descriptor which holds no acknowledged entries, and deleted.
+ *
+ * <p>Except for the allocation itself, all methods are called by the journal while it holds its
+ * own lock.
+ */
+final class JournalSegmentPreallocator implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(JournalSegmentPreallocator.class);
+  private static final int ZERO_CHUNK_SIZE = 1024 * 1024;
+
+  private final String name;
+  private final File directory;
+  private final int maxSegmentSize;
+  private final ByteOrder byteOrder;
+  private final JournalMetrics journalMetrics;
+  private final ExecutorService executor;
+
+  private PreparedSegment preparedSegment;
+
+  JournalSegmentPreallocator(
+      final String name,
+      final File directory,
+      final int maxSegmentSize,
+      final ByteOrder byteOrder,
+      final JournalMetrics journalMetrics) {
+    this.name = name;
+    this.directory = directory;
+    this.maxSegmentSize = maxSegmentSize;
+    this.byteOrder = byteOrder;
+    this.journalMetrics = journalMetrics;
+    executor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              final var thread = new Thread(runnable, "journal-segment-preallocator-" + name);
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Starts preparing the file of the segment with the given id, unless it is already being
+   * prepared. A file prepared for another id is discarded.
+   *
+   * @param segmentId the id of the next segment
+   */
+  void preallocate(final long segmentId) {
+    if (preparedSegment != null) {
+      if (preparedSegment.id == segmentId) {
+        return;
+      }
+
+      discard();
+    }
+
+    final var segment = new PreparedSegment(segmentId);
+    segment.buffer = CompletableFuture.supplyAsync(() -> allocate(segment), executor);
+    preparedSegment = segment;
+  }
+
+  /**
+   * Returns the mapped file of the segment with the given id, waiting for it if it is still being
+   * prepared. The caller takes ownership of the buffer.
+   *
+   * @param segmentId the id of the segment to take
+   * @return the mapped, empty segment file, or null if none was prepared for the given id
+   */
+  MappedByteBuffer take(final long segmentId) {
+    if (preparedSegment == null || preparedSegment.id != segmentId) {
+      journalMetrics.incSegmentPreallocationMisses();
+      discard();
+      return null;
+    }
+
+    final var segment = preparedSegment;
+    preparedSegment = null;
+    if (!segment.buffer.isDone()) {
+      journalMetrics.incSegmentPreallocationMisses();
+    }
+
+    try {
+      return segment.buffer.join();
+    } catch (final CompletionException e) {
+      LOG.warn("Failed to preallocate segment {} of journal {}", segmentId, name, e.getCause());
+      return null;
+    }
+  }
+
+  @Override
+  public void close() {
+    discard();
+    executor.shutdownNow();
+  }
+
+  private void discard() {
+    if (preparedSegment == null) {
+      return;
+    }
+
+    final var segment = preparedSegment;
+    preparedSegment = null;
+    segment.cancelled = true;
+
+    try {
+      IoUtil.unmap(segment.buffer.join());
+      deleteFile(segment.id);
+    } catch (final CompletionException e) {
+      // a failed preallocation already cleaned up after itself
+      LOG.trace("Discarded segment {} of journal {} which failed to preallocate", segment.id, name);
+    }
+  }
+
+  private MappedByteBuffer allocate(final PreparedSegment segment) {
+    return journalMetrics.timeSegmentCreation(
+        () -> {
+          final var file = JournalSegmentFile.createSegmentFile(name, directory, segment.id);
+          try {
+            // a left over index of a previous segment with the same id must never be loaded for
+            // this one
+            Files.deleteIfExists(new JournalSegmentFile(file).getIndexFile());
+            // fails if the file exists, in which case it is left to the journal to deal with it
+            Files.createFile(file.toPath());
+          } catch (final IOException e) {
+            throw new JournalException(String.format("Failed to create segment %s", file), e);
+          }
+
+          try {
+            return allocate(segment, file);
+          } catch (final RuntimeException e) {
+            deleteFile(segment.id);
+            throw e;
+          }
+        });
+  }
+
+  private MappedByteBuffer allocate(final PreparedSegment segment, final File file) {
+    try (final var channel =
+        FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      final var zeros = ByteBuffer.allocateDirect(Math.min(ZERO_CHUNK_SIZE, maxSegmentSize));
+      long position = 0;
+      while (position < maxSegmentSize) {
+        if (segment.cancelled) {
+          throw new JournalException(
+              String.format("Preallocation of segment %s was cancelled", file));
+        }
+
+        zeros.clear().limit((int) Math.min(zeros.capacity(), maxSegmentSize - position));
+        position += channel.write(zeros, position);
+      }
+      channel.force(true);
+
+      final MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, maxSegmentSize);
+      buffer.order(byteOrder);
+
+      FileUtil.flushDirectory(directory.toPath());
+      return buffer;
+    } catch (final IOException e) {
+      throw new JournalException(String.format("Failed to preallocate segment %s", file), e);
+    }
+  }
+
+  private void deleteFile(final long segmentId) {
+    final var file = JournalSegmentFile.createSegmentFile(name, directory, segmentId);
+    try {
+      Files.deleteIfExists(file.toPath());
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete preallocated segment {}", file, e);
+    }
+  }
+
+  private static final class PreparedSegment {
+    private final long id;
+    private volatile boolean cancelled;
+    private CompletableFuture<MappedByteBuffer> buffer;
+
+    private PreparedSegment(final long id) {
+      this.id = id;
+    }
+  }
+}
@@ -41,18 +41,21 @@ class MappedJournalSegmentWriter {
   private final JournalIndex index;
   private final long firstIndex;
   private JournalRecord lastEntry;
+  private int lastEntryPosition;
   private boolean isOpen = true;
   private final JournalRecordReaderUtil recordUtil;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
   private final JournalRecordSerializer serializer = new SBESerializer();
   private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
   private final int descriptorLength;
+  private final boolean restored;
 
   MappedJournalSegmentWriter(
       final MappedByteBuffer buffer,
       final JournalSegment segment,
       final JournalIndex index,
-      final long lastWrittenIndex) {
+      final long lastWrittenIndex,
+      final PersistedSegmentIndex persistedIndex) {
     this.segment = segment;
     descriptorLength = segment.descriptor().length();
     recordUtil = new JournalRecordReaderUtil(serializer);
@@ -60,7 +63,16 @@ class MappedJournalSegmentWriter {
     firstIndex = segment.index();
     this.buffer = buffer;
     writeBuffer.wrap(buffer);
-    reset(0, lastWrittenIndex);
+
+    restored = persistedIndex != null && restore(persistedIndex);
+    if (!restored) {
+      reset(0, lastWrittenIndex);
+    }
+  }
+
+  /** Returns true if the writer was restored from the persisted index of the segment. */
+  boolean isRestored() {
+    return restored;
   }
 
   public long getLastIndex() {
@@ -71,6 +83,11 @@ class MappedJournalSegmentWriter {
     return lastEntry;
   }
 
+  /** Returns the position of the last entry in the segment; only valid if it is not empty. */
+  int getLastEntryPosition() {
+    return lastEntryPosition;
+  }
+
   public long getNextIndex() {
     if (lastEntry != null) {
       return lastEntry.index() + 1;
@@ -163,6 +180,7 @@ class MappedJournalSegmentWriter {
         serializer.readData(
             writeBuffer, startPosition + frameLength + metadataLength, recordLength);
     lastEntry = new PersistedJournalRecord(metadata, data);
+    lastEntryPosition = startPosition;
     index.index(lastEntry, startPosition);
   }
 
@@ -188,6 +206,53 @@ class MappedJournalSegmentWriter {
     FrameUtil.markAsIgnored(buffer, position);
   }
 
+  /**
+   * Restores the last entry and the index mappings of a sealed segment from its persisted index,
+   * instead of scanning the whole segment. Only the last record is read, to verify that the
+   * persisted index still matches the contents of the segment.
+   *
+   * @return true if the segment was restored, false if it has to be scanned instead
+   */
+  private boolean restore(final PersistedSegmentIndex persistedIndex) {
+    final int lastPosition = persistedIndex.lastPosition();
+    if (persistedIndex.segmentId() != segment.id()
+        || persistedIndex.firstIndex() != firstIndex
+        || lastPosition < descriptorLength
+        || lastPosition >= buffer.limit()) {
+      return false;
+    }
+
+    final JournalRecord record;
+    try {
+      buffer.position(lastPosition);
+      if (!FrameUtil.hasValidVersion(buffer)) {
+        return false;
+      }
+
+      FrameUtil.readVersion(buffer);
+      record = recordUtil.read(buffer, persistedIndex.lastIndex());
+    } catch (final CorruptedLogException
+        | InvalidIndex
+        | BufferUnderflowException
+        | IndexOutOfBoundsException e) {
+      return false;
+    }
+
+    if (record.checksum() != persistedIndex.lastChecksum()) {
+      return false;
+    }
+
+    lastEntry = record;
+    lastEntryPosition = lastPosition;
+    persistedIndex.forEach(
+        (recordIndex, asqn, position) ->
+            index.index(
+                new PersistedJournalRecord(
+                    new RecordMetadata(0, 0), new RecordData(recordIndex, asqn, null)),
+                position));
+    return true;
+  }
+
   private void reset(final long index) {
     reset(index, -1);
   }
@@ -204,6 +269,7 @@ class MappedJournalSegmentWriter {
         // read version so that buffer's position is advanced
         FrameUtil.readVersion(buffer);
         lastEntry = recordUtil.read(buffer, nextIndex);
+        lastEntryPosition = position;
         nextIndex++;
         this.index.index(lastEntry, position);
         buffer.mark();
@@ -240,6 +306,9 @@ class MappedJournalSegmentWriter {
       return;
     }
 
+    // The persisted index of the segment no longer matches its contents.
+    segment.unseal();
+
     // Reset the last entry.
     lastEntry = null;
 
@@ -0,0 +1,267 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.journal.file.JournalIndex.IndexEntryConsumer;
+import io.camunda.zeebe.journal.file.SegmentIndexDecoder.EntriesDecoder;
+import io.camunda.zeebe.journal.file.SegmentIndexEncoder.EntriesEncoder;
+import io.camunda.zeebe.journal.file.record.CorruptedLogException;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.LongArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * The index of a sealed {@link JournalSegment}, which is stored next to the segment such that the
+ * segment does not have to be scanned when the journal is opened. It is laid out like the {@link
+ * JournalSegmentDescriptor}: the first byte contains the version, followed by the checksum of the
+ * index and the index itself, both encoded using the SBE schema.
+ *
+ * <p>Besides the {@link JournalIndex} mappings of the segment, it contains the index, position and
+ * checksum of the last record in the segment. These are used to restore the segment writer, and to
+ * verify that the index still belongs to the segment it is loaded for.
+ */
+final class PersistedSegmentIndex {
+
+  private static final int VERSION_LENGTH = Byte.BYTES;
+  private static final byte CUR_VERSION = 1;
+  private static final int INDEX_HEADER_OFFSET =
+      VERSION_LENGTH + MessageHeaderEncoder.ENCODED_LENGTH + DescriptorMetadataEncoder.BLOCK_LENGTH;
+
+  private final long segmentId;
+  private final long firstIndex;
+  private final long lastIndex;
+  private final int lastPosition;
+  private final long lastChecksum;
+  private final LongArrayList indexes;
+  private final LongArrayList asqns;
+  private final IntArrayList positions;
+
+  private PersistedSegmentIndex(
+      final long segmentId,
+      final long firstIndex,
+      final long lastIndex,
+      final int lastPosition,
+      final long lastChecksum,
+      final LongArrayList indexes,
+      final LongArrayList asqns,
+      final IntArrayList positions) {
+    this.segmentId = segmentId;
+    this.firstIndex = firstIndex;
+    this.lastIndex = lastIndex;
+    this.lastPosition = lastPosition;
+    this.lastChecksum = lastChecksum;
+    this.indexes = indexes;
+    this.asqns = asqns;
+    this.positions = positions;
+  }
+
+  long segmentId() {
+    return segmentId;
+  }
+
+  long firstIndex() {
+    return firstIndex;
+  }
+
+  long lastIndex() {
+    return lastIndex;
+  }
+
+  int lastPosition() {
+    return lastPosition;
+  }
+
+  long lastChecksum() {
+    return lastChecksum;
+  }
+
+  /** Passes all stored mappings to the given consumer, in ascending order of their index. */
+  void forEach(final IndexEntryConsumer consumer) {
+    for (int i = 0; i < indexes.size(); i++) {
+      consumer.accept(indexes.getLong(i), asqns.getLong(i), positions.getInt(i));
+    }
+  }
+
+  /**
+   * Writes the index of the given segment durably to the given file, replacing any existing one.
+   * The segment must not be empty.
+   *
+   * @param file the file to write the index to
+   * @param segment the sealed segment to write the index of
+   * @param lastPosition the position of the last record in the segment
+   * @param journalIndex the journal index containing the mappings of the segment
+   */
+  static void write(
+      final Path file,
+      final JournalSegment segment,
+      final int lastPosition,
+      final JournalIndex journalIndex)
+      throws IOException {
+    final var writer = segment.writer();
+    final var indexes = new LongArrayList();
+    final var asqns = new LongArrayList();
+    final var positions = new IntArrayList();
+    journalIndex.forEach(
+        segment.index(),
+        writer.getLastIndex(),
+        (index, asqn, position) -> {
+          indexes.addLong(index);
+          asqns.addLong(asqn);
+          positions.addInt(position);
+        });
+
+    final int length =
+        INDEX_HEADER_OFFSET
+            + MessageHeaderEncoder.ENCODED_LENGTH
+            + SegmentIndexEncoder.BLOCK_LENGTH
+            + EntriesEncoder.sbeHeaderSize()
+            + EntriesEncoder.sbeBlockLength() * indexes.size();
+    final ByteBuffer buffer = ByteBuffer.allocate(length);
+    final MutableDirectBuffer directBuffer = new UnsafeBuffer(buffer);
+    final var headerEncoder = new MessageHeaderEncoder();
+    directBuffer.putByte(0, CUR_VERSION);
+
+    final var indexEncoder =
+        new SegmentIndexEncoder()
+            .wrapAndApplyHeader(directBuffer, INDEX_HEADER_OFFSET, headerEncoder)
+            .segmentId(segment.id())
+            .firstIndex(segment.index())
+            .lastIndex(writer.getLastIndex())
+            .lastPosition(lastPosition)
+            .lastChecksum(writer.getLastEntry().checksum());
+    final var entriesEncoder = indexEncoder.entriesCount(indexes.size());
+    for (int i = 0; i < indexes.size(); i++) {
+      entriesEncoder
+          .next()
+          .entryIndex(indexes.getLong(i))
+          .entryAsqn(asqns.getLong(i))
+          .entryPosition(positions.getInt(i));
+    }
+
+    final long checksum =
+        new ChecksumGenerator()
+            .compute(buffer, INDEX_HEADER_OFFSET, length - INDEX_HEADER_OFFSET);
+    new DescriptorMetadataEncoder()
+        .wrapAndApplyHeader(directBuffer, VERSION_LENGTH, headerEncoder)
+        .checksum(checksum);
+
+    // write to a temporary file first, such that a crash never leaves a partial index behind
+    final Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try (final FileChannel channel =
+        FileChannel.open(
+            tmpFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+
+    FileUtil.moveDurably(tmpFile, file, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Reads the segment index from the given file.
+   *
+   * @param file the file to read the index from
+   * @return the segment index
+   * @throws CorruptedLogException if the index is of an unknown version or does not match its
+   *     checksum
+   * @throws JournalException if the file could not be read
+   */
+  static PersistedSegmentIndex read(final Path file) {
+    final byte[] bytes;
+    try {
+      bytes = Files.readAllBytes(file);
+    } catch (final IOException e) {
+      throw new JournalException(e);
+    }
+
+    if (bytes.length < INDEX_HEADER_OFFSET || bytes[0] != CUR_VERSION) {
+      throw new CorruptedLogException(
+          String.format("Expected segment index '%s' to have version %d.", file, CUR_VERSION));
+    }
+
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    final MutableDirectBuffer directBuffer = new UnsafeBuffer(buffer);
+    final var headerDecoder = new MessageHeaderDecoder();
+
+    headerDecoder.wrap(directBuffer, VERSION_LENGTH);
+    final var metadataDecoder = new DescriptorMetadataDecoder();
+    if (headerDecoder.schemaId() != metadataDecoder.sbeSchemaId()
+        || headerDecoder.templateId() != metadataDecoder.sbeTemplateId()) {
+      throw new CorruptedLogException(
+          String.format("Cannot read metadata header of segment index '%s'.", file));
+    }
+    metadataDecoder.wrap(
+        directBuffer,
+        VERSION_LENGTH + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+    final long checksum = metadataDecoder.checksum();
+
+    final long computedChecksum =
+        new ChecksumGenerator()
+            .compute(buffer, INDEX_HEADER_OFFSET, bytes.length - INDEX_HEADER_OFFSET);
+    if (computedChecksum != checksum) {
+      throw new CorruptedLogException(
+          String.format(
+              "Segment index '%s' doesn't match checksum (possibly due to corruption).", file));
+    }
+
+    headerDecoder.wrap(directBuffer, INDEX_HEADER_OFFSET);
+    final var indexDecoder = new SegmentIndexDecoder();
+    if (headerDecoder.schemaId() != indexDecoder.sbeSchemaId()
+        || headerDecoder.templateId() != indexDecoder.sbeTemplateId()) {
+      throw new CorruptedLogException(
+          String.format("Cannot read header of segment index '%s'.", file));
+    }
+    indexDecoder.wrap(
+        directBuffer,
+        INDEX_HEADER_OFFSET + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+
+    final var indexes = new LongArrayList();
+    final var asqns = new LongArrayList();
+    final var positions = new IntArrayList();
+    final long segmentId = indexDecoder.segmentId();
+    final long firstIndex = indexDecoder.firstIndex();
+    final long lastIndex = indexDecoder.lastIndex();
+    final int lastPosition = indexDecoder.lastPosition();
+    final long lastChecksum = indexDecoder.lastChecksum();
+    for (final EntriesDecoder entry : indexDecoder.entries()) {
+      indexes.addLong(entry.entryIndex());
+      asqns.addLong(entry.entryAsqn());
+      positions.addInt(entry.entryPosition());
+    }
+
+    return new PersistedSegmentIndex(
+        segmentId, firstIndex, lastIndex, lastPosition, lastChecksum, indexes, asqns, positions);
+  }
+}
@@ -75,6 +75,7 @@ public final class SegmentedJournal implements Journal {
   private final long minFreeDiskSpace;
   private final JournalIndex journalIndex;
   private final SegmentedJournalWriter writer;
+  private final JournalSegmentPreallocator segmentPreallocator;
   private final long lastWrittenIndex;
   private final StampedLock rwlock = new StampedLock();
 
@@ -84,7 +85,8 @@ public final class SegmentedJournal implements Journal {
       final int maxSegmentSize,
       final long minFreeSpace,
       final JournalIndex journalIndex,
-      final long lastWrittenIndex) {
+      final long lastWrittenIndex,
+      final boolean preallocateSegmentFiles) {
     this.name = checkNotNull(name, "name cannot be null");
     this.directory = checkNotNull(directory, "directory cannot be null");
     this.maxSegmentSize = maxSegmentSize;
@@ -92,6 +94,11 @@ public final class SegmentedJournal implements Journal {
     minFreeDiskSpace = minFreeSpace;
     this.journalIndex = journalIndex;
     this.lastWrittenIndex = lastWrittenIndex;
+    segmentPreallocator =
+        preallocateSegmentFiles
+            ? new JournalSegmentPreallocator(
+                name, directory, maxSegmentSize, ENDIANNESS, journalMetrics)
+            : null;
     open();
     writer = new SegmentedJournalWriter(this);
   }
@@ -219,6 +226,10 @@ public final class SegmentedJournal implements Journal {
 
   @Override
   public void close() {
+    if (segmentPreallocator != null) {
+      segmentPreallocator.close();
+    }
+
     segments
         .values()
         .forEach(
@@ -242,6 +253,11 @@ public final class SegmentedJournal implements Journal {
     // If a segment doesn't already exist, create an initial segment starting at index 1.
     if (!segments.isEmpty()) {
       currentSegment = segments.lastEntry().getValue();
+      // the last segment may have been restored as sealed if the segments after it were corrupted
+      currentSegment.unseal();
+      // persist the index of sealed segments which had to be scanned, e.g. because they were
+      // written by a previous version, such that they do not have to be scanned again
+      segments.headMap(currentSegment.index()).values().forEach(JournalSegment::seal);
     } else {
       final JournalSegmentDescriptor descriptor =
           JournalSegmentDescriptor.builder()
@@ -256,6 +272,7 @@ public final class SegmentedJournal implements Journal {
       journalMetrics.incSegmentCount();
     }
     journalMetrics.observeJournalOpenDuration(System.currentTimeMillis() - startTime);
+    preallocateNextSegment();
 
     // Delete files that were previously marked for deletion but did not get deleted because the
     // node was stopped. It is safe to delete it now since there are no readers opened for these
@@ -294,6 +311,8 @@ public final class SegmentedJournal implements Journal {
     final JournalSegment lastSegment = getLastSegment();
     if (lastSegment != null) {
       currentSegment = lastSegment;
+      // the segment will be written to again
+      currentSegment.unseal();
     } else {
       final JournalSegmentDescriptor descriptor =
           JournalSegmentDescriptor.builder()
@@ -307,6 +326,8 @@ public final class SegmentedJournal implements Journal {
       segments.put(1L, currentSegment);
       journalMetrics.incSegmentCount();
     }
+
+    preallocateNextSegment();
   }
 
   /**
@@ -333,6 +354,7 @@ public final class SegmentedJournal implements Journal {
     currentSegment = createSegment(descriptor);
     segments.put(index, currentSegment);
     journalMetrics.incSegmentCount();
+    preallocateNextSegment();
     return currentSegment;
   }
 
@@ -376,13 +398,21 @@ public final class SegmentedJournal implements Journal {
             .withMaxSegmentSize(maxSegmentSize)
             .build();
 
-    currentSegment = createSegment(descriptor);
+    currentSegment = createNextSegment(descriptor);
 
     segments.put(descriptor.index(), currentSegment);
     journalMetrics.incSegmentCount();
+    preallocateNextSegment();
     return currentSegment;
   }
 
+  /** Starts preparing the file of the segment which follows the last one, if enabled. */
+  private void preallocateNextSegment() {
+    if (segmentPreallocator != null) {
+      segmentPreallocator.preallocate(getLastSegment().descriptor().id() + 1);
+    }
+  }
+
   /**
    * Returns the segment following the segment with the given ID.
    *
@@ -444,7 +474,7 @@ public final class SegmentedJournal implements Journal {
 
       try {
         log.debug("Found segment file: {}", file.getName());
-        final JournalSegment segment = loadExistingSegment(file);
+        final JournalSegment segment = loadExistingSegment(file, i == files.size() - 1);
 
         if (i > 0) {
           checkForIndexGaps(segments.get(i - 1), segment);
@@ -495,6 +525,7 @@ public final class SegmentedJournal implements Journal {
     for (int i = failedIndex; i < files.size(); i++) {
       final File file = files.get(i);
       try {
+        Files.deleteIfExists(new JournalSegmentFile(file).getIndexFile());
         Files.delete(file.toPath());
       } catch (final IOException e) {
         throw new JournalException(
@@ -638,26 +669,35 @@ public final class SegmentedJournal implements Journal {
     rwlock.unlockRead(stamp);
   }
 
+  /**
+   * Creates the segment the journal rolls over to. If its file was preallocated, only the
+   * descriptor has to be written, as the file and its directory entry were already flushed.
+   */
+  private JournalSegment createNextSegment(final JournalSegmentDescriptor descriptor) {
+    final MappedByteBuffer preallocatedSegment =
+        segmentPreallocator != null ? segmentPreallocator.take(descriptor.id()) : null;
+    if (preallocatedSegment == null) {
+      return journalMetrics.timeSegmentCreation(() -> createSegment(descriptor));
+    }
+
+    final var segmentFile = JournalSegmentFile.createSegmentFile(name, directory, descriptor.id());
+    writeDescriptor(segmentFile, preallocatedSegment, descriptor);
+    return loadSegment(segmentFile, preallocatedSegment, descriptor);
+  }
+
   private JournalSegment createSegment(final JournalSegmentDescriptor descriptor) {
     final var segmentFile = JournalSegmentFile.createSegmentFile(name, directory, descriptor.id());
     final MappedByteBuffer mappedSegment;
 
     try {
+      // a left over index of a previous segment with the same id must never be loaded for this one
+      Files.deleteIfExists(new JournalSegmentFile(segmentFile).getIndexFile());
       mappedSegment = mapNewSegment(segmentFile, descriptor);
     } catch (final IOException e) {
       throw new JournalException(String.format("Failed to map new segment %s", segmentFile), e);
     }
 
-    try {
-      descriptor.copyTo(mappedSegment);
-      mappedSegment.force();
-    } catch (final InternalError e) {
-      throw new JournalException(
-          String.format(
-              "Failed to ensure durability of segment %s with descriptor %s, rolling back",
-              segmentFile, descriptor),
-          e);
-    }
+    writeDescriptor(segmentFile, mappedSegment, descriptor);
 
     // while flushing the file's contents ensures its data is present on disk on recovery, it's also
     // necessary to flush the directory to ensure that the file itself is visible as an entry of
@@ -673,24 +713,72 @@ public final class SegmentedJournal implements Journal {
     return loadSegment(segmentFile, mappedSegment, descriptor);
   }
 
-  private JournalSegment loadExistingSegment(final File segmentFile) {
+  private void writeDescriptor(
+      final File segmentFile,
+      final MappedByteBuffer mappedSegment,
+      final JournalSegmentDescriptor descriptor) {
+    try {
+      descriptor.copyTo(mappedSegment);
+      mappedSegment.force();
+    } catch (final InternalError e) {
+      throw new JournalException(
+          String.format(
+              "Failed to ensure durability of segment %s with descriptor %s, rolling back",
+              segmentFile, descriptor),
+          e);
+    }
+  }
+
+  /**
+   * Loads an existing segment. Sealed segments are restored from their persisted index if possible;
+   * the last segment is always scanned, as it may still be written to.
+   */
+  private JournalSegment loadExistingSegment(final File segmentFile, final boolean isLast) {
     final var descriptor = readDescriptor(segmentFile);
     final MappedByteBuffer mappedSegment;
+    final PersistedSegmentIndex persistedIndex;
 
     try {
+      persistedIndex = readPersistedIndex(new JournalSegmentFile(segmentFile), isLast);
       mappedSegment = mapSegment(segmentFile, descriptor, Collections.emptySet());
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to load existing segment %s", segmentFile), e);
     }
 
-    return loadSegment(segmentFile, mappedSegment, descriptor);
+    return loadSegment(segmentFile, mappedSegment, descriptor, persistedIndex);
+  }
+
+  private PersistedSegmentIndex readPersistedIndex(
+      final JournalSegmentFile segmentFile, final boolean isLast) throws IOException {
+    final Path indexFile = segmentFile.getIndexFile();
+    if (isLast || !Files.exists(indexFile)) {
+      Files.deleteIfExists(indexFile);
+      return null;
+    }
+
+    try {
+      return PersistedSegmentIndex.read(indexFile);
+    } catch (final CorruptedLogException | JournalException e) {
+      log.warn("Failed to read index of segment {}, scanning it instead", segmentFile.name(), e);
+      Files.deleteIfExists(indexFile);
+      return null;
+    }
   }
 
   private JournalSegment loadSegment(
       final File file, final MappedByteBuffer buffer, final JournalSegmentDescriptor descriptor) {
+    return loadSegment(file, buffer, descriptor, null);
+  }
+
+  private JournalSegment loadSegment(
+      final File file,
+      final MappedByteBuffer buffer,
+      final JournalSegmentDescriptor descriptor,
+      final PersistedSegmentIndex persistedIndex) {
     final JournalSegmentFile segmentFile = new JournalSegmentFile(file);
-    return new JournalSegment(segmentFile, descriptor, buffer, lastWrittenIndex, journalIndex);
+    return new JournalSegment(
+        segmentFile, descriptor, buffer, lastWrittenIndex, journalIndex, persistedIndex);
   }
 
   private MappedByteBuffer mapNewSegment(
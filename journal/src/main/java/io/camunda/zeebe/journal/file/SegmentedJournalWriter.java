@@ -20,11 +20,17 @@ import io.camunda.zeebe.journal.JournalRecord;
 import java.nio.BufferOverflowException;
 import org.agrona.DirectBuffer;
 
+/**
+ * Appends records to the segments of the journal. Except for {@link #flush()}, the methods must be
+ * called from the same thread. The journal can be flushed from another thread while records are
+ * appended; the operations which replace or close the current segment are synchronized with the
+ * flush, so a segment is never closed while it is flushed.
+ */
 class SegmentedJournalWriter {
   private final SegmentedJournal journal;
   private final JournalMetrics journalMetrics;
-  private JournalSegment currentSegment;
-  private MappedJournalSegmentWriter currentWriter;
+  private volatile JournalSegment currentSegment;
+  private volatile MappedJournalSegmentWriter currentWriter;
 
   public SegmentedJournalWriter(final SegmentedJournal journal) {
     this.journal = journal;
@@ -53,7 +59,7 @@ class SegmentedJournalWriter {
         throw e;
       }
 
-      journalMetrics.observeSegmentCreation(this::createNewSegment);
+      journalMetrics.observeSegmentRollover(this::createNewSegment);
 
       return currentWriter.append(asqn, data);
     }
@@ -67,17 +73,17 @@ class SegmentedJournalWriter {
         throw e;
       }
 
-      journalMetrics.observeSegmentCreation(this::createNewSegment);
+      journalMetrics.observeSegmentRollover(this::createNewSegment);
       currentWriter.append(record);
     }
   }
 
-  public void reset(final long index) {
+  public synchronized void reset(final long index) {
     currentSegment = journal.resetSegments(index);
     currentWriter = currentSegment.writer();
   }
 
-  public void deleteAfter(final long index) {
+  public synchronized void deleteAfter(final long index) {
     // Delete all segments with first indexes greater than the given index.
     while (index < currentSegment.index() && currentSegment != journal.getFirstSegment()) {
       journal.removeSegment(currentSegment);
@@ -89,16 +95,17 @@ class SegmentedJournalWriter {
     currentWriter.truncate(index);
   }
 
-  public void flush() {
+  public synchronized void flush() {
     journalMetrics.observeSegmentFlush(currentWriter::flush);
   }
 
-  public void close() {
+  public synchronized void close() {
     currentWriter.close();
   }
 
-  private void createNewSegment() {
+  private synchronized void createNewSegment() {
     currentWriter.flush();
+    currentSegment.seal();
     currentSegment = journal.getNextSegment();
     currentWriter = currentSegment.writer();
   }
@@ -16,17 +16,36 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Arrays;
 
+/**
+ * Indexes every n-th record, where n is the configured density. The mappings are kept in sorted
+ * primitive arrays, which are searched with a binary search. Since records are always indexed in
+ * ascending order, entries are appended to the end of the arrays; {@link #deleteAfter(long)} and
+ * {@link #deleteUntil(long)} only move the bounds of the live range, such that no entry is ever
+ * boxed or allocated once the arrays have reached their working size.
+ *
+ * <p>ASQNs are indexed in a separate range, since not every indexed record has an ASQN. A record
+ * whose ASQN is not greater than the last indexed ASQN is not added to it, which keeps the range
+ * sorted; a lookup then returns a lower index, from where the reader has to seek a bit further.
+ */
 class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final TreeMap<Long, Integer> indexToPosition = new TreeMap<>();
-  private final TreeMap<Long, Long> asqnToIndex = new TreeMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final TreeMap<Long, Long> indexToAsqn = new TreeMap<>();
+
+  // index -> position mappings, valid in [head, tail)
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int head;
+  private int tail;
+
+  // asqn -> index mappings, valid in [asqnHead, asqnTail)
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private int asqnHead;
+  private int asqnTail;
 
   public SparseJournalIndex(final int density) {
     this.density = density;
@@ -36,19 +55,25 @@ class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
+      if (tail > head && indexes[tail - 1] >= index) {
+        // the record replaces previously indexed ones, e.g. when a segment is read again
+        deleteAfter(index - 1);
+      }
+
+      appendPosition(index, position);
+
       final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+      if (asqn != SegmentedJournal.ASQN_IGNORE
+          && (asqnTail == asqnHead || asqns[asqnTail - 1] < asqn)) {
+        appendAsqn(asqn, index);
       }
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final int slot = floorSlot(indexes, head, tail, index);
+    return slot >= 0 ? new IndexInfo(indexes[slot], positions[slot]) : null;
   }
 
   @Override
@@ -58,45 +83,138 @@ class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
-      }
+    final int slot = floorSlot(asqns, asqnHead, asqnTail, asqn);
+    if (slot < 0) {
+      return null;
     }
-    return null;
+
+    if (asqnIndexes[slot] <= indexUpperBound) {
+      return asqnIndexes[slot];
+    }
+
+    final int boundedSlot = floorSlot(asqnIndexes, asqnHead, slot, indexUpperBound);
+    return boundedSlot >= 0 ? asqnIndexes[boundedSlot] : null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
+    tail = floorSlot(indexes, head, tail, index) + 1;
+    if (tail <= head) {
+      head = tail = 0;
+    }
+
+    asqnTail = floorSlot(asqnIndexes, asqnHead, asqnTail, index) + 1;
+    if (asqnTail <= asqnHead) {
+      asqnHead = asqnTail = 0;
     }
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
+    final int slot = floorSlot(indexes, head, tail, index);
+    if (slot >= 0) {
+      head = indexes[slot] == index ? slot : slot + 1;
+    }
 
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+    // the asqn of the closest indexed record below the given index is kept, such that lookups
+    // for an asqn in between still return the closest known index
+    final int asqnSlot = floorSlot(asqnIndexes, asqnHead, asqnTail, index);
+    if (asqnSlot >= 0) {
+      asqnHead = asqnSlot;
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    head = tail = 0;
+    asqnHead = asqnTail = 0;
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexEntryConsumer consumer) {
+    int asqnSlot = asqnHead;
+    for (int slot = ceilingSlot(indexes, head, tail, fromIndex);
+        slot < tail && indexes[slot] <= toIndex;
+        slot++) {
+      final long index = indexes[slot];
+      while (asqnSlot < asqnTail && asqnIndexes[asqnSlot] < index) {
+        asqnSlot++;
+      }
+
+      final boolean hasAsqn = asqnSlot < asqnTail && asqnIndexes[asqnSlot] == index;
+      consumer.accept(
+          index, hasAsqn ? asqns[asqnSlot] : SegmentedJournal.ASQN_IGNORE, positions[slot]);
+    }
+  }
+
+  private void appendPosition(final long index, final int position) {
+    if (tail == indexes.length) {
+      final int size = tail - head;
+      if (size * 2 > indexes.length) {
+        indexes = Arrays.copyOf(indexes, indexes.length * 2);
+        positions = Arrays.copyOf(positions, positions.length * 2);
+      }
+      System.arraycopy(indexes, head, indexes, 0, size);
+      System.arraycopy(positions, head, positions, 0, size);
+      head = 0;
+      tail = size;
+    }
+
+    indexes[tail] = index;
+    positions[tail] = position;
+    tail++;
+  }
+
+  private void appendAsqn(final long asqn, final long index) {
+    if (asqnTail == asqns.length) {
+      final int size = asqnTail - asqnHead;
+      if (size * 2 > asqns.length) {
+        asqns = Arrays.copyOf(asqns, asqns.length * 2);
+        asqnIndexes = Arrays.copyOf(asqnIndexes, asqnIndexes.length * 2);
+      }
+      System.arraycopy(asqns, asqnHead, asqns, 0, size);
+      System.arraycopy(asqnIndexes, asqnHead, asqnIndexes, 0, size);
+      asqnHead = 0;
+      asqnTail = size;
+    }
+
+    asqns[asqnTail] = asqn;
+    asqnIndexes[asqnTail] = index;
+    asqnTail++;
+  }
+
+  /**
+   * @return the slot of the greatest value in [from, to) which is less than or equal to the given
+   *     key, or -1 if there is none
+   */
+  private static int floorSlot(final long[] values, final int from, final int to, final long key) {
+    int low = from;
+    int high = to - 1;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final long value = values[mid];
+      if (value < key) {
+        low = mid + 1;
+      } else if (value > key) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return high >= from ? high : -1;
+  }
+
+  /**
+   * @return the slot of the smallest value in [from, to) which is greater than or equal to the
+   *     given key, or {@code to} if there is none
+   */
+  private static int ceilingSlot(
+      final long[] values, final int from, final int to, final long key) {
+    final int floor = floorSlot(values, from, to, key);
+    if (floor < 0) {
+      return from;
+    }
+
+    return values[floor] == key ? floor : floor + 1;
   }
 }
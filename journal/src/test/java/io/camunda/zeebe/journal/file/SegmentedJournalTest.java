@@ -26,7 +26,11 @@ import io.camunda.zeebe.journal.file.record.SBESerializer;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -595,17 +599,229 @@ class SegmentedJournalTest {
         .hasSize(1);
   }
 
+  @Test
+  void shouldPersistIndexOfSealedSegments() {
+    // given
+    final int entriesPerSegment = 2;
+    final SegmentedJournal journal = openJournal(entriesPerSegment);
+
+    // when
+    for (int i = 0; i < 3 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+
+    // then
+    assertThat(journal.getFirstSegment().isSealed()).isTrue();
+    assertThat(journal.getFirstSegment().file().getIndexFile()).exists();
+    assertThat(journal.getLastSegment().isSealed()).isFalse();
+    assertThat(journal.getLastSegment().file().getIndexFile()).doesNotExist();
+  }
+
+  @Test
+  void shouldRestoreSealedSegmentsFromPersistedIndex() {
+    // given
+    final int entriesPerSegment = 2;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    final List<JournalRecord> records = new ArrayList<>();
+    for (int i = 0; i < 3 * entriesPerSegment; i++) {
+      records.add(JournalTest.copyRecord(journal.append(i + 1, data)));
+    }
+    final int positionBeforeClose = journal.getJournalIndex().lookup(3).position();
+    journal.close();
+
+    // when
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getFirstSegment().writer().isRestored()).isTrue();
+    assertThat(journal.getLastSegment().writer().isRestored()).isFalse();
+    assertThat(journal.getJournalIndex().lookup(3).position()).isEqualTo(positionBeforeClose);
+    assertThat(journal.getJournalIndex().lookupAsqn(3)).isEqualTo(3);
+
+    final JournalReader reader = journal.openReader();
+    for (final JournalRecord record : records) {
+      assertThat(reader.next()).isEqualTo(record);
+    }
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldScanSegmentIfPersistedIndexIsCorrupted() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    final List<JournalRecord> records = new ArrayList<>();
+    for (int i = 0; i < 3 * entriesPerSegment; i++) {
+      records.add(JournalTest.copyRecord(journal.append(i + 1, data)));
+    }
+    final Path indexFile = journal.getFirstSegment().file().getIndexFile();
+    journal.close();
+    Files.write(indexFile, new byte[] {1, 2, 3});
+
+    // when
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getFirstSegment().writer().isRestored()).isFalse();
+    assertThat(journal.getFirstSegment().isSealed()).isTrue();
+
+    final JournalReader reader = journal.openReader();
+    for (final JournalRecord record : records) {
+      assertThat(reader.next()).isEqualTo(record);
+    }
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldNotRestoreSegmentFromIndexOfAnotherSegment() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < 3 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+    final Path firstIndexFile = journal.getFirstSegment().file().getIndexFile();
+    final Path secondIndexFile = journal.getSegment(3).file().getIndexFile();
+    journal.close();
+    Files.copy(secondIndexFile, firstIndexFile, StandardCopyOption.REPLACE_EXISTING);
+
+    // when
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getFirstSegment().writer().isRestored()).isFalse();
+    assertThat(journal.getFirstSegment().lastIndex()).isEqualTo(2);
+    assertThat(journal.getLastIndex()).isEqualTo(3 * entriesPerSegment);
+  }
+
+  @Test
+  void shouldDeletePersistedIndexWhenTruncatingSealedSegment() {
+    // given
+    final int entriesPerSegment = 2;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    final var firstRecord = JournalTest.copyRecord(journal.append(1, data));
+    for (int i = 1; i < 3 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+    final JournalSegment firstSegment = journal.getFirstSegment();
+
+    // when
+    journal.deleteAfter(firstRecord.index());
+    final var lastRecord = JournalTest.copyRecord(journal.append(10, data));
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(firstSegment.file().getIndexFile()).doesNotExist();
+    final JournalReader reader = journal.openReader();
+    assertThat(reader.next()).isEqualTo(firstRecord);
+    assertThat(reader.next()).isEqualTo(lastRecord);
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldRollOverToPreallocatedSegments() {
+    // given
+    final int entriesPerSegment = 2;
+    SegmentedJournal journal = openJournal(entriesPerSegment, true);
+    final List<JournalRecord> records = new ArrayList<>();
+
+    // when
+    for (int i = 0; i < 3 * entriesPerSegment; i++) {
+      records.add(JournalTest.copyRecord(journal.append(i + 1, data)));
+    }
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final JournalReader reader = journal.openReader();
+    for (final JournalRecord record : records) {
+      assertThat(reader.next()).isEqualTo(record);
+    }
+    assertThat(reader.hasNext()).isFalse();
+    assertThat(
+            directory
+                .resolve("data")
+                .toFile()
+                .listFiles(file -> JournalSegmentFile.isSegmentFile(JOURNAL_NAME, file)))
+        .hasSize(3);
+  }
+
+  @Test
+  void shouldDeleteUnusedPreallocatedSegmentOnOpen() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    final var record = JournalTest.copyRecord(journal.append(1, data));
+    final int segmentSize = journal.getFirstSegment().descriptor().maxSegmentSize();
+    journal.close();
+
+    // a preallocated file which was left behind, e.g. because the broker crashed
+    final File preallocatedFile =
+        JournalSegmentFile.createSegmentFile(JOURNAL_NAME, directory.resolve("data").toFile(), 2);
+    Files.write(preallocatedFile.toPath(), new byte[segmentSize]);
+
+    // when
+    journal = openJournal(entriesPerSegment, true);
+    final var nextRecord = JournalTest.copyRecord(journal.append(2, data));
+
+    // then
+    final JournalReader reader = journal.openReader();
+    assertThat(reader.next()).isEqualTo(record);
+    assertThat(reader.next()).isEqualTo(nextRecord);
+    assertThat(reader.hasNext()).isFalse();
+    journal.close();
+  }
+
+  @Test
+  void shouldPreallocateNextSegmentAfterTruncation() {
+    // given
+    final int entriesPerSegment = 2;
+    final SegmentedJournal journal = openJournal(entriesPerSegment, true);
+    final var firstRecord = JournalTest.copyRecord(journal.append(1, data));
+    for (int i = 1; i < 3 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+
+    // when
+    journal.deleteAfter(firstRecord.index());
+    final List<JournalRecord> records = new ArrayList<>();
+    records.add(firstRecord);
+    for (int i = 0; i < 3 * entriesPerSegment; i++) {
+      records.add(JournalTest.copyRecord(journal.append(10 + i, data)));
+    }
+
+    // then
+    final JournalReader reader = journal.openReader();
+    for (final JournalRecord record : records) {
+      assertThat(reader.next()).isEqualTo(record);
+    }
+    assertThat(reader.hasNext()).isFalse();
+    journal.close();
+  }
+
   private SegmentedJournal openJournal(final float entriesPerSegment) {
     return openJournal(entriesPerSegment, entrySize);
   }
 
+  private SegmentedJournal openJournal(
+      final float entriesPerSegment, final boolean preallocateSegmentFiles) {
+    return openJournal(entriesPerSegment, entrySize, preallocateSegmentFiles);
+  }
+
   private SegmentedJournal openJournal(final float entriesPerSegment, final int entrySize) {
+    return openJournal(entriesPerSegment, entrySize, false);
+  }
+
+  private SegmentedJournal openJournal(
+      final float entriesPerSegment, final int entrySize, final boolean preallocateSegmentFiles) {
     return SegmentedJournal.builder()
         .withDirectory(directory.resolve("data").toFile())
         .withMaxSegmentSize(
             (int) (entrySize * entriesPerSegment) + JournalSegmentDescriptor.getEncodingLength())
         .withJournalIndexDensity(journalIndexDensity)
         .withName(JOURNAL_NAME)
+        .withPreallocateSegmentFiles(preallocateSegmentFiles)
         .build();
   }
 
@@ -238,4 +238,56 @@ class SparseJournalIndexTest {
     assertEquals(4, index.lookupAsqn(Long.MAX_VALUE, 5));
     assertEquals(6, index.lookupAsqn(Long.MAX_VALUE, 6));
   }
+
+  @Test
+  void shouldFindIndexesBeyondInitialCapacity() {
+    // given - every index is added
+    final JournalIndex index = new SparseJournalIndex(1);
+
+    // when
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertEquals(1, index.lookup(1).index());
+    assertEquals(500, index.lookup(500).index());
+    assertEquals(2_000, index.lookup(1_000).position());
+    assertEquals(733, index.lookupAsqn(7_335));
+    assertEquals(700, index.lookupAsqn(7_335, 700));
+  }
+
+  @Test
+  void shouldKeepMappingsWhenCompactingWhileAppending() {
+    // given - every index is added
+    final JournalIndex index = new SparseJournalIndex(1);
+
+    // when - the live range wanders through the arrays
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i), i);
+      index.deleteUntil(i - 10);
+    }
+
+    // then
+    assertNull(index.lookup(980));
+    assertEquals(990, index.lookup(990).index());
+    assertEquals(1_000, index.lookup(1_000).index());
+    assertEquals(995, index.lookupAsqn(995));
+  }
+
+  @Test
+  void shouldReplaceMappingsWhenIndexingAgain() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+
+    // when
+    index.index(asJournalRecord(5, 55), 12);
+
+    // then
+    assertEquals(12, index.lookup(10).position());
+    assertEquals(5, index.lookupAsqn(100));
+    assertNull(index.lookupAsqn(54));
+  }
 }
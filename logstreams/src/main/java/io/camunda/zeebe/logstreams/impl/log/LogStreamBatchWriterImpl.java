@@ -85,6 +85,17 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     return logWriteBuffer.getMaxFragmentLength();
   }
 
+  @Override
+  public int getBatchLength() {
+    return eventLength + (eventCount * HEADER_BLOCK_LENGTH);
+  }
+
+  @Override
+  public boolean canWriteAdditionalEvent(final int length) {
+    final int batchLength = getBatchLength() + HEADER_BLOCK_LENGTH + length;
+    return logWriteBuffer.canClaimFragmentBatch(eventCount + 1, batchLength);
+  }
+
   @Override
   public void reset() {
     eventBufferOffset = 0;
@@ -165,6 +176,10 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     eventBuffer.putLong(eventBufferOffset, key, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_LONG;
 
+    // the source position can change between the events of a batch
+    eventBuffer.putLong(eventBufferOffset, sourceEventPosition, Protocol.ENDIANNESS);
+    eventBufferOffset += SIZE_OF_LONG;
+
     eventBuffer.putInt(eventBufferOffset, sourceIndex, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_INT;
 
@@ -233,6 +248,9 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
       final long key = eventBuffer.getLong(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_LONG;
 
+      final long eventSourcePosition = eventBuffer.getLong(eventBufferOffset, Protocol.ENDIANNESS);
+      eventBufferOffset += SIZE_OF_LONG;
+
       final int sourceIndex = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_INT;
 
@@ -254,7 +272,7 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
       if (sourceIndex >= 0 && sourceIndex < i) {
         setSourceEventPosition(writeBuffer, bufferOffset, firstPosition + sourceIndex);
       } else {
-        setSourceEventPosition(writeBuffer, bufferOffset, sourceEventPosition);
+        setSourceEventPosition(writeBuffer, bufferOffset, eventSourcePosition);
       }
 
       setKey(writeBuffer, bufferOffset, key);
@@ -17,7 +17,10 @@ import org.agrona.DirectBuffer;
  * <p>Note that the log entry data is buffered until {@link #tryWrite()} is called.
  */
 public interface LogStreamBatchWriter extends LogStreamWriter {
-  /** Set the source event for all log entries. */
+  /**
+   * Set the source event for the log entries which are added to the batch from now on. Entries
+   * which were added before keep their source event.
+   */
   LogStreamBatchWriter sourceRecordPosition(long position);
 
   /** Returns the builder to add a new log entry to the batch. */
@@ -25,6 +28,17 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
 
   int getMaxFragmentLength();
 
+  /** Returns the length of the log entries which were added to the batch, including headers. */
+  int getBatchLength();
+
+  /**
+   * Returns true if a log entry with the given length can be added to the batch without exceeding
+   * the max fragment length.
+   *
+   * @param length the length of the metadata and the value of the additional log entry
+   */
+  boolean canWriteAdditionalEvent(int length);
+
   /** Discard all non-written batch data. */
   void reset();
 
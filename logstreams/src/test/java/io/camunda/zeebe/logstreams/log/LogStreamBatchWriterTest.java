@@ -328,6 +328,30 @@ public final class LogStreamBatchWriterTest {
     assertThat(events.get(1).getSourceEventPosition()).isEqualTo(123L);
   }
 
+  @Test
+  public void shouldWriteEventsWithDifferentSourceEvents() {
+    // when
+    final long position =
+        write(
+            w ->
+                w.sourceRecordPosition(123L)
+                    .event()
+                    .key(1)
+                    .value(EVENT_VALUE_1)
+                    .done()
+                    .sourceRecordPosition(456L)
+                    .event()
+                    .key(2)
+                    .value(EVENT_VALUE_2)
+                    .done());
+
+    // then
+    final List<LoggedEvent> events = getWrittenEvents(position);
+
+    assertThat(events.get(0).getSourceEventPosition()).isEqualTo(123L);
+    assertThat(events.get(1).getSourceEventPosition()).isEqualTo(456L);
+  }
+
   @Test
   public void shouldWriteEventWithoutSourceEvent() {
     // when
@@ -415,6 +439,43 @@ public final class LogStreamBatchWriterTest {
     assertThat(pos).isEqualTo(0);
   }
 
+  @Test
+  public void shouldAccumulateBatchLength() {
+    // given
+    writer.event().key(1).value(EVENT_VALUE_1).done();
+    final int lengthOfOneEvent = writer.getBatchLength();
+
+    // when
+    writer.event().key(2).value(EVENT_VALUE_2).done();
+
+    // then
+    assertThat(lengthOfOneEvent).isGreaterThan(EVENT_VALUE_1.capacity());
+    assertThat(writer.getBatchLength()).isEqualTo(2 * lengthOfOneEvent);
+  }
+
+  @Test
+  public void shouldResetBatchLength() {
+    // given
+    writer.event().key(1).value(EVENT_VALUE_1).done();
+
+    // when
+    writer.reset();
+
+    // then
+    assertThat(writer.getBatchLength()).isZero();
+  }
+
+  @Test
+  public void shouldNotWriteAdditionalEventExceedingMaxFragmentLength() {
+    // given
+    writer.event().key(1).value(EVENT_VALUE_1).done();
+    final int maxFragmentLength = writer.getMaxFragmentLength();
+
+    // then
+    assertThat(writer.canWriteAdditionalEvent(EVENT_VALUE_2.capacity())).isTrue();
+    assertThat(writer.canWriteAdditionalEvent(maxFragmentLength)).isFalse();
+  }
+
   @Test
   public void shouldFailToWriteOnClosedLogStream() {
     // given
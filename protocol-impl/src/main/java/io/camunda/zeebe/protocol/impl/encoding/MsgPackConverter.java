@@ -19,6 +19,7 @@ import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.MappingJsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.camunda.zeebe.protocol.record.JsonSerializable;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.io.ByteArrayInputStream;
@@ -55,6 +56,8 @@ public final class MsgPackConverter {
   private static final JsonFactory JSON_FACTORY =
       new MappingJsonFactory().configure(Feature.ALLOW_SINGLE_QUOTES, true);
   private static final ObjectMapper JSON_OBJECT_MAPPER = new ObjectMapper(JSON_FACTORY);
+  private static final ObjectWriter JSON_STREAM_WRITER =
+      JSON_OBJECT_MAPPER.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
   private static final ObjectMapper MESSSAGE_PACK_OBJECT_MAPPER =
       new ObjectMapper(MESSAGE_PACK_FACTORY);
 
@@ -178,4 +181,14 @@ public final class MsgPackConverter {
       throw new RuntimeException(e);
     }
   }
+
+  /**
+   * Serializes the given object to JSON like {@link
+   * #convertJsonSerializableObjectToJson(JsonSerializable)}, but streams it directly into the given
+   * output, which is not closed afterwards.
+   */
+  public static void writeJsonSerializableObject(
+      final JsonSerializable recordValue, final OutputStream output) throws IOException {
+    JSON_STREAM_WRITER.writeValue(output, recordValue);
+  }
 }
@@ -14,6 +14,8 @@ import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.util.StringUtil;
+import java.io.IOException;
+import java.io.OutputStream;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class CopiedRecord<T extends UnifiedRecordValue> implements Record<T> {
@@ -151,6 +153,11 @@ public final class CopiedRecord<T extends UnifiedRecordValue> implements Record<
     return MsgPackConverter.convertJsonSerializableObjectToJson(this);
   }
 
+  @Override
+  public void writeJson(final OutputStream output) throws IOException {
+    MsgPackConverter.writeJsonSerializableObject(this, output);
+  }
+
   @Override
   public Record<T> clone() {
     return new CopiedRecord<>(this);
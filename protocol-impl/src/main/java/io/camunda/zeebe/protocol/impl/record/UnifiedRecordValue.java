@@ -11,6 +11,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.camunda.zeebe.msgpack.UnpackedObject;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.record.RecordValue;
+import java.io.IOException;
+import java.io.OutputStream;
 
 public class UnifiedRecordValue extends UnpackedObject implements RecordValue {
 
@@ -30,4 +32,9 @@ public class UnifiedRecordValue extends UnpackedObject implements RecordValue {
   public String toJson() {
     return MsgPackConverter.convertJsonSerializableObjectToJson(this);
   }
+
+  @Override
+  public void writeJson(final OutputStream output) throws IOException {
+    MsgPackConverter.writeJsonSerializableObject(this, output);
+  }
 }
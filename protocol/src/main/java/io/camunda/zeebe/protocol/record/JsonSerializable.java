@@ -15,8 +15,24 @@
  */
 package io.camunda.zeebe.protocol.record;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 public interface JsonSerializable {
 
   /** @return a JSON marshaled representation */
   String toJson();
+
+  /**
+   * Writes the JSON marshaled representation, encoded as UTF-8, to the given output stream. The
+   * stream is not closed afterwards. Implementations should override it if they can write the JSON
+   * without creating an intermediate string first.
+   *
+   * @param output the stream to write the JSON representation to
+   * @throws IOException if writing to the output stream fails
+   */
+  default void writeJson(final OutputStream output) throws IOException {
+    output.write(toJson().getBytes(StandardCharsets.UTF_8));
+  }
 }
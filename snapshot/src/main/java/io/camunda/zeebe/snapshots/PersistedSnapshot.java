@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.file.Path;
+import java.util.Map;
 
 /** Represents a snapshot, which was persisted at the {@link PersistedSnapshotStore}. */
 public interface PersistedSnapshot extends CloseableSilently {
@@ -71,4 +72,15 @@ public interface PersistedSnapshot extends CloseableSilently {
    * @return the checksum of the snapshot
    */
   long getChecksum();
+
+  /**
+   * Returns the checksums of the chunks of this snapshot, by chunk name, if they are known without
+   * reading the chunks. A node receiving a newer snapshot can offer these to the sender, which then
+   * does not have to send the chunks which both snapshots share.
+   *
+   * @return the checksums of the chunks of this snapshot; empty if unknown
+   */
+  default Map<String, Long> getChunkChecksums() {
+    return Map.of();
+  }
 }
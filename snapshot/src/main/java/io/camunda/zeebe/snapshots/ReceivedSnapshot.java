@@ -8,6 +8,9 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.util.sched.future.ActorFuture;
+import io.camunda.zeebe.util.sched.future.CompletableActorFuture;
+import java.nio.ByteBuffer;
+import java.util.Map;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +33,32 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Applies the next {@link SnapshotChunk} to the snapshot, whose content was received separately
+   * from the chunk, e.g. straight into network buffers. The content is written as is, without
+   * copying it into a single array first; otherwise this behaves like {@link #apply(SnapshotChunk)}.
+   *
+   * @param chunk the {@link SnapshotChunk} which should be applied; its own content is ignored
+   * @param content the content of the chunk
+   */
+  default ActorFuture<Void> apply(final SnapshotChunk chunk, final ByteBuffer[] content) {
+    return CompletableActorFuture.completedExceptionally(
+        new UnsupportedOperationException("Applying separately received content is not supported"));
+  }
+
+  /**
+   * Takes the given chunks from a local snapshot instead of receiving them, e.g. because the sender
+   * knows that the local snapshot already contains them. Each chunk must exist in the given
+   * snapshot with the given checksum, otherwise the future is completed with a
+   * SnapshotWriteException.
+   *
+   * @param snapshot the local snapshot which contains the chunks
+   * @param chunkChecksums the checksums of the chunks to take, by chunk name
+   */
+  default ActorFuture<Void> reuse(
+      final PersistedSnapshot snapshot, final Map<String, Long> chunkChecksums) {
+    return CompletableActorFuture.completedExceptionally(
+        new UnsupportedOperationException("Reusing chunks of a local snapshot is not supported"));
+  }
 }
@@ -7,6 +7,9 @@
  */
 package io.camunda.zeebe.snapshots;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
 /** A chunk of an already persisted Snapshot. */
 public interface SnapshotChunk {
 
@@ -27,4 +30,15 @@ public interface SnapshotChunk {
 
   /** @return the checksum of the entire snapshot */
   long getSnapshotChecksum();
+
+  /**
+   * Returns the file holding the content of this chunk, if the content was not read into memory. In
+   * that case {@link #getContent()} returns an empty array, and the content should be transferred
+   * from the file directly.
+   *
+   * @return the file holding the content of the chunk, if it was not read
+   */
+  default Optional<Path> getContentFile() {
+    return Optional.empty();
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.OptionalLong;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -32,4 +33,30 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @return the next chunk ID
    */
   ByteBuffer nextId();
+
+  /**
+   * Returns the checksum of the next chunk, if it is known without reading the chunk; if {@link
+   * #hasNext()} should return false, then this will return an empty optional.
+   *
+   * @return the checksum of the next chunk, if known
+   */
+  default OptionalLong nextChecksum() {
+    return OptionalLong.empty();
+  }
+
+  /**
+   * Returns the next chunk like {@link #next()}, but without reading its content into memory if
+   * possible. If the content was not read, {@link SnapshotChunk#getContentFile()} refers to the file
+   * holding it.
+   *
+   * @return the next chunk, possibly without content
+   */
+  default SnapshotChunk nextWithoutContent() {
+    return next();
+  }
+
+  /** Skips the next chunk, such that the chunk after it is returned by {@link #next()}. */
+  default void skip() {
+    next();
+  }
 }
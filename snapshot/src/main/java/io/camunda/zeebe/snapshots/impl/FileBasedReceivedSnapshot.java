@@ -22,7 +22,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.zip.Checksum;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,7 +63,17 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   public ActorFuture<Void> apply(final SnapshotChunk snapshotChunk) {
     return actor.call(
         () -> {
-          applyInternal(snapshotChunk);
+          applyInternal(
+              snapshotChunk, new ByteBuffer[] {ByteBuffer.wrap(snapshotChunk.getContent())});
+          return null;
+        });
+  }
+
+  @Override
+  public ActorFuture<Void> apply(final SnapshotChunk snapshotChunk, final ByteBuffer[] content) {
+    return actor.call(
+        () -> {
+          applyInternal(snapshotChunk, content);
           return null;
         });
   }
@@ -70,7 +82,8 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     return Files.exists(directory.resolve(chunkId));
   }
 
-  private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
+  private void applyInternal(final SnapshotChunk snapshotChunk, final ByteBuffer[] content)
+      throws SnapshotWriteException {
     if (containsChunk(snapshotChunk.getChunkName())) {
       return;
     }
@@ -94,7 +107,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    checkChunkChecksumIsValid(snapshotChunk, content, snapshotId, chunkName);
 
     final var tmpSnapshotDirectory = directory;
     try {
@@ -112,14 +125,85 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
 
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+    writeReceivedSnapshotChunk(snapshotChunk, content, snapshotFile);
+  }
+
+  @Override
+  public ActorFuture<Void> reuse(
+      final PersistedSnapshot snapshot, final Map<String, Long> chunkChecksums) {
+    return actor.call(
+        () -> {
+          reuseInternal(snapshot, chunkChecksums);
+          return null;
+        });
+  }
+
+  private void reuseInternal(
+      final PersistedSnapshot snapshot, final Map<String, Long> chunkChecksums)
+      throws SnapshotWriteException {
+    final var availableChecksums = snapshot.getChunkChecksums();
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+
+    for (final var chunk : chunkChecksums.entrySet()) {
+      final var chunkName = chunk.getKey();
+      if (containsChunk(chunkName)) {
+        continue;
+      }
+
+      final var availableChecksum = availableChecksums.get(chunkName);
+      if (!chunk.getValue().equals(availableChecksum)) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Expected to reuse chunk %s with checksum %d of snapshot %s, but it has checksum %s",
+                chunkName, chunk.getValue(), snapshot.getId(), availableChecksum));
+      }
+
+      // snapshot files are immutable, such that both snapshots can share the same file
+      final var source = snapshot.getPath().resolve(chunkName);
+      final var target = directory.resolve(chunkName);
+      try {
+        Files.createLink(target, source);
+      } catch (final UnsupportedOperationException | IOException e) {
+        copyReusedChunk(source, target, e);
+      }
+    }
+
+    LOGGER.trace(
+        "Reused {} chunks of snapshot {} for snapshot {}",
+        chunkChecksums.size(),
+        snapshot.getId(),
+        metadata.getSnapshotIdAsString());
+  }
+
+  private void copyReusedChunk(final Path source, final Path target, final Exception linkError)
+      throws SnapshotWriteException {
+    LOGGER.debug("Failed to link snapshot chunk {}, will copy it instead", source, linkError);
+    try {
+      Files.copy(source, target);
+      FileUtil.flush(target);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to reuse snapshot chunk %s", source), e);
+    }
   }
 
   private void checkChunkChecksumIsValid(
-      final SnapshotChunk snapshotChunk, final String snapshotId, final String chunkName)
+      final SnapshotChunk snapshotChunk,
+      final ByteBuffer[] content,
+      final String snapshotId,
+      final String chunkName)
       throws SnapshotWriteException {
     final long expectedChecksum = snapshotChunk.getChecksum();
-    final long actualChecksum = SnapshotChunkUtil.createChecksum(snapshotChunk.getContent());
+    final Checksum checksum = SnapshotChunkUtil.newChecksum();
+    for (final ByteBuffer buffer : content) {
+      checksum.update(buffer.duplicate());
+    }
+    final long actualChecksum = checksum.getValue();
 
     if (expectedChecksum != actualChecksum) {
       throw new SnapshotWriteException(
@@ -173,15 +257,19 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   }
 
   private void writeReceivedSnapshotChunk(
-      final SnapshotChunk snapshotChunk, final Path snapshotFile) throws SnapshotWriteException {
+      final SnapshotChunk snapshotChunk, final ByteBuffer[] content, final Path snapshotFile)
+      throws SnapshotWriteException {
     try (var channel =
         FileChannel.open(snapshotFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
-      final ByteBuffer buffer = ByteBuffer.wrap(snapshotChunk.getContent());
-
-      while (buffer.hasRemaining()) {
-        final int newLimit = Math.min(buffer.capacity(), buffer.position() + BLOCK_SIZE);
-        channel.write(buffer.limit(newLimit));
-        buffer.limit(buffer.capacity());
+      for (final ByteBuffer contentBuffer : content) {
+        // write in blocks, such that heap buffers are not copied into equally large direct buffers
+        final ByteBuffer buffer = contentBuffer.duplicate();
+        final int limit = buffer.limit();
+        while (buffer.hasRemaining()) {
+          final int newLimit = Math.min(limit, buffer.position() + BLOCK_SIZE);
+          channel.write(buffer.limit(newLimit));
+          buffer.limit(limit);
+        }
       }
 
       channel.force(true);
@@ -258,7 +346,11 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
     try {
       final PersistedSnapshot value =
-          snapshotStore.newSnapshot(metadata, directory, expectedSnapshotChecksum);
+          snapshotStore.newSnapshot(
+              metadata,
+              directory,
+              expectedSnapshotChecksum,
+              snapshotStore.getLatestChecksumManifest());
       future.complete(value);
     } catch (final Exception e) {
       future.completeExceptionally(e);
@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,7 +25,9 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
 
   private final Path directory;
   private final Path checksumFile;
+  private final Path manifestFile;
   private final long checksum;
+  private final SnapshotChecksumManifest checksumManifest;
   private final FileBasedSnapshotMetadata metadata;
 
   FileBasedSnapshot(
@@ -32,9 +35,21 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
       final Path checksumFile,
       final long checksum,
       final FileBasedSnapshotMetadata metadata) {
+    this(directory, checksumFile, null, checksum, null, metadata);
+  }
+
+  FileBasedSnapshot(
+      final Path directory,
+      final Path checksumFile,
+      final Path manifestFile,
+      final long checksum,
+      final SnapshotChecksumManifest checksumManifest,
+      final FileBasedSnapshotMetadata metadata) {
     this.directory = directory;
     this.checksumFile = checksumFile;
+    this.manifestFile = manifestFile;
     this.checksum = checksum;
+    this.checksumManifest = checksumManifest;
     this.metadata = metadata;
   }
 
@@ -50,6 +65,14 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     return checksumFile;
   }
 
+  public Path getChecksumManifestFile() {
+    return manifestFile;
+  }
+
+  SnapshotChecksumManifest getChecksumManifest() {
+    return checksumManifest;
+  }
+
   @Override
   public int version() {
     return VERSION;
@@ -68,7 +91,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new FileBasedSnapshotChunkReader(directory, checksum);
+      return new FileBasedSnapshotChunkReader(directory, checksum, checksumManifest);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -83,6 +106,14 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
       LOGGER.warn("Failed to delete snapshot checksum file {}", checksumFile, e);
     }
 
+    if (manifestFile != null) {
+      try {
+        Files.deleteIfExists(manifestFile);
+      } catch (final IOException e) {
+        LOGGER.warn("Failed to delete snapshot checksum manifest {}", manifestFile, e);
+      }
+    }
+
     try {
       FileUtil.deleteFolderIfExists(directory);
     } catch (final IOException e) {
@@ -110,6 +141,11 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     return checksum;
   }
 
+  @Override
+  public Map<String, Long> getChunkChecksums() {
+    return checksumManifest != null ? checksumManifest.getChecksums() : Map.of();
+  }
+
   @Override
   public void close() {
     // nothing to be done
@@ -19,15 +19,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
+import java.util.OptionalLong;
 import java.util.TreeSet;
 import org.agrona.AsciiSequenceView;
 import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /**
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>If a checksum manifest is given, the checksum of each chunk is verified against it when the
+ * chunk is read, such that a corrupted file is detected before it is sent to another node.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
@@ -40,9 +45,17 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final int totalCount;
   private final long snapshotChecksum;
   private final String snapshotID;
+  private final SnapshotChecksumManifest checksumManifest;
 
   FileBasedSnapshotChunkReader(final Path directory, final long checksum) throws IOException {
+    this(directory, checksum, null);
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory, final long checksum, final SnapshotChecksumManifest checksumManifest)
+      throws IOException {
     this.directory = directory;
+    this.checksumManifest = checksumManifest;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = chunks;
@@ -80,6 +93,21 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     return encodeChunkId(chunksView.first());
   }
 
+  @Override
+  public OptionalLong nextChecksum() {
+    if (checksumManifest == null || chunksView.isEmpty()) {
+      return OptionalLong.empty();
+    }
+
+    final var checksum = checksumManifest.getChecksum(chunksView.first().toString());
+    return checksum != null ? OptionalLong.of(checksum) : OptionalLong.empty();
+  }
+
+  @Override
+  public void skip() {
+    pollNextChunkName();
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -93,19 +121,75 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public SnapshotChunk next() {
-    final var chunkName = chunksView.pollFirst();
-    if (chunkName == null) {
-      throw new NoSuchElementException();
+    final var chunkName = pollNextChunkName();
+
+    final var path = directory.resolve(chunkName.toString());
+
+    final SnapshotChunk chunk;
+    try {
+      chunk =
+          SnapshotChunkUtil.createSnapshotChunkFromFile(
+              path, snapshotID, totalCount, snapshotChecksum);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
     }
 
+    verifyChunkChecksum(path, chunk);
+    return chunk;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The checksum of the chunk is taken from the checksum manifest if there is one; otherwise the
+   * file is read once to compute it, without keeping its content.
+   */
+  @Override
+  public SnapshotChunk nextWithoutContent() {
+    final var chunkName = pollNextChunkName();
+
     final var path = directory.resolve(chunkName.toString());
+    final Long knownChecksum =
+        checksumManifest != null ? checksumManifest.getChecksum(chunkName.toString()) : null;
 
+    final long checksum;
     try {
-      return SnapshotChunkUtil.createSnapshotChunkFromFile(
-          path, snapshotID, totalCount, snapshotChecksum);
+      checksum =
+          knownChecksum != null
+              ? knownChecksum
+              : SnapshotChecksumManifest.computeFileChecksum(
+                  path, ByteBuffer.allocate(IoUtil.BLOCK_SIZE));
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
+
+    return SnapshotChunkUtil.createSnapshotChunkWithoutContent(
+        path, snapshotID, totalCount, checksum, snapshotChecksum);
+  }
+
+  /**
+   * Moves the view past the next chunk. The chunks themselves are never removed, such that {@link
+   * #seek(ByteBuffer)} can go back to chunks which were read or skipped before.
+   */
+  private CharSequence pollNextChunkName() {
+    if (chunksView.isEmpty()) {
+      throw new NoSuchElementException();
+    }
+
+    final var chunkName = chunksView.first();
+    chunksView = chunks.tailSet(chunkName, false);
+    return chunkName;
+  }
+
+  private void verifyChunkChecksum(final Path path, final SnapshotChunk chunk) {
+    if (checksumManifest == null) {
+      return;
+    }
+
+    final var expectedChecksum = checksumManifest.getChecksum(chunk.getChunkName());
+    if (expectedChecksum != null && expectedChecksum != chunk.getChecksum()) {
+      throw new InvalidSnapshotChecksum(path, expectedChecksum, chunk.getChecksum());
+    }
   }
 
   private ByteBuffer encodeChunkId(final CharSequence path) {
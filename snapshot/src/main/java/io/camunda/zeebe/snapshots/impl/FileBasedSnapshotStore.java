@@ -48,6 +48,7 @@ public final class FileBasedSnapshotStore extends Actor
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedSnapshotStore.class);
   private static final String CHECKSUM_SUFFIX = ".checksum";
+  private static final String MANIFEST_SUFFIX = ".manifest";
 
   // the root snapshotsDirectory where all snapshots should be stored
   private final Path snapshotsDirectory;
@@ -66,6 +67,8 @@ public final class FileBasedSnapshotStore extends Actor
   private final Set<PersistableSnapshot> pendingSnapshots = new HashSet<>();
   private final String actorName;
   private final int partitionId;
+  // if true, snapshots are verified on startup against their checksum manifest without reading them
+  private final boolean trustChecksumManifest;
 
   public FileBasedSnapshotStore(
       final int nodeId,
@@ -73,6 +76,17 @@ public final class FileBasedSnapshotStore extends Actor
       final SnapshotMetrics snapshotMetrics,
       final Path snapshotsDirectory,
       final Path pendingDirectory) {
+    this(nodeId, partitionId, snapshotMetrics, snapshotsDirectory, pendingDirectory, false);
+  }
+
+  public FileBasedSnapshotStore(
+      final int nodeId,
+      final int partitionId,
+      final SnapshotMetrics snapshotMetrics,
+      final Path snapshotsDirectory,
+      final Path pendingDirectory,
+      final boolean trustChecksumManifest) {
+    this.trustChecksumManifest = trustChecksumManifest;
     this.snapshotsDirectory = snapshotsDirectory;
     this.pendingDirectory = pendingDirectory;
     this.snapshotMetrics = snapshotMetrics;
@@ -111,7 +125,11 @@ public final class FileBasedSnapshotStore extends Actor
     final List<FileBasedSnapshot> snapshots = new ArrayList<>();
     try (final var stream =
         Files.newDirectoryStream(
-            snapshotDirectory, p -> !p.getFileName().toString().endsWith(CHECKSUM_SUFFIX))) {
+            snapshotDirectory,
+            p -> {
+              final var fileName = p.getFileName().toString();
+              return !fileName.endsWith(CHECKSUM_SUFFIX) && !fileName.endsWith(MANIFEST_SUFFIX);
+            })) {
       for (final var path : stream) {
         final var snapshot = collectSnapshot(path);
         if (snapshot != null) {
@@ -159,6 +177,7 @@ public final class FileBasedSnapshotStore extends Actor
               + " (e.g. crash during move), and will be deleted",
           path);
       try {
+        Files.deleteIfExists(buildSnapshotsManifestPath(metadata));
         FileUtil.deleteFolder(path);
       } catch (final Exception e) {
         // it's fine to ignore failures to delete here, as it would constitute mostly noise
@@ -170,7 +189,20 @@ public final class FileBasedSnapshotStore extends Actor
 
     try {
       final var expectedChecksum = SnapshotChecksum.read(checksumPath);
-      final var actualChecksum = SnapshotChecksum.calculate(path);
+      final var manifestPath = buildSnapshotsManifestPath(metadata);
+      final var persistedManifest = readChecksumManifest(manifestPath);
+      if (trustChecksumManifest
+          && persistedManifest != null
+          && persistedManifest.getCombinedChecksum() == expectedChecksum
+          && persistedManifest.matches(path)) {
+        // the files were not modified since the manifest was written; each chunk is still verified
+        // against the manifest when it is read for replication
+        return new FileBasedSnapshot(
+            path, checksumPath, manifestPath, expectedChecksum, persistedManifest, metadata);
+      }
+
+      final var checksumManifest = SnapshotChecksumManifest.compute(path, null);
+      final var actualChecksum = checksumManifest.getCombinedChecksum();
       if (expectedChecksum != actualChecksum) {
         LOGGER.warn(
             "Expected snapshot {} to have checksum {}, but the actual checksum is {}; the snapshot is most likely corrupted. The startup will fail if there is no other valid snapshot and the log has been compacted.",
@@ -180,13 +212,41 @@ public final class FileBasedSnapshotStore extends Actor
         return null;
       }
 
-      return new FileBasedSnapshot(path, checksumPath, actualChecksum, metadata);
+      if (persistedManifest == null || !persistedManifest.matches(path)) {
+        persistChecksumManifest(manifestPath, checksumManifest);
+      }
+
+      return new FileBasedSnapshot(
+          path, checksumPath, manifestPath, actualChecksum, checksumManifest, metadata);
     } catch (final Exception e) {
       LOGGER.warn("Could not load snapshot in {}", path, e);
       return null;
     }
   }
 
+  private SnapshotChecksumManifest readChecksumManifest(final Path manifestPath) {
+    if (!Files.exists(manifestPath)) {
+      return null;
+    }
+
+    try {
+      return SnapshotChecksumManifest.read(manifestPath);
+    } catch (final IOException e) {
+      LOGGER.debug("Failed to read snapshot checksum manifest {}, will ignore it", manifestPath, e);
+      return null;
+    }
+  }
+
+  private void persistChecksumManifest(
+      final Path manifestPath, final SnapshotChecksumManifest checksumManifest) {
+    try {
+      checksumManifest.persist(manifestPath);
+    } catch (final IOException e) {
+      // the manifest is only an optimization, the snapshot can be verified without it
+      LOGGER.warn("Failed to persist snapshot checksum manifest {}", manifestPath, e);
+    }
+  }
+
   private void purgePendingSnapshotsDirectory() {
     try (final var files = Files.list(pendingDirectory)) {
       files.filter(Files::isDirectory).forEach(this::purgePendingSnapshot);
@@ -430,7 +490,10 @@ public final class FileBasedSnapshotStore extends Actor
   // TODO(npepinpe): using Either here would allow easy rollback regardless of when or where an
   // exception is thrown, without having to catch and rollback for every possible case
   FileBasedSnapshot newSnapshot(
-      final FileBasedSnapshotMetadata metadata, final Path directory, final long expectedChecksum) {
+      final FileBasedSnapshotMetadata metadata,
+      final Path directory,
+      final long expectedChecksum,
+      final SnapshotChecksumManifest checksumManifest) {
     final var currentPersistedSnapshot = currentPersistedSnapshotRef.get();
 
     if (isCurrentSnapshotNewer(metadata)) {
@@ -448,24 +511,32 @@ public final class FileBasedSnapshotStore extends Actor
     moveToSnapshotDirectory(directory, destination);
 
     final var checksumPath = buildSnapshotsChecksumPath(metadata);
+    final var manifestPath = buildSnapshotsManifestPath(metadata);
     final long actualChecksum;
+    final SnapshotChecksumManifest actualManifest;
     try {
       // computing the checksum on the final destination also lets us detect any failures during the
-      // copy/move that could occur
-      actualChecksum = SnapshotChecksum.calculate(destination);
+      // copy/move that could occur; files which were moved without being modified keep their
+      // attributes, so their checksums are reused from the given manifest instead of being read
+      actualManifest = SnapshotChecksumManifest.compute(destination, checksumManifest);
+      actualChecksum = actualManifest.getCombinedChecksum();
       if (actualChecksum != expectedChecksum) {
         rollbackPartialSnapshot(destination);
         throw new InvalidSnapshotChecksum(directory, expectedChecksum, actualChecksum);
       }
 
+      // the manifest is written before the checksum marker file, such that any committed snapshot
+      // has a manifest
+      persistChecksumManifest(manifestPath, actualManifest);
       SnapshotChecksum.persist(checksumPath, actualChecksum);
     } catch (final IOException e) {
-      rollbackPartialSnapshot(destination);
+      rollbackPartialSnapshot(destination, manifestPath);
       throw new UncheckedIOException(e);
     }
 
     final var newPersistedSnapshot =
-        new FileBasedSnapshot(destination, checksumPath, actualChecksum, metadata);
+        new FileBasedSnapshot(
+            destination, checksumPath, manifestPath, actualChecksum, actualManifest, metadata);
     final var failed =
         !currentPersistedSnapshotRef.compareAndSet(currentPersistedSnapshot, newPersistedSnapshot);
     if (failed) {
@@ -517,6 +588,19 @@ public final class FileBasedSnapshotStore extends Actor
     }
   }
 
+  private void rollbackPartialSnapshot(final Path destination, final Path manifestPath) {
+    try {
+      Files.deleteIfExists(manifestPath);
+    } catch (final IOException ioException) {
+      LOGGER.debug(
+          "Checksum manifest {} could not be deleted on rollback, but will be safely ignored",
+          manifestPath,
+          ioException);
+    }
+
+    rollbackPartialSnapshot(destination);
+  }
+
   private void rollbackPartialSnapshot(final Path destination) {
     try {
       FileUtil.deleteFolderIfExists(destination);
@@ -560,6 +644,20 @@ public final class FileBasedSnapshotStore extends Actor
     return snapshotsDirectory.resolve(metadata.getSnapshotIdAsString() + CHECKSUM_SUFFIX);
   }
 
+  private Path buildSnapshotsManifestPath(final FileBasedSnapshotMetadata metadata) {
+    return snapshotsDirectory.resolve(metadata.getSnapshotIdAsString() + MANIFEST_SUFFIX);
+  }
+
+  /**
+   * Returns the checksum manifest of the latest snapshot, or null if there is none. The checksums
+   * of files shared with the latest snapshot can be reused when computing the checksum of a new
+   * snapshot.
+   */
+  SnapshotChecksumManifest getLatestChecksumManifest() {
+    final var latestSnapshot = currentPersistedSnapshotRef.get();
+    return latestSnapshot != null ? latestSnapshot.getChecksumManifest() : null;
+  }
+
   SnapshotMetrics getSnapshotMetrics() {
     return snapshotMetrics;
   }
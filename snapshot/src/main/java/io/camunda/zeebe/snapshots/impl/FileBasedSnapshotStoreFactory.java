@@ -38,11 +38,20 @@ public final class FileBasedSnapshotStoreFactory implements ReceivableSnapshotSt
       new Int2ObjectHashMap<>();
   private final ActorSchedulingService actorScheduler;
   private final int nodeId;
+  private final boolean trustChecksumManifest;
 
   public FileBasedSnapshotStoreFactory(
       final ActorSchedulingService actorScheduler, final int nodeId) {
+    this(actorScheduler, nodeId, false);
+  }
+
+  public FileBasedSnapshotStoreFactory(
+      final ActorSchedulingService actorScheduler,
+      final int nodeId,
+      final boolean trustChecksumManifest) {
     this.actorScheduler = actorScheduler;
     this.nodeId = nodeId;
+    this.trustChecksumManifest = trustChecksumManifest;
   }
 
   @Override
@@ -71,7 +80,8 @@ public final class FileBasedSnapshotStoreFactory implements ReceivableSnapshotSt
             partitionId,
             new SnapshotMetrics(Integer.toString(partitionId)),
             snapshotDirectory,
-            pendingDirectory);
+            pendingDirectory,
+            trustChecksumManifest);
     actorScheduler.submitActor(snapshotStore, SchedulingHints.ioBound()).join();
     return snapshotStore;
   }
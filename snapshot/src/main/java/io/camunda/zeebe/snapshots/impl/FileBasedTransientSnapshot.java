@@ -35,6 +35,7 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
   private boolean isValid = false;
   private PersistedSnapshot snapshot;
   private long checksum;
+  private SnapshotChecksumManifest checksumManifest;
 
   FileBasedTransientSnapshot(
       final FileBasedSnapshotMetadata metadata,
@@ -65,7 +66,11 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
           // If no snapshot files are created, snapshot is not valid
           isValid = false;
         } else {
-          checksum = SnapshotChecksum.calculate(directory);
+          // only files which are not part of the previous snapshot have to be read
+          checksumManifest =
+              SnapshotChecksumManifest.compute(
+                  directory, snapshotStore.getLatestChecksumManifest());
+          checksum = checksumManifest.getCombinedChecksum();
         }
 
         snapshot = null;
@@ -124,7 +129,7 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
     }
 
     try {
-      snapshot = snapshotStore.newSnapshot(metadata, directory, checksum);
+      snapshot = snapshotStore.newSnapshot(metadata, directory, checksum, checksumManifest);
       future.complete(snapshot);
     } catch (final Exception e) {
       future.completeExceptionally(e);
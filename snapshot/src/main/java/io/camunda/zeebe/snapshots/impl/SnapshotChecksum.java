@@ -22,6 +22,9 @@ import org.agrona.IoUtil;
 
 final class SnapshotChecksum {
 
+  /** reversed CRC-32C (Castagnoli) polynomial, as used by {@link java.util.zip.CRC32C} */
+  private static final int CRC32C_POLYNOMIAL = 0x82F63B78;
+
   private SnapshotChecksum() {
     throw new IllegalStateException("Utility class");
   }
@@ -44,6 +47,74 @@ final class SnapshotChecksum {
     }
   }
 
+  /**
+   * Combines two CRC-32C checksums, such that the result is the checksum of the concatenation of
+   * both inputs, i.e. {@code combine(crc(A), crc(B), length(B)) == crc(AB)}. This allows deriving
+   * the combined snapshot checksum from per file checksums without reading the files again.
+   *
+   * @param first the checksum of the first input
+   * @param second the checksum of the second input
+   * @param secondLength the length in bytes of the second input
+   * @return the checksum of both inputs concatenated
+   */
+  static long combine(final long first, final long second, final long secondLength) {
+    if (secondLength <= 0) {
+      return first;
+    }
+
+    // operator for one zero bit in odd, then squared to get the operator for two zero bits
+    final int[] odd = new int[32];
+    final int[] even = new int[32];
+    odd[0] = CRC32C_POLYNOMIAL;
+    int row = 1;
+    for (int n = 1; n < 32; n++) {
+      odd[n] = row;
+      row <<= 1;
+    }
+    gf2MatrixSquare(even, odd);
+    gf2MatrixSquare(odd, even);
+
+    // apply secondLength zero bytes to the first checksum, squaring the operator for every bit
+    int crc = (int) first;
+    long length = secondLength;
+    do {
+      gf2MatrixSquare(even, odd);
+      if ((length & 1) != 0) {
+        crc = gf2MatrixTimes(even, crc);
+      }
+      length >>>= 1;
+
+      if (length == 0) {
+        break;
+      }
+
+      gf2MatrixSquare(odd, even);
+      if ((length & 1) != 0) {
+        crc = gf2MatrixTimes(odd, crc);
+      }
+      length >>>= 1;
+    } while (length != 0);
+
+    return Integer.toUnsignedLong(crc ^ (int) second);
+  }
+
+  private static int gf2MatrixTimes(final int[] matrix, final int vector) {
+    int sum = 0;
+    int remaining = vector;
+    for (int i = 0; remaining != 0; i++, remaining >>>= 1) {
+      if ((remaining & 1) != 0) {
+        sum ^= matrix[i];
+      }
+    }
+    return sum;
+  }
+
+  private static void gf2MatrixSquare(final int[] square, final int[] matrix) {
+    for (int n = 0; n < 32; n++) {
+      square[n] = gf2MatrixTimes(matrix, matrix[n]);
+    }
+  }
+
   /** computes a checksum for the files, in the order they're presented */
   private static long createCombinedChecksum(final List<Path> paths) throws IOException {
     final Checksum checksum = SnapshotChunkUtil.newChecksum();
@@ -0,0 +1,270 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import io.camunda.zeebe.util.FileUtil;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.zip.Checksum;
+import org.agrona.IoUtil;
+
+/**
+ * Keeps the checksum of each file of a snapshot, together with the file's size, modification time
+ * and file key (e.g. the inode). The combined snapshot checksum is derived from these, such that it
+ * is equal to {@link SnapshotChecksum#calculate(Path)} without reading the files again.
+ *
+ * <p>Most files of consecutive snapshots are the same immutable SST files, hard linked from the
+ * runtime database. When computing the manifest of a new snapshot, the checksums of files whose
+ * attributes did not change since the previous manifest are reused, and only new files are read.
+ */
+final class SnapshotChecksumManifest {
+
+  private static final int VERSION = 1;
+
+  private final List<FileChecksum> files;
+  private final Map<String, FileChecksum> filesByName;
+
+  private SnapshotChecksumManifest(final List<FileChecksum> files) {
+    this.files = Collections.unmodifiableList(files);
+    filesByName = new HashMap<>();
+    files.forEach(file -> filesByName.put(file.name, file));
+  }
+
+  /**
+   * Computes the manifest of the given snapshot directory, reusing the checksums of the previous
+   * manifest for files which did not change.
+   *
+   * @param snapshotDirectory the snapshot directory
+   * @param previous the manifest of a previous snapshot, or null if there is none
+   * @return the manifest of the given snapshot
+   */
+  static SnapshotChecksumManifest compute(
+      final Path snapshotDirectory, final SnapshotChecksumManifest previous) throws IOException {
+    final List<Path> paths;
+    try (final var fileStream = Files.list(snapshotDirectory).sorted()) {
+      paths = fileStream.collect(Collectors.toList());
+    }
+
+    final List<FileChecksum> files = new ArrayList<>(paths.size());
+    final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
+    for (final var path : paths) {
+      final var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+      final var name = path.getFileName().toString();
+      final var size = attributes.size();
+      final var lastModified = attributes.lastModifiedTime().toMillis();
+      final var fileKey = Objects.toString(attributes.fileKey(), "");
+
+      final var previousFile = previous != null ? previous.filesByName.get(name) : null;
+      final long checksum;
+      if (previousFile != null && previousFile.hasAttributes(size, lastModified, fileKey)) {
+        checksum = previousFile.checksum;
+      } else {
+        checksum = computeFileChecksum(path, readBuffer);
+      }
+
+      files.add(new FileChecksum(name, size, lastModified, fileKey, checksum));
+    }
+
+    return new SnapshotChecksumManifest(files);
+  }
+
+  /**
+   * Returns the combined checksum of all files, as calculated by {@link
+   * SnapshotChecksum#calculate(Path)}.
+   */
+  long getCombinedChecksum() {
+    long combined = 0;
+    for (final var file : files) {
+      final byte[] name = file.name.getBytes(StandardCharsets.UTF_8);
+      combined =
+          SnapshotChecksum.combine(combined, SnapshotChunkUtil.createChecksum(name), name.length);
+      combined = SnapshotChecksum.combine(combined, file.checksum, file.size);
+    }
+
+    return combined;
+  }
+
+  /**
+   * Returns the checksum of the file with the given name, or null if the file is not part of the
+   * manifest.
+   */
+  Long getChecksum(final String fileName) {
+    final var file = filesByName.get(fileName);
+    return file != null ? file.checksum : null;
+  }
+
+  /** Returns the checksums of all files, by file name. */
+  Map<String, Long> getChecksums() {
+    final Map<String, Long> checksums = new HashMap<>();
+    files.forEach(file -> checksums.put(file.name, file.checksum));
+    return checksums;
+  }
+
+  /**
+   * Returns true if the given directory contains exactly the files of this manifest, with unchanged
+   * attributes. The contents of the files are not read.
+   */
+  boolean matches(final Path snapshotDirectory) throws IOException {
+    final List<Path> paths;
+    try (final var fileStream = Files.list(snapshotDirectory).sorted()) {
+      paths = fileStream.collect(Collectors.toList());
+    }
+
+    if (paths.size() != files.size()) {
+      return false;
+    }
+
+    for (final var path : paths) {
+      final var file = filesByName.get(path.getFileName().toString());
+      final var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+      if (file == null
+          || !file.hasAttributes(
+              attributes.size(),
+              attributes.lastModifiedTime().toMillis(),
+              Objects.toString(attributes.fileKey(), ""))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  void persist(final Path manifestPath) throws IOException {
+    final var bytes = new ByteArrayOutputStream();
+    try (final var output = new DataOutputStream(bytes)) {
+      output.writeInt(VERSION);
+      output.writeInt(files.size());
+      for (final var file : files) {
+        output.writeUTF(file.name);
+        output.writeLong(file.size);
+        output.writeLong(file.lastModified);
+        output.writeUTF(file.fileKey);
+        output.writeLong(file.checksum);
+      }
+    }
+
+    final var content = bytes.toByteArray();
+    try (final var channel =
+        FileChannel.open(
+            manifestPath,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      final var buffer = ByteBuffer.allocate(content.length + Long.BYTES);
+      buffer.put(content).putLong(SnapshotChunkUtil.createChecksum(content)).flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+    FileUtil.flushDirectory(manifestPath.getParent());
+  }
+
+  /**
+   * Reads a persisted manifest.
+   *
+   * @throws IOException if the manifest cannot be read, is of an unknown version or is corrupted
+   */
+  static SnapshotChecksumManifest read(final Path manifestPath) throws IOException {
+    final var bytes = Files.readAllBytes(manifestPath);
+    if (bytes.length < Long.BYTES) {
+      throw new IOException(String.format("Expected manifest %s to be complete", manifestPath));
+    }
+
+    final var contentLength = bytes.length - Long.BYTES;
+    final var expectedChecksum = ByteBuffer.wrap(bytes, contentLength, Long.BYTES).getLong();
+    final Checksum checksum = SnapshotChunkUtil.newChecksum();
+    checksum.update(bytes, 0, contentLength);
+    if (checksum.getValue() != expectedChecksum) {
+      throw new IOException(
+          String.format("Expected manifest %s to match its checksum", manifestPath));
+    }
+
+    try (final var input =
+        new DataInputStream(new ByteArrayInputStream(bytes, 0, contentLength))) {
+      final var version = input.readInt();
+      if (version != VERSION) {
+        throw new IOException(
+            String.format(
+                "Expected manifest %s to have version %d, but was %d",
+                manifestPath, VERSION, version));
+      }
+
+      final var count = input.readInt();
+      final List<FileChecksum> files = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        files.add(
+            new FileChecksum(
+                input.readUTF(),
+                input.readLong(),
+                input.readLong(),
+                input.readUTF(),
+                input.readLong()));
+      }
+
+      return new SnapshotChecksumManifest(files);
+    }
+  }
+
+  static long computeFileChecksum(final Path path, final ByteBuffer readBuffer)
+      throws IOException {
+    final Checksum checksum = SnapshotChunkUtil.newChecksum();
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      readBuffer.clear();
+      while (channel.read(readBuffer) > 0) {
+        readBuffer.flip();
+        checksum.update(readBuffer);
+        readBuffer.clear();
+      }
+    }
+
+    return checksum.getValue();
+  }
+
+  private static final class FileChecksum {
+    private final String name;
+    private final long size;
+    private final long lastModified;
+    private final String fileKey;
+    private final long checksum;
+
+    private FileChecksum(
+        final String name,
+        final long size,
+        final long lastModified,
+        final String fileKey,
+        final long checksum) {
+      this.name = name;
+      this.size = size;
+      this.lastModified = lastModified;
+      this.fileKey = fileKey;
+      this.checksum = checksum;
+    }
+
+    private boolean hasAttributes(final long size, final long lastModified, final String fileKey) {
+      return this.size == size && this.lastModified == lastModified && this.fileKey.equals(fileKey);
+    }
+  }
+}
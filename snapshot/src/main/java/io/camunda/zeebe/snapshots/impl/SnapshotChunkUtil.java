@@ -11,11 +11,14 @@ import io.camunda.zeebe.snapshots.SnapshotChunk;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 
 final class SnapshotChunkUtil {
 
+  private static final byte[] NO_CONTENT = new byte[0];
+
   private SnapshotChunkUtil() {}
 
   static long createChecksum(final byte[] content) {
@@ -42,7 +45,24 @@ final class SnapshotChunkUtil {
         chunkFile.getFileName().toString(),
         checksum,
         content,
-        snapshotChecksum);
+        snapshotChecksum,
+        null);
+  }
+
+  static SnapshotChunk createSnapshotChunkWithoutContent(
+      final Path chunkFile,
+      final String snapshotId,
+      final int totalCount,
+      final long checksum,
+      final long snapshotChecksum) {
+    return new SnapshotChunkImpl(
+        snapshotId,
+        totalCount,
+        chunkFile.getFileName().toString(),
+        checksum,
+        NO_CONTENT,
+        snapshotChecksum,
+        chunkFile);
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -52,6 +72,7 @@ final class SnapshotChunkUtil {
     private final byte[] content;
     private final long snapshotChecksum;
     private final long checksum;
+    private final Path contentFile;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -59,13 +80,15 @@ final class SnapshotChunkUtil {
         final String chunkName,
         final long checksum,
         final byte[] content,
-        final long snapshotChecksum) {
+        final long snapshotChecksum,
+        final Path contentFile) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
       this.checksum = checksum;
       this.content = content;
       this.snapshotChecksum = snapshotChecksum;
+      this.contentFile = contentFile;
     }
 
     @Override
@@ -97,5 +120,10 @@ final class SnapshotChunkUtil {
     public long getSnapshotChecksum() {
       return snapshotChecksum;
     }
+
+    @Override
+    public Optional<Path> getContentFile() {
+      return Optional.ofNullable(contentFile);
+    }
   }
 }
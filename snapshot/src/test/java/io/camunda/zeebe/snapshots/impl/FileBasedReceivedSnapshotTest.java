@@ -18,14 +18,17 @@ import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkWrapper;
 import io.camunda.zeebe.test.util.asserts.DirectoryAssert;
 import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.sched.future.ActorFuture;
 import io.camunda.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -121,6 +124,52 @@ public class FileBasedReceivedSnapshotTest {
         .hasBinaryContent(expectedChunk.getContent());
   }
 
+  @Test
+  public void shouldReceiveChunkWithSeparateContent() throws IOException {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    final SnapshotChunk expectedChunk;
+    final byte[] expectedContent;
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      expectedChunk = snapshotChunkReader.nextWithoutContent();
+      expectedContent = Files.readAllBytes(expectedChunk.getContentFile().orElseThrow());
+      final var directBuffer = ByteBuffer.allocateDirect(expectedContent.length - 4);
+      directBuffer.put(expectedContent, 4, expectedContent.length - 4).flip();
+      final var content = new ByteBuffer[] {ByteBuffer.wrap(expectedContent, 0, 4), directBuffer};
+      receivedSnapshot.apply(expectedChunk, content).join();
+    }
+
+    // then
+    assertThat(receivedSnapshot.getPath().resolve(expectedChunk.getChunkName()))
+        .as("the received chunk should have the expected content")
+        .hasBinaryContent(expectedContent);
+  }
+
+  @Test
+  public void shouldNotWriteChunkWithSeparateContentWithInvalidChecksum() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    final SnapshotChunk chunk;
+    final ActorFuture<Void> future;
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      chunk = snapshotChunkReader.nextWithoutContent();
+      final var content = new ByteBuffer[] {ByteBuffer.wrap("corrupted".getBytes())};
+      future = receivedSnapshot.apply(chunk, content);
+    }
+
+    // then
+    assertThatThrownBy(future::get).hasCauseInstanceOf(SnapshotWriteException.class);
+    assertThat(receivedSnapshot.getPath().resolve(chunk.getChunkName())).doesNotExist();
+  }
+
   @Test
   public void shouldRemovePreviousSnapshotOnCommit() {
     // given
@@ -322,6 +371,52 @@ public class FileBasedReceivedSnapshotTest {
             receivedSnapshot.getPath().resolve(firstChunk.getChunkName()));
   }
 
+  @Test
+  public void shouldReuseChunksOfLocalSnapshot() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var localSnapshot = receiverSnapshotStore.getLatestSnapshot().orElseThrow();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      final var firstChunk = snapshotChunkReader.next();
+      receivedSnapshot.apply(firstChunk).join();
+
+      final var reusedChunks = new HashMap<>(localSnapshot.getChunkChecksums());
+      reusedChunks.remove(firstChunk.getChunkName());
+      receivedSnapshot.reuse(localSnapshot, reusedChunks).join();
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksum())
+        .as("the snapshot with reused chunks has the same checksum as the sent snapshot")
+        .isEqualTo(persistedSnapshot.getChecksum());
+    assertThat(receivedPersistedSnapshot.getPath())
+        .as("the received snapshot contains all chunks")
+        .isDirectoryContaining(p -> p.getFileName().toString().equals("file1"))
+        .isDirectoryContaining(p -> p.getFileName().toString().equals("file2"));
+  }
+
+  @Test
+  public void shouldNotReuseChunkWithDifferentChecksum() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var localSnapshot = receiverSnapshotStore.getLatestSnapshot().orElseThrow();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    final var future = receivedSnapshot.reuse(localSnapshot, Map.of("file1", 0xCAFEL));
+
+    // then
+    assertThatThrownBy(future::get).hasCauseInstanceOf(SnapshotWriteException.class);
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
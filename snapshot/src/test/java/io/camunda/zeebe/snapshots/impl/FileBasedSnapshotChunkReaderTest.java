@@ -88,6 +88,116 @@ public final class FileBasedSnapshotChunkReaderTest {
     }
   }
 
+  @Test
+  public void shouldReturnNextChecksumFromManifest() throws IOException {
+    // given
+    newReader();
+    final var manifest = SnapshotChecksumManifest.compute(snapshotDirectory, null);
+
+    // when
+    try (final var snapshotChunkReader =
+        new FileBasedSnapshotChunkReader(snapshotDirectory, SNAPSHOT_CHECKSUM, manifest)) {
+      final var nextChecksum = snapshotChunkReader.nextChecksum();
+
+      // then
+      assertThat(nextChecksum).hasValue(snapshotChunkReader.next().getChecksum());
+    }
+  }
+
+  @Test
+  public void shouldNotReturnNextChecksumWithoutManifest() throws IOException {
+    // given
+    try (final var snapshotChunkReader = newReader()) {
+      // when
+      final var nextChecksum = snapshotChunkReader.nextChecksum();
+
+      // then
+      assertThat(nextChecksum).isEmpty();
+    }
+  }
+
+  @Test
+  public void shouldSkipChunk() throws IOException {
+    // given
+    try (final var snapshotChunkReader = newReader()) {
+      // when
+      snapshotChunkReader.skip();
+
+      // then
+      assertThat(snapshotChunkReader.next().getChunkName()).isEqualTo("foo");
+      assertThat(snapshotChunkReader.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  public void shouldSeekBackToSkippedChunks() throws IOException {
+    // given
+    try (final var snapshotChunkReader = newReader()) {
+      final var firstId = snapshotChunkReader.nextId();
+      snapshotChunkReader.skip();
+      snapshotChunkReader.skip();
+      assertThat(snapshotChunkReader.hasNext()).isFalse();
+
+      // when
+      snapshotChunkReader.seek(firstId);
+
+      // then
+      assertThat(snapshotChunkReader.next().getChunkName()).isEqualTo("bar");
+      assertThat(snapshotChunkReader.next().getChunkName()).isEqualTo("foo");
+      assertThat(snapshotChunkReader.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  public void shouldSeekBackToReadChunks() throws IOException {
+    // given
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.next();
+      final var secondId = snapshotChunkReader.nextId();
+      snapshotChunkReader.nextWithoutContent();
+
+      // when
+      snapshotChunkReader.seek(secondId);
+
+      // then
+      assertThat(snapshotChunkReader.next().getChunkName()).isEqualTo("foo");
+      assertThat(snapshotChunkReader.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  public void shouldReadChunkWithoutContent() throws IOException {
+    // given
+    try (final var snapshotChunkReader = newReader()) {
+      // when
+      final var chunk = snapshotChunkReader.nextWithoutContent();
+
+      // then
+      assertThat(chunk.getChunkName()).isEqualTo("bar");
+      assertThat(chunk.getContent()).isEmpty();
+      assertThat(chunk.getContentFile()).hasValue(snapshotDirectory.resolve("bar"));
+      assertThat(chunk.getChecksum())
+          .isEqualTo(SnapshotChunkUtil.createChecksum("content".getBytes(StandardCharsets.UTF_8)));
+      assertThat(snapshotChunkReader.next().getChunkName()).isEqualTo("foo");
+    }
+  }
+
+  @Test
+  public void shouldTakeChecksumOfChunkWithoutContentFromManifest() throws IOException {
+    // given
+    newReader();
+    final var manifest = SnapshotChecksumManifest.compute(snapshotDirectory, null);
+
+    // when
+    try (final var snapshotChunkReader =
+        new FileBasedSnapshotChunkReader(snapshotDirectory, SNAPSHOT_CHECKSUM, manifest)) {
+      final var chunk = snapshotChunkReader.nextWithoutContent();
+
+      // then
+      assertThat(chunk.getChecksum()).isEqualTo(manifest.getChecksum("bar"));
+    }
+  }
+
   private FileBasedSnapshotChunkReader newReader() throws IOException {
     snapshotDirectory = temporaryFolder.getRoot().toPath();
     for (final var chunk : Arrays.asList("foo", "bar")) {
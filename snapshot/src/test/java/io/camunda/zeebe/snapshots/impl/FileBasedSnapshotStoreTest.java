@@ -96,7 +96,10 @@ public class FileBasedSnapshotStoreTest {
     assertThat(snapshotsDir)
         .asInstanceOf(DirectoryAssert.factory())
         .as("the older snapshots should have been deleted")
-        .isDirectoryContainingExactly(newerSnapshot.getPath(), newerSnapshot.getChecksumFile());
+        .isDirectoryContainingExactly(
+            newerSnapshot.getPath(),
+            newerSnapshot.getChecksumFile(),
+            newerSnapshot.getChecksumManifestFile());
   }
 
   @Test
@@ -128,6 +131,52 @@ public class FileBasedSnapshotStoreTest {
     assertThat(persistedSnapshot.getDirectory()).doesNotExist();
   }
 
+  @Test
+  public void shouldLoadExistingSnapshotTrustingChecksumManifest() throws IOException {
+    // given
+    final var persistedSnapshot = (FileBasedSnapshot) takeTransientSnapshot().persist().join();
+
+    // when
+    snapshotStore.close();
+    snapshotStore = createStore(snapshotsDir, pendingSnapshotsDir, true);
+
+    // then
+    assertThat(persistedSnapshot.getChecksumManifestFile()).exists();
+    assertThat(snapshotStore.getLatestSnapshot()).hasValue(persistedSnapshot);
+  }
+
+  @Test
+  public void shouldNotTrustChecksumManifestOfModifiedSnapshot() throws IOException {
+    // given
+    final var persistedSnapshot = (FileBasedSnapshot) takeTransientSnapshot().persist().join();
+    Files.writeString(
+        persistedSnapshot.getPath().resolve(SNAPSHOT_CONTENT_FILE_NAME),
+        "corrupted",
+        StandardOpenOption.APPEND);
+
+    // when
+    snapshotStore.close();
+    snapshotStore = createStore(snapshotsDir, pendingSnapshotsDir, true);
+
+    // then
+    assertThat(snapshotStore.getLatestSnapshot()).isEmpty();
+  }
+
+  @Test
+  public void shouldRecreateMissingChecksumManifest() throws IOException {
+    // given
+    final var persistedSnapshot = (FileBasedSnapshot) takeTransientSnapshot().persist().join();
+    Files.delete(persistedSnapshot.getChecksumManifestFile());
+
+    // when
+    snapshotStore.close();
+    snapshotStore = createStore(snapshotsDir, pendingSnapshotsDir);
+
+    // then
+    assertThat(snapshotStore.getLatestSnapshot()).hasValue(persistedSnapshot);
+    assertThat(persistedSnapshot.getChecksumManifestFile()).exists();
+  }
+
   @Test
   public void shouldPurgePendingSnapshots() {
     // given
@@ -210,8 +259,20 @@ public class FileBasedSnapshotStoreTest {
 
   private FileBasedSnapshotStore createStore(final Path snapshotDir, final Path pendingDir)
       throws IOException {
+    return createStore(snapshotDir, pendingDir, false);
+  }
+
+  private FileBasedSnapshotStore createStore(
+      final Path snapshotDir, final Path pendingDir, final boolean trustChecksumManifest)
+      throws IOException {
     final var store =
-        new FileBasedSnapshotStore(1, 1, new SnapshotMetrics(1 + "-" + 1), snapshotDir, pendingDir);
+        new FileBasedSnapshotStore(
+            1,
+            1,
+            new SnapshotMetrics(1 + "-" + 1),
+            snapshotDir,
+            pendingDir,
+            trustChecksumManifest);
     FileUtil.ensureDirectoryExists(snapshotDir);
     FileUtil.ensureDirectoryExists(pendingSnapshotsDir);
     scheduler.submitActor(store).join();
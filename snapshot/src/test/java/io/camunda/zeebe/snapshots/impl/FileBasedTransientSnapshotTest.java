@@ -195,7 +195,9 @@ public class FileBasedTransientSnapshotTest {
         .asInstanceOf(DirectoryAssert.factory())
         .as("the committed snapshots directory only contains the latest snapshot")
         .isDirectoryContainingExactly(
-            persistedSnapshot.getPath(), persistedSnapshot.getChecksumFile());
+            persistedSnapshot.getPath(),
+            persistedSnapshot.getChecksumFile(),
+            persistedSnapshot.getChecksumManifestFile());
   }
 
   @Test
@@ -323,7 +325,10 @@ public class FileBasedTransientSnapshotTest {
     assertThat(snapshotsDir)
         .asInstanceOf(DirectoryAssert.factory())
         .as("snapshots directory only contains snapshot %s", firstSnapshot.getId())
-        .isDirectoryContainingExactly(firstSnapshot.getPath(), firstSnapshot.getChecksumFile());
+        .isDirectoryContainingExactly(
+            firstSnapshot.getPath(),
+            firstSnapshot.getChecksumFile(),
+            firstSnapshot.getChecksumManifestFile());
   }
 
   private boolean writeSnapshot(final Path path) {
@@ -0,0 +1,183 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.agrona.IoUtil;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SnapshotChecksumManifestTest {
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private Path snapshot;
+
+  @Before
+  public void setup() throws Exception {
+    snapshot = temporaryFolder.newFolder().toPath();
+
+    createChunk(snapshot, "file1.txt", "file1.txt");
+    createChunk(snapshot, "file2.txt", "a".repeat(4 * IoUtil.BLOCK_SIZE + 100));
+    createChunk(snapshot, "file3.txt", "");
+  }
+
+  private void createChunk(final Path snapshot, final String chunkName, final String content)
+      throws IOException {
+    Files.writeString(
+        snapshot.resolve(chunkName), content, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+  }
+
+  @Test
+  public void shouldCombineToSameChecksumAsCalculated() throws Exception {
+    // given
+    final var expectedChecksum = SnapshotChecksum.calculate(snapshot);
+
+    // when
+    final var manifest = SnapshotChecksumManifest.compute(snapshot, null);
+
+    // then
+    assertThat(manifest.getCombinedChecksum()).isEqualTo(expectedChecksum);
+  }
+
+  @Test
+  public void shouldCombineToSameChecksumForEmptySnapshot() throws Exception {
+    // given
+    final var emptySnapshot = temporaryFolder.newFolder().toPath();
+
+    // when
+    final var manifest = SnapshotChecksumManifest.compute(emptySnapshot, null);
+
+    // then
+    assertThat(manifest.getCombinedChecksum())
+        .isEqualTo(SnapshotChecksum.calculate(emptySnapshot));
+  }
+
+  @Test
+  public void shouldComputeChecksumOfEachFile() throws Exception {
+    // given
+    final var content = Files.readAllBytes(snapshot.resolve("file1.txt"));
+
+    // when
+    final var manifest = SnapshotChecksumManifest.compute(snapshot, null);
+
+    // then
+    assertThat(manifest.getChecksum("file1.txt"))
+        .isEqualTo(SnapshotChunkUtil.createChecksum(content));
+    assertThat(manifest.getChecksum("unknown")).isNull();
+  }
+
+  @Test
+  public void shouldReuseChecksumOfUnchangedFiles() throws Exception {
+    // given
+    final var previous = SnapshotChecksumManifest.compute(snapshot, null);
+    final var file = snapshot.resolve("file1.txt");
+    final var lastModified = Files.getLastModifiedTime(file);
+
+    // when - same size and modification time, so the file is not read again
+    createChunk(snapshot, "file1.txt", "FILE1.TXT");
+    Files.setLastModifiedTime(file, lastModified);
+    final var manifest = SnapshotChecksumManifest.compute(snapshot, previous);
+
+    // then
+    assertThat(manifest.getChecksum("file1.txt")).isEqualTo(previous.getChecksum("file1.txt"));
+    assertThat(manifest.getCombinedChecksum()).isEqualTo(previous.getCombinedChecksum());
+  }
+
+  @Test
+  public void shouldRecomputeChecksumOfChangedFiles() throws Exception {
+    // given
+    final var previous = SnapshotChecksumManifest.compute(snapshot, null);
+
+    // when
+    createChunk(snapshot, "file4.txt", "file4.txt");
+    Files.delete(snapshot.resolve("file3.txt"));
+    Files.writeString(snapshot.resolve("file1.txt"), "changed", StandardOpenOption.APPEND);
+    final var manifest = SnapshotChecksumManifest.compute(snapshot, previous);
+
+    // then
+    assertThat(manifest.getCombinedChecksum()).isEqualTo(SnapshotChecksum.calculate(snapshot));
+    assertThat(manifest.getChecksum("file3.txt")).isNull();
+  }
+
+  @Test
+  public void shouldMatchUnchangedSnapshot() throws Exception {
+    // given
+    final var manifest = SnapshotChecksumManifest.compute(snapshot, null);
+
+    // when
+    final var matches = manifest.matches(snapshot);
+
+    // then
+    assertThat(matches).isTrue();
+  }
+
+  @Test
+  public void shouldNotMatchChangedSnapshot() throws Exception {
+    // given
+    final var manifest = SnapshotChecksumManifest.compute(snapshot, null);
+
+    // when
+    Files.writeString(snapshot.resolve("file1.txt"), "changed", StandardOpenOption.APPEND);
+
+    // then
+    assertThat(manifest.matches(snapshot)).isFalse();
+  }
+
+  @Test
+  public void shouldNotMatchSnapshotWithMissingFile() throws Exception {
+    // given
+    final var manifest = SnapshotChecksumManifest.compute(snapshot, null);
+
+    // when
+    Files.delete(snapshot.resolve("file2.txt"));
+
+    // then
+    assertThat(manifest.matches(snapshot)).isFalse();
+  }
+
+  @Test
+  public void shouldPersistManifest() throws Exception {
+    // given
+    final var manifest = SnapshotChecksumManifest.compute(snapshot, null);
+    final var manifestPath = snapshot.resolveSibling("manifest");
+    manifest.persist(manifestPath);
+
+    // when
+    final var read = SnapshotChecksumManifest.read(manifestPath);
+
+    // then
+    assertThat(read.getCombinedChecksum()).isEqualTo(manifest.getCombinedChecksum());
+    assertThat(read.getChecksum("file2.txt")).isEqualTo(manifest.getChecksum("file2.txt"));
+    assertThat(read.matches(snapshot)).isTrue();
+  }
+
+  @Test
+  public void shouldDetectCorruptedManifest() throws Exception {
+    // given
+    final var manifestPath = snapshot.resolveSibling("manifest");
+    SnapshotChecksumManifest.compute(snapshot, null).persist(manifestPath);
+
+    // when
+    final var content = Files.readAllBytes(manifestPath);
+    content[content.length / 2] ^= 0xFF;
+    Files.write(manifestPath, content);
+
+    // then
+    assertThatThrownBy(() -> SnapshotChecksumManifest.read(manifestPath))
+        .isInstanceOf(IOException.class);
+  }
+}
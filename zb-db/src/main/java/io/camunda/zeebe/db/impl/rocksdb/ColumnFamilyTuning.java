@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+/**
+ * Tunes the options of a single RocksDB column family to its access pattern. Only applies if each
+ * column family is stored in its own RocksDB column family, see {@link
+ * RocksDbConfiguration#setSeparateColumnFamiliesEnabled(boolean)}, and if no user provided column
+ * family options are given.
+ */
+public final class ColumnFamilyTuning {
+
+  public static final int DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
+  public static final boolean DEFAULT_PREFIX_FILTER_ENABLED = true;
+  public static final boolean DEFAULT_COMPRESSION_ENABLED = true;
+  public static final Compaction DEFAULT_COMPACTION = Compaction.LEVEL;
+
+  private int bloomFilterBitsPerKey = DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+  private boolean prefixFilterEnabled = DEFAULT_PREFIX_FILTER_ENABLED;
+  private boolean compressionEnabled = DEFAULT_COMPRESSION_ENABLED;
+  private Compaction compaction = DEFAULT_COMPACTION;
+
+  public int getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  /**
+   * Sets the bits per key of the bloom filter, which speeds up point lookups of keys which do not
+   * exist. Setting it to 0 disables the bloom filter, which is useful for column families which are
+   * only iterated.
+   */
+  public ColumnFamilyTuning setBloomFilterBitsPerKey(final int bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+    return this;
+  }
+
+  public boolean isPrefixFilterEnabled() {
+    return prefixFilterEnabled;
+  }
+
+  /**
+   * Sets whether keys are filtered by their column family prefix, using a prefix extractor and a
+   * prefix bloom filter per memtable. Within a separate column family all keys share that prefix,
+   * so this only pays off for column families which are mostly accessed by point lookups.
+   */
+  public ColumnFamilyTuning setPrefixFilterEnabled(final boolean prefixFilterEnabled) {
+    this.prefixFilterEnabled = prefixFilterEnabled;
+    return this;
+  }
+
+  public boolean isCompressionEnabled() {
+    return compressionEnabled;
+  }
+
+  /**
+   * Sets whether the lower levels are compressed; disabling it is useful for short-lived entries,
+   * which are rarely compacted into the lower levels anyway.
+   */
+  public ColumnFamilyTuning setCompressionEnabled(final boolean compressionEnabled) {
+    this.compressionEnabled = compressionEnabled;
+    return this;
+  }
+
+  public Compaction getCompaction() {
+    return compaction;
+  }
+
+  public ColumnFamilyTuning setCompaction(final Compaction compaction) {
+    this.compaction = compaction;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnFamilyTuning{"
+        + "bloomFilterBitsPerKey="
+        + bloomFilterBitsPerKey
+        + ", prefixFilterEnabled="
+        + prefixFilterEnabled
+        + ", compressionEnabled="
+        + compressionEnabled
+        + ", compaction="
+        + compaction
+        + '}';
+  }
+
+  public enum Compaction {
+    /** Leveled compaction, which keeps read and space amplification low. */
+    LEVEL,
+    /**
+     * Universal compaction, which keeps write amplification low; useful for short-lived entries
+     * which are written and deleted a lot.
+     */
+    UNIVERSAL
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -18,6 +20,7 @@ public final class RocksDbConfiguration {
   public static final boolean DEFAULT_STATISTICS_ENABLED = false;
   public static final boolean DEFAULT_WAL_DISABLED = false;
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
+  public static final boolean DEFAULT_SEPARATE_COLUMN_FAMILIES_ENABLED = false;
 
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
@@ -26,6 +29,19 @@ public final class RocksDbConfiguration {
   private int minWriteBufferNumberToMerge = DEFAULT_MIN_WRITE_BUFFER_NUMBER_TO_MERGE;
   private boolean walDisabled = DEFAULT_WAL_DISABLED;
 
+  /**
+   * Defines whether each column family is stored in its own RocksDB column family, instead of all
+   * of them sharing the default RocksDB column family and being distinguished by a key prefix only.
+   * Separate column families have their own memtables, SST files and compactions, and can be tuned
+   * to their access pattern via {@link #setColumnFamilyTunings(Map)}.
+   *
+   * <p>Entries of an existing database are moved from the default column family when a column
+   * family is opened for the first time. Once enabled for a database, it cannot be disabled again.
+   */
+  private boolean separateColumnFamiliesEnabled = DEFAULT_SEPARATE_COLUMN_FAMILIES_ENABLED;
+
+  private Map<String, ColumnFamilyTuning> columnFamilyTunings = new HashMap<>();
+
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
    * for performance reasons, if we set a value higher then zero it needs to keep track of open
@@ -112,6 +128,30 @@ public final class RocksDbConfiguration {
     return this;
   }
 
+  public boolean isSeparateColumnFamiliesEnabled() {
+    return separateColumnFamiliesEnabled;
+  }
+
+  public RocksDbConfiguration setSeparateColumnFamiliesEnabled(
+      final boolean separateColumnFamiliesEnabled) {
+    this.separateColumnFamiliesEnabled = separateColumnFamiliesEnabled;
+    return this;
+  }
+
+  public Map<String, ColumnFamilyTuning> getColumnFamilyTunings() {
+    return columnFamilyTunings;
+  }
+
+  /**
+   * Sets the tuning of the column families, by the name of their enum constant. Column families
+   * without a tuning use the defaults of {@link ColumnFamilyTuning}.
+   */
+  public RocksDbConfiguration setColumnFamilyTunings(
+      final Map<String, ColumnFamilyTuning> columnFamilyTunings) {
+    this.columnFamilyTunings = columnFamilyTunings;
+    return this;
+  }
+
   public boolean isWalDisabled() {
     return walDisabled;
   }
@@ -8,17 +8,21 @@
 package io.camunda.zeebe.db.impl.rocksdb;
 
 import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning.Compaction;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
 import org.rocksdb.CompactionStyle;
@@ -34,6 +38,7 @@ import org.rocksdb.RocksDBException;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.WriteBufferManager;
 
 public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamilyType>>
     implements ZeebeDbFactory<ColumnFamilyType> {
@@ -42,6 +47,8 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     RocksDB.loadLibrary();
   }
 
+  private static final ColumnFamilyTuning DEFAULT_COLUMN_FAMILY_TUNING = new ColumnFamilyTuning();
+
   private final RocksDbConfiguration rocksDbConfiguration;
 
   private ZeebeRocksDbFactory(final RocksDbConfiguration rocksDbConfiguration) {
@@ -63,19 +70,11 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     final ZeebeTransactionDb<ColumnFamilyType> db;
     final List<AutoCloseable> closeables = Collections.synchronizedList(new ArrayList<>());
     try {
-      // column family options have to be closed as last
-      final var columnFamilyOptions = createColumnFamilyOptions(closeables);
-      closeables.add(columnFamilyOptions);
-      final var dbOptions = createDefaultDbOptions(closeables);
-      closeables.add(dbOptions);
-
-      final var options = new Options(dbOptions, columnFamilyOptions);
-      closeables.add(options);
-
-      db =
-          ZeebeTransactionDb.openTransactionalDb(
-              options, pathName.getAbsolutePath(), closeables, rocksDbConfiguration);
-
+      if (rocksDbConfiguration.isSeparateColumnFamiliesEnabled()) {
+        db = openWithSeparateColumnFamilies(pathName, closeables);
+      } else {
+        db = openWithSharedColumnFamily(pathName, closeables);
+      }
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(closeables);
       throw new IllegalStateException("Unexpected error occurred trying to open the database", e);
@@ -83,6 +82,62 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     return db;
   }
 
+  private ZeebeTransactionDb<ColumnFamilyType> openWithSharedColumnFamily(
+      final File pathName, final List<AutoCloseable> closeables) throws RocksDBException {
+    // column family options have to be closed as last
+    final var columnFamilyOptions = createColumnFamilyOptions(closeables);
+    closeables.add(columnFamilyOptions);
+    final var dbOptions = createDefaultDbOptions(closeables);
+    closeables.add(dbOptions);
+
+    final var options = new Options(dbOptions, columnFamilyOptions);
+    closeables.add(options);
+
+    return ZeebeTransactionDb.openTransactionalDb(
+        options, pathName.getAbsolutePath(), closeables, rocksDbConfiguration);
+  }
+
+  private ZeebeTransactionDb<ColumnFamilyType> openWithSeparateColumnFamilies(
+      final File pathName, final List<AutoCloseable> closeables) throws RocksDBException {
+    // all column families share the same block cache, and the memory of their memtables is
+    // charged to it as well, such that the whole memory limit is shared between them instead of
+    // being multiplied by the number of column families
+    final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
+    final var cache = createBlockCache(closeables, totalMemoryBudget);
+    final var writeBufferManager =
+        new WriteBufferManager(totalMemoryBudget - getBlockCacheMemory(), cache);
+    closeables.add(writeBufferManager);
+
+    // column family options have to be closed as last
+    final var defaultOptions =
+        createColumnFamilyOptions(closeables, cache, DEFAULT_COLUMN_FAMILY_TUNING);
+    closeables.add(defaultOptions);
+    final Map<String, ColumnFamilyOptions> tunedOptions = new HashMap<>();
+    for (final var tuning : rocksDbConfiguration.getColumnFamilyTunings().entrySet()) {
+      final var options = createColumnFamilyOptions(closeables, cache, tuning.getValue());
+      closeables.add(options);
+      tunedOptions.put(tuning.getKey(), options);
+    }
+
+    final var dbOptions =
+        createDefaultDbOptions(closeables)
+            .setWriteBufferManager(writeBufferManager)
+            // keeps the column families consistent to each other when the WAL is disabled
+            .setAtomicFlush(true)
+            // the WAL can only be deleted once all column families flushed the entries it
+            // contains, so rarely written column families are flushed once it grows too big
+            .setMaxTotalWalSize(totalMemoryBudget);
+    closeables.add(dbOptions);
+
+    return ZeebeTransactionDb.openTransactionalDb(
+        dbOptions,
+        defaultOptions,
+        name -> tunedOptions.getOrDefault(name, defaultOptions),
+        pathName.getAbsolutePath(),
+        closeables,
+        rocksDbConfiguration);
+  }
+
   private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
     final var dbOptions =
         new DBOptions()
@@ -129,6 +184,13 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
 
   /** @return Options which are used on all column families */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
+    final var cache = createBlockCache(closeables, getBlockCacheMemory());
+    return createColumnFamilyOptions(closeables, cache, DEFAULT_COLUMN_FAMILY_TUNING);
+  }
+
+  /** @return Options which are used on a column family with the given tuning */
+  ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables, final Cache cache, final ColumnFamilyTuning tuning) {
     final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
@@ -136,7 +198,7 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
       return createFromUserOptions(userProvidedColumnFamilyOptions);
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    return createDefaultColumnFamilyOptions(closeables, cache, tuning);
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -156,13 +218,11 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final List<AutoCloseable> closeables, final Cache cache, final ColumnFamilyTuning tuning) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
-    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
-    // and filters into the block cache, so we don't need to account for more memory there
-    final var blockCacheMemory = totalMemoryBudget / 3;
+    final var blockCacheMemory = getBlockCacheMemory();
     // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
     // although only a single one is writable. once we have too many memtables, writes will stop.
     // since prefix iteration is our bread n butter, we will build an additional filter for each
@@ -180,12 +240,25 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
             ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
                 * (1 - memtablePrefixFilterMemory));
 
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+    final var tableConfig = createTableFormatConfig(closeables, cache, tuning);
+
+    if (tuning.isPrefixFilterEnabled()) {
+      columnFamilyOptions
+          // to extract our column family type (used as prefix) and seek faster
+          .useFixedLengthPrefixExtractor(Long.BYTES)
+          .setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory);
+    }
+
+    final var compressionType =
+        tuning.isCompressionEnabled()
+            ? CompressionType.LZ4_COMPRESSION
+            : CompressionType.NO_COMPRESSION;
+    final var compactionStyle =
+        tuning.getCompaction() == Compaction.UNIVERSAL
+            ? CompactionStyle.UNIVERSAL
+            : CompactionStyle.LEVEL;
 
     return columnFamilyOptions
-        // to extract our column family type (used as prefix) and seek faster
-        .useFixedLengthPrefixExtractor(Long.BYTES)
-        .setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory)
         // memtables
         // merge at least 3 memtables per L0 file, otherwise all memtables are flushed as individual
         // files
@@ -197,7 +270,7 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
         // compaction
         .setLevelCompactionDynamicLevelBytes(true)
         .setCompactionPriority(CompactionPriority.OldestSmallestSeqFirst)
-        .setCompactionStyle(CompactionStyle.LEVEL)
+        .setCompactionStyle(compactionStyle)
         // L-0 means immediately flushed memtables
         .setLevel0FileNumCompactionTrigger(maxConcurrentMemtableCount)
         .setLevel0SlowdownWritesTrigger(
@@ -214,8 +287,8 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
             List.of(
                 CompressionType.NO_COMPRESSION,
                 CompressionType.NO_COMPRESSION,
-                CompressionType.LZ4_COMPRESSION,
-                CompressionType.LZ4_COMPRESSION))
+                compressionType,
+                compressionType))
         // Target file size for compaction.
         // Defines the desired SST file size for different levels (but not guaranteed, it is usually
         // lower)
@@ -231,24 +304,36 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
         .setTableFormatConfig(tableConfig);
   }
 
-  private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
+  private long getBlockCacheMemory() {
+    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+    // and filters into the block cache, so we don't need to account for more memory there
+    return rocksDbConfiguration.getMemoryLimit() / 3;
+  }
+
+  private Cache createBlockCache(final List<AutoCloseable> closeables, final long capacity) {
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
+    final var cache = new LRUCache(capacity, 8, false, 0.15);
     closeables.add(cache);
+    return cache;
+  }
 
-    final var filter = new BloomFilter(10, false);
-    closeables.add(filter);
+  private TableFormatConfig createTableFormatConfig(
+      final List<AutoCloseable> closeables, final Cache cache, final ColumnFamilyTuning tuning) {
+    final var tableConfig = new BlockBasedTableConfig();
+    if (tuning.getBloomFilterBitsPerKey() > 0) {
+      final var filter = new BloomFilter(tuning.getBloomFilterBitsPerKey(), false);
+      closeables.add(filter);
+      tableConfig.setFilterPolicy(filter);
+    }
 
-    return new BlockBasedTableConfig()
+    return tableConfig
         .setBlockCache(cache)
         // increasing block size means reducing memory usage, but increasing read iops
         .setBlockSize(32 * 1024L)
         // full and partitioned filters use a more efficient bloom filter implementation when
         // using format 5
         .setFormatVersion(5)
-        .setFilterPolicy(filter)
         // caching and pinning indexes and filters is important to keep reads/seeks fast when we
         // have many memtables, and pinning them ensures they are never evicted from the block
         // cache
@@ -256,8 +341,9 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
         .setPinL0FilterAndIndexBlocksInCache(true)
         .setCacheIndexAndFilterBlocksWithHighPriority(true)
         // default is binary search, but all of our scans are prefix based which is a good use
-        // case for efficient hashing
-        .setIndexType(IndexType.kHashSearch)
+        // case for efficient hashing; the hash index requires the prefix extractor though
+        .setIndexType(
+            tuning.isPrefixFilterEnabled() ? IndexType.kHashSearch : IndexType.kBinarySearch)
         .setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash)
         // RocksDB dev benchmarks show improvements when this is between 0.5 and 1, so let's
         // start with the middle and optimize later from there
@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.nio.ByteBuffer;
+import org.rocksdb.DirectSlice;
+import org.rocksdb.ReadOptions;
+
+/**
+ * Read options for iterating over a prefix, which are reused for the prefix iterations of a column
+ * family. The upper bound of the iteration is a native slice backed by a direct buffer, so setting
+ * it for the next prefix only copies the bytes into the buffer, instead of allocating new native
+ * objects for each iteration.
+ *
+ * <p>The options must not be used by two iterations at the same time, and are closed together
+ * with the database.
+ */
+final class PrefixReadOptions implements AutoCloseable {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final ReadOptions readOptions;
+  private ByteBuffer upperBoundBuffer;
+  private DirectSlice upperBound;
+
+  PrefixReadOptions(final ReadOptions readOptions) {
+    this.readOptions = readOptions;
+  }
+
+  /**
+   * Sets the upper bound of the iteration, which is the prefix with its last byte incremented.
+   *
+   * @param prefix the buffer which contains the prefix
+   * @param upperBoundLength the length of the upper bound, see {@link
+   *     TransactionalColumnFamily#getUpperBoundLength(byte[], int)}
+   * @return the read options with the upper bound
+   */
+  ReadOptions withUpperBound(final byte[] prefix, final int upperBoundLength) {
+    ensureCapacity(upperBoundLength);
+
+    upperBoundBuffer.clear();
+    upperBoundBuffer.put(prefix, 0, upperBoundLength);
+    final int lastIndex = upperBoundLength - 1;
+    upperBoundBuffer.put(lastIndex, (byte) (prefix[lastIndex] + 1));
+    upperBound.setLength(upperBoundLength);
+
+    return readOptions;
+  }
+
+  private void ensureCapacity(final int length) {
+    if (upperBoundBuffer != null && upperBoundBuffer.capacity() >= length) {
+      return;
+    }
+
+    final int grownCapacity =
+        upperBoundBuffer == null ? INITIAL_CAPACITY : upperBoundBuffer.capacity() * 2;
+    final int capacity = Math.max(length, grownCapacity);
+    final DirectSlice previousUpperBound = upperBound;
+    upperBoundBuffer = ByteBuffer.allocateDirect(capacity);
+    upperBound = new DirectSlice(upperBoundBuffer, capacity);
+    readOptions.setIterateUpperBound(upperBound);
+
+    if (previousUpperBound != null) {
+      previousUpperBound.close();
+    }
+  }
+
+  @Override
+  public void close() {
+    readOptions.close();
+    if (upperBound != null) {
+      upperBound.close();
+    }
+  }
+}
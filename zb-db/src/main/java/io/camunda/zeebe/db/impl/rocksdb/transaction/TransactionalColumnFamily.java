@@ -14,10 +14,13 @@ import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -33,6 +36,10 @@ class TransactionalColumnFamily<
   private final ValueType valueInstance;
   private final KeyType keyInstance;
   private final ColumnFamilyContext columnFamilyContext;
+  private final ColumnFamilyHandle columnFamilyHandle;
+  private final long columnFamilyNativeHandle;
+  // created on demand; there are at most as many as nested prefix iterations are supported
+  private final Queue<PrefixReadOptions> prefixReadOptions = new ArrayDeque<>();
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -45,6 +52,8 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.ordinal());
+    columnFamilyHandle = transactionDb.getColumnFamilyHandle(columnFamily);
+    columnFamilyNativeHandle = ZeebeTransactionDb.getNativeHandle(columnFamilyHandle);
   }
 
   private void ensureInOpenTransaction(
@@ -62,7 +71,7 @@ class TransactionalColumnFamily<
           columnFamilyContext.writeValue(value);
 
           transaction.put(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength(),
               columnFamilyContext.getValueBufferArray(),
@@ -88,7 +97,7 @@ class TransactionalColumnFamily<
         transaction -> {
           final byte[] value =
               transaction.get(
-                  transactionDb.getDefaultNativeHandle(),
+                  columnFamilyNativeHandle,
                   transactionDb.getReadOptionsNativeHandle(),
                   columnFamilyContext.getKeyBufferArray(),
                   columnFamilyContext.getKeyLength());
@@ -112,6 +121,12 @@ class TransactionalColumnFamily<
     whileTrue(context, visitor);
   }
 
+  @Override
+  public void whileTrue(
+      final KeyType startAtKey, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    whileTrue(context, startAtKey, visitor);
+  }
+
   @Override
   public void whileEqualPrefix(
       final DbKey keyPrefix, final BiConsumer<KeyType, ValueType> visitor) {
@@ -131,7 +146,7 @@ class TransactionalColumnFamily<
         context,
         transaction ->
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength()));
   }
@@ -180,6 +195,13 @@ class TransactionalColumnFamily<
     whileEqualPrefix(context, keyInstance, valueInstance, visitor);
   }
 
+  public void whileTrue(
+      final TransactionContext context,
+      final KeyType startAtKey,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    whileEqualPrefix(context, new DbNullKey(), startAtKey, keyInstance, valueInstance, visitor);
+  }
+
   public void whileEqualPrefix(
       final TransactionContext context,
       final DbKey keyPrefix,
@@ -196,7 +218,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, columnFamilyHandle);
   }
 
   protected <KeyType extends DbKey, ValueType extends DbValue> void whileEqualPrefix(
@@ -249,11 +271,11 @@ class TransactionalColumnFamily<
   }
 
   /**
-   * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on iterators
-   * at the moment, so using prefixes seem to be mostly related to skipping files that do not
-   * contain keys with the given prefix (which is useful anyway), but it will still iterate over all
-   * keys contained in those files, so we still need to make sure the key actually matches the
-   * prefix.
+   * The iterator is bounded by the smallest key which is greater than all keys starting with the
+   * given prefix, such that RocksDB stops at the end of the prefix instead of reading into the
+   * following keys, and can skip files and blocks beyond it. Since the bound is not applied to
+   * writes of the current transaction which are not yet committed, we still need to make sure the
+   * key actually matches the prefix.
    *
    * <p>While iterating over subsequent keys we have to validate it.
    */
@@ -263,35 +285,119 @@ class TransactionalColumnFamily<
       final KeyType keyInstance,
       final ValueType valueInstance,
       final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    whileEqualPrefix(context, prefix, null, keyInstance, valueInstance, visitor);
+  }
+
+  /**
+   * Like {@link #whileEqualPrefix(TransactionContext, DbKey, DbKey, DbValue,
+   * KeyValuePairVisitor)}, but seeks to the given start key instead of the beginning of the prefix,
+   * if it is not null. The start key must begin with the prefix.
+   */
+  protected <KeyType extends DbKey, ValueType extends DbValue> void whileEqualPrefix(
+      final TransactionContext context,
+      final DbKey prefix,
+      final DbKey startAtKey,
+      final KeyType keyInstance,
+      final ValueType valueInstance,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
     columnFamilyContext.withPrefixKey(
         prefix,
         (prefixKey, prefixLength) ->
             ensureInOpenTransaction(
                 context,
                 transaction -> {
-                  try (final RocksIterator iterator =
-                      newIterator(context, transactionDb.getPrefixReadOptions())) {
-
-                    boolean shouldVisitNext = true;
-
-                    for (RocksDbInternal.seek(
-                            iterator,
-                            ZeebeTransactionDb.getNativeHandle(iterator),
-                            prefixKey,
-                            prefixLength);
-                        iterator.isValid() && shouldVisitNext;
-                        iterator.next()) {
-                      final byte[] keyBytes = iterator.key();
-                      if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
-                        break;
-                      }
-
-                      shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+                  final int upperBoundLength = getUpperBoundLength(prefixKey, prefixLength);
+                  if (upperBoundLength == 0) {
+                    try (final ReadOptions readOptions =
+                        transactionDb.createPrefixReadOptions(null)) {
+                      whileEqualPrefix(
+                          context,
+                          prefixKey,
+                          prefixLength,
+                          startAtKey,
+                          readOptions,
+                          keyInstance,
+                          valueInstance,
+                          visitor);
                     }
+                    return;
+                  }
+
+                  final PrefixReadOptions reusableReadOptions = pollPrefixReadOptions();
+                  try {
+                    whileEqualPrefix(
+                        context,
+                        prefixKey,
+                        prefixLength,
+                        startAtKey,
+                        reusableReadOptions.withUpperBound(prefixKey, upperBoundLength),
+                        keyInstance,
+                        valueInstance,
+                        visitor);
+                  } finally {
+                    prefixReadOptions.add(reusableReadOptions);
                   }
                 }));
   }
 
+  private <KeyType extends DbKey, ValueType extends DbValue> void whileEqualPrefix(
+      final TransactionContext context,
+      final byte[] prefixKey,
+      final int prefixLength,
+      final DbKey startAtKey,
+      final ReadOptions readOptions,
+      final KeyType keyInstance,
+      final ValueType valueInstance,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    try (final RocksIterator iterator = newIterator(context, readOptions)) {
+      boolean shouldVisitNext = true;
+
+      final byte[] seekKey;
+      final int seekKeyLength;
+      if (startAtKey == null) {
+        seekKey = prefixKey;
+        seekKeyLength = prefixLength;
+      } else {
+        columnFamilyContext.writeKey(startAtKey);
+        seekKey = columnFamilyContext.getKeyBufferArray();
+        seekKeyLength = columnFamilyContext.getKeyLength();
+      }
+
+      for (RocksDbInternal.seek(
+              iterator, ZeebeTransactionDb.getNativeHandle(iterator), seekKey, seekKeyLength);
+          iterator.isValid() && shouldVisitNext;
+          iterator.next()) {
+        final byte[] keyBytes = iterator.key();
+        if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+          break;
+        }
+
+        shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+      }
+    }
+  }
+
+  private PrefixReadOptions pollPrefixReadOptions() {
+    final PrefixReadOptions readOptions = prefixReadOptions.poll();
+    return readOptions != null ? readOptions : transactionDb.createReusablePrefixReadOptions();
+  }
+
+  /**
+   * Returns the length of the smallest key which is greater than all keys starting with the given
+   * prefix, i.e. the prefix with its last byte incremented, dropping trailing bytes which would
+   * overflow. Returns 0 if there is no such key, which only happens if all bytes of the prefix are
+   * 0xFF.
+   */
+  static int getUpperBoundLength(final byte[] prefix, final int prefixLength) {
+    for (int i = prefixLength - 1; i >= 0; i--) {
+      if (prefix[i] != (byte) 0xFF) {
+        return i + 1;
+      }
+    }
+
+    return 0;
+  }
+
   private <KeyType extends DbKey, ValueType extends DbValue> boolean visit(
       final KeyType keyInstance,
       final ValueType valueInstance,
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static io.camunda.zeebe.util.buffer.BufferUtil.startsWith;
+
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
@@ -14,20 +16,36 @@ import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.AbstractSlice;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
 import org.rocksdb.OptimisticTransactionDB;
 import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -37,6 +55,19 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
+  // migrated entries are written in batches of about this size
+  private static final long MIGRATION_BATCH_SIZE = 32 * 1024 * 1024L;
+  // properties which are the same for all column families, e.g. because they refer to the shared
+  // block cache, and which must not be summed up over the column families
+  private static final Set<String> DATABASE_WIDE_PROPERTIES =
+      Set.of(
+          "rocksdb.block-cache-usage",
+          "rocksdb.block-cache-capacity",
+          "rocksdb.block-cache-pinned-usage",
+          "rocksdb.is-write-stopped",
+          "rocksdb.actual-delayed-write-rate",
+          "rocksdb.num-running-flushes",
+          "rocksdb.num-running-compactions");
   private final OptimisticTransactionDB optimisticTransactionDB;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
@@ -44,16 +75,32 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
   private final long defaultNativeHandle;
+  // null if all column families share the default column family
+  private final Function<String, ColumnFamilyOptions> columnFamilyOptions;
+  private final Map<String, ColumnFamilyHandle> existingColumnFamilyHandles;
+  private final Map<String, ColumnFamilyHandle> columnFamilyHandles = new ConcurrentHashMap<>();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration) {
+    this(defaultHandle, optimisticTransactionDB, closables, rocksDbConfiguration, null, Map.of());
+  }
+
+  protected ZeebeTransactionDb(
+      final ColumnFamilyHandle defaultHandle,
+      final OptimisticTransactionDB optimisticTransactionDB,
+      final List<AutoCloseable> closables,
+      final RocksDbConfiguration rocksDbConfiguration,
+      final Function<String, ColumnFamilyOptions> columnFamilyOptions,
+      final Map<String, ColumnFamilyHandle> existingColumnFamilyHandles) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
+    this.columnFamilyOptions = columnFamilyOptions;
+    this.existingColumnFamilyHandles = existingColumnFamilyHandles;
 
     prefixReadOptions =
         new ReadOptions()
@@ -86,6 +133,67 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         defaultColumnFamilyHandle, optimisticTransactionDB, closables, rocksDbConfiguration);
   }
 
+  /**
+   * Opens the database such that each column family is stored in its own RocksDB column family,
+   * named after its enum constant. Column families which do not exist yet are created when they
+   * are first used, with the options given for their name.
+   */
+  public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
+      ZeebeTransactionDb<ColumnFamilyNames> openTransactionalDb(
+          final DBOptions dbOptions,
+          final ColumnFamilyOptions defaultColumnFamilyOptions,
+          final Function<String, ColumnFamilyOptions> columnFamilyOptions,
+          final String path,
+          final List<AutoCloseable> closables,
+          final RocksDbConfiguration rocksDbConfiguration)
+          throws RocksDBException {
+    final List<ColumnFamilyDescriptor> descriptors = new ArrayList<>();
+    descriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, defaultColumnFamilyOptions));
+    for (final var name : listColumnFamilies(dbOptions, defaultColumnFamilyOptions, path)) {
+      if (!Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY)) {
+        descriptors.add(
+            new ColumnFamilyDescriptor(
+                name, columnFamilyOptions.apply(new String(name, StandardCharsets.UTF_8))));
+      }
+    }
+
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    final OptimisticTransactionDB optimisticTransactionDB =
+        OptimisticTransactionDB.open(dbOptions, path, descriptors, handles);
+    closables.add(optimisticTransactionDB);
+    // handles have to be closed before the database
+    closables.addAll(handles);
+
+    final Map<String, ColumnFamilyHandle> existingHandles = new HashMap<>();
+    for (int i = 1; i < descriptors.size(); i++) {
+      existingHandles.put(
+          new String(descriptors.get(i).getName(), StandardCharsets.UTF_8), handles.get(i));
+    }
+
+    return new ZeebeTransactionDb<>(
+        handles.get(0),
+        optimisticTransactionDB,
+        closables,
+        rocksDbConfiguration,
+        columnFamilyOptions,
+        existingHandles);
+  }
+
+  private static List<byte[]> listColumnFamilies(
+      final DBOptions dbOptions,
+      final ColumnFamilyOptions defaultColumnFamilyOptions,
+      final String path)
+      throws RocksDBException {
+    if (!new File(path, "CURRENT").exists()) {
+      return List.of();
+    }
+
+    try (final var options = new Options(dbOptions, defaultColumnFamilyOptions)) {
+      return RocksDB.listColumnFamilies(options, path);
+    }
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -95,8 +203,28 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     }
   }
 
-  protected ReadOptions getPrefixReadOptions() {
-    return prefixReadOptions;
+  /**
+   * Creates read options for iterating over a prefix, which stop the iteration at the given upper
+   * bound. The caller has to close them, and must keep the upper bound open until then.
+   */
+  protected ReadOptions createPrefixReadOptions(final AbstractSlice<?> upperBound) {
+    final var readOptions = new ReadOptions(prefixReadOptions);
+    if (upperBound != null) {
+      readOptions.setIterateUpperBound(upperBound);
+    }
+    return readOptions;
+  }
+
+  /**
+   * Creates read options for iterating over prefixes, which can be reused for many iterations. They
+   * are closed together with the database.
+   */
+  PrefixReadOptions createReusablePrefixReadOptions() {
+    final var readOptions = new PrefixReadOptions(new ReadOptions(prefixReadOptions));
+    synchronized (closables) {
+      closables.add(readOptions);
+    }
+    return readOptions;
   }
 
   protected ColumnFamilyHandle getDefaultHandle() {
@@ -111,6 +239,85 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return defaultNativeHandle;
   }
 
+  /**
+   * Returns the handle of the RocksDB column family in which the given column family is stored.
+   * That is the default column family, unless each column family is stored separately.
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final ColumnFamilyNames columnFamily) {
+    if (columnFamilyOptions == null) {
+      return defaultHandle;
+    }
+
+    return columnFamilyHandles.computeIfAbsent(
+        columnFamily.name(), name -> openColumnFamily(columnFamily));
+  }
+
+  private ColumnFamilyHandle openColumnFamily(final ColumnFamilyNames columnFamily) {
+    final var name = columnFamily.name();
+    try {
+      var handle = existingColumnFamilyHandles.get(name);
+      if (handle == null) {
+        handle =
+            optimisticTransactionDB.createColumnFamily(
+                new ColumnFamilyDescriptor(
+                    name.getBytes(StandardCharsets.UTF_8), columnFamilyOptions.apply(name)));
+        closables.add(handle);
+      }
+
+      moveEntriesFromDefaultColumnFamily(columnFamily, handle);
+      return handle;
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          String.format("Failed to open column family %s.", columnFamily), e);
+    }
+  }
+
+  /**
+   * Moves the entries of the given column family which are still stored in the default column
+   * family, e.g. because the database was created before the column families were separated. The
+   * keys are not changed, i.e. they keep their column family prefix. Each batch moves its entries
+   * atomically, such that an interrupted migration simply continues when the column family is
+   * opened the next time.
+   */
+  private void moveEntriesFromDefaultColumnFamily(
+      final ColumnFamilyNames columnFamily, final ColumnFamilyHandle handle)
+      throws RocksDBException {
+    final var prefix = new byte[Long.BYTES];
+    new UnsafeBuffer(prefix).putLong(0, columnFamily.ordinal(), ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+
+    long movedEntries = 0;
+    try (final var iterator = optimisticTransactionDB.newIterator(defaultHandle);
+        final var batch = new WriteBatch();
+        final var writeOptions = new WriteOptions()) {
+      for (iterator.seek(prefix); iterator.isValid(); iterator.next()) {
+        final var key = iterator.key();
+        if (!startsWith(prefix, 0, prefix.length, key, 0, key.length)) {
+          break;
+        }
+
+        batch.put(handle, key, iterator.value());
+        batch.delete(defaultHandle, key);
+        movedEntries++;
+
+        if (batch.getDataSize() >= MIGRATION_BATCH_SIZE) {
+          optimisticTransactionDB.write(writeOptions, batch);
+          batch.clear();
+        }
+      }
+
+      if (batch.count() > 0) {
+        optimisticTransactionDB.write(writeOptions, batch);
+      }
+    }
+
+    if (movedEntries > 0) {
+      LOG.info(
+          "Moved {} entries of column family {} from the default column family",
+          movedEntries,
+          columnFamily);
+    }
+  }
+
   @Override
   public <KeyType extends DbKey, ValueType extends DbValue>
       ColumnFamily<KeyType, ValueType> createColumnFamily(
@@ -135,6 +342,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
 
   @Override
   public Optional<String> getProperty(final String propertyName) {
+    if (columnFamilyOptions != null && !DATABASE_WIDE_PROPERTIES.contains(propertyName)) {
+      return getAggregatedProperty(propertyName);
+    }
+
     String propertyValue = null;
     try {
       propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
@@ -144,6 +355,20 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return Optional.ofNullable(propertyValue);
   }
 
+  /** Sums up the given property over all column families, if it is numeric. */
+  private Optional<String> getAggregatedProperty(final String propertyName) {
+    try {
+      long propertyValue = optimisticTransactionDB.getLongProperty(defaultHandle, propertyName);
+      for (final var handle : columnFamilyHandles.values()) {
+        propertyValue += optimisticTransactionDB.getLongProperty(handle, propertyName);
+      }
+      return Optional.of(String.valueOf(propertyValue));
+    } catch (final RocksDBException rde) {
+      LOG.debug(rde.getMessage(), rde);
+      return Optional.empty();
+    }
+  }
+
   @Override
   public TransactionContext createContext() {
     final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
@@ -288,6 +288,45 @@ public final class ColumnFamilyTest {
     assertThat(values).containsExactly((long) Short.MAX_VALUE, 255L, 123L);
   }
 
+  @Test
+  public void shouldUseWhileTrueWithStartKey() {
+    // given
+    putKeyValuePair(4567, 123);
+    putKeyValuePair(6734, 921);
+    putKeyValuePair(1213, 255);
+    putKeyValuePair(1, Short.MAX_VALUE);
+    putKeyValuePair(Short.MAX_VALUE, 1);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    key.wrapLong(1213);
+    columnFamily.whileTrue(
+        key,
+        (key, value) -> {
+          keys.add(key.getValue());
+          return key.getValue() != 6734;
+        });
+
+    // then
+    assertThat(keys).containsExactly(1213L, 4567L, 6734L);
+  }
+
+  @Test
+  public void shouldUseWhileTrueWithStartKeyWhichDoesNotExist() {
+    // given
+    putKeyValuePair(4567, 123);
+    putKeyValuePair(1213, 255);
+    putKeyValuePair(1, Short.MAX_VALUE);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    key.wrapLong(2000);
+    columnFamily.whileTrue(key, (key, value) -> keys.add(key.getValue()));
+
+    // then
+    assertThat(keys).containsExactly(4567L);
+  }
+
   @Test
   public void shouldDeleteWhileTrue() {
     // given
@@ -15,9 +15,12 @@ import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
 
 public final class ZeebeRocksDbTest {
 
@@ -110,4 +113,79 @@ public final class ZeebeRocksDbTest {
     assertThat(dbString).isNotNull();
     assertThat(dbString.toString()).isEqualTo("bar");
   }
+
+  @Test
+  public void shouldRecoverFromSnapshotWithSeparateColumnFamilies() throws Exception {
+    // given
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+        ZeebeRocksDbFactory.newFactory(
+            new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(true));
+    final File pathName = temporaryFolder.newFolder();
+    ZeebeDb<DefaultColumnFamily> db = dbFactory.createDb(pathName);
+
+    final DbString key = new DbString();
+    key.wrapString("foo");
+    final DbString value = new DbString();
+    value.wrapString("bar");
+    ColumnFamily<DbString, DbString> columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+    columnFamily.put(key, value);
+
+    final File snapshotDir = new File(temporaryFolder.newFolder(), "snapshot");
+    db.createSnapshot(snapshotDir);
+    value.wrapString("otherString");
+    columnFamily.put(key, value);
+
+    // when
+    db.close();
+    db = dbFactory.createDb(snapshotDir);
+    columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+
+    // then
+    final DbString dbString = columnFamily.get(key);
+
+    assertThat(dbString).isNotNull();
+    assertThat(dbString.toString()).isEqualTo("bar");
+    db.close();
+  }
+
+  @Test
+  public void shouldMoveEntriesToSeparateColumnFamilies() throws Exception {
+    // given
+    final File pathName = temporaryFolder.newFolder();
+    ZeebeDb<DefaultColumnFamily> db =
+        ZeebeRocksDbFactory.<DefaultColumnFamily>newFactory().createDb(pathName);
+
+    final DbString key = new DbString();
+    key.wrapString("foo");
+    final DbString value = new DbString();
+    value.wrapString("bar");
+    ColumnFamily<DbString, DbString> columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+    columnFamily.put(key, value);
+    db.close();
+
+    // when
+    final ZeebeDbFactory<DefaultColumnFamily> separateDbFactory =
+        ZeebeRocksDbFactory.newFactory(
+            new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(true));
+    db = separateDbFactory.createDb(pathName);
+    columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+    db.close();
+    db = separateDbFactory.createDb(pathName);
+    columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+
+    // then
+    final DbString dbString = columnFamily.get(key);
+
+    assertThat(dbString).isNotNull();
+    assertThat(dbString.toString()).isEqualTo("bar");
+    assertThat(RocksDB.listColumnFamilies(new Options(), pathName.getAbsolutePath()))
+        .extracting(name -> new String(name, StandardCharsets.UTF_8))
+        .containsExactlyInAnyOrder("default", DefaultColumnFamily.DEFAULT.name());
+    db.close();
+  }
 }
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -15,6 +17,8 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Before;
 import org.junit.Rule;
@@ -85,4 +89,108 @@ public final class ZeebeRocksDbIterationTest {
     // then
     Mockito.verify(spyIterator.get(), Mockito.times((int) suffixes)).next();
   }
+
+  @Test
+  public void shouldNotReadBeyondPrefixUpperBound() {
+    // given
+    final AtomicReference<RocksIterator> spyIterator = new AtomicReference<>();
+    Mockito.doAnswer(
+            invocation -> {
+              final Object spy = Mockito.spy(invocation.callRealMethod());
+              spyIterator.set((RocksIterator) spy);
+              return spy;
+            })
+        .when(columnFamily)
+        .newIterator(Mockito.any(TransactionContext.class), Mockito.any(ReadOptions.class));
+
+    final long prefixes = 3;
+    final long suffixes = 5;
+
+    for (long prefix = 0; prefix < prefixes; prefix++) {
+      firstKey.wrapLong(prefix);
+      for (long suffix = 0; suffix < suffixes; suffix++) {
+        secondKey.wrapLong(suffix);
+        columnFamily.put(compositeKey, DbNil.INSTANCE);
+      }
+    }
+
+    // when
+    firstKey.wrapLong(1);
+    columnFamily.whileEqualPrefix(firstKey, ((key, value) -> {}));
+
+    // then - the iterator becomes invalid at the bound instead of returning the next prefix
+    Mockito.verify(spyIterator.get(), Mockito.times((int) suffixes + 1)).isValid();
+    Mockito.verify(spyIterator.get(), Mockito.times((int) suffixes * 2)).key();
+  }
+
+  @Test
+  public void shouldReuseReadOptionsForPrefixIterations() {
+    // given
+    for (long prefix = 0; prefix < 3; prefix++) {
+      firstKey.wrapLong(prefix);
+      secondKey.wrapLong(prefix * 10);
+      columnFamily.put(compositeKey, DbNil.INSTANCE);
+    }
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    for (final long prefix : new long[] {2, 0, 1}) {
+      firstKey.wrapLong(prefix);
+      columnFamily.whileEqualPrefix(
+          firstKey,
+          (key, value) -> {
+            visitedKeys.add(key.getSecond().getValue());
+          });
+    }
+
+    // then
+    assertThat(visitedKeys).containsExactly(20L, 0L, 10L);
+    Mockito.verify(zeebeDb, Mockito.times(1)).createReusablePrefixReadOptions();
+  }
+
+  @Test
+  public void shouldUseOwnReadOptionsForNestedPrefixIteration() {
+    // given
+    for (long prefix = 0; prefix < 2; prefix++) {
+      firstKey.wrapLong(prefix);
+      for (long suffix = 0; suffix < 2; suffix++) {
+        secondKey.wrapLong(suffix);
+        columnFamily.put(compositeKey, DbNil.INSTANCE);
+      }
+    }
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    final DbLong outerPrefix = new DbLong();
+    final DbLong innerPrefix = new DbLong();
+    outerPrefix.wrapLong(0);
+    columnFamily.whileEqualPrefix(
+        outerPrefix,
+        (outerKey, outerValue) -> {
+          final long outerSuffix = outerKey.getSecond().getValue();
+          innerPrefix.wrapLong(1);
+          columnFamily.whileEqualPrefix(
+              innerPrefix,
+              (innerKey, innerValue) -> {
+                visitedKeys.add(outerSuffix * 10 + innerKey.getSecond().getValue());
+              });
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(0L, 1L, 10L, 11L);
+    Mockito.verify(zeebeDb, Mockito.times(2)).createReusablePrefixReadOptions();
+  }
+
+  @Test
+  public void shouldComputeUpperBoundOfPrefix() {
+    // given
+    final byte[] prefix = {0, 1, 2, (byte) 0xFF, 3};
+
+    // when - then
+    assertThat(TransactionalColumnFamily.getUpperBoundLength(prefix, 3)).isEqualTo(3);
+    assertThat(TransactionalColumnFamily.getUpperBoundLength(prefix, 4)).isEqualTo(3);
+    assertThat(TransactionalColumnFamily.getUpperBoundLength(prefix, 5)).isEqualTo(5);
+    assertThat(TransactionalColumnFamily.getUpperBoundLength(new byte[] {(byte) 0xFF}, 1))
+        .isZero();
+  }
 }